@@ -152,6 +152,9 @@ abstract class AbstractGenerator implements Generator {
     boolean                            generateEmptySchemas                    = false;
     String                             generateNewline                         = "\n";
     String                             generateIndentation;
+    int                                generateParallelism                     = 1;
+    boolean                            generateIncremental                     = false;
+    String                             generateIncrementalDatabaseConfiguration;
 
     protected GeneratorStrategyWrapper strategy;
     protected String                   targetEncoding                          = "UTF-8";
@@ -1158,6 +1161,36 @@ abstract class AbstractGenerator implements Generator {
         this.generateIndentation = indentation;
     }
 
+    @Override
+    public int generateParallelism() {
+        return generateParallelism;
+    }
+
+    @Override
+    public void setGenerateParallelism(int parallelism) {
+        this.generateParallelism = parallelism;
+    }
+
+    @Override
+    public boolean generateIncremental() {
+        return generateIncremental;
+    }
+
+    @Override
+    public void setGenerateIncremental(boolean incremental) {
+        this.generateIncremental = incremental;
+    }
+
+    @Override
+    public String generateIncrementalDatabaseConfiguration() {
+        return generateIncrementalDatabaseConfiguration;
+    }
+
+    @Override
+    public void setGenerateIncrementalDatabaseConfiguration(String configuration) {
+        this.generateIncrementalDatabaseConfiguration = configuration;
+    }
+
     // ----
 
     @Override
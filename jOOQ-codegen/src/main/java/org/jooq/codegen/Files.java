@@ -61,7 +61,7 @@ public final class Files {
         this.mkdirs = new HashSet<>();
     }
 
-    public final String[] list(File dir, FilenameFilter filter) {
+    public final synchronized String[] list(File dir, FilenameFilter filter) {
         String[] list = lists.get(dir);
 
         if (list == null) {
@@ -77,7 +77,7 @@ public final class Files {
         return result.toArray(new String[0]);
     }
 
-    public final void mkdirs(File dir) {
+    public final synchronized void mkdirs(File dir) {
         if (mkdirs.add(dir))
             dir.mkdirs();
     }
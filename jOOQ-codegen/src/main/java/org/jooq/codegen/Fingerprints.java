@@ -0,0 +1,387 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Other licenses:
+ * -----------------------------------------------------------------------------
+ * Commercial licenses for this work are available. These replace the above
+ * ASL 2.0 and offer limited warranties, support, maintenance, and commercial
+ * database integrations.
+ *
+ * For more information, please visit: http://www.jooq.org/licenses
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ */
+package org.jooq.codegen;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+import java.io.BufferedReader;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.regex.Pattern;
+
+import org.jooq.codegen.GeneratorStrategy.Mode;
+import org.jooq.meta.CheckConstraintDefinition;
+import org.jooq.meta.ColumnDefinition;
+import org.jooq.meta.DataTypeDefinition;
+import org.jooq.meta.Definition;
+import org.jooq.meta.EmbeddableDefinition;
+import org.jooq.meta.ForeignKeyDefinition;
+import org.jooq.meta.IdentityDefinition;
+import org.jooq.meta.IndexColumnDefinition;
+import org.jooq.meta.IndexDefinition;
+import org.jooq.meta.ParameterDefinition;
+import org.jooq.meta.RoutineDefinition;
+import org.jooq.meta.TableDefinition;
+import org.jooq.meta.TypedElementDefinition;
+import org.jooq.meta.UniqueKeyDefinition;
+import org.jooq.tools.JooqLogger;
+
+/**
+ * Fingerprints of generated files, used for incremental code generation.
+ * <p>
+ * A fingerprint is a digest of everything that contributes to the contents of
+ * a generated file: the {@link Definition} it is generated from, and the
+ * {@link GeneratorStrategy} output for it and its dependencies. The
+ * fingerprints of a run are stored in the target directory, along with a
+ * digest of the generator configuration, and a subsequent run with the same
+ * configuration can skip generating files whose fingerprint has not changed.
+ *
+ * @author Lukas Eder
+ */
+final class Fingerprints {
+
+    private static final JooqLogger     log       = JooqLogger.getLogger(Fingerprints.class);
+    static final String                 FILE_NAME = ".jooq-fingerprints";
+
+    /**
+     * The modes in which types are generated for tables and their elements.
+     */
+    private static final Mode[]         MODES     = { Mode.DEFAULT, Mode.RECORD, Mode.POJO, Mode.INTERFACE, Mode.DAO };
+
+    private final File                  root;
+    private final File                  file;
+    private final String                configuration;
+    private final Map<String, String>   previous;
+    private final Map<String, String>   current;
+
+    Fingerprints(File root, String configuration) {
+        this.root = root;
+        this.file = new File(root, FILE_NAME);
+        this.configuration = digest(configuration);
+        this.previous = new HashMap<>();
+        this.current = new ConcurrentHashMap<>();
+
+        load();
+    }
+
+    private final void load() {
+        if (!file.exists())
+            return;
+
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(new FileInputStream(file), UTF_8))) {
+            String line = reader.readLine();
+
+            // The first line contains the digest of the generator configuration
+            if (!configuration.equals(line)) {
+                log.info("Incremental generation", "Generator configuration has changed. Regenerating all objects.");
+                return;
+            }
+
+            while ((line = reader.readLine()) != null) {
+                int i = line.indexOf(' ');
+
+                if (i > 0)
+                    previous.put(line.substring(i + 1), line.substring(0, i));
+            }
+
+            log.info("Incremental generation", "Fingerprints read: " + previous.size());
+        }
+        catch (IOException e) {
+            log.warn("Incremental generation", "Cannot read fingerprints from " + file + ". Regenerating all objects.", e);
+            previous.clear();
+        }
+    }
+
+    /**
+     * Whether a generated file exists and its fingerprint has not changed
+     * since the previous run.
+     * <p>
+     * If this is the case, the fingerprint is retained for the next run.
+     */
+    final boolean upToDate(File generated, String fingerprint) {
+        String key = key(generated);
+
+        if (generated.exists() && fingerprint.equals(previous.get(key))) {
+            current.put(key, fingerprint);
+            return true;
+        }
+
+        return false;
+    }
+
+    /**
+     * Remember the fingerprint of a successfully generated file.
+     */
+    final void put(File generated, String fingerprint) {
+        current.put(key(generated), fingerprint);
+    }
+
+    /**
+     * Store the fingerprints of this run in the target directory.
+     */
+    final void store() {
+        if (!root.exists() && !root.mkdirs()) {
+            log.warn("Incremental generation", "Cannot create directory " + root);
+            return;
+        }
+
+        try (Writer writer = new OutputStreamWriter(new FileOutputStream(file), UTF_8)) {
+            writer.write(configuration);
+            writer.write('\n');
+
+            for (Entry<String, String> entry : new TreeMap<>(current).entrySet()) {
+                writer.write(entry.getValue());
+                writer.write(' ');
+                writer.write(entry.getKey());
+                writer.write('\n');
+            }
+        }
+        catch (IOException e) {
+            log.warn("Incremental generation", "Cannot write fingerprints to " + file, e);
+        }
+    }
+
+    private final String key(File generated) {
+        String path = generated.getAbsolutePath();
+        String prefix = root.getAbsolutePath() + File.separator;
+
+        if (path.startsWith(prefix))
+            path = path.substring(prefix.length());
+
+        return path.replace(File.separatorChar, '/');
+    }
+
+    /**
+     * Compute the fingerprint of a table or routine, including the strategy
+     * output of all types that are generated for it.
+     */
+    static final String fingerprint(GeneratorStrategy strategy, Definition definition) {
+        StringBuilder sb = new StringBuilder();
+
+        definition(sb, strategy, definition);
+        sb.append("schema=").append(strategy.getFullJavaClassName(definition.getSchema())).append('\n');
+
+        if (definition instanceof TableDefinition)
+            table(sb, strategy, (TableDefinition) definition);
+        else if (definition instanceof RoutineDefinition)
+            routine(sb, strategy, (RoutineDefinition) definition);
+
+        return digest(sb.toString());
+    }
+
+    private static final void table(StringBuilder sb, GeneratorStrategy strategy, TableDefinition table) {
+        for (Mode mode : MODES)
+            sb.append(mode).append('=')
+              .append(strategy.getFullJavaClassName(table, mode)).append(' ')
+              .append(strategy.getJavaClassExtends(table, mode)).append(' ')
+              .append(strategy.getJavaClassImplements(table, mode)).append('\n');
+
+        sb.append("type=")
+          .append(table.isView()).append(' ')
+          .append(table.isMaterializedView()).append(' ')
+          .append(table.isTemporary()).append(' ')
+          .append(table.isTableValuedFunction()).append('\n');
+
+        for (ColumnDefinition column : table.getColumns())
+            element(sb, strategy, "column", column);
+
+        for (ParameterDefinition parameter : table.getParameters())
+            element(sb, strategy, "parameter", parameter);
+
+        IdentityDefinition identity = table.getIdentity();
+        if (identity != null)
+            sb.append("identity=").append(identity.getColumn().getName()).append('\n');
+
+        // [#1596] Record version and timestamp fields are configured on the
+        // database, not on the column definitions
+        sb.append("recordVersion=").append(recordField(table.getDatabase().getRecordVersionFields(), table)).append('\n')
+          .append("recordTimestamp=").append(recordField(table.getDatabase().getRecordTimestampFields(), table)).append('\n');
+
+        for (UniqueKeyDefinition key : table.getKeys()) {
+            definition(sb, strategy, key);
+            sb.append(key.isPrimaryKey()).append(' ');
+            names(sb, key.getKeyColumns());
+        }
+
+        for (ForeignKeyDefinition key : table.getForeignKeys()) {
+            definition(sb, strategy, key);
+            names(sb, key.getKeyColumns());
+            sb.append(strategy.getFullJavaClassName(key.getReferencedTable())).append(' ')
+              .append(strategy.getJavaIdentifier(key.getReferencedKey())).append(' ')
+              .append(key.countSimilarReferences()).append(' ');
+            names(sb, key.getReferencedColumns());
+        }
+
+        for (IndexDefinition index : table.getIndexes()) {
+            definition(sb, strategy, index);
+            sb.append(index.isUnique());
+
+            for (IndexColumnDefinition column : index.getIndexColumns())
+                sb.append(' ').append(column.getName()).append(' ').append(column.getSortOrder());
+
+            sb.append('\n');
+        }
+
+        for (CheckConstraintDefinition check : table.getCheckConstraints()) {
+            definition(sb, strategy, check);
+            sb.append(check.getCheckClause()).append('\n');
+        }
+
+        for (EmbeddableDefinition embeddable : table.getEmbeddables())
+            embeddable(sb, strategy, "embeddable", embeddable);
+
+        for (EmbeddableDefinition embeddable : table.getReferencedEmbeddables())
+            embeddable(sb, strategy, "referenced", embeddable);
+
+        TableDefinition parent = table.getParentTable();
+        if (parent != null)
+            sb.append("parent=").append(strategy.getFullJavaClassName(parent)).append('\n');
+
+        for (TableDefinition child : table.getChildTables())
+            sb.append("child=").append(strategy.getFullJavaClassName(child)).append('\n');
+    }
+
+    /**
+     * The column that {@link JavaGenerator} generates as a record version or
+     * timestamp field, if any.
+     */
+    private static final String recordField(String[] patterns, TableDefinition table) {
+        for (String pattern : patterns) {
+            Pattern p = Pattern.compile(pattern, Pattern.COMMENTS);
+
+            for (ColumnDefinition column : table.getColumns())
+                if (p.matcher(column.getName()).matches() || p.matcher(column.getQualifiedName()).matches())
+                    return column.getName();
+        }
+
+        return null;
+    }
+
+    private static final void embeddable(StringBuilder sb, GeneratorStrategy strategy, String kind, EmbeddableDefinition embeddable) {
+        sb.append(kind).append(' ');
+        definition(sb, strategy, embeddable);
+        sb.append(strategy.getFullJavaClassName(embeddable, Mode.RECORD)).append(' ')
+          .append(strategy.getFullJavaClassName(embeddable, Mode.POJO)).append(' ')
+          .append(strategy.getFullJavaClassName(embeddable, Mode.INTERFACE)).append(' ')
+          .append(embeddable.replacesFields()).append(' ');
+        names(sb, embeddable.getColumns());
+    }
+
+    private static final void routine(StringBuilder sb, GeneratorStrategy strategy, RoutineDefinition routine) {
+        sb.append("routine=")
+          .append(routine.getPackage()).append(' ')
+          .append(routine.isSQLUsable()).append(' ')
+          .append(routine.isAggregate()).append('\n');
+
+        if (routine.getReturnValue() != null)
+            element(sb, strategy, "return", routine.getReturnValue());
+
+        for (ParameterDefinition parameter : routine.getAllParameters())
+            element(sb, strategy, (routine.getInParameters().contains(parameter) ? "in" : "")
+                                + (routine.getOutParameters().contains(parameter) ? "out" : ""), parameter);
+    }
+
+    private static final void element(StringBuilder sb, GeneratorStrategy strategy, String kind, TypedElementDefinition<?> element) {
+        sb.append(kind).append(' ');
+        definition(sb, strategy, element);
+
+        for (Mode mode : MODES)
+            sb.append(strategy.getJavaMemberName(element, mode)).append(' ')
+              .append(strategy.getJavaGetterName(element, mode)).append(' ')
+              .append(strategy.getJavaSetterName(element, mode)).append(' ')
+              .append(strategy.getJavaMethodName(element, mode)).append(' ');
+
+        DataTypeDefinition type = element.getType();
+        sb.append(type.getType()).append(' ')
+          .append(type.getLength()).append(' ')
+          .append(type.getPrecision()).append(' ')
+          .append(type.getScale()).append(' ')
+          .append(type.isNullable()).append(' ')
+          .append(type.isIdentity()).append(' ')
+          .append(type.isDefaulted()).append(' ')
+          .append(type.getDefaultValue()).append(' ')
+          .append(type.getUserType()).append(' ')
+          .append(type.getJavaType()).append(' ')
+          .append(type.getConverter()).append(' ')
+          .append(type.getBinding()).append(' ')
+          .append(element.getDomain()).append('\n');
+    }
+
+    private static final void definition(StringBuilder sb, GeneratorStrategy strategy, Definition definition) {
+        sb.append(definition.getQualifiedName()).append(' ')
+          .append(definition.getOverload()).append(' ')
+          .append(strategy.getJavaIdentifier(definition)).append(' ')
+          .append(definition.getComment()).append(' ')
+          .append(definition.getSource()).append('\n');
+    }
+
+    private static final void names(StringBuilder sb, List<? extends Definition> definitions) {
+        for (Definition definition : definitions)
+            sb.append(definition.getName()).append(' ');
+
+        sb.append('\n');
+    }
+
+    static final String digest(String content) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(content.getBytes(UTF_8));
+            StringBuilder sb = new StringBuilder(digest.length * 2);
+
+            for (byte b : digest)
+                sb.append(Character.forDigit((b >> 4) & 0xF, 16)).append(Character.forDigit(b & 0xF, 16));
+
+            return sb.toString();
+        }
+        catch (NoSuchAlgorithmException e) {
+            throw new GeneratorException("SHA-256 not available", e);
+        }
+    }
+}
@@ -62,10 +62,13 @@ import java.util.Properties;
 
 import javax.sql.DataSource;
 
+import org.jooq.ConnectionProvider;
 import org.jooq.Constants;
 import org.jooq.DSLContext;
 import org.jooq.Log.Level;
+import org.jooq.exception.DataAccessException;
 import org.jooq.impl.DSL;
+import org.jooq.impl.DataSourceConnectionProvider;
 import org.jooq.meta.CatalogVersionProvider;
 import org.jooq.meta.Database;
 import org.jooq.meta.Databases;
@@ -82,6 +85,8 @@ import org.jooq.meta.jaxb.Property;
 import org.jooq.meta.jaxb.SchemaMappingType;
 import org.jooq.meta.jaxb.Strategy;
 import org.jooq.meta.jaxb.Target;
+import org.jooq.meta.xml.XMLDatabase;
+import org.jooq.meta.xml.XMLSnapshot;
 // ...
 import org.jooq.tools.JooqLogger;
 import org.jooq.tools.StringUtils;
@@ -310,6 +315,7 @@ public class GenerationTool {
                 log.info("Locale support", "Locale support has been added for the Java 8+ distributions only");
 
         Database database = null;
+        ConnectionProvider connectionProvider = null;
 
         try {
 
@@ -320,6 +326,7 @@ public class GenerationTool {
 
                 if (dataSource != null) {
                     setConnection(dataSource.getConnection());
+                    connectionProvider = new DataSourceConnectionProvider(dataSource);
                 }
                 else {
                     String url = System.getProperty("jooq.codegen.jdbc.url");
@@ -348,15 +355,52 @@ public class GenerationTool {
 
                     if (j != null) {
                         try {
-                            Class<? extends Driver> driver = (Class<? extends Driver>) loadClass(driverClass(j));
+                            final Class<? extends Driver> driver = (Class<? extends Driver>) loadClass(driverClass(j));
+                            final String jdbcUrl = defaultString(j.getUrl());
 
-                            Properties properties = properties(j.getProperties());
+                            final Properties properties = properties(j.getProperties());
                             if (!properties.containsKey("user"))
                                 properties.put("user", defaultString(defaultString(j.getUser(), j.getUsername())));
                             if (!properties.containsKey("password"))
                                 properties.put("password", defaultString(j.getPassword()));
 
-                            setConnection(driver.newInstance().connect(defaultString(j.getUrl()), properties));
+                            setConnection(driver.newInstance().connect(jdbcUrl, properties));
+
+                            // Additional connections to in-memory databases
+                            // would connect to new, empty databases
+                            if (defaultIfNull(d.getParallelism(), 1) > 1 && inMemory(jdbcUrl)) {
+                                log.warn("Parallelism", "Reading objects sequentially, as <parallelism/> is not supported for in-memory databases configured with <jdbc/>: " + jdbcUrl);
+                            }
+
+                            // Additional connections for <parallelism/> are created the same way
+                            else {
+                                final Boolean jdbcAutoCommit = j.isAutoCommit();
+
+                                connectionProvider = new ConnectionProvider() {
+                                    @Override
+                                    public Connection acquire() {
+                                        Connection c = null;
+
+                                        try {
+                                            c = driver.newInstance().connect(jdbcUrl, properties);
+
+                                            if (jdbcAutoCommit != null)
+                                                c.setAutoCommit(jdbcAutoCommit);
+
+                                            return c;
+                                        }
+                                        catch (Exception e) {
+                                            JDBCUtils.safeClose(c);
+                                            throw new DataAccessException("Error while connecting to database", e);
+                                        }
+                                    }
+
+                                    @Override
+                                    public void release(Connection c) {
+                                        JDBCUtils.safeClose(c);
+                                    }
+                                };
+                            }
                         }
                         catch (Exception e) {
                             if (databaseName != null)
@@ -409,7 +453,66 @@ public class GenerationTool {
 
             generator.setStrategy(strategy);
 
-            Class<? extends Database> databaseClass = !isBlank(databaseName)
+            SchemaVersionProvider svp = null;
+            CatalogVersionProvider cvp = null;
+
+            if (!isBlank(d.getSchemaVersionProvider())) {
+                try {
+                    svp = (SchemaVersionProvider) Class.forName(d.getSchemaVersionProvider()).newInstance();
+                    log.info("Using custom schema version provider : " + svp);
+                }
+                catch (Exception ignore) {
+                    if (d.getSchemaVersionProvider().toLowerCase(locale).startsWith("select")) {
+                        svp = new SQLSchemaVersionProvider(connection, d.getSchemaVersionProvider());
+                        log.info("Using SQL schema version provider : " + d.getSchemaVersionProvider());
+                    }
+                    else {
+                        svp = new ConstantSchemaVersionProvider(d.getSchemaVersionProvider());
+                    }
+                }
+            }
+
+            if (!isBlank(d.getCatalogVersionProvider())) {
+                try {
+                    cvp = (CatalogVersionProvider) Class.forName(d.getCatalogVersionProvider()).newInstance();
+                    log.info("Using custom catalog version provider : " + cvp);
+                }
+                catch (Exception ignore) {
+                    if (d.getCatalogVersionProvider().toLowerCase(locale).startsWith("select")) {
+                        cvp = new SQLCatalogVersionProvider(connection, d.getCatalogVersionProvider());
+                        log.info("Using SQL catalog version provider : " + d.getCatalogVersionProvider());
+                    }
+                    else {
+                        cvp = new ConstantCatalogVersionProvider(d.getCatalogVersionProvider());
+                    }
+                }
+            }
+
+            if (svp == null)
+                svp = new ConstantSchemaVersionProvider(null);
+            if (cvp == null)
+                cvp = new ConstantCatalogVersionProvider(null);
+
+            // Read the meta data from a previously stored snapshot, if it is still up to date
+            XMLSnapshot snapshot = null;
+            boolean fromSnapshot = false;
+
+            if (!isBlank(d.getSnapshotFile())) {
+                File file = new File(d.getSnapshotFile());
+
+                if (!file.isAbsolute())
+                    file = new File(configuration.getBasedir(), d.getSnapshotFile());
+
+                snapshot = new XMLSnapshot(file, j.getUrl() + "\n" + MiniJAXB.marshal(d));
+                fromSnapshot = snapshot.upToDate(svp, cvp);
+
+                if (fromSnapshot)
+                    log.info("Using snapshot", file);
+            }
+
+            Class<? extends Database> databaseClass = fromSnapshot
+                ? XMLDatabase.class
+                : !isBlank(databaseName)
                 ? (Class<? extends Database>) loadClass(databaseName)
                 : connection != null
                 ? databaseClass(connection)
@@ -417,6 +520,12 @@ public class GenerationTool {
             database = databaseClass.newInstance();
             database.setBasedir(configuration.getBasedir());
             database.setProperties(properties(d.getProperties()));
+
+            if (fromSnapshot) {
+                database.getProperties().setProperty("xmlFile", snapshot.file().getPath());
+                database.getProperties().setProperty("dialect", snapshot.dialect());
+            }
+
             database.setOnError(configuration.getOnError());
 
             List<CatalogMappingType> catalogs = d.getCatalogs();
@@ -530,6 +639,8 @@ public class GenerationTool {
                 log.info("No <inputSchema/> was provided. Generating ALL available schemata instead.");
 
             database.setConnection(connection);
+            database.setConnectionProvider(connectionProvider);
+            database.setParallelism(defaultIfNull(d.getParallelism(), 1));
             database.setConfiguredCatalogs(catalogs);
             database.setConfiguredSchemata(schemata);
             database.setIncludes(new String[] { defaultString(d.getIncludes()) });
@@ -582,46 +693,6 @@ public class GenerationTool {
             database.setRegexMatchesPartialQualification(!FALSE.equals(d.isRegexMatchesPartialQualification()));
             database.setSqlMatchesPartialQualification(!FALSE.equals(d.isSqlMatchesPartialQualification()));
 
-            SchemaVersionProvider svp = null;
-            CatalogVersionProvider cvp = null;
-
-            if (!isBlank(d.getSchemaVersionProvider())) {
-                try {
-                    svp = (SchemaVersionProvider) Class.forName(d.getSchemaVersionProvider()).newInstance();
-                    log.info("Using custom schema version provider : " + svp);
-                }
-                catch (Exception ignore) {
-                    if (d.getSchemaVersionProvider().toLowerCase(locale).startsWith("select")) {
-                        svp = new SQLSchemaVersionProvider(connection, d.getSchemaVersionProvider());
-                        log.info("Using SQL schema version provider : " + d.getSchemaVersionProvider());
-                    }
-                    else {
-                        svp = new ConstantSchemaVersionProvider(d.getSchemaVersionProvider());
-                    }
-                }
-            }
-
-            if (!isBlank(d.getCatalogVersionProvider())) {
-                try {
-                    cvp = (CatalogVersionProvider) Class.forName(d.getCatalogVersionProvider()).newInstance();
-                    log.info("Using custom catalog version provider : " + cvp);
-                }
-                catch (Exception ignore) {
-                    if (d.getCatalogVersionProvider().toLowerCase(locale).startsWith("select")) {
-                        cvp = new SQLCatalogVersionProvider(connection, d.getCatalogVersionProvider());
-                        log.info("Using SQL catalog version provider : " + d.getCatalogVersionProvider());
-                    }
-                    else {
-                        cvp = new ConstantCatalogVersionProvider(d.getCatalogVersionProvider());
-                    }
-                }
-            }
-
-            if (svp == null)
-                svp = new ConstantSchemaVersionProvider(null);
-            if (cvp == null)
-                cvp = new ConstantCatalogVersionProvider(null);
-
             database.setSchemaVersionProvider(svp);
             database.setCatalogVersionProvider(cvp);
 
@@ -844,6 +915,12 @@ public class GenerationTool {
                 generator.setGenerateNewline(g.getGenerate().getNewline());
             if (g.getGenerate().getIndentation() != null)
                 generator.setGenerateIndentation(g.getGenerate().getIndentation());
+            if (g.getGenerate().getParallelism() != null)
+                generator.setGenerateParallelism(g.getGenerate().getParallelism());
+            if (g.getGenerate().isIncremental() != null)
+                generator.setGenerateIncremental(g.getGenerate().isIncremental());
+            if (TRUE.equals(g.getGenerate().isIncremental()))
+                generator.setGenerateIncrementalDatabaseConfiguration(MiniJAXB.marshal(d));
 
 
             if (!isBlank(d.getSchemaVersionProvider()))
@@ -883,6 +960,9 @@ public class GenerationTool {
 
             generator.generate(database);
 
+            if (snapshot != null && !fromSnapshot)
+                snapshot.store(database);
+
             logUnused("forced type", "forced types", database.getUnusedForcedTypes());
             logUnused("embeddable", "embeddables", database.getUnusedEmbeddables());
             logUnused("synthetic identity", "synthetic identities", database.getUnusedSyntheticIdentities());
@@ -977,6 +1057,21 @@ public class GenerationTool {
         return result;
     }
 
+    /**
+     * Whether a JDBC URL refers to an in-memory database, whose contents are
+     * not visible to other connections opened from the same URL.
+     */
+    private static boolean inMemory(String url) {
+        String u = url.toLowerCase();
+
+        return u.startsWith("jdbc:h2:mem:")
+            || u.startsWith("jdbc:hsqldb:mem:")
+            || u.startsWith("jdbc:derby:memory:")
+            || u.startsWith("jdbc:sqlite::memory:")
+            || u.equals("jdbc:sqlite:")
+            || u.startsWith("jdbc:sqlite:") && u.contains("mode=memory");
+    }
+
     private Class<? extends Database> databaseClass(Jdbc j) {
         return databaseClass(j.getUrl());
     }
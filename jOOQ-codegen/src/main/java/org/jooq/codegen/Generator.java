@@ -1044,6 +1044,44 @@ public interface Generator {
      */
     void setGenerateIndentation(String indentation);
 
+    /**
+     * The number of threads used to generate independent objects
+     * concurrently.
+     */
+    int generateParallelism();
+
+    /**
+     * The number of threads used to generate independent objects
+     * concurrently.
+     */
+    void setGenerateParallelism(int parallelism);
+
+    /**
+     * Whether objects that have not changed since the previous run should be
+     * skipped.
+     */
+    boolean generateIncremental();
+
+    /**
+     * Whether objects that have not changed since the previous run should be
+     * skipped.
+     */
+    void setGenerateIncremental(boolean incremental);
+
+    /**
+     * The <code>&lt;database/&gt;</code> configuration that objects are read
+     * with, whose changes invalidate all objects skipped by
+     * {@link #generateIncremental()}.
+     */
+    String generateIncrementalDatabaseConfiguration();
+
+    /**
+     * The <code>&lt;database/&gt;</code> configuration that objects are read
+     * with, whose changes invalidate all objects skipped by
+     * {@link #generateIncremental()}.
+     */
+    void setGenerateIncrementalDatabaseConfiguration(String configuration);
+
     /**
      * The target directory
      */
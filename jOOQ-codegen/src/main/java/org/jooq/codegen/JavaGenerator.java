@@ -39,6 +39,7 @@ package org.jooq.codegen;
 
 
 import static java.util.Arrays.asList;
+import static java.util.Collections.synchronizedSet;
 // ...
 // ...
 import static org.jooq.SQLDialect.MYSQL;
@@ -67,15 +68,23 @@ import java.util.Arrays;
 import java.util.Calendar;
 import java.util.Collection;
 import java.util.Collections;
-import java.util.HashMap;
 import java.util.HashSet;
 import java.util.IdentityHashMap;
 import java.util.LinkedHashMap;
 import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Locale;
 import java.util.Map;
 import java.util.Set;
 import java.util.TimeZone;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
@@ -263,19 +272,30 @@ public class JavaGenerator extends AbstractGenerator {
     /**
      * All files affected by this generator run.
      */
-    private Set<File>                             affectedFiles                = new LinkedHashSet<>();
+    private Set<File>                             affectedFiles                = synchronizedSet(new LinkedHashSet<>());
 
     /**
      * All files modified by this generator run.
      */
-    private Set<File>                             modifiedFiles                = new LinkedHashSet<>();
+    private Set<File>                             modifiedFiles                = synchronizedSet(new LinkedHashSet<>());
 
     /**
      * These directories were not modified by this generator, but flagged as not
      * for removal (e.g. because of {@link #schemaVersions} or
      * {@link #catalogVersions}).
      */
-    private Set<File>                             directoriesNotForRemoval     = new LinkedHashSet<>();
+    private Set<File>                             directoriesNotForRemoval     = synchronizedSet(new LinkedHashSet<>());
+
+    /**
+     * The executor used to generate independent objects concurrently, if
+     * {@link #generateParallelism()} is greater than <code>1</code>.
+     */
+    private ExecutorService                       executor;
+
+    /**
+     * The fingerprints of generated files, if {@link #generateIncremental()}.
+     */
+    private Fingerprints                          fingerprints;
 
     private boolean                               scala;
     private final boolean                         scalaConfigured;
@@ -409,6 +429,7 @@ public class JavaGenerator extends AbstractGenerator {
         log.info("  sources on views", generateSourcesOnViews());
         log.info("  daos", generateDaos());
         log.info("  deprecated code", generateDeprecated());
+        log.info("  incremental", generateIncremental());
         log.info("  global references (any)", generateGlobalObjectReferences());
         log.info("  global references (catalogs)", generateGlobalCatalogReferences());
         log.info("  global references (keys)", generateGlobalKeyReferences());
@@ -427,6 +448,7 @@ public class JavaGenerator extends AbstractGenerator {
         log.info("  javadoc", generateJavadoc());
         log.info("  keys", generateKeys());
         log.info("  links", generateLinks());
+        log.info("  parallelism", generateParallelism());
         log.info("  pojos", generatePojos()
               + ((!generatePojos && generateDaos) ? " (forced to true because of <daos/>)" :
                 ((!generatePojos && generateImmutablePojos) ? " (forced to true because of <immutablePojos/>)" : "")));
@@ -465,16 +487,39 @@ public class JavaGenerator extends AbstractGenerator {
         // ----------------------------------------------------------------------
         log.info("Generating catalogs", "Total: " + database.getCatalogs().size());
 
+        if (generateIncremental())
+            fingerprints = new Fingerprints(new File(getStrategy().getTargetDirectory()), fingerprintConfiguration());
+
+        if (generateParallelism() > 1)
+            executor = Executors.newFixedThreadPool(generateParallelism(), new ThreadFactory() {
+                final AtomicInteger count = new AtomicInteger();
+
+                @Override
+                public Thread newThread(Runnable r) {
+                    Thread thread = new Thread(r, "jooq-codegen-" + count.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                }
+            });
+
         StopWatch w = new StopWatch();
-        for (CatalogDefinition catalog : database.getCatalogs()) {
-            try {
-                if (generateCatalogIfEmpty(catalog))
-                    generate(catalog);
-                else
-                    log.info("Excluding empty catalog", catalog);
+        try {
+            for (CatalogDefinition catalog : database.getCatalogs()) {
+                try {
+                    if (generateCatalogIfEmpty(catalog))
+                        generate(catalog);
+                    else
+                        log.info("Excluding empty catalog", catalog);
+                }
+                catch (Exception e) {
+                    throw new GeneratorException("Error generating code for catalog " + catalog, e);
+                }
             }
-            catch (Exception e) {
-                throw new GeneratorException("Error generating code for catalog " + catalog, e);
+        }
+        finally {
+            if (executor != null) {
+                executor.shutdownNow();
+                executor = null;
             }
         }
 
@@ -503,6 +548,159 @@ public class JavaGenerator extends AbstractGenerator {
         empty(getStrategy().getFileRoot(), (scala ? ".scala" : kotlin ? ".kt" : ".java"), affectedFiles, directoriesNotForRemoval);
         directoriesNotForRemoval.clear();
         affectedFiles.clear();
+
+        if (fingerprints != null) {
+            fingerprints.store();
+            fingerprints = null;
+        }
+    }
+
+    /**
+     * The part of the generator configuration that affects all generated
+     * files, used to invalidate all fingerprints if it changes. This includes
+     * the <code>&lt;database/&gt;</code> configuration through
+     * {@link #generateIncrementalDatabaseConfiguration()}, as e.g. its record
+     * version fields or forced types affect generated code.
+     */
+    private String fingerprintConfiguration() {
+        StringBuilder sb = new StringBuilder();
+
+        sb.append(Constants.FULL_VERSION).append('\n')
+          .append(getClass().getName()).append('\n')
+          .append(strategy.delegate.getClass().getName()).append('\n')
+          .append(getStrategy().getTargetPackage()).append('\n')
+          .append(getStrategy().getTargetLanguage()).append('\n');
+
+        try {
+            for (java.lang.reflect.Field f : AbstractGenerator.class.getDeclaredFields()) {
+                if (Modifier.isStatic(f.getModifiers()))
+                    continue;
+
+                Class<?> type = f.getType();
+                if (type.isPrimitive() || type == Boolean.class || type == String.class || type.isEnum() || type == Locale.class) {
+                    f.setAccessible(true);
+                    sb.append(f.getName()).append('=').append(f.get(this)).append('\n');
+                }
+            }
+        }
+        catch (IllegalAccessException e) {
+            throw new GeneratorException("Cannot read generator configuration", e);
+        }
+
+        return sb.toString();
+    }
+
+    /**
+     * Generate a file for each one of several independent definitions.
+     * <p>
+     * Files are generated concurrently if {@link #generateParallelism()} is
+     * greater than <code>1</code>, and skipped if they are up to date if
+     * {@link #generateIncremental()}. Lazily initialised meta data and
+     * fingerprints are computed on the calling thread, as jOOQ-meta
+     * definitions are not thread safe.
+     */
+    private <D extends Definition> void generateEach(List<D> definitions, Mode mode, String description, Consumer<? super D> generator) {
+        List<Future<?>> futures = new ArrayList<>();
+
+        for (D definition : definitions) {
+            File file;
+            String fingerprint;
+
+            try {
+                if (executor != null)
+                    prepare(definition);
+
+                if (fingerprints != null) {
+                    file = getFile(definition, mode);
+                    fingerprint = Fingerprints.fingerprint(getStrategy(), definition);
+
+                    if (fingerprints.upToDate(file, fingerprint)) {
+                        log.info("Skipping unchanged " + description, file.getName());
+                        affectedFiles.add(file);
+                        continue;
+                    }
+                }
+                else {
+                    file = null;
+                    fingerprint = null;
+                }
+            }
+            catch (Exception e) {
+                log.error("Error while generating " + description + " " + definition, e);
+                continue;
+            }
+
+            Runnable runnable = () -> {
+                try {
+                    generator.accept(definition);
+
+                    if (fingerprints != null)
+                        fingerprints.put(file, fingerprint);
+                }
+                catch (Exception e) {
+                    log.error("Error while generating " + description + " " + definition, e);
+                }
+            };
+
+            if (executor == null)
+                runnable.run();
+            else
+                futures.add(executor.submit(runnable));
+        }
+
+        for (Future<?> future : futures) {
+            try {
+                future.get();
+            }
+            catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new GeneratorException("Interrupted while generating " + description + "s", e);
+            }
+            catch (ExecutionException e) {
+                throw new GeneratorException("Error while generating " + description + "s", e.getCause());
+            }
+        }
+    }
+
+    /**
+     * Initialise the lazily computed meta data of a definition before
+     * generating code for it on another thread.
+     */
+    private void prepare(Definition definition) {
+        if (definition instanceof TableDefinition) {
+            TableDefinition table = (TableDefinition) definition;
+
+            for (ColumnDefinition column : table.getColumns()) {
+                column.getType();
+                column.getDomain();
+            }
+
+            table.getKeys();
+            table.getPrimaryKey();
+            table.getUniqueKeys();
+            table.getForeignKeys();
+            table.getIndexes();
+            table.getCheckConstraints();
+            table.getIdentity();
+            table.getEmbeddables();
+            table.getReferencedEmbeddables();
+            table.getParameters();
+            table.getParentTable();
+            table.getChildTables();
+        }
+        else if (definition instanceof RoutineDefinition) {
+            RoutineDefinition routine = (RoutineDefinition) definition;
+
+            for (ParameterDefinition parameter : routine.getAllParameters()) {
+                parameter.getType();
+                parameter.getDomain();
+            }
+
+            routine.getInParameters();
+            routine.getOutParameters();
+            routine.getReturnValue();
+            routine.getReturnType();
+        }
     }
 
     private boolean generateCatalogIfEmpty(CatalogDefinition catalog) {
@@ -694,7 +892,7 @@ public class JavaGenerator extends AbstractGenerator {
 
     private class AvoidAmbiguousClassesFilter implements Database.Filter {
 
-        private Map<String, String> included = new HashMap<>();
+        private Map<String, String> included = new ConcurrentHashMap<>();
 
         @Override
         public boolean exclude(Definition definition) {
@@ -1415,14 +1613,7 @@ public class JavaGenerator extends AbstractGenerator {
     protected void generateRecords(SchemaDefinition schema) {
         log.info("Generating table records");
 
-        for (TableDefinition table : database.getTables(schema)) {
-            try {
-                generateRecord(table);
-            }
-            catch (Exception e) {
-                log.error("Error while generating table record " + table, e);
-            }
-        }
+        generateEach(database.getTables(schema), Mode.RECORD, "table record", this::generateRecord);
 
         watch.splitInfo("Table records generated");
     }
@@ -2548,14 +2739,7 @@ public class JavaGenerator extends AbstractGenerator {
     protected void generateInterfaces(SchemaDefinition schema) {
         log.info("Generating table interfaces");
 
-        for (TableDefinition table : database.getTables(schema)) {
-            try {
-                generateInterface(table);
-            }
-            catch (Exception e) {
-                log.error("Error while generating table interface " + table, e);
-            }
-        }
+        generateEach(database.getTables(schema), Mode.INTERFACE, "table interface", this::generateInterface);
 
         watch.splitInfo("Table interfaces generated");
     }
@@ -3723,14 +3907,7 @@ public class JavaGenerator extends AbstractGenerator {
             closeJavaWriter(out);
         }
 
-        for (RoutineDefinition routine : database.getRoutines(schema)) {
-            try {
-                generateRoutine(schema, routine);
-            }
-            catch (Exception e) {
-                log.error("Error while generating routine " + routine, e);
-            }
-        }
+        generateEach(database.getRoutines(schema), Mode.DEFAULT, "routine", routine -> generateRoutine(schema, routine));
 
         watch.splitInfo("Routines generated");
     }
@@ -3978,14 +4155,7 @@ public class JavaGenerator extends AbstractGenerator {
     protected void generateDaos(SchemaDefinition schema) {
         log.info("Generating DAOs");
 
-        for (TableDefinition table : database.getTables(schema)) {
-            try {
-                generateDao(table);
-            }
-            catch (Exception e) {
-                log.error("Error while generating table DAO " + table, e);
-            }
-        }
+        generateEach(database.getTables(schema), Mode.DAO, "table DAO", this::generateDao);
 
         watch.splitInfo("Table DAOs generated");
     }
@@ -4242,14 +4412,7 @@ public class JavaGenerator extends AbstractGenerator {
     protected void generatePojos(SchemaDefinition schema) {
         log.info("Generating table POJOs");
 
-        for (TableDefinition table : database.getTables(schema)) {
-            try {
-                generatePojo(table);
-            }
-            catch (Exception e) {
-                log.error("Error while generating table POJO " + table, e);
-            }
-        }
+        generateEach(database.getTables(schema), Mode.POJO, "table POJO", this::generatePojo);
 
         watch.splitInfo("Table POJOs generated");
     }
@@ -5091,14 +5254,7 @@ public class JavaGenerator extends AbstractGenerator {
     protected void generateTables(SchemaDefinition schema) {
         log.info("Generating tables");
 
-        for (TableDefinition table : database.getTables(schema)) {
-            try {
-                generateTable(schema, table);
-            }
-            catch (Exception e) {
-                log.error("Error while generating table " + table, e);
-            }
-        }
+        generateEach(database.getTables(schema), Mode.DEFAULT, "table", table -> generateTable(schema, table));
 
         watch.splitInfo("Tables generated");
     }
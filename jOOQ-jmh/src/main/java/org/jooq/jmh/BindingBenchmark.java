@@ -0,0 +1,122 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Other licenses:
+ * -----------------------------------------------------------------------------
+ * Commercial licenses for this work are available. These replace the above
+ * ASL 2.0 and offer limited warranties, support, maintenance, and commercial
+ * database integrations.
+ *
+ * For more information, please visit: http://www.jooq.org/licenses
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ */
+package org.jooq.jmh;
+
+import static org.jooq.jmh.Tables.BOOK_FIELDS;
+
+
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.util.concurrent.TimeUnit;
+
+import org.jooq.DSLContext;
+import org.jooq.Query;
+import org.jooq.Record;
+import org.jooq.Result;
+import org.jooq.ResultQuery;
+import org.jooq.SQLDialect;
+import org.jooq.impl.DSL;
+import org.jooq.tools.jdbc.MockConnection;
+import org.jooq.tools.jdbc.MockResult;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmarks for binding values to, and reading values from JDBC through
+ * {@link org.jooq.impl.DefaultBinding}.
+ * <p>
+ * A {@link MockConnection} is used, so the benchmarks measure jOOQ's overhead
+ * only, not that of a JDBC driver.
+ *
+ * @author Lukas Eder
+ */
+@Fork(1)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Thread)
+public class BindingBenchmark {
+
+    @Param({ "10", "1000" })
+    public int           rows;
+
+    DSLContext           ctx;
+    Query                insert;
+    ResultQuery<Record>  select;
+
+    @Setup
+    public void setup() {
+        DSLContext create = DSL.using(SQLDialect.H2);
+        Result<Record> result = create.newResult(BOOK_FIELDS);
+        Timestamp now = new Timestamp(System.currentTimeMillis());
+
+        for (int i = 1; i <= rows; i++) {
+            Record record = create.newRecord(BOOK_FIELDS);
+            record.fromArray(i, 1 + i % 2, "Book " + i, 1900 + i % 100, new BigDecimal(i).movePointLeft(2), now);
+            result.add(record);
+        }
+
+        MockResult[] books = { new MockResult(rows, result) };
+        MockResult[] updated = { new MockResult(1, null) };
+
+        ctx = DSL.using(new MockConnection(c -> c.sql().startsWith("insert") ? updated : books), SQLDialect.H2);
+        insert = Queries.insert(ctx);
+        select = Queries.selectBooks(ctx);
+    }
+
+    @Benchmark
+    public int set() {
+        return insert.execute();
+    }
+
+    @Benchmark
+    public Result<Record> get() {
+        return select.fetch();
+    }
+}
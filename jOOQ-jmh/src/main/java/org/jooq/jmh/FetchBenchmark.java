@@ -0,0 +1,122 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Other licenses:
+ * -----------------------------------------------------------------------------
+ * Commercial licenses for this work are available. These replace the above
+ * ASL 2.0 and offer limited warranties, support, maintenance, and commercial
+ * database integrations.
+ *
+ * For more information, please visit: http://www.jooq.org/licenses
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ */
+package org.jooq.jmh;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.concurrent.TimeUnit;
+
+import org.jooq.Cursor;
+import org.jooq.Record;
+import org.jooq.Result;
+import org.jooq.conf.ParamType;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Benchmarks for executing queries and fetching their results from an
+ * in-memory H2 database, eagerly and lazily.
+ *
+ * @author Lukas Eder
+ */
+@Fork(1)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Thread)
+public class FetchBenchmark {
+
+    String sql;
+
+    @Setup
+    public void setup(H2Database db) {
+        sql = Queries.selectBooks(db.ctx).getSQL(ParamType.INLINED);
+    }
+
+    @Benchmark
+    public Result<Record> fetch(H2Database db) {
+        return Queries.selectBooks(db.ctx).fetch();
+    }
+
+    @Benchmark
+    public Result<Record> fetchColumnar(H2Database db) {
+        return Queries.selectBooks(db.ctx).fetchColumnar();
+    }
+
+    @Benchmark
+    public void fetchLazy(H2Database db, Blackhole blackhole) {
+        try (Cursor<Record> cursor = Queries.selectBooks(db.ctx).fetchLazy()) {
+            Record record;
+
+            while ((record = cursor.fetchNext()) != null)
+                blackhole.consume(record);
+        }
+    }
+
+    /**
+     * A baseline for {@link #fetchLazy(H2Database, Blackhole)}, reading the
+     * same data with JDBC directly.
+     */
+    @Benchmark
+    public void fetchLazyWithJDBC(H2Database db, Blackhole blackhole) throws SQLException {
+        try (Statement s = db.connection.createStatement();
+            ResultSet rs = s.executeQuery(sql)) {
+
+            while (rs.next()) {
+                blackhole.consume(rs.getInt(1));
+                blackhole.consume(rs.getInt(2));
+                blackhole.consume(rs.getString(3));
+                blackhole.consume(rs.getInt(4));
+                blackhole.consume(rs.getBigDecimal(5));
+                blackhole.consume(rs.getTimestamp(6));
+            }
+        }
+    }
+}
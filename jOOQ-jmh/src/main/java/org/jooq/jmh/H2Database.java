@@ -0,0 +1,123 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Other licenses:
+ * -----------------------------------------------------------------------------
+ * Commercial licenses for this work are available. These replace the above
+ * ASL 2.0 and offer limited warranties, support, maintenance, and commercial
+ * database integrations.
+ *
+ * For more information, please visit: http://www.jooq.org/licenses
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ */
+package org.jooq.jmh;
+
+import static org.jooq.impl.DSL.constraint;
+import static org.jooq.jmh.Tables.AUTHOR;
+import static org.jooq.jmh.Tables.AUTHOR_FIRST_NAME;
+import static org.jooq.jmh.Tables.AUTHOR_ID;
+import static org.jooq.jmh.Tables.AUTHOR_LAST_NAME;
+import static org.jooq.jmh.Tables.BOOK;
+import static org.jooq.jmh.Tables.BOOK_AUTHOR_ID;
+import static org.jooq.jmh.Tables.BOOK_CREATED_AT;
+import static org.jooq.jmh.Tables.BOOK_ID;
+import static org.jooq.jmh.Tables.BOOK_PRICE;
+import static org.jooq.jmh.Tables.BOOK_PUBLISHED_IN;
+import static org.jooq.jmh.Tables.BOOK_TITLE;
+
+import java.math.BigDecimal;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+
+import org.jooq.DSLContext;
+import org.jooq.InsertValuesStep6;
+import org.jooq.Record;
+import org.jooq.SQLDialect;
+import org.jooq.impl.DSL;
+
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+/**
+ * An in-memory H2 database containing {@link #rows} books, shared by all
+ * threads of a benchmark.
+ *
+ * @author Lukas Eder
+ */
+@State(Scope.Benchmark)
+public class H2Database {
+
+    @Param({ "10", "1000" })
+    public int        rows;
+
+    public Connection connection;
+    public DSLContext ctx;
+
+    @Setup(Level.Trial)
+    public void setup() throws SQLException {
+        connection = DriverManager.getConnection("jdbc:h2:mem:jooq-jmh-" + System.nanoTime());
+        ctx = DSL.using(connection, SQLDialect.H2);
+
+        ctx.createTable(AUTHOR)
+           .columns(AUTHOR_ID, AUTHOR_FIRST_NAME, AUTHOR_LAST_NAME)
+           .constraints(constraint().primaryKey(AUTHOR_ID))
+           .execute();
+        ctx.createTable(BOOK)
+           .columns(BOOK_ID, BOOK_AUTHOR_ID, BOOK_TITLE, BOOK_PUBLISHED_IN, BOOK_PRICE, BOOK_CREATED_AT)
+           .constraints(
+               constraint().primaryKey(BOOK_ID),
+               constraint().foreignKey(BOOK_AUTHOR_ID).references(AUTHOR, AUTHOR_ID)
+           )
+           .execute();
+
+        ctx.insertInto(AUTHOR, AUTHOR_ID, AUTHOR_FIRST_NAME, AUTHOR_LAST_NAME)
+           .values(1, "George", "Orwell")
+           .values(2, "Paulo", "Coelho")
+           .execute();
+
+        InsertValuesStep6<Record, Integer, Integer, String, Integer, BigDecimal, Timestamp> insert =
+        ctx.insertInto(BOOK, BOOK_ID, BOOK_AUTHOR_ID, BOOK_TITLE, BOOK_PUBLISHED_IN, BOOK_PRICE, BOOK_CREATED_AT);
+
+        Timestamp now = new Timestamp(System.currentTimeMillis());
+        for (int i = 1; i <= rows; i++)
+            insert = insert.values(i, 1 + i % 2, "Book " + i, 1900 + i % 100, new BigDecimal(i).movePointLeft(2), now);
+
+        insert.execute();
+    }
+
+    @TearDown(Level.Trial)
+    public void teardown() throws SQLException {
+        connection.close();
+    }
+}
@@ -0,0 +1,176 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Other licenses:
+ * -----------------------------------------------------------------------------
+ * Commercial licenses for this work are available. These replace the above
+ * ASL 2.0 and offer limited warranties, support, maintenance, and commercial
+ * database integrations.
+ *
+ * For more information, please visit: http://www.jooq.org/licenses
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ */
+package org.jooq.jmh;
+
+import java.util.concurrent.TimeUnit;
+
+import org.jooq.DSLContext;
+import org.jooq.Parser;
+import org.jooq.Queries;
+import org.jooq.Query;
+import org.jooq.SQLDialect;
+import org.jooq.impl.DSL;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmarks for parsing SQL scripts and statements, as done by the
+ * <code>DDLDatabase</code>, the interpreter, or a parsing connection.
+ * <p>
+ * The scripts are generated to resemble typical schema migration scripts,
+ * with comments, constraints, indexes, views and some sample data.
+ *
+ * @author Lukas Eder
+ */
+@Fork(1)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Thread)
+public class ParserBenchmark {
+
+    @Param({ "10", "100" })
+    public int tables;
+
+    Parser     parser;
+    String     ddl;
+    String     dml;
+    String     select;
+
+    @Setup
+    public void setup() {
+        DSLContext ctx = DSL.using(SQLDialect.DEFAULT);
+
+        parser = ctx.parser();
+        ddl = ddl(tables);
+        dml = dml(tables);
+        select =
+              "-- Authors and their most recent books\n"
+            + "SELECT a.first_name, a.last_name, count(*) AS books, max(b.published_in) AS latest\n"
+            + "FROM author AS a\n"
+            + "JOIN book AS b ON b.author_id = a.id /* only authors with books */\n"
+            + "LEFT OUTER JOIN book_store AS s ON s.name = b.store_name\n"
+            + "WHERE b.published_in BETWEEN 1900 AND 2020\n"
+            + "AND (a.last_name LIKE 'A%' OR a.last_name IN ('Orwell', 'Coelho', 'Huxley'))\n"
+            + "AND NOT EXISTS (SELECT 1 FROM book_to_book_store AS x WHERE x.book_id = b.id AND x.stock = 0)\n"
+            + "GROUP BY a.first_name, a.last_name\n"
+            + "HAVING count(*) > 1\n"
+            + "ORDER BY latest DESC NULLS LAST, a.last_name ASC\n"
+            + "OFFSET 10 ROWS FETCH NEXT 20 ROWS ONLY";
+    }
+
+    @Benchmark
+    public Queries parseDDL() {
+        return parser.parse(ddl);
+    }
+
+    @Benchmark
+    public Queries parseDML() {
+        return parser.parse(dml);
+    }
+
+    @Benchmark
+    public Query parseSelect() {
+        return parser.parseQuery(select);
+    }
+
+    static String ddl(int tables) {
+        StringBuilder sb = new StringBuilder();
+
+        sb.append("/*\n * Generated schema migration script\n */\n");
+        sb.append("CREATE SCHEMA IF NOT EXISTS s;\n\n");
+
+        for (int i = 0; i < tables; i++) {
+            sb.append("-- Table number ").append(i).append('\n');
+            sb.append("CREATE TABLE s.t_").append(i).append(" (\n");
+            sb.append("  id BIGINT NOT NULL,\n");
+            sb.append("  code VARCHAR(20) NOT NULL, -- natural key\n");
+            sb.append("  name VARCHAR(255),\n");
+            sb.append("  amount DECIMAL(18, 2) DEFAULT 0 NOT NULL,\n");
+            sb.append("  active BOOLEAN DEFAULT TRUE,\n");
+            sb.append("  created_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP NOT NULL,\n");
+
+            if (i > 0)
+                sb.append("  parent_id BIGINT,\n");
+
+            sb.append("  CONSTRAINT pk_t_").append(i).append(" PRIMARY KEY (id),\n");
+            sb.append("  CONSTRAINT uk_t_").append(i).append("_code UNIQUE (code),\n");
+
+            if (i > 0)
+                sb.append("  CONSTRAINT fk_t_").append(i).append("_parent FOREIGN KEY (parent_id) REFERENCES s.t_").append(i - 1).append(" (id) ON DELETE CASCADE,\n");
+
+            sb.append("  CONSTRAINT ck_t_").append(i).append("_amount CHECK (amount >= 0 AND amount < 1000000)\n");
+            sb.append(");\n");
+            sb.append("CREATE INDEX i_t_").append(i).append("_name ON s.t_").append(i).append(" (name, created_at DESC);\n");
+            sb.append("COMMENT ON TABLE s.t_").append(i).append(" IS 'Table number ").append(i).append("';\n");
+            sb.append("ALTER TABLE s.t_").append(i).append(" ADD COLUMN description VARCHAR(1000);\n");
+            sb.append("CREATE VIEW s.v_").append(i).append(" AS SELECT id, code, name FROM s.t_").append(i).append(" WHERE active = TRUE;\n\n");
+        }
+
+        return sb.toString();
+    }
+
+    static String dml(int tables) {
+        StringBuilder sb = new StringBuilder();
+
+        for (int i = 0; i < tables; i++) {
+            sb.append("INSERT INTO s.t_").append(i).append(" (id, code, name, amount, active) VALUES\n");
+
+            for (int j = 0; j < 10; j++)
+                sb.append(j == 0 ? "  " : ", ").append('(').append(j).append(", 'C").append(j).append("', 'Name ").append(j).append("', ").append(j * 10).append(".5, ").append(j % 2 == 0).append(")\n");
+
+            sb.append(";\n");
+            sb.append("UPDATE s.t_").append(i).append(" SET amount = amount * 1.1, name = upper(name) WHERE id IN (1, 2, 3) AND active;\n");
+            sb.append("DELETE FROM s.t_").append(i).append(" WHERE amount < 10 OR code LIKE 'X%';\n");
+            sb.append("SELECT t.code, coalesce(sum(t.amount), 0) FROM s.t_").append(i).append(" AS t WHERE t.created_at > TIMESTAMP '2020-01-01 00:00:00' GROUP BY t.code ORDER BY 2 DESC;\n");
+        }
+
+        return sb.toString();
+    }
+}
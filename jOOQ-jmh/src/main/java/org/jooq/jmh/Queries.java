@@ -0,0 +1,105 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Other licenses:
+ * -----------------------------------------------------------------------------
+ * Commercial licenses for this work are available. These replace the above
+ * ASL 2.0 and offer limited warranties, support, maintenance, and commercial
+ * database integrations.
+ *
+ * For more information, please visit: http://www.jooq.org/licenses
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ */
+package org.jooq.jmh;
+
+import static org.jooq.impl.DSL.count;
+import static org.jooq.jmh.Tables.AUTHOR;
+import static org.jooq.jmh.Tables.AUTHOR_FIRST_NAME;
+import static org.jooq.jmh.Tables.AUTHOR_ID;
+import static org.jooq.jmh.Tables.AUTHOR_LAST_NAME;
+import static org.jooq.jmh.Tables.BOOK;
+import static org.jooq.jmh.Tables.BOOK_AUTHOR_ID;
+import static org.jooq.jmh.Tables.BOOK_CREATED_AT;
+import static org.jooq.jmh.Tables.BOOK_FIELDS;
+import static org.jooq.jmh.Tables.BOOK_ID;
+import static org.jooq.jmh.Tables.BOOK_PRICE;
+import static org.jooq.jmh.Tables.BOOK_PUBLISHED_IN;
+import static org.jooq.jmh.Tables.BOOK_TITLE;
+
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+
+import org.jooq.DSLContext;
+import org.jooq.Query;
+import org.jooq.Record;
+import org.jooq.Record3;
+import org.jooq.ResultQuery;
+
+/**
+ * Sample queries that are shared by several benchmarks.
+ *
+ * @author Lukas Eder
+ */
+final class Queries {
+
+    private static final Timestamp TIMESTAMP = Timestamp.valueOf("2020-01-01 00:00:00");
+
+    static ResultQuery<Record> selectBooks(DSLContext ctx) {
+        return ctx.select(BOOK_FIELDS)
+                  .from(BOOK)
+                  .orderBy(BOOK_ID);
+    }
+
+    static ResultQuery<Record3<String, String, Integer>> complexSelect(DSLContext ctx) {
+        return ctx.select(AUTHOR_FIRST_NAME, AUTHOR_LAST_NAME, count())
+                  .from(AUTHOR)
+                  .join(BOOK).on(AUTHOR_ID.eq(BOOK_AUTHOR_ID))
+                  .where(BOOK_PUBLISHED_IN.between(1900, 2000))
+                  .and(BOOK_TITLE.like("%a%").or(BOOK_TITLE.in("1984", "Animal Farm", "O Alquimista")))
+                  .groupBy(AUTHOR_ID, AUTHOR_FIRST_NAME, AUTHOR_LAST_NAME)
+                  .having(count().gt(1))
+                  .orderBy(AUTHOR_LAST_NAME.asc(), AUTHOR_FIRST_NAME.desc())
+                  .limit(10)
+                  .offset(20);
+    }
+
+    static Query insert(DSLContext ctx) {
+        return ctx.insertInto(BOOK, BOOK_ID, BOOK_AUTHOR_ID, BOOK_TITLE, BOOK_PUBLISHED_IN, BOOK_PRICE, BOOK_CREATED_AT)
+                       .values(1, 1, "1984", 1948, new BigDecimal("12.50"), TIMESTAMP);
+    }
+
+    static Query update(DSLContext ctx) {
+        return ctx.update(BOOK)
+                       .set(BOOK_TITLE, "Animal Farm")
+                       .set(BOOK_PRICE, new BigDecimal("10.00"))
+                       .where(BOOK_ID.eq(2))
+                       .and(BOOK_AUTHOR_ID.eq(1));
+    }
+
+    private Queries() {}
+}
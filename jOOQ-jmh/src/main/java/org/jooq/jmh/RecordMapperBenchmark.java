@@ -0,0 +1,168 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Other licenses:
+ * -----------------------------------------------------------------------------
+ * Commercial licenses for this work are available. These replace the above
+ * ASL 2.0 and offer limited warranties, support, maintenance, and commercial
+ * database integrations.
+ *
+ * For more information, please visit: http://www.jooq.org/licenses
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ */
+package org.jooq.jmh;
+
+import static org.jooq.jmh.Tables.BOOK_AUTHOR_ID;
+import static org.jooq.jmh.Tables.BOOK_CREATED_AT;
+import static org.jooq.jmh.Tables.BOOK_ID;
+import static org.jooq.jmh.Tables.BOOK_PRICE;
+import static org.jooq.jmh.Tables.BOOK_PUBLISHED_IN;
+import static org.jooq.jmh.Tables.BOOK_TITLE;
+
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.jooq.Record;
+import org.jooq.Record3;
+import org.jooq.Result;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmarks for mapping fetched records into POJOs and other records through
+ * the {@link org.jooq.impl.DefaultRecordMapper}.
+ *
+ * @author Lukas Eder
+ */
+@Fork(1)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Thread)
+public class RecordMapperBenchmark {
+
+    Result<Record> result;
+
+    @Setup
+    public void setup(H2Database db) {
+        result = Queries.selectBooks(db.ctx).fetch();
+    }
+
+    @Benchmark
+    public List<MutableBook> intoMutablePOJO() {
+        return result.into(MutableBook.class);
+    }
+
+    @Benchmark
+    public List<ImmutableBook> intoImmutablePOJO() {
+        return result.into(ImmutableBook.class);
+    }
+
+    /**
+     * A baseline for {@link #intoImmutablePOJO()}, mapping records by hand.
+     */
+    @Benchmark
+    public List<ImmutableBook> intoImmutablePOJOByHand() {
+        return result.map(r -> new ImmutableBook(
+            r.get(BOOK_ID),
+            r.get(BOOK_AUTHOR_ID),
+            r.get(BOOK_TITLE),
+            r.get(BOOK_PUBLISHED_IN),
+            r.get(BOOK_PRICE),
+            r.get(BOOK_CREATED_AT)
+        ));
+    }
+
+    @Benchmark
+    public Result<Record3<Integer, String, BigDecimal>> intoRecord() {
+        return result.into(BOOK_ID, BOOK_TITLE, BOOK_PRICE);
+    }
+
+    public static class MutableBook {
+        public Integer    id;
+        public Integer    authorId;
+        public String     title;
+        public Integer    publishedIn;
+        public BigDecimal price;
+        public Timestamp  createdAt;
+
+        public void setId(Integer id) {
+            this.id = id;
+        }
+
+        public void setAuthorId(Integer authorId) {
+            this.authorId = authorId;
+        }
+
+        public void setTitle(String title) {
+            this.title = title;
+        }
+
+        public void setPublishedIn(Integer publishedIn) {
+            this.publishedIn = publishedIn;
+        }
+
+        public void setPrice(BigDecimal price) {
+            this.price = price;
+        }
+
+        public void setCreatedAt(Timestamp createdAt) {
+            this.createdAt = createdAt;
+        }
+    }
+
+    public static class ImmutableBook {
+        public final Integer    id;
+        public final Integer    authorId;
+        public final String     title;
+        public final Integer    publishedIn;
+        public final BigDecimal price;
+        public final Timestamp  createdAt;
+
+        public ImmutableBook(Integer id, Integer authorId, String title, Integer publishedIn, BigDecimal price, Timestamp createdAt) {
+            this.id = id;
+            this.authorId = authorId;
+            this.title = title;
+            this.publishedIn = publishedIn;
+            this.price = price;
+            this.createdAt = createdAt;
+        }
+    }
+}
@@ -0,0 +1,112 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Other licenses:
+ * -----------------------------------------------------------------------------
+ * Commercial licenses for this work are available. These replace the above
+ * ASL 2.0 and offer limited warranties, support, maintenance, and commercial
+ * database integrations.
+ *
+ * For more information, please visit: http://www.jooq.org/licenses
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ */
+package org.jooq.jmh;
+
+import java.util.concurrent.TimeUnit;
+
+import org.jooq.Query;
+import org.jooq.SQLDialect;
+import org.jooq.conf.ParamType;
+import org.jooq.conf.Settings;
+import org.jooq.impl.DSL;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmarks for rendering pre-constructed queries to SQL strings, per
+ * dialect.
+ *
+ * @author Lukas Eder
+ */
+@Fork(1)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Thread)
+public class RenderBenchmark {
+
+    @Param({ "H2", "POSTGRES", "MYSQL", "SQLITE", "DERBY" })
+    public SQLDialect dialect;
+
+    @Param({ "false", "true" })
+    public boolean    formatted;
+
+    Query             complexSelect;
+    Query             insert;
+    Query             update;
+
+    @Setup
+    public void setup() {
+        Settings settings = new Settings().withRenderFormatted(formatted);
+
+        complexSelect = Queries.complexSelect(DSL.using(dialect, settings));
+        insert = Queries.insert(DSL.using(dialect, settings));
+        update = Queries.update(DSL.using(dialect, settings));
+    }
+
+    @Benchmark
+    public String complexSelect() {
+        return complexSelect.getSQL();
+    }
+
+    @Benchmark
+    public String complexSelectInlined() {
+        return complexSelect.getSQL(ParamType.INLINED);
+    }
+
+    @Benchmark
+    public String insert() {
+        return insert.getSQL();
+    }
+
+    @Benchmark
+    public String update() {
+        return update.getSQL();
+    }
+}
@@ -0,0 +1,77 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Other licenses:
+ * -----------------------------------------------------------------------------
+ * Commercial licenses for this work are available. These replace the above
+ * ASL 2.0 and offer limited warranties, support, maintenance, and commercial
+ * database integrations.
+ *
+ * For more information, please visit: http://www.jooq.org/licenses
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ */
+package org.jooq.jmh;
+
+import static org.jooq.impl.DSL.field;
+import static org.jooq.impl.DSL.name;
+import static org.jooq.impl.DSL.table;
+
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+
+import org.jooq.Field;
+import org.jooq.Record;
+import org.jooq.Table;
+import org.jooq.impl.SQLDataType;
+
+/**
+ * The schema that is used by all benchmarks.
+ * <p>
+ * The benchmarks don't depend on generated code, so the tables and columns are
+ * plain SQL references.
+ *
+ * @author Lukas Eder
+ */
+public final class Tables {
+
+    public static final Table<Record>      AUTHOR            = table(name("AUTHOR"));
+    public static final Field<Integer>     AUTHOR_ID         = field(name("AUTHOR", "ID"), SQLDataType.INTEGER.nullable(false));
+    public static final Field<String>      AUTHOR_FIRST_NAME = field(name("AUTHOR", "FIRST_NAME"), SQLDataType.VARCHAR(50));
+    public static final Field<String>      AUTHOR_LAST_NAME  = field(name("AUTHOR", "LAST_NAME"), SQLDataType.VARCHAR(50).nullable(false));
+
+    public static final Table<Record>      BOOK              = table(name("BOOK"));
+    public static final Field<Integer>     BOOK_ID           = field(name("BOOK", "ID"), SQLDataType.INTEGER.nullable(false));
+    public static final Field<Integer>     BOOK_AUTHOR_ID    = field(name("BOOK", "AUTHOR_ID"), SQLDataType.INTEGER.nullable(false));
+    public static final Field<String>      BOOK_TITLE        = field(name("BOOK", "TITLE"), SQLDataType.VARCHAR(400).nullable(false));
+    public static final Field<Integer>     BOOK_PUBLISHED_IN = field(name("BOOK", "PUBLISHED_IN"), SQLDataType.INTEGER.nullable(false));
+    public static final Field<BigDecimal>  BOOK_PRICE        = field(name("BOOK", "PRICE"), SQLDataType.DECIMAL(10, 2));
+    public static final Field<Timestamp>   BOOK_CREATED_AT   = field(name("BOOK", "CREATED_AT"), SQLDataType.TIMESTAMP);
+    public static final Field<?>[]         BOOK_FIELDS       = { BOOK_ID, BOOK_AUTHOR_ID, BOOK_TITLE, BOOK_PUBLISHED_IN, BOOK_PRICE, BOOK_CREATED_AT };
+
+    private Tables() {}
+}
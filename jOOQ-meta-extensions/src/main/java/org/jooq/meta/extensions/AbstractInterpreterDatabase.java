@@ -0,0 +1,159 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Other licenses:
+ * -----------------------------------------------------------------------------
+ * Commercial licenses for this work are available. These replace the above
+ * ASL 2.0 and offer limited warranties, support, maintenance, and commercial
+ * database integrations.
+ *
+ * For more information, please visit: http://www.jooq.org/licenses
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ */
+package org.jooq.meta.extensions;
+
+import static java.util.Arrays.asList;
+import static org.jooq.impl.DSL.quotedName;
+import static org.jooq.tools.StringUtils.defaultIfNull;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import org.jooq.DSLContext;
+import org.jooq.Field;
+import org.jooq.Internal;
+import org.jooq.Meta;
+import org.jooq.Name;
+import org.jooq.Query;
+import org.jooq.Table;
+import org.jooq.conf.Settings;
+import org.jooq.exception.DataAccessException;
+import org.jooq.impl.DSL;
+import org.jooq.meta.xml.XMLDatabase;
+import org.jooq.util.xml.jaxb.Column;
+import org.jooq.util.xml.jaxb.InformationSchema;
+
+/**
+ * A common base class for "interpreting" databases, which interpret a third
+ * party meta format using jOOQ's native DDL interpreter, and reverse
+ * engineering the resulting {@link Meta}.
+ * <p>
+ * Unlike the {@link AbstractInterpretingDatabase}, this implementation doesn't
+ * need an in-memory H2 database. Statements are not translated to H2, nor are
+ * they executed over JDBC, which is faster for large scripts and supports any
+ * syntax that is supported by the interpreter.
+ * <p>
+ * This class is INTERNAL and should not be implemented directly by users.
+ *
+ * @author Lukas Eder
+ */
+@Internal
+public abstract class AbstractInterpreterDatabase extends XMLDatabase {
+
+    private static final Name PUBLIC = quotedName("PUBLIC");
+
+    private boolean           publicIsDefault;
+
+    /**
+     * Subclasses should override this to provide the queries that are
+     * interpreted.
+     *
+     * @param settings The settings that are used to interpret the queries.
+     *            Subclasses may use these to parse the queries, and may
+     *            modify them.
+     */
+    protected abstract List<Query> export(Settings settings) throws Exception;
+
+    @Override
+    protected InformationSchema getInformationSchema0() {
+        try {
+            String unqualifiedSchema = getProperties().getProperty("unqualifiedSchema", "none").toLowerCase();
+            publicIsDefault = "none".equals(unqualifiedSchema);
+
+            Settings settings = new Settings();
+            List<Query> exported = export(settings);
+            DSLContext ctx = DSL.using(getDialect(), settings);
+
+            // Unqualified objects are created in the PUBLIC schema, as with
+            // the in-memory H2 database of the AbstractInterpretingDatabase
+            List<Query> queries = new ArrayList<>();
+            queries.add(ctx.createSchemaIfNotExists(PUBLIC));
+            queries.add(ctx.setSchema(PUBLIC));
+            queries.addAll(exported);
+
+            Meta meta = ctx.meta(queries.toArray(new Query[0]));
+            InformationSchema result = meta.informationSchema();
+
+            // The export doesn't know whether identities are GENERATED ALWAYS
+            // or BY DEFAULT, so identity columns are marked like in XMLGenerator
+            Set<List<String>> identities = new HashSet<>();
+            for (Table<?> table : meta.getTables())
+                for (Field<?> field : table.fields())
+                    if (field.getDataType().identity())
+                        identities.add(asList(table.getSchema() == null ? "" : table.getSchema().getName(), table.getName(), field.getName()));
+
+            for (Column column : result.getColumns()) {
+                if (identities.contains(asList(defaultIfNull(column.getTableSchema(), ""), column.getTableName(), column.getColumnName())))
+                    column.setIdentityGeneration("YES");
+
+                // TIMESTAMP columns without explicit precision have the standard
+                // default precision, which would otherwise be read as 0
+                if (column.getNumericPrecision() == null && column.getDataType() != null && column.getDataType().toLowerCase().startsWith("timestamp"))
+                    column.setNumericPrecision(6);
+            }
+
+            return result;
+        }
+        catch (Exception e) {
+            throw new DataAccessException("Error while interpreting schema", e);
+        }
+    }
+
+    @Override
+    @Deprecated
+    public String getOutputSchema(String inputSchema) {
+        String outputSchema = super.getOutputSchema(inputSchema);
+
+        if (publicIsDefault && "PUBLIC".equals(outputSchema))
+            return "";
+
+        return outputSchema;
+    }
+
+    @Override
+    public String getOutputSchema(String inputCatalog, String inputSchema) {
+        String outputSchema = super.getOutputSchema(inputCatalog, inputSchema);
+
+        if (publicIsDefault && "PUBLIC".equals(outputSchema))
+            return "";
+
+        return outputSchema;
+    }
+}
@@ -58,9 +58,9 @@ import org.jooq.tools.jdbc.JDBCUtils;
  * party meta format, applying that to an in-memory H2 database, and reverse
  * engineering that.
  * <p>
- * Future versions of this implementation might switch the H2 database
- * dependency for jOOQ's native DDL interpreting "database", which allows for
- * supporting more native SQL than what H2 supports currently.
+ * See {@link AbstractInterpreterDatabase} for an alternative that uses jOOQ's
+ * native DDL interpreting "database" instead of H2, which allows for supporting
+ * more native SQL than what H2 supports currently.
  * <p>
  * This class is INTERNAL and should not be implemented directly by users.
  *
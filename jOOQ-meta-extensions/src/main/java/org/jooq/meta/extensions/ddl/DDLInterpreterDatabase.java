@@ -0,0 +1,145 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Other licenses:
+ * -----------------------------------------------------------------------------
+ * Commercial licenses for this work are available. These replace the above
+ * ASL 2.0 and offer limited warranties, support, maintenance, and commercial
+ * database integrations.
+ *
+ * For more information, please visit: http://www.jooq.org/licenses
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ */
+package org.jooq.meta.extensions.ddl;
+
+import static org.jooq.tools.StringUtils.isBlank;
+
+import java.io.File;
+import java.io.Reader;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Scanner;
+
+import org.jooq.DSLContext;
+import org.jooq.FilePattern;
+import org.jooq.FilePattern.Loader;
+import org.jooq.FilePattern.Sort;
+import org.jooq.Query;
+import org.jooq.Source;
+import org.jooq.conf.ParseNameCase;
+import org.jooq.conf.ParseUnknownFunctions;
+import org.jooq.conf.Settings;
+import org.jooq.impl.DSL;
+import org.jooq.impl.ParserException;
+import org.jooq.meta.extensions.AbstractInterpreterDatabase;
+import org.jooq.tools.JooqLogger;
+import org.jooq.tools.jdbc.JDBCUtils;
+
+/**
+ * The DDL database, based on jOOQ's native DDL interpreter.
+ * <p>
+ * This meta data source parses a set of SQL scripts and interprets them using
+ * jOOQ's {@link org.jooq.Meta} interpreter, instead of running them on an
+ * in-memory H2 database like the {@link DDLDatabase}. No JDBC round trips are
+ * made, and there are no H2 specific syntax limitations. DML statements
+ * contained in the scripts are ignored.
+ * <p>
+ * The supported properties are the same as those of the {@link DDLDatabase}.
+ * As with the {@link DDLDatabase}, unquoted names are upper cased by default,
+ * unless the <code>defaultNameCase</code> property is <code>lower</code>, and
+ * unqualified objects are generated in the default schema.
+ *
+ * @author Lukas Eder
+ */
+public class DDLInterpreterDatabase extends AbstractInterpreterDatabase {
+
+    private static final JooqLogger log = JooqLogger.getLogger(DDLInterpreterDatabase.class);
+
+    @Override
+    protected List<Query> export(Settings settings) throws Exception {
+        String scripts = getProperties().getProperty("scripts");
+        String encoding = getProperties().getProperty("encoding", "UTF-8");
+        String sort = getProperties().getProperty("sort", "semantic").toLowerCase();
+        String defaultNameCase = getProperties().getProperty("defaultNameCase", "as_is").toUpperCase();
+        boolean parseIgnoreComments = !"false".equalsIgnoreCase(getProperties().getProperty("parseIgnoreComments"));
+        String parseIgnoreCommentStart = getProperties().getProperty("parseIgnoreCommentStart", settings.getParseIgnoreCommentStart());
+        String parseIgnoreCommentStop = getProperties().getProperty("parseIgnoreCommentStop", settings.getParseIgnoreCommentStop());
+        final boolean logExecutedQueries = !"false".equalsIgnoreCase(getProperties().getProperty("logExecutedQueries"));
+
+        if (isBlank(scripts)) {
+            scripts = "";
+            log.warn("No scripts defined", "It is recommended that you provide an explicit script directory to scan");
+        }
+
+        settings.setParseIgnoreComments(parseIgnoreComments);
+        settings.setParseIgnoreCommentStart(parseIgnoreCommentStart);
+        settings.setParseIgnoreCommentStop(parseIgnoreCommentStop);
+        settings.setParseUnknownFunctions(ParseUnknownFunctions.IGNORE);
+        settings.setParseNameCase("LOWER".equals(defaultNameCase) ? ParseNameCase.LOWER_IF_UNQUOTED : ParseNameCase.UPPER_IF_UNQUOTED);
+
+        final DSLContext ctx = DSL.using(getDialect(), settings);
+        final List<Query> result = new ArrayList<>();
+
+        // [#8910] Parse things a bit differently for use with the DDLDatabase
+        ctx.data("org.jooq.ddl.parse-for-ddldatabase", true);
+
+        try {
+            new FilePattern()
+                    .encoding(encoding)
+                    .basedir(new File(getBasedir()))
+                    .pattern(scripts)
+                    .sort(Sort.of(sort))
+                    .load(new Loader() {
+                @Override
+                public void load(Source source) {
+                    Reader r = null;
+
+                    try {
+                        Scanner s = new Scanner(r = source.reader()).useDelimiter("\\A");
+
+                        for (Query query : ctx.parser().parse(s.hasNext() ? s.next() : "")) {
+                            if (logExecutedQueries)
+                                log.info(query);
+
+                            result.add(query);
+                        }
+                    }
+                    finally {
+                        JDBCUtils.safeClose(r);
+                    }
+                }
+            });
+        }
+        catch (ParserException e) {
+            log.error("An exception occurred while parsing script source : " + scripts + ". Please report this error to https://github.com/jOOQ/jOOQ/issues/new", e);
+            throw e;
+        }
+
+        return result;
+    }
+}
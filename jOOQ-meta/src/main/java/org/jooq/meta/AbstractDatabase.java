@@ -60,6 +60,7 @@ import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.Comparator;
+import java.util.EnumMap;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Iterator;
@@ -68,11 +69,20 @@ import java.util.List;
 import java.util.Map;
 import java.util.Properties;
 import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadFactory;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.regex.Pattern;
 
 import org.jooq.Condition;
 import org.jooq.Configuration;
+import org.jooq.ConnectionProvider;
 import org.jooq.DSLContext;
 import org.jooq.ExecuteContext;
 import org.jooq.ExecuteListenerProvider;
@@ -134,6 +144,8 @@ public abstract class AbstractDatabase implements Database {
     private String                                                           basedir;
     private SQLDialect                                                       dialect;
     private Connection                                                       connection;
+    private ConnectionProvider                                               connectionProvider;
+    private int                                                              parallelism                          = 1;
     private boolean                                                          regexMatchesPartialQualification;
     private boolean                                                          sqlMatchesPartialQualification;
     private OnError                                                          onError                              = OnError.FAIL;
@@ -244,6 +256,7 @@ public abstract class AbstractDatabase implements Database {
     private transient Map<SchemaDefinition, List<RoutineDefinition>>         routinesBySchema;
     private transient Map<SchemaDefinition, List<PackageDefinition>>         packagesBySchema;
     private transient boolean                                                initialised;
+    private transient Map<ObjectType, Future<List<?>>>                       prefetched;
 
     // Other caches
     private final List<Definition>                                           all;
@@ -251,12 +264,14 @@ public abstract class AbstractDatabase implements Database {
     private final List<Definition>                                           excluded;
     private final Map<Table<?>, Boolean>                                     existTables;
     private final Map<TableField<?, ?>, Boolean>                             existFields;
+    private final ThreadLocal<Connection>                                    threadConnection;
     private final Patterns                                                   patterns;
     private final Statements                                                 statements;
 
     protected AbstractDatabase() {
-        existTables = new HashMap<>();
-        existFields = new HashMap<>();
+        existTables = new ConcurrentHashMap<>();
+        existFields = new ConcurrentHashMap<>();
+        threadConnection = new ThreadLocal<>();
         patterns = new Patterns();
         statements = new Statements();
         filters = new ArrayList<>();
@@ -282,7 +297,30 @@ public abstract class AbstractDatabase implements Database {
 
     @Override
     public final Connection getConnection() {
-        return connection;
+
+        // Object types that are read concurrently use their own connections
+        Connection result = threadConnection.get();
+        return result != null ? result : connection;
+    }
+
+    @Override
+    public final void setConnectionProvider(ConnectionProvider connectionProvider) {
+        this.connectionProvider = connectionProvider;
+    }
+
+    @Override
+    public final ConnectionProvider getConnectionProvider() {
+        return connectionProvider;
+    }
+
+    @Override
+    public final void setParallelism(int parallelism) {
+        this.parallelism = parallelism;
+    }
+
+    @Override
+    public final int getParallelism() {
+        return parallelism;
     }
 
     @Override
@@ -672,6 +710,9 @@ public abstract class AbstractDatabase implements Database {
                 if (NO_SUPPORT_SCHEMATA.contains(getDialect().family()))
                     log.warn("No schemata were loaded", "The database you're using (" + getClass().getName() + ") does not support schemata. Consider removing all <inputSchema/> and related configuration : " + inputSchemataPerCatalog);
             }
+            else {
+                prefetch();
+            }
         }
 
         return schemata;
@@ -1561,7 +1602,7 @@ public abstract class AbstractDatabase implements Database {
                 onError(ERROR, "Error while fetching sequences", new ExceptionRunnable() {
                     @Override
                     public void run() throws Exception {
-                        List<SequenceDefinition> s = getSequences0();
+                        List<SequenceDefinition> s = fetch(ObjectType.SEQUENCES);
 
                         sequences = sort(filterExcludeInclude(s));
                         log.info("Sequences fetched", fetchedSize(s, sequences));
@@ -1735,7 +1776,7 @@ public abstract class AbstractDatabase implements Database {
                 onError(ERROR, "Error while fetching tables", new ExceptionRunnable() {
                     @Override
                     public void run() throws Exception {
-                        List<TableDefinition> t = getTables0();
+                        List<TableDefinition> t = fetch(ObjectType.TABLES);
 
                         tables = sort(filterExcludeInclude(t));
                         log.info("Tables fetched", fetchedSize(t, tables));
@@ -2224,7 +2265,7 @@ public abstract class AbstractDatabase implements Database {
                 onError(ERROR, "Error while fetching domains", new ExceptionRunnable() {
                     @Override
                     public void run() throws Exception {
-                        List<DomainDefinition> e = getDomains0();
+                        List<DomainDefinition> e = fetch(ObjectType.DOMAINS);
 
                         domains = sort(filterExcludeInclude(e));
                         log.info("Domains fetched", fetchedSize(e, domains));
@@ -2321,7 +2362,7 @@ public abstract class AbstractDatabase implements Database {
                 onError(ERROR, "Error while fetching UDTs", new ExceptionRunnable() {
                     @Override
                     public void run() throws Exception {
-                        List<UDTDefinition> u = getUDTs0();
+                        List<UDTDefinition> u = fetch(ObjectType.UDTS);
 
                         udts = sort(filterExcludeInclude(u));
                         log.info("UDTs fetched", fetchedSize(u, udts));
@@ -2453,7 +2494,7 @@ public abstract class AbstractDatabase implements Database {
                 onError(ERROR, "Error while fetching routines", new ExceptionRunnable() {
                     @Override
                     public void run() throws Exception {
-                        List<RoutineDefinition> r = getRoutines0();
+                        List<RoutineDefinition> r = fetch(ObjectType.ROUTINES);
 
                         routines = sort(filterExcludeInclude(r));
                         log.info("Routines fetched", fetchedSize(r, routines));
@@ -2479,7 +2520,7 @@ public abstract class AbstractDatabase implements Database {
                 onError(ERROR, "Error while fetching packages", new ExceptionRunnable() {
                     @Override
                     public void run() throws Exception {
-                        List<PackageDefinition> p = getPackages0();
+                        List<PackageDefinition> p = fetch(ObjectType.PACKAGES);
 
                         packages = sort(filterExcludeInclude(p));
                         log.info("Packages fetched", fetchedSize(p, packages));
@@ -3154,6 +3195,132 @@ public abstract class AbstractDatabase implements Database {
         void run() throws Exception;
     }
 
+    /**
+     * Object types that can be read independently of each other.
+     */
+    private enum ObjectType {
+        TABLES,
+        SEQUENCES,
+        ROUTINES,
+        PACKAGES,
+        UDTS,
+        DOMAINS
+    }
+
+    /**
+     * Start reading independent object types concurrently, if
+     * {@link #getParallelism()} is greater than <code>1</code>.
+     * <p>
+     * Each object type is read over its own connection from the
+     * {@link #getConnectionProvider()}. Only the raw reading is done
+     * concurrently. Filtering, sorting, and everything that depends on other
+     * object types still happens on the calling thread, in the usual order,
+     * when an object type is first accessed, so the results are the same as
+     * without parallelism.
+     */
+    private void prefetch() {
+        if (parallelism <= 1 || connectionProvider == null)
+            return;
+
+        List<ObjectType> types = new ArrayList<>();
+
+        if (getIncludeTables())
+            types.add(ObjectType.TABLES);
+        if (getIncludeSequences())
+            types.add(ObjectType.SEQUENCES);
+        if (getIncludeRoutines())
+            types.add(ObjectType.ROUTINES);
+        if (getIncludePackages())
+            types.add(ObjectType.PACKAGES);
+        if (getIncludeUDTs())
+            types.add(ObjectType.UDTS);
+        if (getIncludeDomains())
+            types.add(ObjectType.DOMAINS);
+
+        if (types.size() <= 1)
+            return;
+
+        log.info("Reading object types concurrently", types + ", parallelism: " + parallelism);
+        ExecutorService executor = Executors.newFixedThreadPool(Math.min(parallelism, types.size()), new ThreadFactory() {
+            final AtomicInteger count = new AtomicInteger();
+
+            @Override
+            public Thread newThread(Runnable r) {
+                Thread thread = new Thread(r, "jooq-meta-" + count.incrementAndGet());
+                thread.setDaemon(true);
+                return thread;
+            }
+        });
+
+        prefetched = new EnumMap<>(ObjectType.class);
+
+        try {
+            for (final ObjectType type : types) {
+                prefetched.put(type, executor.submit(new Callable<List<?>>() {
+                    @Override
+                    public List<?> call() throws Exception {
+                        Connection c = connectionProvider.acquire();
+                        threadConnection.set(c);
+
+                        try {
+                            return fetch0(type);
+                        }
+                        finally {
+                            threadConnection.remove();
+                            connectionProvider.release(c);
+                        }
+                    }
+                }));
+            }
+        }
+
+        // Already submitted tasks are still completed
+        finally {
+            executor.shutdown();
+        }
+    }
+
+    /**
+     * Read an object type, or get the result of reading it concurrently, if
+     * {@link #prefetch()} has started doing so.
+     */
+    @SuppressWarnings("unchecked")
+    private <T> List<T> fetch(ObjectType type) throws Exception {
+        Future<List<?>> future = prefetched == null ? null : prefetched.remove(type);
+
+        if (future == null)
+            return (List<T>) fetch0(type);
+
+        try {
+            return (List<T>) future.get();
+        }
+        catch (ExecutionException e) {
+            if (e.getCause() instanceof Exception)
+                throw (Exception) e.getCause();
+            else
+                throw e;
+        }
+    }
+
+    private List<?> fetch0(ObjectType type) throws Exception {
+        switch (type) {
+            case TABLES:
+                return getTables0();
+            case SEQUENCES:
+                return getSequences0();
+            case ROUTINES:
+                return getRoutines0();
+            case PACKAGES:
+                return getPackages0();
+            case UDTS:
+                return getUDTs0();
+            case DOMAINS:
+                return getDomains0();
+            default:
+                throw new IllegalArgumentException("Unsupported object type: " + type);
+        }
+    }
+
     private void onError(Log.Level level, String message, ExceptionRunnable runnable) {
         try {
             runnable.run();
@@ -43,6 +43,7 @@ import java.util.Comparator;
 import java.util.List;
 import java.util.Properties;
 
+import org.jooq.ConnectionProvider;
 import org.jooq.DSLContext;
 import org.jooq.Name;
 import org.jooq.SQLDialect;
@@ -360,6 +361,30 @@ public interface Database extends AutoCloseable {
      */
     Connection getConnection();
 
+    /**
+     * Initialise a provider for additional connections to this database, which
+     * are used to read independent object types concurrently, if
+     * {@link #getParallelism()} is greater than <code>1</code>.
+     */
+    void setConnectionProvider(ConnectionProvider connectionProvider);
+
+    /**
+     * The provider for additional connections to this database, if any.
+     */
+    ConnectionProvider getConnectionProvider();
+
+    /**
+     * The number of connections used to read independent object types
+     * concurrently.
+     */
+    void setParallelism(int parallelism);
+
+    /**
+     * The number of connections used to read independent object types
+     * concurrently.
+     */
+    int getParallelism();
+
     /**
      * The input catalogs are the catalogs that jooq-meta is reading data from.
      */
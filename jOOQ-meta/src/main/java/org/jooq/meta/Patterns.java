@@ -38,25 +38,27 @@
 package org.jooq.meta;
 
 import java.util.ArrayList;
-import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.regex.Pattern;
 
 import org.jooq.meta.jaxb.RegexFlag;
 
 /**
  * A cache for {@link Pattern} instances.
+ * <p>
+ * The cache is thread safe, as it may be shared by code generation threads.
  *
  * @author Lukas Eder
  */
 public final class Patterns {
 
     private final Map<String, Pattern> patterns;
-    private List<RegexFlag>            regexFlags;
+    private volatile List<RegexFlag>   regexFlags;
 
     public Patterns() {
-        patterns = new HashMap<>();
+        patterns = new ConcurrentHashMap<>();
     }
 
     public final Pattern pattern(String regex) {
@@ -68,7 +70,8 @@ public final class Patterns {
         if (pattern == null) {
             int flags = 0;
 
-            List<RegexFlag> list = new ArrayList<>(getRegexFlags());
+            List<RegexFlag> f = regexFlags;
+            List<RegexFlag> list = f == null ? new ArrayList<>() : new ArrayList<>(f);
 
             // [#3860] This should really be handled by JAXB, but apparently, @XmlList and @XmlElement(defaultValue=...)
             // cannot be combined: http://stackoverflow.com/q/27528698/521799
@@ -151,6 +151,10 @@ public class Database implements Serializable, XMLAppendable
     protected Integer logSlowQueriesAfterSeconds = 5;
     @XmlElement(defaultValue = "5")
     protected Integer logSlowResultsAfterSeconds = 5;
+    @XmlElement(defaultValue = "1")
+    protected Integer parallelism = 1;
+    @XmlJavaTypeAdapter(StringAdapter.class)
+    protected String snapshotFile;
     @XmlElementWrapper(name = "properties")
     @XmlElement(name = "property")
     protected List<Property> properties;
@@ -1566,6 +1570,46 @@ public class Database implements Serializable, XMLAppendable
         this.logSlowResultsAfterSeconds = value;
     }
 
+    /**
+     * The number of connections used to read independent object types, such as tables, sequences, routines, packages, UDTs and domains, concurrently.
+     * <p>
+     * This requires that additional connections can be opened, e.g. from a <code>&lt;jdbc/&gt;</code> configuration or a <code>DataSource</code>. In-memory databases configured with <code>&lt;jdbc/&gt;</code> are read sequentially, as additional connections would not see their contents. Objects are read in the same order as without parallelism, so the generated output is the same.
+     * 
+     */
+    public Integer getParallelism() {
+        return parallelism;
+    }
+
+    /**
+     * The number of connections used to read independent object types, such as tables, sequences, routines, packages, UDTs and domains, concurrently.
+     * <p>
+     * This requires that additional connections can be opened, e.g. from a <code>&lt;jdbc/&gt;</code> configuration or a <code>DataSource</code>. In-memory databases configured with <code>&lt;jdbc/&gt;</code> are read sequentially, as additional connections would not see their contents. Objects are read in the same order as without parallelism, so the generated output is the same.
+     * 
+     */
+    public void setParallelism(Integer value) {
+        this.parallelism = value;
+    }
+
+    /**
+     * A file in which to persist a snapshot of the meta data that is read from the database, between code generation runs.
+     * <p>
+     * On subsequent runs, the snapshot is read instead of the database, as long as the configuration has not changed, and as long as the versions reported by the {@link #getSchemaVersionProvider()} or {@link #getCatalogVersionProvider()} still match the ones recorded with the snapshot. Snapshots are stored only if all schemata are versioned. Relative paths are resolved against the configuration's basedir.
+     * 
+     */
+    public String getSnapshotFile() {
+        return snapshotFile;
+    }
+
+    /**
+     * A file in which to persist a snapshot of the meta data that is read from the database, between code generation runs.
+     * <p>
+     * On subsequent runs, the snapshot is read instead of the database, as long as the configuration has not changed, and as long as the versions reported by the {@link #getSchemaVersionProvider()} or {@link #getCatalogVersionProvider()} still match the ones recorded with the snapshot. Snapshots are stored only if all schemata are versioned. Relative paths are resolved against the configuration's basedir.
+     * 
+     */
+    public void setSnapshotFile(String value) {
+        this.snapshotFile = value;
+    }
+
     public List<Property> getProperties() {
         if (properties == null) {
             properties = new ArrayList<Property>();
@@ -2186,6 +2230,28 @@ public class Database implements Serializable, XMLAppendable
         return this;
     }
 
+    /**
+     * The number of connections used to read independent object types, such as tables, sequences, routines, packages, UDTs and domains, concurrently.
+     * <p>
+     * This requires that additional connections can be opened, e.g. from a <code>&lt;jdbc/&gt;</code> configuration or a <code>DataSource</code>. In-memory databases configured with <code>&lt;jdbc/&gt;</code> are read sequentially, as additional connections would not see their contents. Objects are read in the same order as without parallelism, so the generated output is the same.
+     * 
+     */
+    public Database withParallelism(Integer value) {
+        setParallelism(value);
+        return this;
+    }
+
+    /**
+     * A file in which to persist a snapshot of the meta data that is read from the database, between code generation runs.
+     * <p>
+     * On subsequent runs, the snapshot is read instead of the database, as long as the configuration has not changed, and as long as the versions reported by the {@link #getSchemaVersionProvider()} or {@link #getCatalogVersionProvider()} still match the ones recorded with the snapshot. Snapshots are stored only if all schemata are versioned. Relative paths are resolved against the configuration's basedir.
+     * 
+     */
+    public Database withSnapshotFile(String value) {
+        setSnapshotFile(value);
+        return this;
+    }
+
     public Database withProperties(Property... values) {
         if (values!= null) {
             for (Property value: values) {
@@ -2394,6 +2460,8 @@ public class Database implements Serializable, XMLAppendable
         builder.append("tableValuedFunctions", tableValuedFunctions);
         builder.append("logSlowQueriesAfterSeconds", logSlowQueriesAfterSeconds);
         builder.append("logSlowResultsAfterSeconds", logSlowResultsAfterSeconds);
+        builder.append("parallelism", parallelism);
+        builder.append("snapshotFile", snapshotFile);
         builder.append("properties", "property", properties);
         builder.append("catalogs", "catalog", catalogs);
         builder.append("schemata", "schema", schemata);
@@ -2899,6 +2967,24 @@ public class Database implements Serializable, XMLAppendable
                 return false;
             }
         }
+        if (parallelism == null) {
+            if (other.parallelism!= null) {
+                return false;
+            }
+        } else {
+            if (!parallelism.equals(other.parallelism)) {
+                return false;
+            }
+        }
+        if (snapshotFile == null) {
+            if (other.snapshotFile!= null) {
+                return false;
+            }
+        } else {
+            if (!snapshotFile.equals(other.snapshotFile)) {
+                return false;
+            }
+        }
         if (properties == null) {
             if (other.properties!= null) {
                 return false;
@@ -3022,6 +3108,8 @@ public class Database implements Serializable, XMLAppendable
         result = ((prime*result)+((tableValuedFunctions == null)? 0 :tableValuedFunctions.hashCode()));
         result = ((prime*result)+((logSlowQueriesAfterSeconds == null)? 0 :logSlowQueriesAfterSeconds.hashCode()));
         result = ((prime*result)+((logSlowResultsAfterSeconds == null)? 0 :logSlowResultsAfterSeconds.hashCode()));
+        result = ((prime*result)+((parallelism == null)? 0 :parallelism.hashCode()));
+        result = ((prime*result)+((snapshotFile == null)? 0 :snapshotFile.hashCode()));
         result = ((prime*result)+((properties == null)? 0 :properties.hashCode()));
         result = ((prime*result)+((catalogs == null)? 0 :catalogs.hashCode()));
         result = ((prime*result)+((schemata == null)? 0 :schemata.hashCode()));
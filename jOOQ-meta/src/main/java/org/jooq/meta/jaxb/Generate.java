@@ -207,6 +207,10 @@ public class Generate implements Serializable, XMLAppendable
     protected String newline = "\\n";
     @XmlJavaTypeAdapter(StringAdapter.class)
     protected String indentation;
+    @XmlElement(defaultValue = "1")
+    protected Integer parallelism = 1;
+    @XmlElement(defaultValue = "false")
+    protected Boolean incremental = false;
 
     /**
      * Generate index information.
@@ -2232,6 +2236,52 @@ public class Generate implements Serializable, XMLAppendable
         this.indentation = value;
     }
 
+    /**
+     * The number of threads used to generate independent objects, such as tables, records, POJOs, interfaces, DAOs and routines, concurrently.
+     * <p>
+     * Custom generators and generator strategies must be thread safe when this is greater than 1.
+     * 
+     */
+    public Integer getParallelism() {
+        return parallelism;
+    }
+
+    /**
+     * The number of threads used to generate independent objects, such as tables, records, POJOs, interfaces, DAOs and routines, concurrently.
+     * <p>
+     * Custom generators and generator strategies must be thread safe when this is greater than 1.
+     * 
+     */
+    public void setParallelism(Integer value) {
+        this.parallelism = value;
+    }
+
+    /**
+     * Whether objects whose definitions and generator strategy output have not changed since the previous run should be skipped.
+     * <p>
+     * A fingerprint of each generated object is stored in a <code>.jooq-fingerprints</code> file in the target directory. Objects are regenerated if their fingerprint changes, if their file is missing, or if the generator configuration changes.
+     * 
+     * @return
+     *     possible object is
+     *     {@link Boolean }
+     *     
+     */
+    public Boolean isIncremental() {
+        return incremental;
+    }
+
+    /**
+     * Sets the value of the incremental property.
+     * 
+     * @param value
+     *     allowed object is
+     *     {@link Boolean }
+     *     
+     */
+    public void setIncremental(Boolean value) {
+        this.incremental = value;
+    }
+
     public Generate withIndexes(Boolean value) {
         setIndexes(value);
         return this;
@@ -2707,6 +2757,22 @@ public class Generate implements Serializable, XMLAppendable
         return this;
     }
 
+    /**
+     * The number of threads used to generate independent objects, such as tables, records, POJOs, interfaces, DAOs and routines, concurrently.
+     * <p>
+     * Custom generators and generator strategies must be thread safe when this is greater than 1.
+     * 
+     */
+    public Generate withParallelism(Integer value) {
+        setParallelism(value);
+        return this;
+    }
+
+    public Generate withIncremental(Boolean value) {
+        setIncremental(value);
+        return this;
+    }
+
     @Override
     public final void appendTo(XMLBuilder builder) {
         builder.append("indexes", indexes);
@@ -2795,6 +2861,8 @@ public class Generate implements Serializable, XMLAppendable
         builder.append("javaTimeTypes", javaTimeTypes);
         builder.append("newline", newline);
         builder.append("indentation", indentation);
+        builder.append("parallelism", parallelism);
+        builder.append("incremental", incremental);
     }
 
     @Override
@@ -3590,6 +3658,24 @@ public class Generate implements Serializable, XMLAppendable
                 return false;
             }
         }
+        if (parallelism == null) {
+            if (other.parallelism!= null) {
+                return false;
+            }
+        } else {
+            if (!parallelism.equals(other.parallelism)) {
+                return false;
+            }
+        }
+        if (incremental == null) {
+            if (other.incremental!= null) {
+                return false;
+            }
+        } else {
+            if (!incremental.equals(other.incremental)) {
+                return false;
+            }
+        }
         return true;
     }
 
@@ -3683,6 +3769,8 @@ public class Generate implements Serializable, XMLAppendable
         result = ((prime*result)+((javaTimeTypes == null)? 0 :javaTimeTypes.hashCode()));
         result = ((prime*result)+((newline == null)? 0 :newline.hashCode()));
         result = ((prime*result)+((indentation == null)? 0 :indentation.hashCode()));
+        result = ((prime*result)+((parallelism == null)? 0 :parallelism.hashCode()));
+        result = ((prime*result)+((incremental == null)? 0 :incremental.hashCode()));
         return result;
     }
 
@@ -141,106 +141,121 @@ public class XMLDatabase extends AbstractDatabase {
 
             // [#8118] Regardless of failure, prevent NPEs from subsequent calls
             info = new InformationSchema();
+            info = getInformationSchema0();
+        }
 
-            // [#8115] Support old property name style for backwards compatibility reasons
-            final String xml = getProperties().getProperty("xmlFiles",
-                getProperties().getProperty("xmlFile",
-                    getProperties().getProperty("xml-file")
-                )
-            );
-            final String xsl = getProperties().getProperty("xslFile",
-                getProperties().getProperty("xsl-file")
-            );
-            final String sort = getProperties().getProperty("sort", "semantic").toLowerCase();
-
-            if (xml == null)
-                throw new RuntimeException("Must provide an xmlFile property");
-
-            try {
-                new FilePattern()
-                        .basedir(new File(getBasedir()))
-                        .pattern(xml)
-                        .sort(Sort.of(sort))
-                        .load(new Loader() {
-                    @Override
-                    public void load(Source source) {
-                        String content;
-                        Reader reader = null;
-
-                        try {
-                            if (StringUtils.isBlank(xsl)) {
-
-                                // [#7414] Default to reading UTF-8
-                                content = source.readString();
-
-                                // [#7414] Alternatively, read the encoding from the XML file
-                                try {
-                                    XMLStreamReader xmlReader = XMLInputFactory.newInstance().createXMLStreamReader(new StringReader(content));
-                                    String encoding = xmlReader.getCharacterEncodingScheme();
-
-                                    // Returned encoding can be null in the presence of a BOM
-                                    // See https://stackoverflow.com/a/27147259/521799
-                                    if (encoding != null && !"UTF-8".equals(encoding))
-                                        content = new String(content.getBytes("UTF-8"), encoding);
-                                }
-                                catch (XMLStreamException e) {
-                                    log.warn("Could not open XML Stream: " + e.getMessage());
-                                }
-                                catch (UnsupportedEncodingException e) {
-                                    log.warn("Unsupported encoding: " + e.getMessage());
-                                }
+        return info;
+    }
+
+    /**
+     * Load the {@link InformationSchema} that is reverse engineered by this
+     * database.
+     * <p>
+     * By default, this reads the XML files specified by the
+     * <code>xmlFiles</code> property. Subclasses may override this to provide
+     * an {@link InformationSchema} from elsewhere.
+     */
+    protected InformationSchema getInformationSchema0() {
+        // [#8115] Support old property name style for backwards compatibility reasons
+        final String xml = getProperties().getProperty("xmlFiles",
+            getProperties().getProperty("xmlFile",
+                getProperties().getProperty("xml-file")
+            )
+        );
+        final String xsl = getProperties().getProperty("xslFile",
+            getProperties().getProperty("xsl-file")
+        );
+        final String sort = getProperties().getProperty("sort", "semantic").toLowerCase();
+
+        if (xml == null)
+            throw new RuntimeException("Must provide an xmlFile property");
+
+        final InformationSchema[] result = { new InformationSchema() };
+
+        try {
+            new FilePattern()
+                    .basedir(new File(getBasedir()))
+                    .pattern(xml)
+                    .sort(Sort.of(sort))
+                    .load(new Loader() {
+                @Override
+                public void load(Source source) {
+                    String content;
+                    Reader reader = null;
+
+                    try {
+                        if (StringUtils.isBlank(xsl)) {
+
+                            // [#7414] Default to reading UTF-8
+                            content = source.readString();
+
+                            // [#7414] Alternatively, read the encoding from the XML file
+                            try {
+                                XMLStreamReader xmlReader = XMLInputFactory.newInstance().createXMLStreamReader(new StringReader(content));
+                                String encoding = xmlReader.getCharacterEncodingScheme();
+
+                                // Returned encoding can be null in the presence of a BOM
+                                // See https://stackoverflow.com/a/27147259/521799
+                                if (encoding != null && !"UTF-8".equals(encoding))
+                                    content = new String(content.getBytes("UTF-8"), encoding);
                             }
-                            else {
-                                InputStream xslIs = null;
-
-                                try {
-                                    log.info("Using XSL file", xsl);
-
-                                    xslIs = XMLDatabase.class.getResourceAsStream(xsl);
-                                    if (xslIs == null)
-                                        xslIs = new FileInputStream(xsl);
-
-                                    StringWriter writer = new StringWriter();
-                                    TransformerFactory factory = TransformerFactory.newInstance();
-                                    Transformer transformer = factory.newTransformer(new StreamSource(xslIs));
-
-                                    transformer.transform(new StreamSource(reader), new StreamResult(writer));
-                                    content = writer.getBuffer().toString();
-                                }
-                                catch (java.io.IOException e) {
-                                    throw new IOException("Error while loading XSL file", e);
-                                }
-                                catch (TransformerException e) {
-                                    throw new RuntimeException("Error while transforming XML file " + xml + " with XSL file " + xsl, e);
-                                }
-                                finally {
-                                    JDBCUtils.safeClose(xslIs);
-                                }
+                            catch (XMLStreamException e) {
+                                log.warn("Could not open XML Stream: " + e.getMessage());
+                            }
+                            catch (UnsupportedEncodingException e) {
+                                log.warn("Unsupported encoding: " + e.getMessage());
                             }
                         }
-                        finally {
-                            JDBCUtils.safeClose(reader);
-                        }
+                        else {
+                            InputStream xslIs = null;
+
+                            try {
+                                log.info("Using XSL file", xsl);
 
-                        // TODO [#1201] Add better error handling here
-                        content = content.replaceAll(
-                            "<(\\w+:)?information_schema xmlns(:\\w+)?=\"http://www.jooq.org/xsd/jooq-meta-\\d+\\.\\d+\\.\\d+.xsd\">",
-                            "<$1information_schema xmlns$2=\"" + Constants.NS_META + "\">");
+                                xslIs = XMLDatabase.class.getResourceAsStream(xsl);
+                                if (xslIs == null)
+                                    xslIs = new FileInputStream(xsl);
 
-                        content = content.replace(
-                            "<information_schema>",
-                            "<information_schema xmlns=\"" + Constants.NS_META + "\">");
+                                StringWriter writer = new StringWriter();
+                                TransformerFactory factory = TransformerFactory.newInstance();
+                                Transformer transformer = factory.newTransformer(new StreamSource(xslIs));
 
-                        info = MiniJAXB.append(info, MiniJAXB.unmarshal(content, InformationSchema.class));
+                                transformer.transform(new StreamSource(reader), new StreamResult(writer));
+                                content = writer.getBuffer().toString();
+                            }
+                            catch (java.io.IOException e) {
+                                throw new IOException("Error while loading XSL file", e);
+                            }
+                            catch (TransformerException e) {
+                                throw new RuntimeException("Error while transforming XML file " + xml + " with XSL file " + xsl, e);
+                            }
+                            finally {
+                                JDBCUtils.safeClose(xslIs);
+                            }
+                        }
                     }
-                });
-            }
-            catch (Exception e) {
-                throw new RuntimeException("Error while opening files " + xml + " or " + xsl, e);
-            }
+                    finally {
+                        JDBCUtils.safeClose(reader);
+                    }
+
+                    // TODO [#1201] Add better error handling here
+                    content = content.replaceAll(
+                        "<(\\w+:)?information_schema xmlns(:\\w+)?=\"http://www.jooq.org/xsd/jooq-meta-\\d+\\.\\d+\\.\\d+.xsd\">",
+                        "<$1information_schema xmlns$2=\"" + Constants.NS_META + "\">");
+
+                    content = content.replace(
+                        "<information_schema>",
+                        "<information_schema xmlns=\"" + Constants.NS_META + "\">");
+
+                    result[0] = MiniJAXB.append(result[0], MiniJAXB.unmarshal(content, InformationSchema.class));
+                }
+            });
+        }
+        catch (Exception e) {
+            throw new RuntimeException("Error while opening files " + xml + " or " + xsl, e);
         }
 
-        return info;
+        return result[0];
     }
 
     @Override
@@ -0,0 +1,619 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Other licenses:
+ * -----------------------------------------------------------------------------
+ * Commercial licenses for this work are available. These replace the above
+ * ASL 2.0 and offer limited warranties, support, maintenance, and commercial
+ * database integrations.
+ *
+ * For more information, please visit: http://www.jooq.org/licenses
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ */
+package org.jooq.meta.xml;
+
+import static java.util.Collections.singletonList;
+import static org.jooq.tools.StringUtils.isBlank;
+import static org.jooq.util.xml.jaxb.TableConstraintType.CHECK;
+import static org.jooq.util.xml.jaxb.TableConstraintType.FOREIGN_KEY;
+import static org.jooq.util.xml.jaxb.TableConstraintType.PRIMARY_KEY;
+import static org.jooq.util.xml.jaxb.TableConstraintType.UNIQUE;
+
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.Properties;
+
+import org.jooq.Constants;
+import org.jooq.SortOrder;
+import org.jooq.meta.CatalogDefinition;
+import org.jooq.meta.CatalogVersionProvider;
+import org.jooq.meta.CheckConstraintDefinition;
+import org.jooq.meta.ColumnDefinition;
+import org.jooq.meta.DataTypeDefinition;
+import org.jooq.meta.Database;
+import org.jooq.meta.ForeignKeyDefinition;
+import org.jooq.meta.IndexColumnDefinition;
+import org.jooq.meta.IndexDefinition;
+import org.jooq.meta.PackageDefinition;
+import org.jooq.meta.ParameterDefinition;
+import org.jooq.meta.RoutineDefinition;
+import org.jooq.meta.SchemaDefinition;
+import org.jooq.meta.SchemaVersionProvider;
+import org.jooq.meta.SequenceDefinition;
+import org.jooq.meta.TableDefinition;
+import org.jooq.meta.UniqueKeyDefinition;
+import org.jooq.meta.jaxb.CatalogMappingType;
+import org.jooq.meta.jaxb.SchemaMappingType;
+import org.jooq.tools.Convert;
+import org.jooq.tools.JooqLogger;
+import org.jooq.tools.jdbc.JDBCUtils;
+import org.jooq.util.jaxb.tools.MiniJAXB;
+import org.jooq.util.xml.jaxb.CheckConstraint;
+import org.jooq.util.xml.jaxb.Column;
+import org.jooq.util.xml.jaxb.Index;
+import org.jooq.util.xml.jaxb.IndexColumnUsage;
+import org.jooq.util.xml.jaxb.InformationSchema;
+import org.jooq.util.xml.jaxb.KeyColumnUsage;
+import org.jooq.util.xml.jaxb.Parameter;
+import org.jooq.util.xml.jaxb.ParameterMode;
+import org.jooq.util.xml.jaxb.ReferentialConstraint;
+import org.jooq.util.xml.jaxb.Routine;
+import org.jooq.util.xml.jaxb.RoutineType;
+import org.jooq.util.xml.jaxb.Schema;
+import org.jooq.util.xml.jaxb.Sequence;
+import org.jooq.util.xml.jaxb.Table;
+import org.jooq.util.xml.jaxb.TableConstraint;
+import org.jooq.util.xml.jaxb.TableConstraintType;
+import org.jooq.util.xml.jaxb.TableType;
+import org.jooq.util.xml.jaxb.View;
+
+/**
+ * A snapshot of the meta data read by a {@link Database}, persisted in the
+ * {@link InformationSchema} format, such that an {@link XMLDatabase} can read
+ * it again instead of the original database.
+ * <p>
+ * Next to the snapshot file, a properties file records the configuration that
+ * was used to read the meta data, as well as the versions reported by the
+ * {@link CatalogVersionProvider} and {@link SchemaVersionProvider} at the
+ * time. The snapshot is up to date only as long as all of these match.
+ * <p>
+ * Snapshots contain the meta data in its unmapped form, i.e. with input names
+ * and defined types, such that the same configuration can be applied again.
+ * Meta data that the {@link XMLDatabase} cannot represent (e.g. catalogs,
+ * UDTs, enums, domains, arrays, non-nullable routine parameters, or synthetic
+ * objects) prevents snapshots from being stored.
+ *
+ * @author Lukas Eder
+ */
+public final class XMLSnapshot {
+
+    private static final JooqLogger log = JooqLogger.getLogger(XMLSnapshot.class);
+
+    private final File              file;
+    private final File              versionsFile;
+    private final String            configuration;
+
+    /**
+     * Create a snapshot.
+     *
+     * @param file The file containing the snapshot's meta data.
+     * @param configuration A representation of the configuration that is used
+     *            to read the meta data. Snapshots stored with a different
+     *            configuration are not up to date.
+     */
+    public XMLSnapshot(File file, String configuration) {
+        this.file = file.getAbsoluteFile();
+        this.versionsFile = new File(this.file.getParentFile(), this.file.getName() + ".properties");
+        this.configuration = digest(Constants.FULL_VERSION + "\n" + configuration);
+    }
+
+    /**
+     * The file containing the snapshot's meta data.
+     */
+    public final File file() {
+        return file;
+    }
+
+    /**
+     * The {@link org.jooq.SQLDialect} name of the database that a snapshot was
+     * taken from, or <code>null</code> if there is no snapshot.
+     */
+    public final String dialect() {
+        Properties properties = properties();
+        return properties == null ? null : properties.getProperty("dialect");
+    }
+
+    /**
+     * Whether a snapshot exists, was stored with the same configuration, and
+     * whether the versions provided by the argument version providers still
+     * match the ones recorded with the snapshot.
+     */
+    public final boolean upToDate(SchemaVersionProvider schemaVersionProvider, CatalogVersionProvider catalogVersionProvider) {
+        Properties properties = properties();
+
+        if (properties == null || !file.exists())
+            return false;
+
+        if (!configuration.equals(properties.getProperty("configuration"))) {
+            log.info("Snapshot", "Configuration has changed since snapshot " + file + " was stored");
+            return false;
+        }
+
+        // The version providers only need the catalog and schema definitions
+        // from the snapshot, not any of their contents
+        XMLDatabase database = new XMLDatabase();
+
+        try {
+            Properties p = new Properties();
+            p.setProperty("xmlFile", file.getPath());
+            p.setProperty("dialect", properties.getProperty("dialect"));
+
+            database.setProperties(p);
+            database.setBasedir(file.getParent());
+            database.setConfiguredCatalogs(singletonList(new CatalogMappingType().withInputCatalog("").withSchemata(new SchemaMappingType().withInputSchema(""))));
+            database.setSchemaVersionProvider(schemaVersionProvider);
+            database.setCatalogVersionProvider(catalogVersionProvider);
+
+            Map<String, String> versions = versions(database);
+
+            if (versions == null || versions.isEmpty())
+                return false;
+
+            for (Entry<String, String> entry : versions.entrySet()) {
+                String recorded = properties.getProperty(entry.getKey());
+
+                if (!entry.getValue().equals(recorded)) {
+                    log.info("Snapshot", "Version " + entry.getValue() + " of " + entry.getKey() + " does not match version " + recorded + " of snapshot " + file);
+                    return false;
+                }
+            }
+
+            return true;
+        }
+        catch (Exception e) {
+            log.info("Snapshot", "Could not validate snapshot " + file + ": " + e.getMessage());
+            return false;
+        }
+        finally {
+            database.close();
+        }
+    }
+
+    /**
+     * Store a snapshot of the meta data read by a database, if possible.
+     *
+     * @return Whether the snapshot could be stored.
+     */
+    public final boolean store(Database database) {
+        String reason = unsupported(database);
+
+        if (reason != null) {
+            log.info("Snapshot", "Snapshot " + file + " is not stored, as " + reason);
+            return false;
+        }
+
+        Map<String, String> versions = versions(database);
+
+        if (versions == null) {
+            log.info("Snapshot", "Snapshot " + file + " is not stored, as not all catalogs or schemata report a version. Please specify a <schemaVersionProvider/> or a <catalogVersionProvider/>");
+            return false;
+        }
+
+        Properties properties = new Properties();
+        properties.setProperty("configuration", configuration);
+        properties.setProperty("dialect", database.getDialect().name());
+
+        for (Entry<String, String> entry : versions.entrySet())
+            properties.setProperty(entry.getKey(), entry.getValue());
+
+        Writer writer = null;
+        OutputStream out = null;
+
+        try {
+            if (file.getParentFile() != null)
+                file.getParentFile().mkdirs();
+
+            writer = new OutputStreamWriter(new FileOutputStream(file), StandardCharsets.UTF_8);
+            MiniJAXB.marshal(export(database), writer);
+            writer.close();
+
+            out = new FileOutputStream(versionsFile);
+            properties.store(out, "jOOQ meta data snapshot versions");
+            log.info("Snapshot", "Stored snapshot " + file);
+            return true;
+        }
+        catch (IOException e) {
+            log.warn("Snapshot", "Could not store snapshot " + file + ": " + e.getMessage());
+            versionsFile.delete();
+            return false;
+        }
+        finally {
+            JDBCUtils.safeClose(writer);
+            JDBCUtils.safeClose(out);
+        }
+    }
+
+    private final Properties properties() {
+        if (!versionsFile.exists())
+            return null;
+
+        InputStream in = null;
+
+        try {
+            in = new FileInputStream(versionsFile);
+            Properties result = new Properties();
+            result.load(in);
+            return result;
+        }
+        catch (IOException e) {
+            log.info("Snapshot", "Could not read snapshot versions " + versionsFile + ": " + e.getMessage());
+            return null;
+        }
+        finally {
+            JDBCUtils.safeClose(in);
+        }
+    }
+
+    /**
+     * The catalog and schema versions, or <code>null</code> if any schema is
+     * not versioned by either itself or its catalog.
+     */
+    private static final Map<String, String> versions(Database database) {
+        Map<String, String> result = new LinkedHashMap<>();
+
+        for (CatalogDefinition catalog : database.getCatalogs()) {
+            String catalogVersion = database.getCatalogVersionProvider().version(catalog);
+
+            if (!isBlank(catalogVersion))
+                result.put("catalog." + catalog.getInputName(), catalogVersion);
+
+            for (SchemaDefinition schema : catalog.getSchemata()) {
+                String schemaVersion = database.getSchemaVersionProvider().version(schema);
+
+                if (!isBlank(schemaVersion))
+                    result.put("schema." + catalog.getInputName() + "." + schema.getInputName(), schemaVersion);
+                else if (isBlank(catalogVersion))
+                    return null;
+            }
+        }
+
+        return result;
+    }
+
+    private static final String unsupported(Database database) {
+        if (!database.getConfiguredSyntheticIdentities().isEmpty()
+            || !database.getConfiguredSyntheticPrimaryKeys().isEmpty()
+            || !database.getConfiguredSyntheticUniqueKeys().isEmpty()
+            || !database.getConfiguredSyntheticForeignKeys().isEmpty())
+            return "synthetic objects are configured";
+
+        for (CatalogDefinition catalog : database.getCatalogs()) {
+            if (!isBlank(catalog.getInputName()))
+                return "catalogs are not supported";
+
+            for (SchemaDefinition schema : catalog.getSchemata()) {
+                if (!database.getUDTs(schema).isEmpty())
+                    return "UDTs are not supported";
+                if (!database.getEnums(schema).isEmpty())
+                    return "enums are not supported";
+                if (!database.getDomains(schema).isEmpty())
+                    return "domains are not supported";
+                if (!database.getArrays(schema).isEmpty())
+                    return "arrays are not supported";
+
+                List<RoutineDefinition> routines = new ArrayList<>(database.getRoutines(schema));
+                for (PackageDefinition pkg : database.getPackages(schema))
+                    routines.addAll(pkg.getRoutines());
+
+                for (RoutineDefinition routine : routines)
+                    for (ParameterDefinition parameter : routine.getAllParameters())
+                        if (parameter != routine.getReturnValue() && !parameter.getDefinedType().isNullable())
+                            return "non-nullable routine parameters are not supported";
+            }
+        }
+
+        return null;
+    }
+
+    private static final String digest(String string) {
+        try {
+            StringBuilder sb = new StringBuilder();
+
+            for (byte b : MessageDigest.getInstance("SHA-256").digest(string.getBytes(StandardCharsets.UTF_8)))
+                sb.append(String.format("%02x", b & 0xFF));
+
+            return sb.toString();
+        }
+        catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static final InformationSchema export(Database db) {
+        InformationSchema is = new InformationSchema();
+
+        for (SchemaDefinition s : db.getSchemata()) {
+            String schemaName = s.getInputName();
+
+            Schema schema = new Schema();
+            schema.setSchemaName(schemaName);
+            schema.setComment(s.getComment());
+            is.getSchemata().add(schema);
+
+            for (TableDefinition t : db.getTables(s)) {
+                String tableName = t.getInputName();
+
+                Table table = new Table();
+                table.setTableSchema(schemaName);
+                table.setTableName(tableName);
+                table.setTableType(
+                    t.isView()
+                  ? TableType.VIEW
+                  : t.isTemporary()
+                  ? TableType.GLOBAL_TEMPORARY
+                  : TableType.BASE_TABLE
+                );
+                table.setComment(t.getComment());
+                is.getTables().add(table);
+
+                if (t.isView()) {
+                    View view = new View();
+                    view.setTableSchema(schemaName);
+                    view.setTableName(tableName);
+                    view.setViewDefinition(t.getSource());
+                    is.getViews().add(view);
+                }
+
+                for (ColumnDefinition co : t.getColumns()) {
+                    DataTypeDefinition type = co.getDefinedType();
+
+                    Column column = new Column();
+                    column.setTableSchema(schemaName);
+                    column.setTableName(tableName);
+                    column.setColumnName(co.getInputName());
+                    column.setComment(co.getComment());
+                    column.setCharacterMaximumLength(type.getLength());
+                    column.setColumnDefault(type.getDefaultValue());
+                    column.setDataType(type.getType());
+                    if (co.isIdentity())
+                        column.setIdentityGeneration("YES");
+                    column.setIsNullable(type.isNullable());
+                    column.setNumericPrecision(type.getPrecision());
+                    column.setNumericScale(type.getScale());
+                    column.setOrdinalPosition(co.getPosition());
+                    is.getColumns().add(column);
+                }
+            }
+
+            for (IndexDefinition i : db.getIndexes(s)) {
+                String indexName = i.getInputName();
+                TableDefinition table = i.getTable();
+                List<IndexColumnDefinition> columns = i.getIndexColumns();
+
+                Index index = new Index();
+                index.setIndexSchema(schemaName);
+                index.setIndexName(indexName);
+                index.setComment(i.getComment());
+                index.setTableSchema(table.getSchema().getInputName());
+                index.setTableName(table.getInputName());
+                index.setIsUnique(i.isUnique());
+                is.getIndexes().add(index);
+
+                for (int j = 0; j < columns.size(); j++) {
+                    IndexColumnDefinition indexColumn = columns.get(j);
+
+                    IndexColumnUsage ic = new IndexColumnUsage();
+                    ic.setIndexSchema(schemaName);
+                    ic.setIndexName(indexName);
+                    ic.setColumnName(indexColumn.getColumn().getInputName());
+                    ic.setOrdinalPosition(j + 1);
+                    ic.setIsDescending(indexColumn.getSortOrder() == SortOrder.DESC);
+                    ic.setTableSchema(table.getSchema().getInputName());
+                    ic.setTableName(table.getInputName());
+                    is.getIndexColumnUsages().add(ic);
+                }
+            }
+
+            for (UniqueKeyDefinition u : db.getKeys(s)) {
+                TableConstraint tc = constraint(is, schemaName, u.getInputName(), u.isPrimaryKey() ? PRIMARY_KEY : UNIQUE, u.getTable(), u.getKeyColumns());
+                tc.setComment(u.getComment());
+                tc.setEnforced(u.enforced());
+            }
+
+            for (ForeignKeyDefinition f : db.getForeignKeys(s)) {
+                UniqueKeyDefinition referenced = f.getReferencedKey();
+
+                TableConstraint tc = constraint(is, schemaName, f.getInputName(), FOREIGN_KEY, f.getKeyTable(), f.getKeyColumns());
+                tc.setComment(f.getComment());
+                tc.setEnforced(f.enforced());
+
+                ReferentialConstraint rc = new ReferentialConstraint();
+                rc.setConstraintSchema(schemaName);
+                rc.setConstraintName(f.getInputName());
+                rc.setUniqueConstraintSchema(referenced.getSchema().getInputName());
+                rc.setUniqueConstraintName(referenced.getInputName());
+                is.getReferentialConstraints().add(rc);
+            }
+
+            for (CheckConstraintDefinition ch : db.getCheckConstraints(s)) {
+                TableConstraint tc = constraint(is, schemaName, ch.getInputName(), CHECK, ch.getTable(), null);
+                tc.setComment(ch.getComment());
+                tc.setEnforced(ch.enforced());
+
+                CheckConstraint cc = new CheckConstraint();
+                cc.setConstraintSchema(schemaName);
+                cc.setConstraintName(ch.getInputName());
+                cc.setCheckClause(ch.getCheckClause());
+                is.getCheckConstraints().add(cc);
+            }
+
+            for (SequenceDefinition se : db.getSequences(s)) {
+                DataTypeDefinition type = se.getDefinedType();
+
+                Sequence sequence = new Sequence();
+                sequence.setSequenceSchema(schemaName);
+                sequence.setSequenceName(se.getInputName());
+                sequence.setComment(se.getComment());
+                sequence.setCharacterMaximumLength(type.getLength());
+                sequence.setDataType(type.getType());
+                sequence.setNumericPrecision(type.getPrecision());
+                sequence.setNumericScale(type.getScale());
+                sequence.setStartValue(Convert.convert(se.getStartWith(), BigInteger.class));
+                sequence.setIncrement(Convert.convert(se.getIncrementBy(), BigInteger.class));
+                sequence.setMinimumValue(Convert.convert(se.getMinvalue(), BigInteger.class));
+                sequence.setMaximumValue(Convert.convert(se.getMaxvalue(), BigInteger.class));
+                sequence.setCycleOption(se.getCycle());
+                sequence.setCache(Convert.convert(se.getCache(), BigInteger.class));
+                is.getSequences().add(sequence);
+            }
+
+            for (PackageDefinition pkg : db.getPackages(s))
+                for (RoutineDefinition r : pkg.getRoutines())
+                    exportRoutine(is, r, schemaName);
+
+            for (RoutineDefinition r : db.getRoutines(s))
+                exportRoutine(is, r, schemaName);
+        }
+
+        return is;
+    }
+
+    private static final TableConstraint constraint(
+        InformationSchema is,
+        String schemaName,
+        String constraintName,
+        TableConstraintType constraintType,
+        TableDefinition table,
+        List<ColumnDefinition> columns
+    ) {
+        TableConstraint tc = new TableConstraint();
+        tc.setConstraintSchema(schemaName);
+        tc.setConstraintName(constraintName);
+        tc.setConstraintType(constraintType);
+        tc.setTableSchema(table.getSchema().getInputName());
+        tc.setTableName(table.getInputName());
+        is.getTableConstraints().add(tc);
+
+        if (columns != null) {
+            for (int i = 0; i < columns.size(); i++) {
+                KeyColumnUsage kc = new KeyColumnUsage();
+                kc.setConstraintSchema(schemaName);
+                kc.setConstraintName(constraintName);
+                kc.setColumnName(columns.get(i).getInputName());
+                kc.setOrdinalPosition(i + 1);
+                kc.setTableSchema(table.getSchema().getInputName());
+                kc.setTableName(table.getInputName());
+                is.getKeyColumnUsages().add(kc);
+            }
+        }
+
+        return tc;
+    }
+
+    private static final void exportRoutine(InformationSchema is, RoutineDefinition r, String schemaName) {
+        String specificName = r.getName() + (isBlank(r.getOverload()) ? "" : "_" + r.getOverload());
+
+        Routine routine = new Routine();
+        routine.setRoutineSchema(schemaName);
+        routine.setSpecificSchema(schemaName);
+
+        if (r.getPackage() != null) {
+            routine.setRoutinePackage(r.getPackage().getName());
+            routine.setSpecificPackage(r.getPackage().getName());
+        }
+
+        routine.setRoutineName(r.getName());
+        routine.setSpecificName(specificName);
+        routine.setComment(r.getComment());
+
+        if (r.getReturnValue() == null) {
+            routine.setRoutineType(RoutineType.PROCEDURE);
+        }
+        else {
+            DataTypeDefinition type = r.getReturnValue().getDefinedType();
+
+            routine.setRoutineType(RoutineType.FUNCTION);
+            routine.setDataType(type.getType());
+            routine.setCharacterMaximumLength(type.getLength());
+            routine.setNumericPrecision(type.getPrecision());
+            routine.setNumericScale(type.getScale());
+        }
+
+        is.getRoutines().add(routine);
+
+        int i = 1;
+        for (ParameterDefinition p : r.getAllParameters()) {
+            if (p != r.getReturnValue()) {
+                DataTypeDefinition type = p.getDefinedType();
+                Parameter parameter = new Parameter();
+
+                parameter.setSpecificSchema(schemaName);
+
+                if (r.getPackage() != null)
+                    parameter.setSpecificPackage(r.getPackage().getName());
+
+                parameter.setSpecificName(specificName);
+                parameter.setOrdinalPosition(i++);
+                parameter.setParameterName(p.getName());
+                parameter.setComment(p.getComment());
+
+                boolean in = r.getInParameters().contains(p);
+                boolean out = r.getOutParameters().contains(p);
+
+                if (in && out)
+                    parameter.setParameterMode(ParameterMode.INOUT);
+                else if (in)
+                    parameter.setParameterMode(ParameterMode.IN);
+                else if (out)
+                    parameter.setParameterMode(ParameterMode.OUT);
+
+                parameter.setDataType(type.getType());
+                parameter.setCharacterMaximumLength(type.getLength());
+                parameter.setNumericPrecision(type.getPrecision());
+                parameter.setNumericScale(type.getScale());
+                parameter.setParameterDefault(type.getDefaultValue());
+                is.getParameters().add(parameter);
+            }
+        }
+    }
+}
@@ -0,0 +1,78 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Other licenses:
+ * -----------------------------------------------------------------------------
+ * Commercial licenses for this work are available. These replace the above
+ * ASL 2.0 and offer limited warranties, support, maintenance, and commercial
+ * database integrations.
+ *
+ * For more information, please visit: http://www.jooq.org/licenses
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ */
+package org.jooq;
+
+import org.jooq.impl.DefaultCacheListener;
+
+/**
+ * A listener for events produced by the various caches that jOOQ maintains in
+ * a {@link Configuration}, such as the reflection caches, the
+ * {@link RecordMapper} cache, or the rendered SQL cache.
+ * <p>
+ * This SPI can be used to collect hit, miss and eviction counts, e.g. to
+ * expose them to a metrics library. Implementations must be thread safe, and
+ * should be fast, as they are called on hot paths.
+ * <p>
+ * Events are only produced if at least one {@link CacheListenerProvider} is
+ * configured in {@link Configuration#cacheListenerProviders()}.
+ *
+ * @author Lukas Eder
+ * @see DefaultCacheListener
+ */
+public interface CacheListener {
+
+    /**
+     * A value was found in the cache.
+     */
+    void hit(CacheContext ctx);
+
+    /**
+     * A value was not found in the cache, and needs to be computed.
+     * <p>
+     * In some cases, several threads may miss the same key concurrently, in
+     * case of which the value is computed several times, but only one
+     * computed value is retained.
+     */
+    void miss(CacheContext ctx);
+
+    /**
+     * A value was evicted from a bounded cache, as the cache reached its
+     * maximum size.
+     */
+    void evict(CacheContext ctx);
+}
@@ -0,0 +1,110 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Other licenses:
+ * -----------------------------------------------------------------------------
+ * Commercial licenses for this work are available. These replace the above
+ * ASL 2.0 and offer limited warranties, support, maintenance, and commercial
+ * database integrations.
+ *
+ * For more information, please visit: http://www.jooq.org/licenses
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ */
+package org.jooq;
+
+/**
+ * The type of a cache that jOOQ maintains in a {@link Configuration}.
+ * <p>
+ * This is reported to {@link CacheListener} implementations through
+ * {@link CacheContext#cacheType()}.
+ *
+ * @author Lukas Eder
+ */
+public enum CacheType {
+
+    /**
+     * A reflection cache for lookups of JPA annotated getters in
+     * {@link org.jooq.impl.DefaultRecordMapper}.
+     */
+    REFLECTION_CACHE_GET_ANNOTATED_GETTER,
+
+    /**
+     * A reflection cache for lookups of JPA annotated members in
+     * {@link org.jooq.impl.DefaultRecordMapper}.
+     */
+    REFLECTION_CACHE_GET_ANNOTATED_MEMBERS,
+
+    /**
+     * A reflection cache for lookups of JPA annotated setters in
+     * {@link org.jooq.impl.DefaultRecordMapper}.
+     */
+    REFLECTION_CACHE_GET_ANNOTATED_SETTERS,
+
+    /**
+     * A reflection cache for lookups of getters matched by name in
+     * {@link org.jooq.impl.DefaultRecordMapper}.
+     */
+    REFLECTION_CACHE_GET_MATCHING_GETTER,
+
+    /**
+     * A reflection cache for lookups of members matched by name in
+     * {@link org.jooq.impl.DefaultRecordMapper}.
+     */
+    REFLECTION_CACHE_GET_MATCHING_MEMBERS,
+
+    /**
+     * A reflection cache for lookups of setters matched by name in
+     * {@link org.jooq.impl.DefaultRecordMapper}.
+     */
+    REFLECTION_CACHE_GET_MATCHING_SETTERS,
+
+    /**
+     * A reflection cache to check if a type has
+     * {@link javax.persistence.Column} annotations, in
+     * {@link org.jooq.impl.DefaultRecordMapper}.
+     */
+    REFLECTION_CACHE_HAS_COLUMN_ANNOTATIONS,
+
+    /**
+     * A cache for {@link RecordMapper} instances provided by the
+     * {@link org.jooq.impl.DefaultRecordMapperProvider}.
+     */
+    CACHE_RECORD_MAPPERS,
+
+    /**
+     * A cache for JDBC {@link java.sql.PreparedStatement} instances, see
+     * {@link org.jooq.conf.Settings#isCachePreparedStatements()}.
+     */
+    CACHE_PREPARED_STATEMENTS,
+
+    /**
+     * A cache for SQL strings translated by parsing connections, see
+     * {@link org.jooq.conf.Settings#isCacheParsingConnection()}.
+     */
+    CACHE_PARSING_CONNECTION
+}
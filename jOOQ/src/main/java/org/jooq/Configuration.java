@@ -53,6 +53,7 @@ import org.jooq.impl.DSL;
 import org.jooq.impl.DataSourceConnectionProvider;
 import org.jooq.impl.DefaultConfiguration;
 import org.jooq.impl.DefaultConnectionProvider;
+import org.jooq.impl.DefaultCacheListenerProvider;
 import org.jooq.impl.DefaultDiagnosticsListenerProvider;
 import org.jooq.impl.DefaultExecuteListenerProvider;
 import org.jooq.impl.DefaultExecutorProvider;
@@ -380,6 +381,13 @@ public interface Configuration extends Serializable {
     @NotNull
     DiagnosticsListenerProvider[] diagnosticsListenerProviders();
 
+    /**
+     * Get the configured <code>CacheListenerProvider</code>s from this
+     * configuration.
+     */
+    @NotNull
+    CacheListenerProvider[] cacheListenerProviders();
+
     /**
      * Get the configured <code>UnwrapperProvider</code> from this
      * configuration.
@@ -907,6 +915,35 @@ public interface Configuration extends Serializable {
     @NotNull
     Configuration set(DiagnosticsListenerProvider... newDiagnosticsListenerProviders);
 
+    /**
+     * Change this configuration to hold a new cache listeners.
+     * <p>
+     * This will wrap the argument {@link CacheListener} in a
+     * {@link DefaultCacheListenerProvider} for convenience.
+     * <p>
+     * This method is not thread-safe and should not be used in globally
+     * available <code>Configuration</code> objects.
+     *
+     * @param newCacheListeners The new cache listeners to be contained in the
+     *            changed configuration.
+     * @return The changed configuration.
+     */
+    @NotNull
+    Configuration set(CacheListener... newCacheListeners);
+
+    /**
+     * Change this configuration to hold new cache listener providers.
+     * <p>
+     * This method is not thread-safe and should not be used in globally
+     * available <code>Configuration</code> objects.
+     *
+     * @param newCacheListenerProviders The new cache listener providers to be
+     *            contained in the changed configuration.
+     * @return The changed configuration.
+     */
+    @NotNull
+    Configuration set(CacheListenerProvider... newCacheListenerProviders);
+
     /**
      * Change this configuration to hold a new unwrapper.
      * <p>
@@ -1289,6 +1326,27 @@ public interface Configuration extends Serializable {
     @NotNull
     Configuration derive(DiagnosticsListenerProvider... newDiagnosticsListenerProviders);
 
+    /**
+     * Create a derived configuration from this one, with new cache listeners.
+     *
+     * @param newCacheListeners The new cache listeners to be contained in the
+     *            derived configuration.
+     * @return The derived configuration.
+     */
+    @NotNull
+    Configuration derive(CacheListener... newCacheListeners);
+
+    /**
+     * Create a derived configuration from this one, with new cache listener
+     * providers.
+     *
+     * @param newCacheListenerProviders The new cache listener providers to be
+     *            contained in the derived configuration.
+     * @return The derived configuration.
+     */
+    @NotNull
+    Configuration derive(CacheListenerProvider... newCacheListenerProviders);
+
     /**
      * Create a derived configuration from this one, with a new unwrapper.
      *
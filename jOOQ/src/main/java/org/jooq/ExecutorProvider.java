@@ -64,6 +64,13 @@ import org.jetbrains.annotations.NotNull;
  * The SPI will not be called if an asynchronous operation explicitly overrides
  * the {@link Executor}, e.g. as is the case for
  * {@link ResultQuery#fetchAsync(Executor)}.
+ * <p>
+ * As JDBC calls are blocking, the default behaviour may starve the
+ * {@link ForkJoinPool#commonPool()}. The
+ * {@link org.jooq.impl.VirtualThreadExecutorProvider} is a built-in
+ * alternative that runs tasks on virtual threads (or on a bounded thread pool,
+ * where virtual threads are not available), limiting the number of
+ * concurrently running tasks.
  *
  * @author Lukas Eder
  */
@@ -340,4 +340,43 @@ public interface LoaderOptionsStep<R extends Record> extends LoaderSourceStep<R>
     @NotNull
     @Support
     LoaderOptionsStep<R> bulkAfter(int number);
+
+    // -------------------------------------------------------------------------
+    // Parallelism
+    // -------------------------------------------------------------------------
+
+    /**
+     * Execute the load using a given number of worker threads.
+     * <p>
+     * With a parallelism greater than <code>1</code>, the calling thread keeps
+     * reading (and parsing) the source, while worker threads convert, bind and
+     * execute the bulk and batch statements. Each worker acquires its own
+     * {@link Connection} from {@link Configuration#connectionProvider()}, so
+     * the provider must be able to provide several connections at the same
+     * time, e.g. when it is backed by a connection pool. The workers run on
+     * dedicated threads that are started for the load, and that terminate when
+     * it completes.
+     * <p>
+     * The BULK and BATCH OPTIONS are applied per worker. If
+     * {@link #commitEach()} or {@link #commitAfter(int)} are set, each worker
+     * commits its own connection after the given number of bulk / batch
+     * statements. Errors and {@link LoaderListenerStep#onRowEnd(LoaderRowListener)}
+     * events are reported on the calling thread, in source order. With
+     * {@link #onErrorAbort()}, statements that are already being executed by
+     * other workers when an error occurs may still be stored.
+     * <p>
+     * Parallel execution is not possible, and this option is ignored, if
+     * {@link #commitAll()}, {@link #batchAll()} or {@link #bulkAll()} are
+     * set, or if the connection provider is a
+     * {@link org.jooq.impl.DefaultConnectionProvider} wrapping a single
+     * connection.
+     * <p>
+     * If you don't specify a parallelism, this will default to <code>1</code>,
+     * executing everything on the calling thread.
+     *
+     * @param number The number of worker threads.
+     */
+    @NotNull
+    @Support
+    LoaderOptionsStep<R> parallelism(int number);
 }
@@ -284,6 +284,84 @@ public interface Result<R extends Record> extends List<R>, Attachable, Formattab
     @Nullable
     Object getValue(int index, int fieldIndex) throws IndexOutOfBoundsException, IllegalArgumentException;
 
+    /**
+     * Convenience method to fetch a value at a given position in the result as
+     * a primitive <code>int</code>.
+     * <p>
+     * Results produced by {@link ResultQuery#fetchColumnar()} read this value
+     * from their column storage, without boxing it or creating a record.
+     *
+     * @param index The record's index
+     * @param fieldIndex The value's field index
+     * @return The value, or <code>0</code> if the value is <code>null</code>
+     * @throws IndexOutOfBoundsException if the index is out of range (
+     *             <tt>index &lt; 0 || index &gt;= size()</tt>)
+     * @throws IllegalArgumentException If the argument fieldIndex is not
+     *             contained in {@link #fieldsRow()}
+     * @throws DataTypeException wrapping any data type conversion exception
+     *             that might have occurred
+     * @see #isNull(int, int)
+     */
+    int getInt(int index, int fieldIndex) throws IndexOutOfBoundsException, IllegalArgumentException, DataTypeException;
+
+    /**
+     * Convenience method to fetch a value at a given position in the result as
+     * a primitive <code>long</code>.
+     * <p>
+     * Results produced by {@link ResultQuery#fetchColumnar()} read this value
+     * from their column storage, without boxing it or creating a record.
+     *
+     * @param index The record's index
+     * @param fieldIndex The value's field index
+     * @return The value, or <code>0L</code> if the value is <code>null</code>
+     * @throws IndexOutOfBoundsException if the index is out of range (
+     *             <tt>index &lt; 0 || index &gt;= size()</tt>)
+     * @throws IllegalArgumentException If the argument fieldIndex is not
+     *             contained in {@link #fieldsRow()}
+     * @throws DataTypeException wrapping any data type conversion exception
+     *             that might have occurred
+     * @see #isNull(int, int)
+     */
+    long getLong(int index, int fieldIndex) throws IndexOutOfBoundsException, IllegalArgumentException, DataTypeException;
+
+    /**
+     * Convenience method to fetch a value at a given position in the result as
+     * a primitive <code>double</code>.
+     * <p>
+     * Results produced by {@link ResultQuery#fetchColumnar()} read this value
+     * from their column storage, without boxing it or creating a record.
+     *
+     * @param index The record's index
+     * @param fieldIndex The value's field index
+     * @return The value, or <code>0.0</code> if the value is <code>null</code>
+     * @throws IndexOutOfBoundsException if the index is out of range (
+     *             <tt>index &lt; 0 || index &gt;= size()</tt>)
+     * @throws IllegalArgumentException If the argument fieldIndex is not
+     *             contained in {@link #fieldsRow()}
+     * @throws DataTypeException wrapping any data type conversion exception
+     *             that might have occurred
+     * @see #isNull(int, int)
+     */
+    double getDouble(int index, int fieldIndex) throws IndexOutOfBoundsException, IllegalArgumentException, DataTypeException;
+
+    /**
+     * Check whether a value at a given position in the result is
+     * <code>null</code>.
+     * <p>
+     * This is useful along with the primitive accessors, such as
+     * {@link #getInt(int, int)}, which return <code>0</code> for
+     * <code>null</code> values.
+     *
+     * @param index The record's index
+     * @param fieldIndex The value's field index
+     * @return Whether the value is <code>null</code>
+     * @throws IndexOutOfBoundsException if the index is out of range (
+     *             <tt>index &lt; 0 || index &gt;= size()</tt>)
+     * @throws IllegalArgumentException If the argument fieldIndex is not
+     *             contained in {@link #fieldsRow()}
+     */
+    boolean isNull(int index, int fieldIndex) throws IndexOutOfBoundsException, IllegalArgumentException;
+
     /**
      * Convenience method to fetch a value at a given position in the result.
      *
@@ -380,6 +458,10 @@ public interface Result<R extends Record> extends List<R>, Attachable, Formattab
     /**
      * Convenience method to fetch all values for a given field. This is
      * especially useful, when selecting only a single field.
+     * <p>
+     * Results produced by {@link ResultQuery#fetchColumnar()} return a
+     * read-only view of their column storage, which boxes values only when
+     * they are accessed.
      *
      * @param fieldIndex The values' field index
      * @return The values
@@ -2197,6 +2279,98 @@ public interface Result<R extends Record> extends List<R>, Attachable, Formattab
     @NotNull
     <E, S extends Record> Map<S, List<E>> intoGroups(Table<S> table, RecordMapper<? super R, E> mapper) throws IllegalArgumentException, MappingException;
 
+    /**
+     * Return a read-only {@link Map} view of this result, indexed by the given
+     * unique key.
+     * <p>
+     * Unlike {@link #intoMap(Field)}, this method doesn't copy the result into
+     * a {@link java.util.LinkedHashMap}, but builds a compact hash index over
+     * the result's records, avoiding per record key allocations. Integral
+     * keys (<code>Long</code>, <code>Integer</code>, <code>Short</code>,
+     * <code>Byte</code>) are indexed without boxing. The view iterates in the
+     * order of the result's records. It reflects the records contained in
+     * the result at the time of calling this method, and their key values.
+     *
+     * @param key The key field. Client code must assure that this field is
+     *            unique in the result set.
+     * @return A read-only Map view of the result.
+     * @throws IllegalArgumentException If the argument field is not contained
+     *             in {@link #fieldsRow()}
+     * @throws InvalidResultException if the key is non-unique in the result
+     *             set.
+     */
+    @NotNull
+    <K> Map<K, R> index(Field<K> key) throws IllegalArgumentException, InvalidResultException;
+
+    /**
+     * Return a read-only {@link Map} view of this result, indexed by the given
+     * unique keys.
+     * <p>
+     * Unlike {@link #intoMap(Field[])}, this method doesn't copy the result
+     * into a {@link java.util.LinkedHashMap}, but builds a compact hash index
+     * over the result's records, avoiding per record key allocations. Key
+     * {@link Record} objects are created only when iterating the view. Look
+     * ups accept any {@link Record} containing the key values in the order of
+     * the argument fields. The view iterates in the order of the result's
+     * records. It reflects the records contained in the result at the time of
+     * calling this method, and their key values.
+     *
+     * @param keys The keys. Client code must assure that keys are unique in
+     *            the result set. If this is <code>null</code> or an empty
+     *            array, the resulting map will contain at most one entry.
+     * @return A read-only Map view of the result.
+     * @throws IllegalArgumentException If any of the argument fields is not
+     *             contained in {@link #fieldsRow()}
+     * @throws InvalidResultException if the keys are non-unique in the result
+     *             set.
+     */
+    @NotNull
+    Map<Record, R> index(Field<?>... keys) throws IllegalArgumentException, InvalidResultException;
+
+    /**
+     * Return a read-only {@link Map} view of this result, grouped by the given
+     * key.
+     * <p>
+     * Unlike {@link #intoGroups(Field)}, this method doesn't copy the result
+     * into a {@link java.util.LinkedHashMap}, but builds a compact hash index
+     * over the result's records, avoiding per record key allocations. Integral
+     * keys (<code>Long</code>, <code>Integer</code>, <code>Short</code>,
+     * <code>Byte</code>) are indexed without boxing. Groups are produced
+     * lazily, each time they are accessed. The view iterates in the order of
+     * the first record of each group. It reflects the records contained in the
+     * result at the time of calling this method, and their key values.
+     *
+     * @param key The key field.
+     * @return A read-only Map view of the grouped result.
+     * @throws IllegalArgumentException If the argument field is not contained
+     *             in {@link #fieldsRow()}
+     */
+    @NotNull
+    <K> Map<K, Result<R>> groupBy(Field<K> key) throws IllegalArgumentException;
+
+    /**
+     * Return a read-only {@link Map} view of this result, grouped by the given
+     * keys.
+     * <p>
+     * Unlike {@link #intoGroups(Field[])}, this method doesn't copy the result
+     * into a {@link java.util.LinkedHashMap}, but builds a compact hash index
+     * over the result's records, avoiding per record key allocations. Key
+     * {@link Record} objects are created only when iterating the view, and
+     * groups are produced lazily, each time they are accessed. Look ups accept
+     * any {@link Record} containing the key values in the order of the
+     * argument fields. The view iterates in the order of the first record of
+     * each group. It reflects the records contained in the result at the time
+     * of calling this method, and their key values.
+     *
+     * @param keys The keys. If this is <code>null</code> or an empty array, the
+     *            resulting map will contain at most one entry.
+     * @return A read-only Map view of the grouped result.
+     * @throws IllegalArgumentException If any of the argument fields is not
+     *             contained in {@link #fieldsRow()}
+     */
+    @NotNull
+    Map<Record, Result<R>> groupBy(Field<?>... keys) throws IllegalArgumentException;
+
     /**
      * @deprecated - 3.6.0 - [#3879] - Use {@link #intoArrays()} instead.
      */
@@ -38,6 +38,8 @@
 
 package org.jooq;
 
+import java.io.OutputStream;
+import java.io.Writer;
 import java.sql.Connection;
 import java.sql.PreparedStatement;
 import java.sql.ResultSet;
@@ -177,6 +179,42 @@ extends
     @NotNull
     Result<R> fetch() throws DataAccessException;
 
+    /**
+     * Execute the query and return the generated result, storing values
+     * column by column.
+     * <p>
+     * This is useful for large, read-only results, e.g. in reporting or
+     * analytics. Instead of keeping a {@link Record} with its own value arrays
+     * and change tracking state per row, values are stored per column.
+     * {@link Integer}, {@link Long}, {@link Double} and other primitive
+     * wrapper typed columns are stored in primitive arrays along with a null
+     * bitmap, which considerably reduces the memory footprint of numeric
+     * results.
+     * <p>
+     * The returned result is read-only. Methods that modify the result (e.g.
+     * {@link Result#add(Object)}) throw an
+     * {@link UnsupportedOperationException}. Records are created as new views
+     * on each access, e.g. through {@link Result#get(int)} or
+     * {@link Result#iterator()}, so modifications to such records are not
+     * reflected in the result. Methods like {@link Result#getValues(int)},
+     * {@link Result#getValue(int, int)} or {@link Result#getInt(int, int)}
+     * access the column storage directly, without creating any records.
+     * Sorting the result returns a sorted copy.
+     * <p>
+     * Values are read from the JDBC {@link ResultSet} directly into the column
+     * storage, so {@link ExecuteListener#recordStart(ExecuteContext)},
+     * {@link ExecuteListener#recordEnd(ExecuteContext)} and
+     * {@link RecordListener} events are not fired for the fetched rows.
+     * <h3>Lifecycle guarantees</h3> This method completes the whole
+     * {@link ConnectionProvider} and {@link ExecuteListener} lifecycles,
+     * eagerly fetching all results into memory, like {@link #fetch()}.
+     *
+     * @return The result. This will never be <code>null</code>.
+     * @throws DataAccessException if something went wrong executing the query
+     */
+    @NotNull
+    Result<R> fetchColumnar() throws DataAccessException;
+
     /**
      * Execute the query and return the generated result as a JDBC
      * {@link ResultSet}.
@@ -198,6 +236,96 @@ extends
     @NotNull
     ResultSet fetchResultSet() throws DataAccessException;
 
+    /**
+     * Execute the query and stream the result as CSV to a {@link Writer}.
+     * <p>
+     * This is the same as calling {@link #fetchLazy()} and
+     * {@link Cursor#formatCSV(Writer, CSVFormat)}, closing the cursor
+     * afterwards. Unlike {@link Result#formatCSV(Writer, CSVFormat)}, records
+     * are written one by one, as they are fetched from the JDBC
+     * {@link ResultSet}, without keeping the whole result in memory. The
+     * writer is flushed periodically.
+     *
+     * @throws DataAccessException if something went wrong executing the query
+     * @throws org.jooq.exception.IOException if something went wrong writing
+     *             the result
+     */
+    void formatCSV(Writer writer, CSVFormat format) throws DataAccessException, org.jooq.exception.IOException;
+
+    /**
+     * Like {@link #formatCSV(Writer, CSVFormat)}, but the data is output onto
+     * an {@link OutputStream}, using the <code>UTF-8</code> encoding.
+     * <p>
+     * Unless the query projects nested records, values are read directly
+     * from the JDBC {@link ResultSet} using each field's {@link Binding} and
+     * encoded into a reusable byte buffer, without creating any
+     * {@link Record}. Non-converted {@link Integer} and {@link Long} values
+     * are written without boxing. As a consequence,
+     * {@link ExecuteListener#recordStart(ExecuteContext)} and
+     * {@link ExecuteListener#recordEnd(ExecuteContext)} events are not
+     * fired.
+     *
+     * @throws DataAccessException if something went wrong executing the query
+     * @throws org.jooq.exception.IOException if something went wrong writing
+     *             the result
+     */
+    void formatCSV(OutputStream stream, CSVFormat format) throws DataAccessException, org.jooq.exception.IOException;
+
+    /**
+     * Execute the query and stream the result as JSON to a {@link Writer}.
+     * <p>
+     * This is the same as calling {@link #fetchLazy()} and
+     * {@link Cursor#formatJSON(Writer, JSONFormat)}, closing the cursor
+     * afterwards. Unlike {@link Result#formatJSON(Writer, JSONFormat)},
+     * records are written one by one, as they are fetched from the JDBC
+     * {@link ResultSet}, without keeping the whole result in memory. The
+     * writer is flushed periodically.
+     *
+     * @throws DataAccessException if something went wrong executing the query
+     * @throws org.jooq.exception.IOException if something went wrong writing
+     *             the result
+     */
+    void formatJSON(Writer writer, JSONFormat format) throws DataAccessException, org.jooq.exception.IOException;
+
+    /**
+     * Like {@link #formatJSON(Writer, JSONFormat)}, but the data is output
+     * onto an {@link OutputStream}, using the <code>UTF-8</code> encoding.
+     * <p>
+     * Records are not created, like in
+     * {@link #formatCSV(OutputStream, CSVFormat)}.
+     *
+     * @throws DataAccessException if something went wrong executing the query
+     * @throws org.jooq.exception.IOException if something went wrong writing
+     *             the result
+     */
+    void formatJSON(OutputStream stream, JSONFormat format) throws DataAccessException, org.jooq.exception.IOException;
+
+    /**
+     * Execute the query and stream the result as XML to a {@link Writer}.
+     * <p>
+     * This is the same as calling {@link #fetchLazy()} and
+     * {@link Cursor#formatXML(Writer, XMLFormat)}, closing the cursor
+     * afterwards. Unlike {@link Result#formatXML(Writer, XMLFormat)}, records
+     * are written one by one, as they are fetched from the JDBC
+     * {@link ResultSet}, without keeping the whole result in memory. The
+     * writer is flushed periodically.
+     *
+     * @throws DataAccessException if something went wrong executing the query
+     * @throws org.jooq.exception.IOException if something went wrong writing
+     *             the result
+     */
+    void formatXML(Writer writer, XMLFormat format) throws DataAccessException, org.jooq.exception.IOException;
+
+    /**
+     * Like {@link #formatXML(Writer, XMLFormat)}, but the data is output onto
+     * an {@link OutputStream}, using the <code>UTF-8</code> encoding.
+     *
+     * @throws DataAccessException if something went wrong executing the query
+     * @throws org.jooq.exception.IOException if something went wrong writing
+     *             the result
+     */
+    void formatXML(OutputStream stream, XMLFormat format) throws DataAccessException, org.jooq.exception.IOException;
+
     /**
      * Execute the query using {@link #fetch()} and return the generated result
      * as an {@link Iterator}.
@@ -173,8 +173,18 @@ public class Settings
     protected Boolean reflectionCaching = true;
     @XmlElement(defaultValue = "true")
     protected Boolean cacheRecordMappers = true;
+    @XmlElement(defaultValue = "8192")
+    protected Integer cacheRecordMappersLRUCacheSize = 8192;
     @XmlElement(defaultValue = "true")
     protected Boolean cachePreparedStatementInLoader = true;
+    @XmlElement(defaultValue = "false")
+    protected Boolean cachePreparedStatements = false;
+    @XmlElement(defaultValue = "256")
+    protected Integer cachePreparedStatementsLRUCacheSize = 256;
+    @XmlElement(defaultValue = "false")
+    protected Boolean cacheParsingConnection = false;
+    @XmlElement(defaultValue = "8192")
+    protected Integer cacheParsingConnectionLRUCacheSize = 8192;
     @XmlElement(defaultValue = "THROW_ALL")
     @XmlSchemaType(name = "string")
     protected ThrowExceptions throwExceptions = ThrowExceptions.THROW_ALL;
@@ -1542,6 +1552,22 @@ public class Settings
         this.cacheRecordMappers = value;
     }
 
+    /**
+     * The maximum number of entries in the record mapper cache, if cacheRecordMappers is turned on. Use 0 for an unbounded cache.
+     * 
+     */
+    public Integer getCacheRecordMappersLRUCacheSize() {
+        return cacheRecordMappersLRUCacheSize;
+    }
+
+    /**
+     * The maximum number of entries in the record mapper cache, if cacheRecordMappers is turned on. Use 0 for an unbounded cache.
+     * 
+     */
+    public void setCacheRecordMappersLRUCacheSize(Integer value) {
+        this.cacheRecordMappersLRUCacheSize = value;
+    }
+
     /**
      * Whether JDBC {@link java.sql.PreparedStatement} instances should be cached in loader API.
      * 
@@ -1566,6 +1592,90 @@ public class Settings
         this.cachePreparedStatementInLoader = value;
     }
 
+    /**
+     * Whether JDBC PreparedStatements should be cached in the configuration, and reused across executions on the same JDBC Connection.
+     * <p>
+     * This is useful with JDBC drivers and connection pools that do not cache statements themselves. Statements are only reused when the ConnectionProvider returns the same Connection instance again, e.g. when using a DefaultConnectionProvider.
+     * 
+     * @return
+     *     possible object is
+     *     {@link Boolean }
+     *     
+     */
+    public Boolean isCachePreparedStatements() {
+        return cachePreparedStatements;
+    }
+
+    /**
+     * Sets the value of the cachePreparedStatements property.
+     * 
+     * @param value
+     *     allowed object is
+     *     {@link Boolean }
+     *     
+     */
+    public void setCachePreparedStatements(Boolean value) {
+        this.cachePreparedStatements = value;
+    }
+
+    /**
+     * The maximum number of idle statements in the prepared statement cache, if cachePreparedStatements is turned on.
+     * 
+     */
+    public Integer getCachePreparedStatementsLRUCacheSize() {
+        return cachePreparedStatementsLRUCacheSize;
+    }
+
+    /**
+     * The maximum number of idle statements in the prepared statement cache, if cachePreparedStatements is turned on.
+     * 
+     */
+    public void setCachePreparedStatementsLRUCacheSize(Integer value) {
+        this.cachePreparedStatementsLRUCacheSize = value;
+    }
+
+    /**
+     * Whether the parsing connection should cache input SQL strings and their translations.
+     * <p>
+     * Translated SQL strings are cached per {@link org.jooq.Configuration}, keyed by the input SQL string, the target {@link org.jooq.SQLDialect}, and the {@link Settings} values.
+     * 
+     * @return
+     *     possible object is
+     *     {@link Boolean }
+     *     
+     */
+    public Boolean isCacheParsingConnection() {
+        return cacheParsingConnection;
+    }
+
+    /**
+     * Sets the value of the cacheParsingConnection property.
+     * 
+     * @param value
+     *     allowed object is
+     *     {@link Boolean }
+     *     
+     */
+    public void setCacheParsingConnection(Boolean value) {
+        this.cacheParsingConnection = value;
+    }
+
+    /**
+     * The default implementation's maximum number of entries in the parsing connection's translation cache, see {@link #isCacheParsingConnection()}. A value of 0 means that the cache is unbounded.
+     * 
+     */
+    public Integer getCacheParsingConnectionLRUCacheSize() {
+        return cacheParsingConnectionLRUCacheSize;
+    }
+
+    /**
+     * The default implementation's maximum number of entries in the parsing connection's translation cache, see {@link #isCacheParsingConnection()}. A value of 0 means that the cache is unbounded.
+     * 
+     */
+    public void setCacheParsingConnectionLRUCacheSize(Integer value) {
+        this.cacheParsingConnectionLRUCacheSize = value;
+    }
+
     /**
      * A strategy defining how exceptions from the database / JDBC driver should be propagated
      * 
@@ -2960,11 +3070,48 @@ public class Settings
         return this;
     }
 
+    /**
+     * The maximum number of entries in the record mapper cache, if cacheRecordMappers is turned on. Use 0 for an unbounded cache.
+     * 
+     */
+    public Settings withCacheRecordMappersLRUCacheSize(Integer value) {
+        setCacheRecordMappersLRUCacheSize(value);
+        return this;
+    }
+
     public Settings withCachePreparedStatementInLoader(Boolean value) {
         setCachePreparedStatementInLoader(value);
         return this;
     }
 
+    public Settings withCachePreparedStatements(Boolean value) {
+        setCachePreparedStatements(value);
+        return this;
+    }
+
+    /**
+     * The maximum number of idle statements in the prepared statement cache, if cachePreparedStatements is turned on.
+     * 
+     */
+    public Settings withCachePreparedStatementsLRUCacheSize(Integer value) {
+        setCachePreparedStatementsLRUCacheSize(value);
+        return this;
+    }
+
+    public Settings withCacheParsingConnection(Boolean value) {
+        setCacheParsingConnection(value);
+        return this;
+    }
+
+    /**
+     * The default implementation's maximum number of entries in the parsing connection's translation cache, see {@link #isCacheParsingConnection()}. A value of 0 means that the cache is unbounded.
+     * 
+     */
+    public Settings withCacheParsingConnectionLRUCacheSize(Integer value) {
+        setCacheParsingConnectionLRUCacheSize(value);
+        return this;
+    }
+
     /**
      * A strategy defining how exceptions from the database / JDBC driver should be propagated
      * 
@@ -3406,7 +3553,12 @@ public class Settings
         builder.append("updatablePrimaryKeys", updatablePrimaryKeys);
         builder.append("reflectionCaching", reflectionCaching);
         builder.append("cacheRecordMappers", cacheRecordMappers);
+        builder.append("cacheRecordMappersLRUCacheSize", cacheRecordMappersLRUCacheSize);
         builder.append("cachePreparedStatementInLoader", cachePreparedStatementInLoader);
+        builder.append("cachePreparedStatements", cachePreparedStatements);
+        builder.append("cachePreparedStatementsLRUCacheSize", cachePreparedStatementsLRUCacheSize);
+        builder.append("cacheParsingConnection", cacheParsingConnection);
+        builder.append("cacheParsingConnectionLRUCacheSize", cacheParsingConnectionLRUCacheSize);
         builder.append("throwExceptions", throwExceptions);
         builder.append("fetchWarnings", fetchWarnings);
         builder.append("fetchServerOutputSize", fetchServerOutputSize);
@@ -3971,6 +4123,15 @@ public class Settings
                 return false;
             }
         }
+        if (cacheRecordMappersLRUCacheSize == null) {
+            if (other.cacheRecordMappersLRUCacheSize!= null) {
+                return false;
+            }
+        } else {
+            if (!cacheRecordMappersLRUCacheSize.equals(other.cacheRecordMappersLRUCacheSize)) {
+                return false;
+            }
+        }
         if (cachePreparedStatementInLoader == null) {
             if (other.cachePreparedStatementInLoader!= null) {
                 return false;
@@ -3980,6 +4141,42 @@ public class Settings
                 return false;
             }
         }
+        if (cachePreparedStatements == null) {
+            if (other.cachePreparedStatements!= null) {
+                return false;
+            }
+        } else {
+            if (!cachePreparedStatements.equals(other.cachePreparedStatements)) {
+                return false;
+            }
+        }
+        if (cachePreparedStatementsLRUCacheSize == null) {
+            if (other.cachePreparedStatementsLRUCacheSize!= null) {
+                return false;
+            }
+        } else {
+            if (!cachePreparedStatementsLRUCacheSize.equals(other.cachePreparedStatementsLRUCacheSize)) {
+                return false;
+            }
+        }
+        if (cacheParsingConnection == null) {
+            if (other.cacheParsingConnection!= null) {
+                return false;
+            }
+        } else {
+            if (!cacheParsingConnection.equals(other.cacheParsingConnection)) {
+                return false;
+            }
+        }
+        if (cacheParsingConnectionLRUCacheSize == null) {
+            if (other.cacheParsingConnectionLRUCacheSize!= null) {
+                return false;
+            }
+        } else {
+            if (!cacheParsingConnectionLRUCacheSize.equals(other.cacheParsingConnectionLRUCacheSize)) {
+                return false;
+            }
+        }
         if (throwExceptions == null) {
             if (other.throwExceptions!= null) {
                 return false;
@@ -4474,7 +4671,12 @@ public class Settings
         result = ((prime*result)+((updatablePrimaryKeys == null)? 0 :updatablePrimaryKeys.hashCode()));
         result = ((prime*result)+((reflectionCaching == null)? 0 :reflectionCaching.hashCode()));
         result = ((prime*result)+((cacheRecordMappers == null)? 0 :cacheRecordMappers.hashCode()));
+        result = ((prime*result)+((cacheRecordMappersLRUCacheSize == null)? 0 :cacheRecordMappersLRUCacheSize.hashCode()));
         result = ((prime*result)+((cachePreparedStatementInLoader == null)? 0 :cachePreparedStatementInLoader.hashCode()));
+        result = ((prime*result)+((cachePreparedStatements == null)? 0 :cachePreparedStatements.hashCode()));
+        result = ((prime*result)+((cachePreparedStatementsLRUCacheSize == null)? 0 :cachePreparedStatementsLRUCacheSize.hashCode()));
+        result = ((prime*result)+((cacheParsingConnection == null)? 0 :cacheParsingConnection.hashCode()));
+        result = ((prime*result)+((cacheParsingConnectionLRUCacheSize == null)? 0 :cacheParsingConnectionLRUCacheSize.hashCode()));
         result = ((prime*result)+((throwExceptions == null)? 0 :throwExceptions.hashCode()));
         result = ((prime*result)+((fetchWarnings == null)? 0 :fetchWarnings.hashCode()));
         result = ((prime*result)+((fetchServerOutputSize == null)? 0 :fetchServerOutputSize.hashCode()));
@@ -472,18 +472,9 @@ abstract class AbstractCursor<R extends Record> extends AbstractFormattable impl
     @Override
     public final void formatCSV(Writer writer, CSVFormat format) {
         try {
-            if (format.header()) {
-                String sep1 = "";
-                for (Field<?> field : fields.fields) {
-                    writer.append(sep1);
-                    writer.append(formatCSV0(field.getName(), format));
-
-                    sep1 = format.delimiter();
-                }
-
-                writer.append(format.newline());
-            }
+            formatCSVHeader(writer, format);
 
+            int records = 0;
             for (Record record : this) {
                 String sep2 = "";
 
@@ -495,6 +486,7 @@ abstract class AbstractCursor<R extends Record> extends AbstractFormattable impl
                 }
 
                 writer.append(format.newline());
+                flushPeriodically(writer, ++records);
             }
 
             writer.flush();
@@ -504,7 +496,30 @@ abstract class AbstractCursor<R extends Record> extends AbstractFormattable impl
         }
     }
 
-    private final String formatCSV0(Object value, CSVFormat format) {
+    /**
+     * Flush a writer after a given number of records have been written to it.
+     * <p>
+     * This does nothing by default. Lazy cursors override this to avoid
+     * buffering large exports entirely.
+     */
+    @SuppressWarnings("unused")
+    /* non-final */ void flushPeriodically(Writer writer, int records) throws java.io.IOException {}
+
+    final void formatCSVHeader(Writer writer, CSVFormat format) throws java.io.IOException {
+        if (format.header()) {
+            String sep1 = "";
+            for (Field<?> field : fields.fields) {
+                writer.append(sep1);
+                writer.append(formatCSV0(field.getName(), format));
+
+                sep1 = format.delimiter();
+            }
+
+            writer.append(format.newline());
+        }
+    }
+
+    static final String formatCSV0(Object value, CSVFormat format) {
 
         // [#2741] TODO: This logic will be externalised in new SPI
         // [#4746] Escape null and empty strings
@@ -546,145 +561,157 @@ abstract class AbstractCursor<R extends Record> extends AbstractFormattable impl
             format = JSONFormat.DEFAULT_FOR_RESULTS;
 
         try {
-            String separator;
+            String separator = "";
             int recordLevel = format.header() ? 2 : 1;
+            int records = 0;
 
-            if (format.header()) {
-                if (format.format())
-                    writer.append('{').append(format.newline())
-                          .append(format.indentString(1)).append("\"fields\": [");
-                else
-                    writer.append("{\"fields\":[");
+            formatJSONStart(writer, format);
 
-                separator = "";
+            switch (format.recordFormat()) {
+                case ARRAY:
+                    for (Record record : this) {
+                        writer.append(separator);
 
-                for (Field<?> field : fields.fields) {
-                    writer.append(separator);
+                        if (format.format())
+                            writer.append(format.newline());
+
+                        formatJSONArray0(record, fields, format, recordLevel, writer);
+                        separator = ",";
+                        flushPeriodically(writer, ++records);
+                    }
+
+                    break;
+                case OBJECT:
+                    for (Record record : this) {
+                        writer.append(separator);
 
-                    if (format.format())
-                        writer.append(format.newline()).append(format.indentString(2));
+                        if (format.format())
+                            writer.append(format.newline());
 
-                    writer.append('{');
+                        formatJSONMap0(record, fields, format, recordLevel, writer);
+                        separator = ",";
+                        flushPeriodically(writer, ++records);
+                    }
 
-                    if (format.format())
-                        writer.append(format.newline()).append(format.indentString(3));
+                    break;
+                default:
+                    throw new IllegalArgumentException("Format not supported: " + format);
+            }
 
-                    if (field instanceof TableField) {
-                        Table<?> table = ((TableField<?, ?>) field).getTable();
+            formatJSONEnd(writer, format);
 
-                        if (table != null) {
-                            Schema schema = table.getSchema();
+            writer.flush();
+        }
+        catch (java.io.IOException e) {
+            throw new IOException("Exception while writing JSON", e);
+        }
+    }
 
-                            if (schema != null) {
-                                writer.append("\"schema\":");
+    final void formatJSONStart(Writer writer, JSONFormat format) throws java.io.IOException {
+        String separator;
 
-                                if (format.format())
-                                    writer.append(' ');
+        if (format.header()) {
+            if (format.format())
+                writer.append('{').append(format.newline())
+                      .append(format.indentString(1)).append("\"fields\": [");
+            else
+                writer.append("{\"fields\":[");
 
-                                JSONValue.writeJSONString(schema.getName(), writer);
-                                writer.append(',');
+            separator = "";
 
-                                if (format.format())
-                                    writer.append(format.newline()).append(format.indentString(3));
-                            }
+            for (Field<?> field : fields.fields) {
+                writer.append(separator);
+
+                if (format.format())
+                    writer.append(format.newline()).append(format.indentString(2));
+
+                writer.append('{');
+
+                if (format.format())
+                    writer.append(format.newline()).append(format.indentString(3));
+
+                if (field instanceof TableField) {
+                    Table<?> table = ((TableField<?, ?>) field).getTable();
+
+                    if (table != null) {
+                        Schema schema = table.getSchema();
 
-                            writer.append("\"table\":");
+                        if (schema != null) {
+                            writer.append("\"schema\":");
 
                             if (format.format())
                                 writer.append(' ');
 
-                            JSONValue.writeJSONString(table.getName(), writer);
+                            JSONValue.writeJSONString(schema.getName(), writer);
                             writer.append(',');
 
                             if (format.format())
                                 writer.append(format.newline()).append(format.indentString(3));
                         }
-                    }
-
-                    writer.append("\"name\":");
-
-                    if (format.format())
-                        writer.append(' ');
-
-                    JSONValue.writeJSONString(field.getName(), writer);
-                    writer.append(',');
 
-                    if (format.format())
-                        writer.append(format.newline()).append(format.indentString(3));
+                        writer.append("\"table\":");
 
-                    writer.append("\"type\":");
-
-                    if (format.format())
-                        writer.append(' ');
-
-                    JSONValue.writeJSONString(field.getDataType().getTypeName().toUpperCase(renderLocale(configuration.settings())), writer);
+                        if (format.format())
+                            writer.append(' ');
 
-                    if (format.format())
-                        writer.append(format.newline()).append(format.indentString(2));
+                        JSONValue.writeJSONString(table.getName(), writer);
+                        writer.append(',');
 
-                    writer.append('}');
-                    separator = ",";
+                        if (format.format())
+                            writer.append(format.newline()).append(format.indentString(3));
+                    }
                 }
 
-                if (format.format())
-                    writer.append(format.newline()).append(format.indentString(1)).append("],")
-                          .append(format.newline()).append(format.indentString(1)).append("\"records\": ");
-                else
-                    writer.append("],\"records\":");
-            }
+                writer.append("\"name\":");
 
-            writer.append('[');
-            separator = "";
+                if (format.format())
+                    writer.append(' ');
 
-            switch (format.recordFormat()) {
-                case ARRAY:
-                    for (Record record : this) {
-                        writer.append(separator);
+                JSONValue.writeJSONString(field.getName(), writer);
+                writer.append(',');
 
-                        if (format.format())
-                            writer.append(format.newline());
+                if (format.format())
+                    writer.append(format.newline()).append(format.indentString(3));
 
-                        formatJSONArray0(record, fields, format, recordLevel, writer);
-                        separator = ",";
-                    }
+                writer.append("\"type\":");
 
-                    break;
-                case OBJECT:
-                    for (Record record : this) {
-                        writer.append(separator);
+                if (format.format())
+                    writer.append(' ');
 
-                        if (format.format())
-                            writer.append(format.newline());
+                JSONValue.writeJSONString(field.getDataType().getTypeName().toUpperCase(renderLocale(configuration.settings())), writer);
 
-                        formatJSONMap0(record, fields, format, recordLevel, writer);
-                        separator = ",";
-                    }
+                if (format.format())
+                    writer.append(format.newline()).append(format.indentString(2));
 
-                    break;
-                default:
-                    throw new IllegalArgumentException("Format not supported: " + format);
+                writer.append('}');
+                separator = ",";
             }
 
-            if (format.format()) {
-                writer.append(format.newline());
+            if (format.format())
+                writer.append(format.newline()).append(format.indentString(1)).append("],")
+                      .append(format.newline()).append(format.indentString(1)).append("\"records\": ");
+            else
+                writer.append("],\"records\":");
+        }
 
-                if (format.header())
-                    writer.append(format.indentString(1));
-            }
+        writer.append('[');
+    }
 
-            writer.append(']');
+    static final void formatJSONEnd(Writer writer, JSONFormat format) throws java.io.IOException {
+        if (format.format()) {
+            writer.append(format.newline());
 
             if (format.header())
-                writer.append(format.newline()).append('}');
-
-            writer.flush();
-        }
-        catch (java.io.IOException e) {
-            throw new IOException("Exception while writing JSON", e);
+                writer.append(format.indentString(1));
         }
+
+        writer.append(']');
+
+        if (format.header())
+            writer.append(format.newline()).append('}');
     }
 
-    private static final void formatJSON0(Object value, Writer writer, JSONFormat format) throws java.io.IOException {
+    static final void formatJSON0(Object value, Writer writer, JSONFormat format) throws java.io.IOException {
 
         // [#2741] TODO: This logic will be externalised in new SPI
         if (value instanceof byte[]) {
@@ -724,6 +751,10 @@ abstract class AbstractCursor<R extends Record> extends AbstractFormattable impl
     }
 
     static final void formatJSONMap0(Record record, Fields<?> fields, JSONFormat format, int recordLevel, Writer writer) throws java.io.IOException {
+        formatJSONMap0((i, w, f) -> formatJSON0(record.get(i), w, f), fields, format, recordLevel, writer);
+    }
+
+    static final void formatJSONMap0(JSONValueWriter values, Fields<?> fields, JSONFormat format, int recordLevel, Writer writer) throws java.io.IOException {
         String separator = "";
         boolean wrapRecords = format.wrapSingleColumnRecords() || fields.fields.length > 1;
 
@@ -740,14 +771,14 @@ abstract class AbstractCursor<R extends Record> extends AbstractFormattable impl
                 writer.append(format.newline()).append(format.indentString(recordLevel + 1));
 
             if (wrapRecords) {
-                JSONValue.writeJSONString(record.field(index).getName(), writer);
+                JSONValue.writeJSONString(fields.fields[index].getName(), writer);
                 writer.append(':');
 
                 if (format.format())
                     writer.append(' ');
             }
 
-            formatJSON0(record.get(index), writer, format);
+            values.write(index, writer, format);
             separator = ",";
         }
 
@@ -759,6 +790,10 @@ abstract class AbstractCursor<R extends Record> extends AbstractFormattable impl
     }
 
     static final void formatJSONArray0(Record record, Fields<?> fields, JSONFormat format, int recordLevel, Writer writer) throws java.io.IOException {
+        formatJSONArray0((i, w, f) -> formatJSON0(record.get(i), w, f), fields, format, recordLevel, writer);
+    }
+
+    static final void formatJSONArray0(JSONValueWriter values, Fields<?> fields, JSONFormat format, int recordLevel, Writer writer) throws java.io.IOException {
         String separator = "";
 
         if (format.wrapSingleColumnRecords() || fields.fields.length > 1)
@@ -773,7 +808,7 @@ abstract class AbstractCursor<R extends Record> extends AbstractFormattable impl
             if (format.format())
                 writer.append(format.newline()).append(format.indentString(recordLevel + 1));
 
-            formatJSON0(record.get(index), writer, format);
+            values.write(index, writer, format);
             separator = ",";
         }
 
@@ -784,6 +819,15 @@ abstract class AbstractCursor<R extends Record> extends AbstractFormattable impl
                 writer.append(']');
     }
 
+    /**
+     * A callback writing the JSON representation of a record's value at a
+     * given index.
+     */
+    @FunctionalInterface
+    interface JSONValueWriter {
+        void write(int index, Writer writer, JSONFormat format) throws java.io.IOException;
+    }
+
     @Override
     public final void formatXML(Writer writer, XMLFormat format) {
         if (format == null)
@@ -834,9 +878,11 @@ abstract class AbstractCursor<R extends Record> extends AbstractFormattable impl
                 writer.append(newline).append(format.indentString(1)).append("<records>");
             }
 
+            int records = 0;
             for (Record record : this) {
                 writer.append(newline).append(format.indentString(recordLevel));
                 formatXMLRecord(writer, format, recordLevel, record, fields);
+                flushPeriodically(writer, ++records);
             }
 
             if (format.header())
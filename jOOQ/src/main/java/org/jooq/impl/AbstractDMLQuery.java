@@ -1266,8 +1266,7 @@ abstract class AbstractDMLQuery<R extends Record> extends AbstractRowCountQuery
 
                                 @Override
                                 public AbstractRecord operate(AbstractRecord record) throws RuntimeException {
-                                    record.values[0] = id;
-                                    record.originals[0] = id;
+                                    record.init(0, id);
 
                                     return record;
                                 }
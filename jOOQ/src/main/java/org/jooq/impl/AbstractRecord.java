@@ -128,8 +128,23 @@ abstract class AbstractRecord extends AbstractStore implements Record {
 
     final AbstractRow               fields;
     final Object[]                  values;
-    final Object[]                  originals;
-    final BitSet                    changed;
+
+    /**
+     * The original values, or <code>null</code> if they are the same as
+     * {@link #values}.
+     */
+    Object[]                        originals;
+
+    /**
+     * The changed flags, or <code>null</code> if no value has been changed.
+     * <p>
+     * The change tracking state is allocated lazily by
+     * {@link #trackChanges()}, when a record is modified for the first time,
+     * which spares read-only records (most fetched records) from allocating
+     * it. Both {@link #originals} and {@link #changed} are either
+     * <code>null</code> or allocated.
+     */
+    BitSet                          changed;
     boolean                         fetched;
 
     /**
@@ -150,8 +165,44 @@ abstract class AbstractRecord extends AbstractStore implements Record {
 
         this.fields = fields;
         this.values = new Object[size];
-        this.originals = new Object[size];
-        this.changed = new BitSet(size);
+    }
+
+    /**
+     * Allocate the change tracking state, prior to modifying the record.
+     */
+    final void trackChanges() {
+        if (changed == null) {
+            originals = values.clone();
+            changed = new BitSet(values.length);
+        }
+    }
+
+    /**
+     * Initialise a value and its original value, e.g. when loading the record
+     * from a {@link ResultSet}.
+     */
+    final void init(int index, Object value) {
+        values[index] = value;
+
+        if (originals != null)
+            originals[index] = value;
+    }
+
+    /**
+     * Copy a value, its original value, and its changed flag from another
+     * record.
+     */
+    final void copy(int index, Object value, Object original, boolean c) {
+        if (changed == null && !c && value == original) {
+            values[index] = value;
+        }
+        else {
+            trackChanges();
+
+            values[index] = value;
+            originals[index] = original;
+            changed.set(index, c);
+        }
     }
 
     // ------------------------------------------------------------------------
@@ -359,6 +410,7 @@ abstract class AbstractRecord extends AbstractStore implements Record {
         // [#979] Avoid modifying chnaged flag on unchanged primary key values
 
         UniqueKey<?> key = getPrimaryKey();
+        trackChanges();
 
         // Normal fields' changed flag is always set to true
         if (key == null || !key.getFields().contains(field)) {
@@ -420,9 +472,8 @@ abstract class AbstractRecord extends AbstractStore implements Record {
             int targetIndex = indexOrFail(fieldsRow(), field);
             int sourceIndex = indexOrFail(record.fieldsRow(), field);
 
-            values[targetIndex] = record.get(sourceIndex);
-            originals[targetIndex] = record.original(sourceIndex);
-            changed.set(targetIndex, record.changed(sourceIndex));
+            Object value = record.get(sourceIndex);
+            copy(targetIndex, value, record.originals == null ? value : record.original(sourceIndex), record.changed(sourceIndex));
         }
     }
 
@@ -431,7 +482,9 @@ abstract class AbstractRecord extends AbstractStore implements Record {
 
         if (field(fieldIndex).getType() == String.class) {
             values[fieldIndex] = intern((String) values[fieldIndex]);
-            originals[fieldIndex] = intern((String) originals[fieldIndex]);
+
+            if (originals != null)
+                originals[fieldIndex] = intern((String) originals[fieldIndex]);
         }
     }
 
@@ -463,10 +516,7 @@ abstract class AbstractRecord extends AbstractStore implements Record {
 
             @Override
             public AbstractRecord operate(AbstractRecord record) throws RuntimeException {
-                for (int i = 0; i < originals.length; i++) {
-                    record.values[i] = originals[i];
-                    record.originals[i] = originals[i];
-                }
+                System.arraycopy(originals != null ? originals : values, 0, record.values, 0, values.length);
 
                 return record;
             }
@@ -480,7 +530,7 @@ abstract class AbstractRecord extends AbstractStore implements Record {
 
     @Override
     public final Object original(int fieldIndex) {
-        return originals[safeIndex(fieldIndex)];
+        return (originals != null ? originals : values)[safeIndex(fieldIndex)];
     }
 
     @Override
@@ -495,7 +545,7 @@ abstract class AbstractRecord extends AbstractStore implements Record {
 
     @Override
     public final boolean changed() {
-        return !changed.isEmpty();
+        return changed != null && !changed.isEmpty();
     }
 
     @Override
@@ -505,7 +555,8 @@ abstract class AbstractRecord extends AbstractStore implements Record {
 
     @Override
     public final boolean changed(int fieldIndex) {
-        return changed.get(safeIndex(fieldIndex));
+        safeIndex(fieldIndex);
+        return changed != null && changed.get(fieldIndex);
     }
 
     @Override
@@ -520,12 +571,16 @@ abstract class AbstractRecord extends AbstractStore implements Record {
 
     @Override
     public final void changed(boolean c) {
-        changed.set(0, values.length, c);
+        if (c) {
+            trackChanges();
+            changed.set(0, values.length);
+        }
 
         // [#1995] If a value is meant to be "unchanged", the "original" should
         // match the supposedly "unchanged" value.
-        if (!c) {
-            System.arraycopy(values, 0, originals, 0, values.length);
+        else {
+            originals = null;
+            changed = null;
         }
     }
 
@@ -538,12 +593,17 @@ abstract class AbstractRecord extends AbstractStore implements Record {
     public final void changed(int fieldIndex, boolean c) {
         safeIndex(fieldIndex);
 
-        changed.set(fieldIndex, c);
+        if (c) {
+            trackChanges();
+            changed.set(fieldIndex);
+        }
 
         // [#1995] If a value is meant to be "unchanged", the "original" should
         // match the supposedly "unchanged" value.
-        if (!c)
+        else if (changed != null) {
+            changed.clear(fieldIndex);
             originals[fieldIndex] = values[fieldIndex];
+        }
     }
 
     @Override
@@ -558,9 +618,11 @@ abstract class AbstractRecord extends AbstractStore implements Record {
 
     @Override
     public final void reset() {
-        changed.clear();
+        if (originals != null)
+            System.arraycopy(originals, 0, values, 0, originals.length);
 
-        System.arraycopy(originals, 0, values, 0, originals.length);
+        originals = null;
+        changed = null;
     }
 
     @Override
@@ -572,8 +634,10 @@ abstract class AbstractRecord extends AbstractStore implements Record {
     public final void reset(int fieldIndex) {
         safeIndex(fieldIndex);
 
-        changed.clear(fieldIndex);
-        values[fieldIndex] = originals[fieldIndex];
+        if (changed != null) {
+            changed.clear(fieldIndex);
+            values[fieldIndex] = originals[fieldIndex];
+        }
     }
 
     @Override
@@ -805,9 +869,8 @@ abstract class AbstractRecord extends AbstractStore implements Record {
                         if (sourceIndex >= 0) {
                             DataType<?> targetType = targetField.getDataType();
 
-                            t.values[targetIndex] = targetType.convert(values[sourceIndex]);
-                            t.originals[targetIndex] = targetType.convert(originals[sourceIndex]);
-                            t.changed.set(targetIndex, changed.get(sourceIndex));
+                            Object value = targetType.convert(values[sourceIndex]);
+                            t.copy(targetIndex, value, originals == null ? value : targetType.convert(originals[sourceIndex]), changed(sourceIndex));
                         }
                     }
                 }
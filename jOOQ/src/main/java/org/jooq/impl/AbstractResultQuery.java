@@ -37,6 +37,7 @@
  */
 package org.jooq.impl;
 
+import static java.nio.charset.StandardCharsets.UTF_8;
 import static java.util.concurrent.Executors.newSingleThreadExecutor;
 // ...
 // ...
@@ -47,11 +48,13 @@ import static org.jooq.impl.Tools.blocking;
 import static org.jooq.impl.Tools.consumeResultSets;
 import static org.jooq.impl.Tools.executeStatementAndGetFirstResultSet;
 
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
 import java.lang.reflect.Array;
 import java.sql.ResultSet;
 import java.sql.ResultSetMetaData;
 import java.sql.SQLException;
-import java.util.ArrayDeque;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Iterator;
@@ -69,6 +72,7 @@ import java.util.concurrent.Future;
 import java.util.stream.Collector;
 import java.util.stream.Stream;
 
+import org.jooq.CSVFormat;
 import org.jooq.Configuration;
 import org.jooq.Converter;
 import org.jooq.Cursor;
@@ -76,6 +80,7 @@ import org.jooq.DSLContext;
 import org.jooq.ExecuteContext;
 import org.jooq.ExecuteListener;
 import org.jooq.Field;
+import org.jooq.JSONFormat;
 import org.jooq.Name;
 import org.jooq.Record;
 import org.jooq.Record1;
@@ -107,6 +112,7 @@ import org.jooq.ResultQuery;
 import org.jooq.Results;
 import org.jooq.SQLDialect;
 import org.jooq.Table;
+import org.jooq.XMLFormat;
 import org.jooq.conf.SettingsTools;
 import org.jooq.tools.JooqLogger;
 import org.jooq.tools.jdbc.MockResultSet;
@@ -334,6 +340,59 @@ abstract class AbstractResultQuery<R extends Record> extends AbstractQuery imple
         return result;
     }
 
+    @Override
+    public final Result<R> fetchColumnar() {
+        try (Cursor<R> c = fetchLazyNonAutoClosing()) {
+            return ((CursorImpl<R>) c).fetchColumnar();
+        }
+    }
+
+    @Override
+    public final void formatCSV(Writer writer, CSVFormat format) {
+        try (Cursor<R> c = fetchLazy()) {
+            c.formatCSV(writer, format);
+        }
+    }
+
+    @Override
+    public final void formatCSV(OutputStream stream, CSVFormat format) {
+        try (Cursor<R> c = fetchLazy()) {
+            if (c instanceof CursorImpl && ((CursorImpl<R>) c).exportable())
+                ((CursorImpl<R>) c).exportCSV(stream, format);
+            else
+                c.formatCSV(new OutputStreamWriter(stream, UTF_8), format);
+        }
+    }
+
+    @Override
+    public final void formatJSON(Writer writer, JSONFormat format) {
+        try (Cursor<R> c = fetchLazy()) {
+            c.formatJSON(writer, format);
+        }
+    }
+
+    @Override
+    public final void formatJSON(OutputStream stream, JSONFormat format) {
+        try (Cursor<R> c = fetchLazy()) {
+            if (c instanceof CursorImpl && ((CursorImpl<R>) c).exportable())
+                ((CursorImpl<R>) c).exportJSON(stream, format);
+            else
+                c.formatJSON(new OutputStreamWriter(stream, UTF_8), format);
+        }
+    }
+
+    @Override
+    public final void formatXML(Writer writer, XMLFormat format) {
+        try (Cursor<R> c = fetchLazy()) {
+            c.formatXML(writer, format);
+        }
+    }
+
+    @Override
+    public final void formatXML(OutputStream stream, XMLFormat format) {
+        formatXML(new OutputStreamWriter(stream, UTF_8), format);
+    }
+
     @Override
     public final ResultSet fetchResultSet() {
         return fetchLazy().resultSet();
@@ -357,53 +416,7 @@ abstract class AbstractResultQuery<R extends Record> extends AbstractQuery imple
 
     @Override
     public final void subscribe(org.reactivestreams.Subscriber<? super R> subscriber) {
-        subscriber.onSubscribe(new org.reactivestreams.Subscription() {
-            Cursor<R> c;
-            ArrayDeque<R> buffer;
-
-            @Override
-            public void request(long n) {
-                int i = (int) Math.min(n, Integer.MAX_VALUE);
-
-                try {
-                    if (c == null)
-                        c = fetchLazyNonAutoClosing();
-
-                    if (buffer == null)
-                        buffer = new ArrayDeque<>();
-
-                    if (buffer.size() < i)
-                        buffer.addAll(c.fetchNext(i - buffer.size()));
-
-                    boolean complete = buffer.size() < i;
-                    while (!buffer.isEmpty()) {
-                        subscriber.onNext(buffer.pollFirst());
-                    }
-
-                    if (complete)
-                        doComplete();
-                }
-                catch (Throwable t) {
-                    subscriber.onError(t);
-                    doComplete();
-                }
-            }
-
-            private void doComplete() {
-                close();
-                subscriber.onComplete();
-            }
-
-            private void close() {
-                if (c != null)
-                    c.close();
-            }
-
-            @Override
-            public void cancel() {
-                close();
-            }
-        });
+        subscriber.onSubscribe(new ResultQuerySubscription<>(this, subscriber));
     }
 
     @Override
@@ -455,13 +468,29 @@ abstract class AbstractResultQuery<R extends Record> extends AbstractQuery imple
      * jOOQ, then the cursor must not be auto-closed.
      */
     final Cursor<R> fetchLazyNonAutoClosing() {
+        return fetchLazyNonAutoClosing0(fetchSize);
+    }
+
+    /**
+     * Like {@link #fetchLazyNonAutoClosing()}, using a default fetch size if
+     * neither the query nor the {@link org.jooq.conf.Settings} specify any.
+     */
+    final Cursor<R> fetchLazyNonAutoClosing(int defaultFetchSize) {
+        return fetchLazyNonAutoClosing0(
+            SettingsTools.getFetchSize(fetchSize, Tools.settings(this)) != 0
+          ? fetchSize
+          : defaultFetchSize
+        );
+    }
+
+    private final Cursor<R> fetchLazyNonAutoClosing0(int size) {
         final boolean previousAutoClosing = autoclosing;
 
         // [#3515] TODO: Avoid modifying a Query's per-execution state
         autoclosing = false;
 
         try {
-            return fetchLazy();
+            return fetchLazy(size);
         }
         finally {
             autoclosing = previousAutoClosing;
@@ -58,26 +58,7 @@ abstract class AbstractRowCountQuery extends AbstractQuery implements RowCountQu
 
     @Override
     public final void subscribe(org.reactivestreams.Subscriber<? super Integer> subscriber) {
-        subscriber.onSubscribe(new org.reactivestreams.Subscription() {
-            Integer rows;
-
-            @Override
-            public void request(long n) {
-                try {
-                    if (rows == null)
-                        subscriber.onNext(rows = execute());
-                }
-                catch (Throwable t) {
-                    subscriber.onError(t);
-                }
-
-                subscriber.onComplete();
-            }
-
-            @Override
-            public void cancel() {
-            }
-        });
+        subscriber.onSubscribe(new RowCountSubscription(this, subscriber));
     }
 
 
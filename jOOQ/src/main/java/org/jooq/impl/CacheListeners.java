@@ -0,0 +1,130 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Other licenses:
+ * -----------------------------------------------------------------------------
+ * Commercial licenses for this work are available. These replace the above
+ * ASL 2.0 and offer limited warranties, support, maintenance, and commercial
+ * database integrations.
+ *
+ * For more information, please visit: http://www.jooq.org/licenses
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ */
+package org.jooq.impl;
+
+import static org.jooq.impl.Tools.DataKey.DATA_CACHE_LISTENERS;
+
+import org.jooq.CacheContext;
+import org.jooq.CacheListener;
+import org.jooq.CacheListenerProvider;
+import org.jooq.Configuration;
+import org.jooq.impl.Tools.Cache;
+import org.jooq.impl.Tools.DataCacheKey;
+
+/**
+ * @author Lukas Eder
+ */
+final class CacheListeners implements CacheListener {
+
+    final CacheListenerProvider[] providers;
+    final CacheListener[]         listeners;
+
+    CacheListeners(CacheListenerProvider[] providers) {
+        this.providers = providers;
+        this.listeners = new CacheListener[providers.length];
+
+        for (int i = 0; i < listeners.length; i++)
+            listeners[i] = providers[i].provide();
+    }
+
+    static final void hit(Configuration configuration, DataCacheKey type, Object key) {
+        CacheListeners listeners = listeners(configuration);
+
+        if (listeners != null)
+            listeners.hit(new DefaultCacheContext(configuration, type, key));
+    }
+
+    static final void miss(Configuration configuration, DataCacheKey type, Object key) {
+        CacheListeners listeners = listeners(configuration);
+
+        if (listeners != null)
+            listeners.miss(new DefaultCacheContext(configuration, type, key));
+    }
+
+    static final void evict(Configuration configuration, DataCacheKey type, Object key) {
+        CacheListeners listeners = listeners(configuration);
+
+        if (listeners != null)
+            listeners.evict(new DefaultCacheContext(configuration, type, key));
+    }
+
+    /**
+     * The listeners of a {@link Configuration}, which are provided once and
+     * then reused, or <code>null</code> if there are no listeners.
+     */
+    private static final CacheListeners listeners(Configuration configuration) {
+        CacheListenerProvider[] providers = configuration.cacheListenerProviders();
+
+        if (providers.length == 0)
+            return null;
+
+        CacheListeners result = Cache.data(configuration, DATA_CACHE_LISTENERS, () -> new CacheListeners(providers));
+
+        // The providers may have been replaced by Configuration.set(), or
+        // the data may have been copied from the Configuration this one was
+        // derived from
+        if (result.providers != providers) {
+            synchronized (DATA_CACHE_LISTENERS) {
+                result = (CacheListeners) configuration.data(DATA_CACHE_LISTENERS);
+
+                if (result.providers != providers)
+                    configuration.data(DATA_CACHE_LISTENERS, result = new CacheListeners(providers));
+            }
+        }
+
+        return result;
+    }
+
+    @Override
+    public final void hit(CacheContext ctx) {
+        for (CacheListener listener : listeners)
+            listener.hit(ctx);
+    }
+
+    @Override
+    public final void miss(CacheContext ctx) {
+        for (CacheListener listener : listeners)
+            listener.miss(ctx);
+    }
+
+    @Override
+    public final void evict(CacheContext ctx) {
+        for (CacheListener listener : listeners)
+            listener.evict(ctx);
+    }
+}
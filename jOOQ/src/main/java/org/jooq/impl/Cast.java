@@ -75,7 +75,7 @@ final class Cast<T> extends AbstractField<T> {
      */
     private static final long serialVersionUID = -6776617606751542856L;
 
-    private final Field<?>    field;
+    final Field<?>            field;
 
     public Cast(Field<?> field, DataType<T> type) {
         super(N_CAST, type);
@@ -52,7 +52,7 @@ final class Coalesce<T> extends AbstractField<T> {
      * Generated UID
      */
     private static final long serialVersionUID = -4546488210418866103L;
-    private final Field<T>[]  fields;
+    final Field<T>[]          fields;
 
     @SuppressWarnings("unchecked")
     Coalesce(DataType<T> dataType, Field<?>[] fields) {
@@ -51,7 +51,7 @@ final class Coerce<T> extends AbstractField<T> {
      */
     private static final long serialVersionUID = -6776617606751542856L;
 
-    private final Field<?>    field;
+    final Field<?>            field;
 
     public Coerce(Field<?> field, DataType<T> type) {
         super(field.getQualifiedName(), type);
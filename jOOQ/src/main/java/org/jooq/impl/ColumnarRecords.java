@@ -0,0 +1,595 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Other licenses:
+ * -----------------------------------------------------------------------------
+ * Commercial licenses for this work are available. These replace the above
+ * ASL 2.0 and offer limited warranties, support, maintenance, and commercial
+ * database integrations.
+ *
+ * For more information, please visit: http://www.jooq.org/licenses
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ */
+package org.jooq.impl;
+
+import static org.jooq.impl.Tools.attachRecords;
+import static org.jooq.impl.Tools.recordFactory;
+
+import java.io.Serializable;
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.List;
+import java.util.RandomAccess;
+
+import org.jooq.Configuration;
+import org.jooq.Field;
+import org.jooq.Record;
+import org.jooq.Result;
+import org.jooq.ResultQuery;
+import org.jooq.tools.Convert;
+
+/**
+ * A read-only list of records that stores its values column by column.
+ * <p>
+ * This is the storage backing results produced by
+ * {@link ResultQuery#fetchColumnar()}. Columns of type {@link Integer},
+ * {@link Short}, {@link Byte}, {@link Long}, {@link Double}, {@link Float} and
+ * {@link Boolean} are stored in primitive arrays along with a null bitmap, all
+ * other columns are stored in an <code>Object[]</code>. {@link Record} views
+ * are created on each call to {@link #get(int)}, so {@link Result} methods
+ * that only need values read them through {@link #value(int, int)},
+ * {@link #values(int)}, or the primitive accessors instead.
+ *
+ * @author Lukas Eder
+ */
+final class ColumnarRecords<R extends Record> extends AbstractList<R> implements RandomAccess, Serializable {
+
+    /**
+     * Generated UID
+     */
+    private static final long                  serialVersionUID = -2486364312357917025L;
+
+    private final Field<?>[]                   fields;
+    private final Class<? extends R>           type;
+    private final transient Configuration      configuration;
+    private transient F0<? extends R>          factory;
+    private final Column[]                     columns;
+    private int                                size;
+    private int                                capacity;
+
+    ColumnarRecords(Field<?>[] fields, Class<? extends R> type, Configuration configuration) {
+        this.fields = fields;
+        this.type = type;
+        this.configuration = configuration;
+        this.columns = new Column[fields.length];
+        this.capacity = 16;
+
+        for (int i = 0; i < fields.length; i++)
+            columns[i] = column(fields[i].getType(), capacity);
+    }
+
+    private static final Column column(Class<?> t, int capacity) {
+        if (t == Integer.class || t == Short.class || t == Byte.class)
+            return new IntColumn(t, capacity);
+        else if (t == Long.class)
+            return new LongColumn(capacity);
+        else if (t == Double.class || t == Float.class)
+            return new DoubleColumn(t, capacity);
+        else if (t == Boolean.class)
+            return new BooleanColumn();
+        else
+            return new ObjectColumn(capacity);
+    }
+
+    /**
+     * Create an empty list with the same fields and record type as this one.
+     */
+    final ColumnarRecords<R> empty() {
+        return new ColumnarRecords<>(fields, type, configuration);
+    }
+
+    // -------------------------------------------------------------------------
+    // XXX: Appending rows
+    // -------------------------------------------------------------------------
+
+    /**
+     * Append a record's values to this list.
+     */
+    final void append(Record record) {
+        startRow();
+
+        for (int i = 0; i < columns.length; i++)
+            setValue(i, record.get(i));
+
+        endRow();
+    }
+
+    /**
+     * Start appending a row, whose values are set through the
+     * <code>setXyz()</code> methods before calling {@link #endRow()}.
+     */
+    final void startRow() {
+        if (size == capacity) {
+            capacity = capacity * 2;
+
+            for (Column column : columns)
+                column.grow(capacity);
+        }
+    }
+
+    final void endRow() {
+        size++;
+    }
+
+    final void setValue(int fieldIndex, Object value) {
+
+        // Values that don't match the column type (e.g. when a Binding
+        // produces an unexpected subtype) are stored as objects
+        if (!columns[fieldIndex].set(size, value)) {
+            columns[fieldIndex] = columns[fieldIndex].inflate(size, capacity);
+            columns[fieldIndex].set(size, value);
+        }
+    }
+
+    /**
+     * Set a value of an {@link Integer} column.
+     */
+    final void setInt(int fieldIndex, int value) {
+        if (columns[fieldIndex] instanceof IntColumn)
+            ((IntColumn) columns[fieldIndex]).values[size] = value;
+        else
+            setValue(fieldIndex, value);
+    }
+
+    /**
+     * Set a value of a {@link Long} column.
+     */
+    final void setLong(int fieldIndex, long value) {
+        if (columns[fieldIndex] instanceof LongColumn)
+            ((LongColumn) columns[fieldIndex]).values[size] = value;
+        else
+            setValue(fieldIndex, value);
+    }
+
+    /**
+     * Set a value of a {@link Double} column.
+     */
+    final void setDouble(int fieldIndex, double value) {
+        if (columns[fieldIndex] instanceof DoubleColumn)
+            ((DoubleColumn) columns[fieldIndex]).values[size] = value;
+        else
+            setValue(fieldIndex, value);
+    }
+
+    /**
+     * Release unused capacity after all records have been appended.
+     */
+    final void trim() {
+        if (size < capacity) {
+            capacity = Math.max(size, 1);
+
+            for (Column column : columns)
+                column.grow(capacity);
+        }
+    }
+
+    // -------------------------------------------------------------------------
+    // XXX: Reading values
+    // -------------------------------------------------------------------------
+
+    /**
+     * Get a single value without creating a record view.
+     */
+    final Object value(int index, int fieldIndex) {
+        rangeCheck(index);
+        return columns[fieldIndex].get(index);
+    }
+
+    final boolean isNull(int index, int fieldIndex) {
+        rangeCheck(index);
+        return columns[fieldIndex].isNull(index);
+    }
+
+    final int intValue(int index, int fieldIndex) {
+        rangeCheck(index);
+        return columns[fieldIndex].intValue(index);
+    }
+
+    final long longValue(int index, int fieldIndex) {
+        rangeCheck(index);
+        return columns[fieldIndex].longValue(index);
+    }
+
+    final double doubleValue(int index, int fieldIndex) {
+        rangeCheck(index);
+        return columns[fieldIndex].doubleValue(index);
+    }
+
+    /**
+     * A read-only view of all values of a column, which doesn't create record
+     * views, and which boxes values only when they are accessed.
+     */
+    final List<Object> values(int fieldIndex) {
+        return new ColumnValues(columns[fieldIndex], size);
+    }
+
+    @Override
+    public final R get(int index) {
+        rangeCheck(index);
+
+        if (factory == null)
+            factory = recordFactory(type, fields);
+
+        R record = factory.apply();
+        AbstractRecord r = (AbstractRecord) record;
+        r.fetched = true;
+
+        for (int i = 0; i < columns.length; i++)
+            r.init(i, columns[i].get(index));
+
+        // [#1684] Do not attach configuration if settings say no
+        if (attachRecords(configuration))
+            record.attach(configuration);
+
+        return record;
+    }
+
+    @Override
+    public final int size() {
+        return size;
+    }
+
+    private final void rangeCheck(int index) {
+        if (index < 0 || index >= size)
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+    }
+
+    private static final class ColumnValues extends AbstractList<Object> implements RandomAccess {
+        private final Column column;
+        private final int    size;
+
+        ColumnValues(Column column, int size) {
+            this.column = column;
+            this.size = size;
+        }
+
+        @Override
+        public final Object get(int index) {
+            if (index < 0 || index >= size)
+                throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+
+            return column.get(index);
+        }
+
+        @Override
+        public final int size() {
+            return size;
+        }
+    }
+
+    // -------------------------------------------------------------------------
+    // XXX: Column storage
+    // -------------------------------------------------------------------------
+
+    private static abstract class Column implements Serializable {
+
+        /**
+         * Generated UID
+         */
+        private static final long serialVersionUID = 3253489337592476716L;
+
+        /**
+         * Set a value, or return <code>false</code> if the value cannot be
+         * stored in this column.
+         */
+        abstract boolean set(int index, Object value);
+
+        abstract Object get(int index);
+
+        abstract void grow(int capacity);
+
+        boolean isNull(int index) {
+            return get(index) == null;
+        }
+
+        int intValue(int index) {
+            Object value = get(index);
+            return value == null ? 0 : number(value).intValue();
+        }
+
+        long longValue(int index) {
+            Object value = get(index);
+            return value == null ? 0L : number(value).longValue();
+        }
+
+        double doubleValue(int index) {
+            Object value = get(index);
+            return value == null ? 0.0 : number(value).doubleValue();
+        }
+
+        private static final Number number(Object value) {
+            return value instanceof Number ? (Number) value : Convert.convert(value, Double.class);
+        }
+
+        final Column inflate(int size, int capacity) {
+            ObjectColumn result = new ObjectColumn(capacity);
+
+            for (int i = 0; i < size; i++)
+                result.set(i, get(i));
+
+            return result;
+        }
+    }
+
+    private static final class IntColumn extends Column {
+
+        /**
+         * Generated UID
+         */
+        private static final long serialVersionUID = -4316262093880618563L;
+        private final Class<?>    type;
+        private final BitSet      nulls;
+        private int[]             values;
+
+        IntColumn(Class<?> type, int capacity) {
+            this.type = type;
+            this.nulls = new BitSet();
+            this.values = new int[capacity];
+        }
+
+        @Override
+        final boolean set(int index, Object value) {
+            if (value == null)
+                nulls.set(index);
+            else if (value.getClass() == type)
+                values[index] = ((Number) value).intValue();
+            else
+                return false;
+
+            return true;
+        }
+
+        @Override
+        final Object get(int index) {
+            if (nulls.get(index))
+                return null;
+            else if (type == Integer.class)
+                return values[index];
+            else if (type == Short.class)
+                return (short) values[index];
+            else
+                return (byte) values[index];
+        }
+
+        @Override
+        final boolean isNull(int index) {
+            return nulls.get(index);
+        }
+
+        @Override
+        final int intValue(int index) {
+            return values[index];
+        }
+
+        @Override
+        final long longValue(int index) {
+            return values[index];
+        }
+
+        @Override
+        final double doubleValue(int index) {
+            return values[index];
+        }
+
+        @Override
+        final void grow(int capacity) {
+            values = Arrays.copyOf(values, capacity);
+        }
+    }
+
+    private static final class LongColumn extends Column {
+
+        /**
+         * Generated UID
+         */
+        private static final long serialVersionUID = 6779453215447009163L;
+        private final BitSet      nulls;
+        private long[]            values;
+
+        LongColumn(int capacity) {
+            this.nulls = new BitSet();
+            this.values = new long[capacity];
+        }
+
+        @Override
+        final boolean set(int index, Object value) {
+            if (value == null)
+                nulls.set(index);
+            else if (value instanceof Long)
+                values[index] = (Long) value;
+            else
+                return false;
+
+            return true;
+        }
+
+        @Override
+        final Object get(int index) {
+            return nulls.get(index) ? null : values[index];
+        }
+
+        @Override
+        final boolean isNull(int index) {
+            return nulls.get(index);
+        }
+
+        @Override
+        final int intValue(int index) {
+            return (int) values[index];
+        }
+
+        @Override
+        final long longValue(int index) {
+            return values[index];
+        }
+
+        @Override
+        final double doubleValue(int index) {
+            return values[index];
+        }
+
+        @Override
+        final void grow(int capacity) {
+            values = Arrays.copyOf(values, capacity);
+        }
+    }
+
+    private static final class DoubleColumn extends Column {
+
+        /**
+         * Generated UID
+         */
+        private static final long serialVersionUID = -2117658713361307853L;
+        private final Class<?>    type;
+        private final BitSet      nulls;
+        private double[]          values;
+
+        DoubleColumn(Class<?> type, int capacity) {
+            this.type = type;
+            this.nulls = new BitSet();
+            this.values = new double[capacity];
+        }
+
+        @Override
+        final boolean set(int index, Object value) {
+            if (value == null)
+                nulls.set(index);
+            else if (value.getClass() == type)
+                values[index] = ((Number) value).doubleValue();
+            else
+                return false;
+
+            return true;
+        }
+
+        @Override
+        final Object get(int index) {
+            if (nulls.get(index))
+                return null;
+            else if (type == Double.class)
+                return values[index];
+            else
+                return (float) values[index];
+        }
+
+        @Override
+        final boolean isNull(int index) {
+            return nulls.get(index);
+        }
+
+        @Override
+        final int intValue(int index) {
+            return (int) values[index];
+        }
+
+        @Override
+        final long longValue(int index) {
+            return (long) values[index];
+        }
+
+        @Override
+        final double doubleValue(int index) {
+            return values[index];
+        }
+
+        @Override
+        final void grow(int capacity) {
+            values = Arrays.copyOf(values, capacity);
+        }
+    }
+
+    private static final class BooleanColumn extends Column {
+
+        /**
+         * Generated UID
+         */
+        private static final long serialVersionUID = 1460093925396651637L;
+        private final BitSet      nulls  = new BitSet();
+        private final BitSet      values = new BitSet();
+
+        @Override
+        final boolean set(int index, Object value) {
+            if (value == null)
+                nulls.set(index);
+            else if (value instanceof Boolean)
+                values.set(index, (Boolean) value);
+            else
+                return false;
+
+            return true;
+        }
+
+        @Override
+        final Object get(int index) {
+            return nulls.get(index) ? null : values.get(index);
+        }
+
+        @Override
+        final void grow(int capacity) {}
+    }
+
+    private static final class ObjectColumn extends Column {
+
+        /**
+         * Generated UID
+         */
+        private static final long serialVersionUID = -6651587530962355342L;
+        private Object[]          values;
+
+        ObjectColumn(int capacity) {
+            this.values = new Object[capacity];
+        }
+
+        @Override
+        final boolean set(int index, Object value) {
+            values[index] = value;
+            return true;
+        }
+
+        @Override
+        final Object get(int index) {
+            return values[index];
+        }
+
+        @Override
+        final void grow(int capacity) {
+            values = Arrays.copyOf(values, capacity);
+        }
+    }
+}
@@ -0,0 +1,173 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Other licenses:
+ * -----------------------------------------------------------------------------
+ * Commercial licenses for this work are available. These replace the above
+ * ASL 2.0 and offer limited warranties, support, maintenance, and commercial
+ * database integrations.
+ *
+ * For more information, please visit: http://www.jooq.org/licenses
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ */
+package org.jooq.impl;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+import org.jooq.Configuration;
+import org.jooq.impl.Tools.DataCacheKey;
+
+/**
+ * A concurrent cache that can be stored in {@link Configuration#data()}, and
+ * that is optionally bounded.
+ * <p>
+ * Lookups and population are lock free. A bounded cache evicts entries using
+ * the CLOCK algorithm, an approximation of LRU: each entry carries a
+ * <code>referenced</code> flag, which is set on every hit. When the cache
+ * exceeds its maximum size, entries are polled from a FIFO queue, and entries
+ * that have been referenced since they were last inspected are given a
+ * second chance, rather than being evicted. Unlike an access ordered
+ * {@link java.util.LinkedHashMap}, this doesn't require a lock on hits.
+ * <p>
+ * The maximum size is a soft limit. Concurrent additions may exceed it
+ * briefly.
+ *
+ * @author Lukas Eder
+ */
+final class ConcurrentCache<K, V> {
+
+    private final DataCacheKey                          type;
+    private final int                                   maxSize;
+    private final ConcurrentHashMap<K, Entry<V>>        map;
+    private final ConcurrentLinkedQueue<K>              queue;
+
+    /**
+     * Create a new cache.
+     *
+     * @param type The cache type, for reporting to {@link CacheListeners}.
+     * @param maxSize The maximum size, or <code>0</code> if the cache should
+     *            be unbounded.
+     */
+    ConcurrentCache(DataCacheKey type, int maxSize) {
+        this.type = type;
+        this.maxSize = maxSize;
+        this.map = new ConcurrentHashMap<>();
+        this.queue = maxSize > 0 ? new ConcurrentLinkedQueue<>() : null;
+    }
+
+    /**
+     * Look up a value, or return <code>null</code> if there is no value for
+     * the argument key.
+     */
+    final V get(K key) {
+        Entry<V> entry = map.get(key);
+
+        if (entry == null)
+            return null;
+
+        // Avoid the volatile write if possible
+        if (queue != null && !entry.referenced)
+            entry.referenced = true;
+
+        return entry.value;
+    }
+
+    /**
+     * Add a value for a key, unless there is already a value for the key, in
+     * case of which the existing value is returned, and the argument value is
+     * discarded.
+     */
+    final V putIfAbsent(Configuration configuration, K key, V value) {
+        Entry<V> entry = new Entry<>(value);
+        Entry<V> existing = map.putIfAbsent(key, entry);
+
+        if (existing != null)
+            return existing.value;
+
+        if (queue != null) {
+            queue.offer(key);
+
+            if (map.size() > maxSize)
+                evict(configuration);
+        }
+
+        return value;
+    }
+
+    /**
+     * Remove all entries from the cache.
+     */
+    final void clear() {
+        map.clear();
+
+        if (queue != null)
+            queue.clear();
+    }
+
+    final int size() {
+        return map.size();
+    }
+
+    private final void evict(Configuration configuration) {
+
+        // Every key is inspected at most twice, to prevent concurrent hits
+        // from keeping this loop alive
+        int attempts = 2 * (maxSize + 1);
+
+        K key;
+        while (map.size() > maxSize && attempts-- > 0 && (key = queue.poll()) != null) {
+            Entry<V> entry = map.get(key);
+
+            if (entry == null)
+                continue;
+
+            if (entry.referenced && attempts > 0) {
+                entry.referenced = false;
+                queue.offer(key);
+            }
+            else if (map.remove(key, entry)) {
+                CacheListeners.evict(configuration, type, key);
+            }
+        }
+    }
+
+    @Override
+    public String toString() {
+        return type + " (" + map.size() + (maxSize > 0 ? "/" + maxSize : "") + ")";
+    }
+
+    private static final class Entry<V> {
+        final V          value;
+        volatile boolean referenced;
+
+        Entry(V value) {
+            this.value = value;
+        }
+    }
+}
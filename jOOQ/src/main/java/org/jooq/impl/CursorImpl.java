@@ -38,12 +38,15 @@
 package org.jooq.impl;
 
 // ...
+import static org.jooq.impl.DefaultBinding.fast;
 import static org.jooq.impl.Tools.embeddedFields;
 import static org.jooq.impl.Tools.embeddedRecordType;
 import static org.jooq.impl.Tools.recordFactory;
 
 import java.io.InputStream;
+import java.io.OutputStream;
 import java.io.Reader;
+import java.io.Writer;
 import java.math.BigDecimal;
 import java.net.URL;
 import java.sql.Array;
@@ -75,18 +78,24 @@ import java.util.stream.Collector;
 import java.util.stream.Stream;
 import java.util.stream.StreamSupport;
 
+import org.jooq.Binding;
 import org.jooq.BindingGetResultSetContext;
+import org.jooq.CSVFormat;
+import org.jooq.Configuration;
 import org.jooq.Cursor;
 import org.jooq.ExecuteContext;
 import org.jooq.ExecuteListener;
 import org.jooq.Field;
+import org.jooq.JSONFormat;
 // ...
 import org.jooq.Record;
 import org.jooq.RecordHandler;
 import org.jooq.RecordMapper;
 import org.jooq.Result;
+import org.jooq.ResultQuery;
 import org.jooq.Table;
 import org.jooq.exception.ControlFlowSignal;
+import org.jooq.impl.DefaultBinding.FastBinding;
 import org.jooq.tools.JooqLogger;
 import org.jooq.tools.jdbc.JDBC41ResultSet;
 import org.jooq.tools.jdbc.JDBCUtils;
@@ -96,7 +105,13 @@ import org.jooq.tools.jdbc.JDBCUtils;
  */
 final class CursorImpl<R extends Record> extends AbstractCursor<R> implements Cursor<R> {
 
-    private static final JooqLogger                        log = JooqLogger.getLogger(CursorImpl.class);
+    private static final JooqLogger                        log         = JooqLogger.getLogger(CursorImpl.class);
+
+    /**
+     * The number of records after which a writer is flushed when formatting
+     * a cursor.
+     */
+    private static final int                               FLUSH_AFTER = 1000;
 
     final ExecuteContext                                   ctx;
     final ExecuteListener                                  listener;
@@ -105,6 +120,7 @@ final class CursorImpl<R extends Record> extends AbstractCursor<R> implements Cu
     private final boolean                                  keepStatement;
     private final boolean                                  autoclosing;
     private final int                                      maxRows;
+    private final Class<? extends R>                       type;
     private final F0<? extends R>                          factory;
     private boolean                                        isClosed;
 
@@ -130,6 +146,7 @@ final class CursorImpl<R extends Record> extends AbstractCursor<R> implements Cu
 
         this.ctx = ctx;
         this.listener = (listener != null ? listener : ExecuteListeners.getAndStart(ctx));
+        this.type = type;
         this.factory = recordFactory(type, fields);
         this.keepStatement = keepStatement;
         this.keepResultSet = keepResultSet;
@@ -204,6 +221,12 @@ final class CursorImpl<R extends Record> extends AbstractCursor<R> implements Cu
 
 
 
+
+    @Override
+    final void flushPeriodically(Writer writer, int records) throws java.io.IOException {
+        if (records % FLUSH_AFTER == 0)
+            writer.flush();
+    }
 
     @Override
     public final Iterator<R> iterator() {
@@ -357,6 +380,119 @@ final class CursorImpl<R extends Record> extends AbstractCursor<R> implements Cu
         return result;
     }
 
+    /**
+     * Fetch all remaining records into a read-only {@link Result} that stores
+     * its values column by column.
+     *
+     * @see ResultQuery#fetchColumnar()
+     */
+    final Result<R> fetchColumnar() {
+        boolean direct = iterator == null && exportable();
+
+        // [#1157] This invokes listener.fetchStart(ctx), which has to be called
+        // Before listener.resultStart(ctx)
+        if (direct)
+            listener.fetchStart(ctx);
+        else
+            iterator();
+
+        Configuration c = ((DefaultExecuteContext) ctx).originalConfiguration();
+        ColumnarRecords<R> records = new ColumnarRecords<>(fields.fields, type, c);
+        ResultImpl<R> result = new ResultImpl<>(c, fields, records);
+
+        ctx.result(result);
+        listener.resultStart(ctx);
+
+        // Values are read from the ResultSet directly into the column storage,
+        // unless nested records have to be created
+        if (direct) {
+            int[] kinds = kinds();
+
+            while (nextRow())
+                readColumnar(records, kinds);
+        }
+        else {
+            while (iterator().hasNext())
+                records.append(iterator().next());
+        }
+
+        records.trim();
+
+        ctx.result(result);
+        listener.resultEnd(ctx);
+
+        return result;
+    }
+
+    private final void readColumnar(ColumnarRecords<R> records, int[] kinds) {
+        int i = 0;
+
+        try {
+            records.startRow();
+
+            for (; i < kinds.length; i++) {
+                switch (kinds[i]) {
+                    case INT: {
+                        int v = rs.getInt(i + 1);
+
+                        if (v == 0 && rs.wasNull())
+                            records.setValue(i, null);
+                        else
+                            records.setInt(i, v);
+
+                        break;
+                    }
+
+                    case LONG: {
+                        long v = rs.getLong(i + 1);
+
+                        if (v == 0L && rs.wasNull())
+                            records.setValue(i, null);
+                        else
+                            records.setLong(i, v);
+
+                        break;
+                    }
+
+                    case DOUBLE: {
+                        double v = rs.getDouble(i + 1);
+
+                        if (v == 0.0 && rs.wasNull())
+                            records.setValue(i, null);
+                        else
+                            records.setDouble(i, v);
+
+                        break;
+                    }
+
+                    default: {
+                        Object v = value(i);
+
+                        if (intern != null && intern[i] && v instanceof String)
+                            v = ((String) v).intern();
+
+                        records.setValue(i, v);
+                        break;
+                    }
+                }
+            }
+
+            records.endRow();
+        }
+
+        // [#3427] ControlFlowSignals must not be passed on to ExecuteListners
+        catch (ControlFlowSignal e) {
+            throw e;
+        }
+        catch (Exception e) {
+
+            // [#5901] Improved error logging, mostly useful when there are some data type conversion errors
+            ctx.sqlException(new SQLException("Error while reading field: " + fields.fields[i] + ", at JDBC index: " + (i + 1), e));
+            listener.exception(ctx);
+            throw ctx.exception();
+        }
+    }
+
     @Override
     public final <H extends RecordHandler<? super R>> H fetchNextInto(H handler) {
         handler.next(fetchNext());
@@ -404,6 +540,258 @@ final class CursorImpl<R extends Record> extends AbstractCursor<R> implements Cu
         return fetch().into(table);
     }
 
+    // -------------------------------------------------------------------------
+    // Direct export
+    // -------------------------------------------------------------------------
+
+    /**
+     * Whether this cursor's values can be exported directly from the
+     * {@link ResultSet}, which isn't the case for nested records.
+     */
+    final boolean exportable() {
+        for (Field<?> field : fields.fields)
+            if (field instanceof RowField || field.getDataType().isEmbeddable())
+                return false;
+
+        return true;
+    }
+
+    /**
+     * Write this cursor's remaining rows as <code>UTF-8</code> encoded CSV to
+     * an {@link OutputStream}, reading values directly from the
+     * {@link ResultSet} without creating any {@link Record} instances.
+     * <p>
+     * Non-converted <code>INTEGER</code> and <code>BIGINT</code> values are
+     * written without boxing. {@link ExecuteListener#recordStart(ExecuteContext)}
+     * and {@link ExecuteListener#recordEnd(ExecuteContext)} events are not
+     * fired.
+     */
+    final void exportCSV(OutputStream stream, CSVFormat format) {
+        Utf8Writer writer = new Utf8Writer(stream);
+        Exporter exporter = new Exporter(writer);
+
+        try {
+            formatCSVHeader(writer, format);
+
+            while (nextRow()) {
+                for (int i = 0; i < fields.fields.length; i++) {
+                    if (i > 0)
+                        writer.append(format.delimiter());
+
+                    exporter.writeCSV(i, format);
+                }
+
+                writer.append(format.newline());
+                flushPeriodically(writer, rows);
+            }
+
+            writer.flush();
+        }
+        catch (java.io.IOException e) {
+            throw new org.jooq.exception.IOException("Exception while writing CSV", e);
+        }
+    }
+
+    /**
+     * Write this cursor's remaining rows as <code>UTF-8</code> encoded JSON to
+     * an {@link OutputStream}, reading values directly from the
+     * {@link ResultSet} without creating any {@link Record} instances.
+     *
+     * @see #exportCSV(OutputStream, CSVFormat)
+     */
+    final void exportJSON(OutputStream stream, JSONFormat format) {
+        if (format == null)
+            format = JSONFormat.DEFAULT_FOR_RESULTS;
+
+        Utf8Writer writer = new Utf8Writer(stream);
+        Exporter exporter = new Exporter(writer);
+
+        try {
+            String separator = "";
+            int recordLevel = format.header() ? 2 : 1;
+
+            formatJSONStart(writer, format);
+
+            while (nextRow()) {
+                writer.append(separator);
+
+                if (format.format())
+                    writer.append(format.newline());
+
+                switch (format.recordFormat()) {
+                    case ARRAY:
+                        formatJSONArray0(exporter, fields, format, recordLevel, writer);
+                        break;
+                    case OBJECT:
+                        formatJSONMap0(exporter, fields, format, recordLevel, writer);
+                        break;
+                    default:
+                        throw new IllegalArgumentException("Format not supported: " + format);
+                }
+
+                separator = ",";
+                flushPeriodically(writer, rows);
+            }
+
+            formatJSONEnd(writer, format);
+            writer.flush();
+        }
+        catch (java.io.IOException e) {
+            throw new org.jooq.exception.IOException("Exception while writing JSON", e);
+        }
+    }
+
+    private static final int OBJECT = 0;
+    private static final int INT    = 1;
+    private static final int LONG   = 2;
+    private static final int DOUBLE = 3;
+
+    /**
+     * The kinds of values that can be read from the {@link ResultSet} as
+     * primitives, bypassing the binding, for each field.
+     */
+    private final int[] kinds() {
+        int[] result = new int[fields.fields.length];
+
+        for (int i = 0; i < result.length; i++) {
+            Binding<?, ?> binding = fields.fields[i].getBinding();
+
+            if (fast(binding) != null)
+                result[i] = binding instanceof DefaultBinding.DefaultIntegerBinding
+                          ? INT
+                          : binding instanceof DefaultBinding.DefaultLongBinding
+                          ? LONG
+                          : binding instanceof DefaultBinding.DefaultDoubleBinding
+                          ? DOUBLE
+                          : OBJECT;
+        }
+
+        return result;
+    }
+
+    /**
+     * Move the {@link ResultSet} to the next row without creating a record.
+     */
+    private final boolean nextRow() {
+        try {
+
+            // Some databases (e.g. Redshift) do not implement JDBC's maxRows.
+            if (!isClosed && (maxRows <= 0 || rows < maxRows) && rs.next()) {
+                rows++;
+                return true;
+            }
+
+            if (autoclosing)
+                close();
+
+            return false;
+        }
+
+        // [#3427] ControlFlowSignals must not be passed on to ExecuteListners
+        catch (ControlFlowSignal e) {
+            throw e;
+        }
+        catch (RuntimeException e) {
+            ctx.exception(e);
+            listener.exception(ctx);
+            throw ctx.exception();
+        }
+        catch (SQLException e) {
+            ctx.sqlException(e);
+            listener.exception(ctx);
+            throw ctx.exception();
+        }
+    }
+
+    /**
+     * Read a value of the current row through its binding.
+     */
+    @SuppressWarnings("unchecked")
+    private final Object value(int index) throws SQLException {
+        Binding<?, ?> binding = fields.fields[index].getBinding();
+        FastBinding<?> fast = fast(binding);
+
+        if (fast != null)
+            return fast.get(rs, index + 1);
+
+        rsContext.index(index + 1);
+        ((Binding<?, Object>) binding).get((BindingGetResultSetContext<Object>) rsContext);
+        return rsContext.value();
+    }
+
+    /**
+     * Reads values of the current row directly from the {@link ResultSet}.
+     */
+    private final class Exporter implements JSONValueWriter {
+
+        private final Utf8Writer  writer;
+        private final int[]       kinds;
+        private boolean           wasNull;
+
+        Exporter(Utf8Writer writer) {
+            this.writer = writer;
+            this.kinds = kinds();
+
+            listener.fetchStart(ctx);
+        }
+
+        /**
+         * Read a primitive value, setting {@link #wasNull} if it is
+         * <code>NULL</code>.
+         */
+        private final long primitive(int index) throws SQLException {
+            long l = kinds[index] == INT ? rs.getInt(index + 1) : rs.getLong(index + 1);
+            wasNull = l == 0L && rs.wasNull();
+            return l;
+        }
+
+        final void writeCSV(int index, CSVFormat format) throws java.io.IOException {
+            try {
+                if (kinds[index] == INT || kinds[index] == LONG) {
+                    long l = primitive(index);
+
+                    if (wasNull) {
+                        writer.append(format.nullString());
+                    }
+                    else if (format.quote() == CSVFormat.Quote.ALWAYS) {
+                        writer.append(format.quoteString());
+                        writer.writeLong(l);
+                        writer.append(format.quoteString());
+                    }
+                    else {
+                        writer.writeLong(l);
+                    }
+                }
+                else
+                    writer.append(formatCSV0(value(index), format));
+            }
+            catch (SQLException e) {
+                throw Tools.translate(ctx.sql(), e);
+            }
+        }
+
+        @Override
+        public final void write(int index, Writer w, JSONFormat format) throws java.io.IOException {
+            try {
+                if (kinds[index] == INT || kinds[index] == LONG) {
+                    long l = primitive(index);
+
+                    if (wasNull)
+                        w.append("null");
+                    else if (w instanceof Utf8Writer)
+                        ((Utf8Writer) w).writeLong(l);
+                    else
+                        w.append(Long.toString(l));
+                }
+                else
+                    formatJSON0(value(index), w, format);
+            }
+            catch (SQLException e) {
+                throw Tools.translate(ctx.sql(), e);
+            }
+        }
+    }
+
     @Override
     public final void close() {
         JDBCUtils.safeClose(rs);
@@ -1711,13 +2099,22 @@ final class CursorImpl<R extends Record> extends AbstractCursor<R> implements Cu
                         offset += nested.length - 1;
                     }
                     else {
-                        rsContext.index(offset + index + 1);
-                        field.getBinding().get((BindingGetResultSetContext<T>) rsContext);
-                        value = (T) rsContext.value();
+                        Binding<?, T> binding = field.getBinding();
+                        FastBinding<T> fast = fast(binding);
+
+                        // Non-converted INTEGER, BIGINT, DOUBLE columns can be read
+                        // without going through the binding context and converter
+                        if (fast != null) {
+                            value = fast.get(rs, offset + index + 1);
+                        }
+                        else {
+                            rsContext.index(offset + index + 1);
+                            binding.get((BindingGetResultSetContext<T>) rsContext);
+                            value = (T) rsContext.value();
+                        }
                     }
 
-                    record.values[index] = value;
-                    record.originals[index] = value;
+                    record.init(index, value);
                 }
 
                 // [#5901] Improved error logging, mostly useful when there are some data type conversion errors
@@ -37,12 +37,16 @@
  */
 package org.jooq.impl;
 
+import static org.jooq.impl.DefaultBinding.fast;
+
 import java.sql.PreparedStatement;
 import java.sql.SQLException;
 
 import org.jooq.BindContext;
+import org.jooq.Binding;
 import org.jooq.Configuration;
 import org.jooq.Field;
+import org.jooq.impl.DefaultBinding.FastBinding;
 
 /**
  * @author Lukas Eder
@@ -59,9 +63,13 @@ final class DefaultBindContext extends AbstractBindContext {
         int nextIndex = nextIndex();
 
         try {
-            ((Field<Object>) field).getBinding().set(
-                new DefaultBindingSetStatementContext<>(configuration(), data(), stmt, nextIndex, value)
-            );
+            Binding<?, Object> binding = ((Field<Object>) field).getBinding();
+            FastBinding<Object> fast = fast(binding);
+
+            // Non-converted INTEGER, BIGINT, DOUBLE values can be bound without
+            // going through the binding context and converter
+            if (fast == null || !fast.set(stmt, nextIndex, value))
+                binding.set(new DefaultBindingSetStatementContext<>(configuration(), data(), stmt, nextIndex, value));
         }
         catch (Exception e) {
             throw new SQLException("Error while writing value at JDBC bind index: " + nextIndex ,e);
@@ -552,6 +552,43 @@ public class DefaultBinding<T, U> implements Binding<T, U> {
     // Type-specific subclasses API
     // -----------------------------------------------------------------------------------------------------------------
 
+    /**
+     * A binding that can read and write values directly from and to JDBC,
+     * bypassing the {@link Scope} and {@link Converter} infrastructure.
+     * <p>
+     * This is implemented only by bindings of types that JDBC supports
+     * natively. The fast path is only used through {@link #fast(Binding)},
+     * i.e. when the binding's converter is an {@link IdentityConverter}.
+     */
+    interface FastBinding<U> {
+
+        /**
+         * Read a value directly from a {@link ResultSet}.
+         */
+        U get(ResultSet rs, int index) throws SQLException;
+
+        /**
+         * Bind a value directly to a {@link PreparedStatement}.
+         * <p>
+         * Returns <code>false</code> if the value could not be bound using the
+         * fast path, e.g. because it is <code>null</code>, or because bind
+         * values are being logged, in case of which callers should fall back
+         * to {@link Binding#set(BindingSetStatementContext)}.
+         */
+        boolean set(PreparedStatement stmt, int index, Object value) throws SQLException;
+    }
+
+    /**
+     * The fast path of a binding, or <code>null</code> if values need to be
+     * read and written through the regular binding contexts.
+     */
+    @SuppressWarnings("unchecked")
+    static final <U> FastBinding<U> fast(Binding<?, U> binding) {
+        return binding instanceof FastBinding && ((AbstractBinding<?, U>) binding).identity
+             ? (FastBinding<U>) binding
+             : null;
+    }
+
     abstract static class AbstractBinding<T, U> implements Binding<T, U> {
 
         /**
@@ -569,10 +606,12 @@ public class DefaultBinding<T, U> implements Binding<T, U> {
 
         final DataType<T>                dataType;
         final Converter<T, U>            converter;
+        final boolean                    identity;
 
         AbstractBinding(DataType<T> dataType, Converter<T, U> converter) {
             this.dataType = dataType;
             this.converter = converter;
+            this.identity = converter instanceof IdentityConverter;
         }
 
         @Override
@@ -2269,7 +2308,7 @@ public class DefaultBinding<T, U> implements Binding<T, U> {
         }
     }
 
-    static final class DefaultDoubleBinding<U> extends AbstractBinding<Double, U> {
+    static final class DefaultDoubleBinding<U> extends AbstractBinding<Double, U> implements FastBinding<U> {
 
         /**
          * Generated UID
@@ -2281,6 +2320,24 @@ public class DefaultBinding<T, U> implements Binding<T, U> {
             super(dataType, converter);
         }
 
+        @SuppressWarnings("unchecked")
+        @Override
+        public final U get(ResultSet rs, int index) throws SQLException {
+            double d = rs.getDouble(index);
+
+            // getDouble() returns 0 for NULL, so wasNull() is only needed then
+            return (U) (d == 0.0 && rs.wasNull() ? null : Double.valueOf(d));
+        }
+
+        @Override
+        public final boolean set(PreparedStatement stmt, int index, Object value) throws SQLException {
+            if (!(value instanceof Double) || log.isTraceEnabled())
+                return false;
+
+            stmt.setDouble(index, (Double) value);
+            return true;
+        }
+
         @Override
         final void sqlInline0(BindingSQLContext<U> ctx, Double value) {
 
@@ -2512,7 +2569,7 @@ public class DefaultBinding<T, U> implements Binding<T, U> {
         }
     }
 
-    static final class DefaultIntegerBinding<U> extends AbstractBinding<Integer, U> {
+    static final class DefaultIntegerBinding<U> extends AbstractBinding<Integer, U> implements FastBinding<U> {
 
         /**
          * Generated UID
@@ -2523,6 +2580,24 @@ public class DefaultBinding<T, U> implements Binding<T, U> {
             super(dataType, converter);
         }
 
+        @SuppressWarnings("unchecked")
+        @Override
+        public final U get(ResultSet rs, int index) throws SQLException {
+            int i = rs.getInt(index);
+
+            // getInt() returns 0 for NULL, so wasNull() is only needed then
+            return (U) (i == 0 && rs.wasNull() ? null : Integer.valueOf(i));
+        }
+
+        @Override
+        public final boolean set(PreparedStatement stmt, int index, Object value) throws SQLException {
+            if (!(value instanceof Integer) || log.isTraceEnabled())
+                return false;
+
+            stmt.setInt(index, (Integer) value);
+            return true;
+        }
+
         @Override
         final void sqlInline0(BindingSQLContext<U> ctx, Integer value) {
             ctx.render().sql(value);
@@ -2559,7 +2634,7 @@ public class DefaultBinding<T, U> implements Binding<T, U> {
         }
     }
 
-    static final class DefaultLongBinding<U> extends AbstractBinding<Long, U> {
+    static final class DefaultLongBinding<U> extends AbstractBinding<Long, U> implements FastBinding<U> {
 
         /**
          * Generated UID
@@ -2570,6 +2645,24 @@ public class DefaultBinding<T, U> implements Binding<T, U> {
             super(dataType, converter);
         }
 
+        @SuppressWarnings("unchecked")
+        @Override
+        public final U get(ResultSet rs, int index) throws SQLException {
+            long l = rs.getLong(index);
+
+            // getLong() returns 0 for NULL, so wasNull() is only needed then
+            return (U) (l == 0L && rs.wasNull() ? null : Long.valueOf(l));
+        }
+
+        @Override
+        public final boolean set(PreparedStatement stmt, int index, Object value) throws SQLException {
+            if (!(value instanceof Long) || log.isTraceEnabled())
+                return false;
+
+            stmt.setLong(index, (Long) value);
+            return true;
+        }
+
         @Override
         final void sqlInline0(BindingSQLContext<U> ctx, Long value) {
             ctx.render().sql(value);
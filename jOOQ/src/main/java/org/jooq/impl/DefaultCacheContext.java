@@ -0,0 +1,74 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Other licenses:
+ * -----------------------------------------------------------------------------
+ * Commercial licenses for this work are available. These replace the above
+ * ASL 2.0 and offer limited warranties, support, maintenance, and commercial
+ * database integrations.
+ *
+ * For more information, please visit: http://www.jooq.org/licenses
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ */
+package org.jooq.impl;
+
+import org.jooq.CacheContext;
+import org.jooq.CacheType;
+import org.jooq.Configuration;
+import org.jooq.impl.Tools.DataCacheKey;
+
+/**
+ * @author Lukas Eder
+ */
+final class DefaultCacheContext extends AbstractScope implements CacheContext {
+
+    private final DataCacheKey type;
+    private final Object       key;
+
+    DefaultCacheContext(Configuration configuration, DataCacheKey type, Object key) {
+        super(configuration);
+
+        this.type = type;
+        this.key = key;
+    }
+
+    @Override
+    public final CacheType cacheType() {
+        return type.cacheType;
+    }
+
+    @Override
+    public final Object key() {
+        return key;
+    }
+
+    @Override
+    public String toString() {
+        return type.cacheType + ": " + key;
+    }
+}
@@ -53,6 +53,8 @@ import java.util.concurrent.Executor;
 
 import javax.sql.DataSource;
 
+import org.jooq.CacheListener;
+import org.jooq.CacheListenerProvider;
 import org.jooq.CharsetProvider;
 import org.jooq.CommitProvider;
 import org.jooq.Configuration;
@@ -128,6 +130,7 @@ public class DefaultConfiguration implements Configuration {
     private transient VisitListenerProvider[]           visitListenerProviders;
     private transient TransactionListenerProvider[]     transactionListenerProviders;
     private transient DiagnosticsListenerProvider[]     diagnosticsListenerProviders;
+    private transient CacheListenerProvider[]           cacheListenerProviders;
     private transient UnwrapperProvider                 unwrapperProvider;
     private transient CharsetProvider                   charsetProvider;
     private transient ConverterProvider                 converterProvider;
@@ -185,6 +188,7 @@ public class DefaultConfiguration implements Configuration {
             null,
             null,
             null,
+            null,
 
             null,
 
@@ -219,6 +223,7 @@ public class DefaultConfiguration implements Configuration {
             configuration.visitListenerProviders,
             configuration.transactionListenerProviders,
             configuration.diagnosticsListenerProviders,
+            configuration.cacheListenerProviders,
             configuration.unwrapperProvider,
             configuration.charsetProvider,
             configuration.converterProvider,
@@ -255,6 +260,7 @@ public class DefaultConfiguration implements Configuration {
         VisitListenerProvider[] visitListenerProviders,
         TransactionListenerProvider[] transactionListenerProviders,
         DiagnosticsListenerProvider[] diagnosticsListenerProviders,
+        CacheListenerProvider[] cacheListenerProviders,
         UnwrapperProvider unwrapperProvider,
         CharsetProvider charsetProvider,
         ConverterProvider converterProvider,
@@ -280,6 +286,7 @@ public class DefaultConfiguration implements Configuration {
         set(visitListenerProviders);
         set(transactionListenerProviders);
         set(diagnosticsListenerProviders);
+        set(cacheListenerProviders);
         set(unwrapperProvider);
         set(charsetProvider);
         set(converterProvider);
@@ -340,6 +347,7 @@ public class DefaultConfiguration implements Configuration {
             visitListenerProviders,
             transactionListenerProviders,
             diagnosticsListenerProviders,
+            cacheListenerProviders,
             unwrapperProvider,
             charsetProvider,
             converterProvider,
@@ -370,6 +378,7 @@ public class DefaultConfiguration implements Configuration {
             visitListenerProviders,
             transactionListenerProviders,
             diagnosticsListenerProviders,
+            cacheListenerProviders,
             unwrapperProvider,
             charsetProvider,
             converterProvider,
@@ -400,6 +409,7 @@ public class DefaultConfiguration implements Configuration {
             visitListenerProviders,
             transactionListenerProviders,
             diagnosticsListenerProviders,
+            cacheListenerProviders,
             unwrapperProvider,
             charsetProvider,
             converterProvider,
@@ -435,6 +445,7 @@ public class DefaultConfiguration implements Configuration {
             visitListenerProviders,
             transactionListenerProviders,
             diagnosticsListenerProviders,
+            cacheListenerProviders,
             unwrapperProvider,
             charsetProvider,
             converterProvider,
@@ -465,6 +476,7 @@ public class DefaultConfiguration implements Configuration {
             visitListenerProviders,
             transactionListenerProviders,
             diagnosticsListenerProviders,
+            cacheListenerProviders,
             unwrapperProvider,
             charsetProvider,
             converterProvider,
@@ -500,6 +512,7 @@ public class DefaultConfiguration implements Configuration {
             visitListenerProviders,
             transactionListenerProviders,
             diagnosticsListenerProviders,
+            cacheListenerProviders,
             unwrapperProvider,
             charsetProvider,
             converterProvider,
@@ -535,6 +548,7 @@ public class DefaultConfiguration implements Configuration {
             visitListenerProviders,
             transactionListenerProviders,
             diagnosticsListenerProviders,
+            cacheListenerProviders,
             unwrapperProvider,
             charsetProvider,
             converterProvider,
@@ -570,6 +584,7 @@ public class DefaultConfiguration implements Configuration {
             visitListenerProviders,
             transactionListenerProviders,
             diagnosticsListenerProviders,
+            cacheListenerProviders,
             unwrapperProvider,
             charsetProvider,
             converterProvider,
@@ -605,6 +620,7 @@ public class DefaultConfiguration implements Configuration {
             visitListenerProviders,
             transactionListenerProviders,
             diagnosticsListenerProviders,
+            cacheListenerProviders,
             unwrapperProvider,
             charsetProvider,
             converterProvider,
@@ -640,6 +656,7 @@ public class DefaultConfiguration implements Configuration {
             visitListenerProviders,
             transactionListenerProviders,
             diagnosticsListenerProviders,
+            cacheListenerProviders,
             unwrapperProvider,
             charsetProvider,
             converterProvider,
@@ -675,6 +692,7 @@ public class DefaultConfiguration implements Configuration {
             newVisitListenerProviders,
             transactionListenerProviders,
             diagnosticsListenerProviders,
+            cacheListenerProviders,
             unwrapperProvider,
             charsetProvider,
             converterProvider,
@@ -710,6 +728,7 @@ public class DefaultConfiguration implements Configuration {
             visitListenerProviders,
             newTransactionListenerProviders,
             diagnosticsListenerProviders,
+            cacheListenerProviders,
             unwrapperProvider,
             charsetProvider,
             converterProvider,
@@ -745,6 +764,43 @@ public class DefaultConfiguration implements Configuration {
             visitListenerProviders,
             transactionListenerProviders,
             newDiagnosticsListenerProviders,
+            cacheListenerProviders,
+            unwrapperProvider,
+            charsetProvider,
+            converterProvider,
+
+            clock,
+
+            dialect,
+            settings,
+            data
+        );
+    }
+
+    @Override
+    public final Configuration derive(CacheListener... newCacheListeners) {
+        return derive(DefaultCacheListenerProvider.providers(newCacheListeners));
+    }
+
+    @Override
+    public final Configuration derive(CacheListenerProvider... newCacheListenerProviders) {
+        return new DefaultConfiguration(
+            connectionProvider,
+            interpreterConnectionProvider,
+            systemConnectionProvider,
+            metaProvider,
+            commitProvider,
+            executorProvider,
+            transactionProvider,
+            recordMapperProvider,
+            recordUnmapperProvider,
+            recordListenerProviders,
+            executeListenerProviders,
+            migrationListenerProviders,
+            visitListenerProviders,
+            transactionListenerProviders,
+            diagnosticsListenerProviders,
+            newCacheListenerProviders,
             unwrapperProvider,
             charsetProvider,
             converterProvider,
@@ -780,6 +836,7 @@ public class DefaultConfiguration implements Configuration {
             visitListenerProviders,
             transactionListenerProviders,
             diagnosticsListenerProviders,
+            cacheListenerProviders,
             newUnwrapperProvider,
             charsetProvider,
             converterProvider,
@@ -810,6 +867,7 @@ public class DefaultConfiguration implements Configuration {
             visitListenerProviders,
             transactionListenerProviders,
             diagnosticsListenerProviders,
+            cacheListenerProviders,
             unwrapperProvider,
             newCharsetProvider,
             converterProvider,
@@ -840,6 +898,7 @@ public class DefaultConfiguration implements Configuration {
             visitListenerProviders,
             transactionListenerProviders,
             diagnosticsListenerProviders,
+            cacheListenerProviders,
             unwrapperProvider,
             charsetProvider,
             newConverterProvider,
@@ -871,6 +930,7 @@ public class DefaultConfiguration implements Configuration {
             visitListenerProviders,
             transactionListenerProviders,
             diagnosticsListenerProviders,
+            cacheListenerProviders,
             unwrapperProvider,
             charsetProvider,
             converterProvider,
@@ -900,6 +960,7 @@ public class DefaultConfiguration implements Configuration {
             visitListenerProviders,
             transactionListenerProviders,
             diagnosticsListenerProviders,
+            cacheListenerProviders,
             unwrapperProvider,
             charsetProvider,
             converterProvider,
@@ -930,6 +991,7 @@ public class DefaultConfiguration implements Configuration {
             visitListenerProviders,
             transactionListenerProviders,
             diagnosticsListenerProviders,
+            cacheListenerProviders,
             unwrapperProvider,
             charsetProvider,
             converterProvider,
@@ -1118,6 +1180,20 @@ public class DefaultConfiguration implements Configuration {
         return this;
     }
 
+    @Override
+    public final Configuration set(CacheListener... newCacheListeners) {
+        return set(DefaultCacheListenerProvider.providers(newCacheListeners));
+    }
+
+    @Override
+    public final Configuration set(CacheListenerProvider... newCacheListenerProviders) {
+        this.cacheListenerProviders = newCacheListenerProviders != null
+            ? newCacheListenerProviders
+            : new CacheListenerProvider[0];
+
+        return this;
+    }
+
     @Override
     public final Configuration set(Unwrapper newUnwrapper) {
         return newUnwrapper != null
@@ -1347,6 +1423,20 @@ public class DefaultConfiguration implements Configuration {
         set(newDiagnosticsListenerProviders);
     }
 
+    /**
+     * @see #set(CacheListener[])
+     */
+    public final void setCacheListener(CacheListener... newCacheListener) {
+        set(newCacheListener);
+    }
+
+    /**
+     * @see #set(CacheListenerProvider[])
+     */
+    public final void setCacheListenerProvider(CacheListenerProvider... newCacheListenerProviders) {
+        set(newCacheListenerProviders);
+    }
+
     /**
      * @see #set(Unwrapper)
      */
@@ -1501,6 +1591,11 @@ public class DefaultConfiguration implements Configuration {
         return diagnosticsListenerProviders;
     }
 
+    @Override
+    public final CacheListenerProvider[] cacheListenerProviders() {
+        return cacheListenerProviders;
+    }
+
     @Override
     public final UnwrapperProvider unwrapperProvider() {
         return unwrapperProvider != null
@@ -1614,6 +1709,7 @@ public class DefaultConfiguration implements Configuration {
         oos.writeObject(cloneSerializables(visitListenerProviders));
         oos.writeObject(cloneSerializables(transactionListenerProviders));
         oos.writeObject(cloneSerializables(diagnosticsListenerProviders));
+        oos.writeObject(cloneSerializables(cacheListenerProviders));
 
         oos.writeObject(unwrapperProvider instanceof Serializable
             ? unwrapperProvider
@@ -1670,6 +1766,7 @@ public class DefaultConfiguration implements Configuration {
         visitListenerProviders = (VisitListenerProvider[]) ois.readObject();
         transactionListenerProviders = (TransactionListenerProvider[]) ois.readObject();
         diagnosticsListenerProviders = (DiagnosticsListenerProvider[]) ois.readObject();
+        cacheListenerProviders = (CacheListenerProvider[]) ois.readObject();
         unwrapperProvider = (UnwrapperProvider) ois.readObject();
         charsetProvider = (CharsetProvider) ois.readObject();
         converterProvider = (ConverterProvider) ois.readObject();
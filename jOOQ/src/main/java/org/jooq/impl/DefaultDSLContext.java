@@ -1570,10 +1570,8 @@ public class DefaultDSLContext extends AbstractScope implements DSLContext, Seri
                 for (String[] values : strings.subList(firstRowIndex, strings.size())) {
                     RecordImplN record = new RecordImplN(fields);
 
-                    for (int i = 0; i < Math.min(values.length, fields.length); i++) {
-                        record.values[i] = values[i];
-                        record.originals[i] = values[i];
-                    }
+                    for (int i = 0; i < Math.min(values.length, fields.length); i++)
+                        record.init(i, values[i]);
 
                     result.add(record);
                 }
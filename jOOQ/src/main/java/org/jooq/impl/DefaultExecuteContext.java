@@ -667,7 +667,7 @@ class DefaultExecuteContext implements ExecuteContext {
     }
 
     private final SettingsEnabledConnection wrapConnection(ConnectionProvider provider, Connection c) {
-        return new SettingsEnabledConnection(new ProviderEnabledConnection(provider, c), derivedConfiguration.settings());
+        return new SettingsEnabledConnection(new ProviderEnabledConnection(provider, c, originalConfiguration), derivedConfiguration.settings());
     }
 
     final void incrementStatementExecutionCount() {
@@ -41,6 +41,7 @@ import static java.lang.Boolean.FALSE;
 import static java.lang.Boolean.TRUE;
 import static org.jooq.impl.DSL.field;
 import static org.jooq.impl.DSL.name;
+import static org.jooq.impl.Tools.EMPTY_OBJECT;
 import static org.jooq.impl.Tools.getAnnotatedGetter;
 import static org.jooq.impl.Tools.getAnnotatedMembers;
 import static org.jooq.impl.Tools.getAnnotatedSetters;
@@ -52,7 +53,10 @@ import static org.jooq.impl.Tools.hasColumnAnnotations;
 import static org.jooq.tools.reflect.Reflect.accessible;
 
 import java.beans.ConstructorProperties;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
 import java.lang.invoke.MethodHandles.Lookup;
+import java.lang.invoke.MethodType;
 import java.lang.reflect.Array;
 import java.lang.reflect.Constructor;
 import java.lang.reflect.Executable;
@@ -696,15 +700,15 @@ public class DefaultRecordMapper<R extends Record, E> implements RecordMapper<R,
     }
 
     private static final class ConstructorCall<E> implements Callable<E> {
-        private final Constructor<? extends E> constructor;
+        private final MethodHandle constructor;
 
         ConstructorCall(Constructor<? extends E> constructor) {
-            this.constructor = constructor;
+            this.constructor = constructor(constructor);
         }
 
         @Override
         public E call() throws Exception {
-            return constructor.newInstance();
+            return (E) newInstance(constructor, EMPTY_OBJECT);
         }
     }
 
@@ -720,7 +724,12 @@ public class DefaultRecordMapper<R extends Record, E> implements RecordMapper<R,
         private final boolean                                   useAnnotations;
         private final List<java.lang.reflect.Field>[]           members;
         private final List<java.lang.reflect.Method>[]          methods;
+        private final MethodHandle[][]                          memberSetters;
+        private final MethodHandle[][]                          methodSetters;
+        private final Class<?>[][]                              methodTypes;
+        private final Type[][]                                  methodGenericTypes;
         private Map<String, List<RecordMapper<Record, Object>>> nestedMappers;
+        private Map<String, MethodHandle[]>                     nestedSetters;
         private Map<String, List<Field<?>>>                     nestedMappedFields;
         private Map<String, List<Integer>>                      nestedIndexLookup;
         private final E                                         instance;
@@ -779,16 +788,46 @@ public class DefaultRecordMapper<R extends Record, E> implements RecordMapper<R,
                 }
             }
 
+            this.memberSetters = new MethodHandle[fields.length][];
+            this.methodSetters = new MethodHandle[fields.length][];
+            this.methodTypes = new Class[fields.length][];
+            this.methodGenericTypes = new Type[fields.length][];
+
+            for (int i = 0; i < fields.length; i++) {
+                memberSetters[i] = new MethodHandle[members[i].size()];
+                methodSetters[i] = new MethodHandle[methods[i].size()];
+                methodTypes[i] = new Class[methods[i].size()];
+                methodGenericTypes[i] = new Type[methods[i].size()];
+
+                for (int j = 0; j < memberSetters[i].length; j++)
+                    memberSetters[i][j] = setter(members[i].get(j));
+
+                for (int j = 0; j < methodSetters[i].length; j++) {
+                    Method method = methods[i].get(j);
+
+                    methodSetters[i][j] = setter(method);
+                    methodTypes[i][j] = method.getParameterTypes()[0];
+                    methodGenericTypes[i][j] = method.getGenericParameterTypes()[0];
+                }
+            }
+
             if (nestedMappedFields != null) {
+                this.nestedSetters = new HashMap<>();
+
                 for (Entry<String, List<Field<?>>> entry : nestedMappedFields.entrySet()) {
                     String prefix = entry.getKey();
                     List<RecordMapper<Record, Object>> list = new ArrayList<>();
+                    List<MethodHandle> setters = new ArrayList<>();
 
                     for (java.lang.reflect.Field member : getMatchingMembers(configuration, type, prefix, true)) {
                         list.add(configuration
                             .recordMapperProvider()
                             .provide(new Fields<>(entry.getValue()), member.getType())
                         );
+
+                        // [#935] Avoid setting final fields
+                        if ((member.getModifiers() & Modifier.FINAL) == 0)
+                            setters.add(setter(member));
                     }
 
                     for (Method method : getMatchingSetters(configuration, type, prefix, true)) {
@@ -796,9 +835,12 @@ public class DefaultRecordMapper<R extends Record, E> implements RecordMapper<R,
                             .recordMapperProvider()
                             .provide(new Fields<>(entry.getValue()), method.getParameterTypes()[0])
                         );
+
+                        setters.add(setter(method));
                     }
 
                     nestedMappers.put(prefix, list);
+                    nestedSetters.put(prefix, setters.toArray(new MethodHandle[0]));
                 }
             }
         }
@@ -823,22 +865,21 @@ public class DefaultRecordMapper<R extends Record, E> implements RecordMapper<R,
                 E result = instance != null ? instance : constructor.call();
 
                 for (int i = 0; i < fields.length; i++) {
-                    for (java.lang.reflect.Field member : members[i])
+                    for (int j = 0; j < memberSetters[i].length; j++) {
+                        java.lang.reflect.Field member = members[i].get(j);
 
                         // [#935] Avoid setting final fields
                         if ((member.getModifiers() & Modifier.FINAL) == 0)
-                            map(record, result, member, i);
+                            set(memberSetters[i][j], result, value(record, member, i));
+                    }
 
-                    for (java.lang.reflect.Method method : methods[i]) {
-                        Class<?> mType = method.getParameterTypes()[0];
+                    for (int j = 0; j < methodSetters[i].length; j++) {
+                        Class<?> mType = methodTypes[i][j];
                         Object value = record.get(i, mType);
 
                         // [#3082] [#10910] Try mapping nested collection types
-                        Object list = tryConvertToList(value, mType, method.getGenericParameterTypes()[0]);
-                        if (list != null)
-                            method.invoke(result, list);
-                        else
-                            method.invoke(result, record.get(i, mType));
+                        Object list = tryConvertToList(value, mType, methodGenericTypes[i][j]);
+                        set(methodSetters[i][j], result, list != null ? list : value);
                     }
                 }
 
@@ -855,15 +896,8 @@ public class DefaultRecordMapper<R extends Record, E> implements RecordMapper<R,
 
                             Object value = mapper.map(rec);
 
-                            for (java.lang.reflect.Field member : getMatchingMembers(configuration, type, prefix, true)) {
-
-                                // [#935] Avoid setting final fields
-                                if ((member.getModifiers() & Modifier.FINAL) == 0)
-                                    map(value, result, member);
-                            }
-
-                            for (Method method : getMatchingSetters(configuration, type, prefix, true))
-                                method.invoke(result, value);
+                            for (MethodHandle setter : nestedSetters.get(prefix))
+                                set(setter, result, value);
                         }
                     }
                 }
@@ -875,39 +909,17 @@ public class DefaultRecordMapper<R extends Record, E> implements RecordMapper<R,
             }
         }
 
-        @SuppressWarnings("rawtypes")
-        private final void map(Record record, Object result, java.lang.reflect.Field member, int index) throws IllegalAccessException {
+        private final Object value(Record record, java.lang.reflect.Field member, int index) {
             Class<?> mType = member.getType();
 
-            if (mType.isPrimitive()) {
-                if (mType == byte.class)
-                    map(record.get(index, byte.class), result, member);
-                else if (mType == short.class)
-                    map(record.get(index, short.class), result, member);
-                else if (mType == int.class)
-                    map(record.get(index, int.class), result, member);
-                else if (mType == long.class)
-                    map(record.get(index, long.class), result, member);
-                else if (mType == float.class)
-                    map(record.get(index, float.class), result, member);
-                else if (mType == double.class)
-                    map(record.get(index, double.class), result, member);
-                else if (mType == boolean.class)
-                    map(record.get(index, boolean.class), result, member);
-                else if (mType == char.class)
-                    map(record.get(index, char.class), result, member);
-            }
+            if (mType.isPrimitive())
+                return record.get(index, mType);
 
-            else {
-                Object value = record.get(index, mType);
-
-                // [#3082] [#10910] Try mapping nested collection types
-                Object list = tryConvertToList(value, mType, member.getGenericType());
-                if (list != null)
-                    member.set(result, list);
-                else
-                    map(value, result, member);
-            }
+            Object value = record.get(index, mType);
+
+            // [#3082] [#10910] Try mapping nested collection types
+            Object list = tryConvertToList(value, mType, member.getGenericType());
+            return list != null ? list : value;
         }
 
         private final List<?> tryConvertToList(Object value, Class<?> mType, Type genericType) {
@@ -918,32 +930,6 @@ public class DefaultRecordMapper<R extends Record, E> implements RecordMapper<R,
             else
                 return null;
         }
-
-        private final void map(Object value, Object result, java.lang.reflect.Field member) throws IllegalAccessException {
-            Class<?> mType = member.getType();
-
-            if (mType.isPrimitive()) {
-                if (mType == byte.class)
-                    member.setByte(result, (Byte) value);
-                else if (mType == short.class)
-                    member.setShort(result, (Short) value);
-                else if (mType == int.class)
-                    member.setInt(result, (Integer) value);
-                else if (mType == long.class)
-                    member.setLong(result, (Long) value);
-                else if (mType == float.class)
-                    member.setFloat(result, (Float) value);
-                else if (mType == double.class)
-                    member.setDouble(result, (Double) value);
-                else if (mType == boolean.class)
-                    member.setBoolean(result, (Boolean) value);
-                else if (mType == char.class)
-                    member.setChar(result, (Character) value);
-            }
-            else {
-                member.set(result, value);
-            }
-        }
     }
 
     /**
@@ -953,6 +939,7 @@ public class DefaultRecordMapper<R extends Record, E> implements RecordMapper<R,
     private class ImmutablePOJOMapper implements RecordMapper<R, E> {
 
         final Constructor<E>                         constructor;
+        private final MethodHandle                   newInstance;
         final Class<?>[]                             parameterTypes;
         private final boolean                        nested;
         private final int[]                          nonNestedIndexLookup;
@@ -962,6 +949,7 @@ public class DefaultRecordMapper<R extends Record, E> implements RecordMapper<R,
 
         ImmutablePOJOMapper(Constructor<E> constructor, Class<?>[] parameterTypes, boolean supportsNesting) {
             this.constructor = accessible(constructor);
+            this.newInstance = constructor(this.constructor);
             this.parameterTypes = parameterTypes;
             this.nestedMappedFields = new List[prefixes().size()];
             this.nestedMappers = new RecordMapper[prefixes().size()];
@@ -1013,7 +1001,7 @@ public class DefaultRecordMapper<R extends Record, E> implements RecordMapper<R,
         @Override
         public final E map(R record) {
             try {
-                return constructor.newInstance(nested ? mapNested(record) : mapNonnested(record));
+                return (E) newInstance(newInstance, nested ? mapNested(record) : mapNonnested(record));
             }
             catch (Exception e) {
                 throw new MappingException("An error ocurred when mapping record to " + type, e);
@@ -1132,6 +1120,107 @@ public class DefaultRecordMapper<R extends Record, E> implements RecordMapper<R,
         }
     }
 
+    /**
+     * The common type of all {@link MethodHandle} setters.
+     */
+    private static final MethodType   SETTER = MethodType.methodType(void.class, Object.class, Object.class);
+
+    /**
+     * The common type of all {@link MethodHandle} constructors.
+     */
+    private static final MethodType   NEW    = MethodType.methodType(Object.class, Object[].class);
+
+    /**
+     * Reflective fallbacks for {@link MethodHandle}s that cannot be obtained
+     * through {@link Lookup#unreflect(Method)} and similar.
+     */
+    private static final MethodHandle FIELD_SET;
+    private static final MethodHandle METHOD_INVOKE;
+    private static final MethodHandle CONSTRUCTOR_NEW_INSTANCE;
+
+    static {
+        Lookup lookup = MethodHandles.lookup();
+
+        try {
+            FIELD_SET = lookup.findVirtual(java.lang.reflect.Field.class, "set", SETTER);
+            METHOD_INVOKE = lookup.findVirtual(Method.class, "invoke", MethodType.methodType(Object.class, Object.class, Object[].class)).asFixedArity();
+            CONSTRUCTOR_NEW_INSTANCE = lookup.findVirtual(Constructor.class, "newInstance", NEW).asFixedArity();
+        }
+        catch (ReflectiveOperationException e) {
+            throw new ExceptionInInitializerError(e);
+        }
+    }
+
+    /**
+     * Create a setter for a POJO member once per mapper, rather than going
+     * through {@link java.lang.reflect.Field#set(Object, Object)} and its
+     * access checks for every record.
+     */
+    private static final MethodHandle setter(java.lang.reflect.Field member) {
+        try {
+            return MethodHandles.lookup().unreflectSetter(member).asType(SETTER);
+        }
+        catch (IllegalAccessException e) {
+            return FIELD_SET.bindTo(member);
+        }
+    }
+
+    /**
+     * Create a setter for a POJO setter method once per mapper, rather than
+     * going through {@link Method#invoke(Object, Object...)} and its access
+     * checks and argument array allocation for every record.
+     */
+    private static final MethodHandle setter(Method method) {
+        try {
+            return MethodHandles.lookup().unreflect(method).asFixedArity().asType(SETTER);
+        }
+        catch (IllegalAccessException e) {
+            return METHOD_INVOKE.bindTo(method).asCollector(Object[].class, 1).asType(SETTER);
+        }
+    }
+
+    /**
+     * Create a constructor call that accepts its arguments as an
+     * <code>Object[]</code> once per mapper, rather than going through
+     * {@link Constructor#newInstance(Object...)} for every record.
+     */
+    private static final MethodHandle constructor(Constructor<?> constructor) {
+        try {
+            return MethodHandles.lookup()
+                .unreflectConstructor(constructor)
+                .asFixedArity()
+                .asSpreader(Object[].class, constructor.getParameterCount())
+                .asType(NEW);
+        }
+        catch (IllegalAccessException e) {
+            return CONSTRUCTOR_NEW_INSTANCE.bindTo(constructor);
+        }
+    }
+
+    private static final void set(MethodHandle setter, Object target, Object value) throws Exception {
+        try {
+            setter.invokeExact(target, value);
+        }
+        catch (Exception | Error e) {
+            throw e;
+        }
+        catch (Throwable e) {
+            throw new MappingException("An error ocurred when invoking a setter", e);
+        }
+    }
+
+    private static final Object newInstance(MethodHandle constructor, Object[] args) throws Exception {
+        try {
+            return (Object) constructor.invokeExact(args);
+        }
+        catch (Exception | Error e) {
+            throw e;
+        }
+        catch (Throwable e) {
+            throw new MappingException("An error ocurred when invoking a constructor", e);
+        }
+    }
+
     private static <E> E attach(E attachable, Record record) {
         // [#2869] Attach the mapped outcome if it is Attachable and if the context's
         // Settings.attachRecords flag is set
@@ -55,7 +55,7 @@ final class ExistsCondition extends AbstractCondition {
     private static final long     serialVersionUID   = 5678338161136603292L;
     private static final Clause[] CLAUSES_EXISTS     = { CONDITION, CONDITION_EXISTS };
 
-    private final Select<?>       query;
+    final Select<?>               query;
 
     ExistsCondition(Select<?> query) {
         this.query = query;
@@ -136,10 +136,10 @@ final class Expression<T> extends AbstractTransformable<T> {
     private static final Set<SQLDialect> HASH_OP_FOR_BIT_XOR    = SQLDialect.supportedBy(POSTGRES);
     private static final Set<SQLDialect> SUPPORT_YEAR_TO_SECOND = SQLDialect.supportedBy(POSTGRES);
 
-    private final ExpressionOperator     operator;
+    final ExpressionOperator             operator;
     private final boolean                internal;
-    private final Field<T>               lhs;
-    private final Field<?>               rhs;
+    final Field<T>                       lhs;
+    final Field<?>                       rhs;
 
     Expression(ExpressionOperator operator, boolean internal, Field<T> lhs, Field<?> rhs) {
         super(DSL.name(operator.toSQL()), lhs.getDataType());
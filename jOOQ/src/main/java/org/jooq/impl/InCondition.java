@@ -104,9 +104,9 @@ final class InCondition<T> extends AbstractCondition {
     private static final Set<SQLDialect>   REQUIRES_IN_LIMIT      = SQLDialect.supportedBy(FIREBIRD);
     private static final Set<SQLDialect>   NO_SUPPORT_EMPTY_LISTS = SQLDialect.supportedBy(CUBRID, DERBY, FIREBIRD, HSQLDB, MARIADB, MYSQL, POSTGRES);
 
-    private final Field<T>                 field;
-    private final List<? extends Field<?>> values;
-    private final Comparator               comparator;
+    final Field<T>                         field;
+    final List<? extends Field<?>>         values;
+    final Comparator                       comparator;
 
     InCondition(Field<T> field, List<? extends Field<?>> values, Comparator comparator) {
         this.field = field;
@@ -0,0 +1,290 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Other licenses:
+ * -----------------------------------------------------------------------------
+ * Commercial licenses for this work are available. These replace the above
+ * ASL 2.0 and offer limited warranties, support, maintenance, and commercial
+ * database integrations.
+ *
+ * For more information, please visit: http://www.jooq.org/licenses
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ */
+package org.jooq.impl;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.jooq.Configuration;
+import org.jooq.DataType;
+import org.jooq.Field;
+import org.jooq.Meta;
+import org.jooq.Name;
+import org.jooq.Record;
+import org.jooq.Result;
+import org.jooq.Select;
+import org.jooq.Table;
+import org.jooq.exception.DataAccessException;
+import org.jooq.impl.InMemorySelect.Output;
+import org.jooq.impl.InMemorySelect.Relation;
+
+/**
+ * A set of {@link Result} values that can be queried using {@link Select}
+ * statements without a database connection.
+ * <p>
+ * This is useful to further filter, join, aggregate, or sort results that have
+ * already been fetched into client memory, e.g. from different data sources,
+ * or to run queries against test data. For example:
+ * <p>
+ * <code><pre>
+ * InMemoryDatabase db = new InMemoryDatabase(configuration);
+ * db.load(AUTHOR, authors);
+ * db.load(BOOK, books);
+ *
+ * Result&lt;Record2&lt;String, Integer&gt;&gt; result = db.fetch(
+ *     select(AUTHOR.LAST_NAME, count())
+ *     .from(AUTHOR)
+ *     .join(BOOK).on(BOOK.AUTHOR_ID.eq(AUTHOR.ID))
+ *     .groupBy(AUTHOR.LAST_NAME)
+ *     .orderBy(count().desc()));
+ * </pre></code>
+ * <p>
+ * Loaded results are stored column-wise, and queries are evaluated on these
+ * columns, using hash joins for equi-joins. The supported SQL is a subset of
+ * what jOOQ can render:
+ * <ul>
+ * <li>Comma separated <code>FROM</code> lists, derived tables, and
+ * <code>VALUES</code> constructors</li>
+ * <li><code>INNER</code>, <code>CROSS</code>, <code>OUTER</code>,
+ * <code>SEMI</code>, <code>ANTI</code>, and <code>NATURAL</code> joins, as well
+ * as joins with <code>USING</code></li>
+ * <li><code>WHERE</code>, <code>GROUP BY</code>, <code>HAVING</code>,
+ * <code>QUALIFY</code>, <code>ORDER BY</code>, <code>DISTINCT</code>,
+ * <code>OFFSET</code>, and <code>LIMIT</code></li>
+ * <li>The <code>COUNT</code>, <code>SUM</code>, <code>AVG</code>,
+ * <code>MIN</code>, and <code>MAX</code> aggregate functions, optionally with
+ * <code>DISTINCT</code> and <code>FILTER</code>, and as window functions</li>
+ * <li>The <code>ROW_NUMBER</code>, <code>RANK</code>, and
+ * <code>DENSE_RANK</code> window functions</li>
+ * <li>Comparison predicates, <code>LIKE</code>, <code>IN</code>,
+ * <code>BETWEEN</code>, <code>IS NULL</code>,
+ * <code>IS DISTINCT FROM</code>, and uncorrelated <code>EXISTS</code> and
+ * <code>IN</code> subqueries</li>
+ * <li>Arithmetic, string concatenation, <code>LOWER</code>,
+ * <code>UPPER</code>, <code>COALESCE</code>, <code>NVL</code>,
+ * <code>CAST</code>, and uncorrelated scalar subqueries</li>
+ * </ul>
+ * <p>
+ * Other query parts, including set operations, common table expressions, and
+ * correlated subqueries, are not supported and produce a
+ * {@link DataAccessException}.
+ * <p>
+ * Instances are not thread safe while loading data, but can be queried
+ * concurrently once loaded.
+ *
+ * @author Lukas Eder
+ */
+public final class InMemoryDatabase {
+
+    private final Configuration            configuration;
+    private final Meta                     meta;
+    private final Map<Name, Table<?>>      tables;
+    private final Map<Name, Relation>      relations;
+
+    /**
+     * Create a new in-memory database, whose tables are identified by the
+     * names they are loaded with.
+     */
+    public InMemoryDatabase(Configuration configuration) {
+        this(configuration, null);
+    }
+
+    /**
+     * Create a new in-memory database, whose tables are identified by their
+     * representation in a {@link Meta} instance.
+     * <p>
+     * Table references are looked up using {@link Meta#getTables(Name)},
+     * which allows for resolving unqualified table references in queries.
+     */
+    public InMemoryDatabase(Configuration configuration, Meta meta) {
+        this.configuration = configuration == null ? new DefaultConfiguration() : configuration;
+        this.meta = meta;
+        this.tables = new LinkedHashMap<>();
+        this.relations = new LinkedHashMap<>();
+    }
+
+    /**
+     * Load the contents of a table.
+     * <p>
+     * Columns are matched by name, and converted to the table's column types.
+     * Table columns that are absent from the argument result are loaded as
+     * <code>NULL</code>. If the table does not specify any columns, the
+     * result's columns are used instead. Previously loaded contents are
+     * replaced.
+     */
+    public final InMemoryDatabase load(Table<?> table, Result<?> result) {
+        Table<?> t = lookup(table.getQualifiedName());
+
+        if (t == null)
+            t = table;
+
+        Field<?>[] fields = t.fields().length > 0 ? t.fields() : result.fields();
+        String[] names = new String[fields.length];
+        DataType<?>[] types = new DataType[fields.length];
+        Object[][] columns = new Object[fields.length][];
+
+        for (int c = 0; c < fields.length; c++) {
+            names[c] = fields[c].getName();
+            types[c] = fields[c].getDataType();
+            columns[c] = new Object[result.size()];
+
+            int index = result.indexOf(fields[c].getName());
+            if (index < 0)
+                continue;
+
+            for (int row = 0; row < columns[c].length; row++)
+                columns[c][row] = types[c].convert(result.get(row).get(index));
+        }
+
+        tables.put(t.getQualifiedName(), t);
+        relations.put(t.getQualifiedName(), new Relation(new Name[fields.length], names, types, columns, result.size()));
+        return this;
+    }
+
+    /**
+     * Load the contents of a table.
+     *
+     * @see #load(Table, Result)
+     */
+    public final InMemoryDatabase load(Name table, Result<?> result) {
+        return load(DSL.table(table), result);
+    }
+
+    /**
+     * Load the contents of a table.
+     *
+     * @see #load(Table, Result)
+     */
+    public final InMemoryDatabase load(String table, Result<?> result) {
+        return load(DSL.name(table), result);
+    }
+
+    /**
+     * The tables that have been loaded into this database.
+     */
+    public final List<Table<?>> getTables() {
+        return new ArrayList<>(tables.values());
+    }
+
+    /**
+     * Execute a query against the loaded tables.
+     *
+     * @throws DataAccessException If the query references unknown tables or
+     *             columns (including correlated columns), if it contains
+     *             aggregate functions where they aren't allowed, or if it
+     *             contains unsupported query parts.
+     */
+    @SuppressWarnings("unchecked")
+    public final <R extends Record> Result<R> fetch(Select<R> select) throws DataAccessException {
+        Output output = new InMemorySelect(this).execute(select);
+        Field<?>[] fields = output.fields;
+        Relation relation = output.relation;
+
+        F0<R> factory = Tools.recordFactory((Class<R>) select.getRecordType(), fields);
+        ResultImpl<R> result = new ResultImpl<>(configuration, factory.apply().fields());
+
+        for (int row = 0; row < relation.size; row++) {
+            final int r = row;
+
+            result.addRecord(Tools.newRecord(true, factory, configuration).operate(record -> {
+                AbstractRecord a = (AbstractRecord) record;
+
+                // Generated records are matched with the projection by name
+                for (int c = 0; c < fields.length; c++) {
+                    int index = a.size() == fields.length ? c : a.indexOf(fields[c].getName());
+
+                    if (index >= 0)
+                        a.init(index, a.field(index).getDataType().convert(relation.columns[c][r]));
+                }
+
+                return record;
+            }));
+        }
+
+        return result;
+    }
+
+    /**
+     * Look up the contents of a table reference.
+     */
+    final Relation relation(Table<?> table) {
+        Table<?> t = lookup(table.getQualifiedName());
+        return t == null ? null : relations.get(t.getQualifiedName());
+    }
+
+    private final Table<?> lookup(Name name) {
+        if (meta != null) {
+            List<Table<?>> list = meta.getTables(name);
+
+            if (list.size() > 1)
+                throw new DataAccessException("Ambiguous table reference: " + name);
+            else if (list.size() == 1)
+                return list.get(0);
+        }
+
+        Table<?> result = tables.get(name);
+        if (result != null)
+            return result;
+
+        // Unqualified references match unique tables by their unqualified name
+        for (boolean ignoreCase : new boolean[] { false, true }) {
+            for (Table<?> t : tables.values()) {
+                String[] n1 = t.getQualifiedName().getName();
+                String[] n2 = name.getName();
+                boolean match = n1.length >= n2.length;
+
+                for (int i = n1.length - 1, j = n2.length - 1; match && j >= 0; i--, j--)
+                    match = ignoreCase ? n1[i].equalsIgnoreCase(n2[j]) : n1[i].equals(n2[j]);
+
+                if (match) {
+                    if (result != null)
+                        throw new DataAccessException("Ambiguous table reference: " + name);
+
+                    result = t;
+                }
+            }
+
+            if (result != null)
+                return result;
+        }
+
+        return null;
+    }
+}
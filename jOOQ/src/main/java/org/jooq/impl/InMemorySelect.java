@@ -0,0 +1,2088 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Other licenses:
+ * -----------------------------------------------------------------------------
+ * Commercial licenses for this work are available. These replace the above
+ * ASL 2.0 and offer limited warranties, support, maintenance, and commercial
+ * database integrations.
+ *
+ * For more information, please visit: http://www.jooq.org/licenses
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ */
+package org.jooq.impl;
+
+import static org.jooq.JoinType.JOIN;
+import static org.jooq.SortOrder.DESC;
+import static org.jooq.impl.DSL.name;
+import static org.jooq.impl.Tools.selectQueryImpl;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.math.MathContext;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.regex.Pattern;
+
+import org.jooq.Asterisk;
+import org.jooq.Comparator;
+import org.jooq.Condition;
+import org.jooq.DataType;
+import org.jooq.Field;
+import org.jooq.GroupField;
+import org.jooq.JoinType;
+import org.jooq.Name;
+import org.jooq.Operator;
+import org.jooq.Param;
+import org.jooq.QualifiedAsterisk;
+import org.jooq.QueryPart;
+import org.jooq.Record;
+import org.jooq.Row;
+import org.jooq.Select;
+import org.jooq.SelectFieldOrAsterisk;
+import org.jooq.SortField;
+import org.jooq.Table;
+import org.jooq.TableField;
+import org.jooq.exception.DataAccessException;
+import org.jooq.impl.RankingFunction.RankingType;
+import org.jooq.tools.Convert;
+
+/**
+ * An evaluator for {@link Select} statements over the in-memory tables of an
+ * {@link InMemoryDatabase}.
+ * <p>
+ * Relations are stored column-wise, with one <code>Object[]</code> per column.
+ * Query parts are compiled once into {@link Expr} objects bound to column
+ * positions, which are then evaluated in tight loops over the columns. Rows
+ * are filtered, joined, grouped, and sorted through <code>int[]</code>
+ * selection vectors, gathering new columns only when a relation is passed on
+ * to the next step.
+ * <p>
+ * Equi-joins are hash joins, building a hash table on the right hand side and
+ * probing it with the left hand side. Comma separated <code>FROM</code> lists
+ * are joined using the <code>WHERE</code> clause's equality predicates, and
+ * predicates referencing a single table are applied before joining.
+ * <p>
+ * Unsupported query parts produce a {@link DataAccessException}, rather than
+ * an incorrect result.
+ *
+ * @author Lukas Eder
+ */
+@SuppressWarnings({ "rawtypes", "unchecked" })
+final class InMemorySelect {
+
+    /**
+     * A placeholder for <code>NULL</code> grouping keys.
+     */
+    private static final Object   NULL_KEY = new Object();
+    private static final Relation DUAL = new Relation(new Name[0], new String[0], new DataType[0], new Object[0][], 1);
+
+    private final InMemoryDatabase database;
+
+    InMemorySelect(InMemoryDatabase database) {
+        this.database = database;
+    }
+
+    // -------------------------------------------------------------------------
+    // XXX: Relations
+    // -------------------------------------------------------------------------
+
+    /**
+     * A column oriented relation.
+     */
+    static final class Relation {
+        final Name[]        qualifiers;
+        final String[]      names;
+        final DataType<?>[] types;
+        final Object[][]    columns;
+        final int           size;
+
+        /**
+         * Columns that can only be referenced by qualified names, e.g. the
+         * right hand side of <code>JOIN .. USING</code>, or <code>null</code>.
+         */
+        final boolean[]     hidden;
+
+        Relation(Name[] qualifiers, String[] names, DataType<?>[] types, Object[][] columns, int size) {
+            this(qualifiers, names, types, columns, size, null);
+        }
+
+        Relation(Name[] qualifiers, String[] names, DataType<?>[] types, Object[][] columns, int size, boolean[] hidden) {
+            this.qualifiers = qualifiers;
+            this.names = names;
+            this.types = types;
+            this.columns = columns;
+            this.size = size;
+            this.hidden = hidden;
+        }
+
+        final int width() {
+            return names.length;
+        }
+
+        final boolean hidden(int column) {
+            return hidden != null && hidden[column];
+        }
+
+        /**
+         * Gather the given rows into a new relation. Negative row indexes
+         * produce <code>NULL</code> values.
+         */
+        final Relation gather(int[] rows) {
+            Object[][] result = new Object[columns.length][];
+
+            for (int c = 0; c < columns.length; c++)
+                result[c] = gather(columns[c], rows);
+
+            return new Relation(qualifiers, names, types, result, rows.length, hidden);
+        }
+
+        static final Object[] gather(Object[] column, int[] rows) {
+            Object[] result = new Object[rows.length];
+
+            for (int i = 0; i < rows.length; i++)
+                result[i] = rows[i] < 0 ? null : column[rows[i]];
+
+            return result;
+        }
+
+        final Relation qualify(Name qualifier, String[] n) {
+            Name[] q = new Name[width()];
+            Arrays.fill(q, qualifier);
+            return new Relation(q, n, types, columns, size);
+        }
+
+        static final int[] gather(int[] column, int[] rows) {
+            int[] result = new int[rows.length];
+
+            for (int i = 0; i < rows.length; i++)
+                result[i] = column[rows[i]];
+
+            return result;
+        }
+
+        static final Relation join(Relation l, int[] lrows, Relation r, int[] rrows) {
+            Relation gl = l.gather(lrows);
+            Relation gr = r.gather(rrows);
+            int w = l.width() + r.width();
+
+            Name[] q = concat(gl.qualifiers, gr.qualifiers, new Name[w]);
+            String[] n = concat(gl.names, gr.names, new String[w]);
+            DataType<?>[] t = concat(gl.types, gr.types, new DataType[w]);
+            Object[][] c = concat(gl.columns, gr.columns, new Object[w][]);
+            boolean[] h = null;
+
+            if (l.hidden != null || r.hidden != null) {
+                h = new boolean[w];
+
+                for (int i = 0; i < w; i++)
+                    h[i] = i < l.width() ? l.hidden(i) : r.hidden(i - l.width());
+            }
+
+            return new Relation(q, n, t, c, lrows.length, h);
+        }
+
+        private static final <T> T[] concat(T[] a, T[] b, T[] result) {
+            System.arraycopy(a, 0, result, 0, a.length);
+            System.arraycopy(b, 0, result, a.length, b.length);
+            return result;
+        }
+    }
+
+    // -------------------------------------------------------------------------
+    // XXX: Compiled expressions
+    // -------------------------------------------------------------------------
+
+    /**
+     * A compiled expression or predicate, evaluated for a row of the relation
+     * it was compiled against. Predicates produce {@link Boolean#TRUE},
+     * {@link Boolean#FALSE}, or <code>null</code> for <code>UNKNOWN</code>.
+     */
+    @FunctionalInterface
+    interface Expr {
+        Object get(int row);
+    }
+
+    /**
+     * The result of a {@link Select}, with its projected fields.
+     */
+    static final class Output {
+        final Field<?>[] fields;
+        final Relation   relation;
+
+        Output(Field<?>[] fields, Relation relation) {
+            this.fields = fields;
+            this.relation = relation;
+        }
+    }
+
+    /**
+     * Thrown when compiling a column reference that cannot be resolved.
+     */
+    private static final class Unresolved extends RuntimeException {
+        Unresolved(Field<?> field) {
+            super("Unknown column: " + field, null, false, false);
+        }
+    }
+
+    /**
+     * Thrown when compiling an aggregate function in an ungrouped context.
+     */
+    private static final class Ungrouped extends RuntimeException {
+        Ungrouped(Field<?> field) {
+            super("Aggregate function not allowed here: " + field, null, false, false);
+        }
+    }
+
+    /**
+     * The context of a compilation.
+     */
+    private static final class Scope {
+        final Relation     relation;
+        final Grouping     grouping;
+        final List<Window> windows;
+
+        Scope(Relation relation) {
+            this(relation, null, null);
+        }
+
+        Scope(Relation relation, Grouping grouping, List<Window> windows) {
+            this.relation = relation;
+            this.grouping = grouping;
+            this.windows = windows;
+        }
+    }
+
+    // -------------------------------------------------------------------------
+    // XXX: SELECT
+    // -------------------------------------------------------------------------
+
+    /**
+     * Execute a top level query.
+     * <p>
+     * Column references that cannot be resolved (e.g. in correlated
+     * subqueries) and misplaced aggregate functions are reported as
+     * {@link DataAccessException}.
+     */
+    final Output execute(Select<?> s) {
+        try {
+            return select(s);
+        }
+        catch (Unresolved | Ungrouped e) {
+            throw new DataAccessException(e.getMessage());
+        }
+    }
+
+    private final Output select(Select<?> s) {
+        SelectQueryImpl<?> q = selectQueryImpl(s);
+
+        if (q == null)
+            throw unsupported(s);
+
+        if (q.hasWith() || q.isCombined() || q.isDistinctOn() || q.hasWindow() || q.getLimit().withTies() || q.getLimit().percent() || q.getSelectAsSpecified() == null)
+            throw unsupported(q);
+
+        List<Condition> where = conjuncts(q.getWhere());
+        Relation relation = from(q.getFrom(), where);
+
+        if (!where.isEmpty())
+            relation = relation.gather(filter(relation, identity(relation.size), and(where, new Scope(relation))));
+
+        List<Field<?>> fields = new ArrayList<>();
+        List<Integer> columns = new ArrayList<>();
+        expandAsterisks(q, relation, fields, columns);
+
+        if (!q.isGrouping()) {
+            try {
+                return project(q, relation, fields, columns, null);
+            }
+            catch (Ungrouped e) {}
+        }
+
+        return project(q, relation, fields, columns, grouping(q, relation));
+    }
+
+    /**
+     * Expand the select list's asterisks into column references.
+     */
+    private final void expandAsterisks(SelectQueryImpl<?> q, Relation relation, List<Field<?>> fields, List<Integer> columns) {
+        List<SelectFieldOrAsterisk> select = q.getSelectAsSpecified();
+
+        if (select.isEmpty())
+            select = Arrays.asList(DSL.asterisk());
+
+        for (SelectFieldOrAsterisk f : select) {
+            if (f instanceof Field) {
+                fields.add((Field<?>) f);
+                columns.add(null);
+            }
+            else if (f instanceof Asterisk || f instanceof QualifiedAsterisk) {
+                String[] qualifier = f instanceof QualifiedAsterisk ? ((QualifiedAsterisk) f).qualifier().getQualifiedName().getName() : null;
+
+                if (f instanceof Asterisk ? !((AsteriskImpl) f).fields.isEmpty() : !((QualifiedAsteriskImpl) f).fields.isEmpty())
+                    throw unsupported(f);
+
+                for (int c = 0; c < relation.width(); c++) {
+                    if (relation.hidden(c) || qualifier != null && !matches(relation.qualifiers[c], qualifier, false))
+                        continue;
+
+                    Name n = relation.qualifiers[c] == null
+                        ? name(relation.names[c])
+                        : name(relation.qualifiers[c], name(relation.names[c]));
+
+                    fields.add(DSL.field(n, relation.types[c]));
+                    columns.add(c);
+                }
+            }
+            else
+                throw unsupported(f);
+        }
+    }
+
+    private final Output project(SelectQueryImpl<?> q, Relation relation, List<Field<?>> fields, List<Integer> columns, Grouping grouping) {
+        List<Window> windows = new ArrayList<>();
+        Scope scope = new Scope(grouping == null ? relation : grouping.relation, grouping, windows);
+
+        // Compile everything prior to evaluating anything, registering
+        // aggregate and window functions as they are encountered
+        Expr having = q.getHaving().hasWhere() ? condition(q.getHaving().getWhere(), scope) : null;
+        Expr qualify = q.getQualify().hasWhere() ? condition(q.getQualify().getWhere(), scope) : null;
+        Expr[] projections = new Expr[fields.size()];
+
+        for (int i = 0; i < projections.length; i++)
+            projections[i] = columns.get(i) != null ? column(scope.relation, columns.get(i)) : field(fields.get(i), scope);
+
+        SortFieldList orderBy = q.getOrderBy();
+        Expr[] sortKeys = new Expr[orderBy.size()];
+        int[] sortProjections = new int[orderBy.size()];
+
+        for (int i = 0; i < sortKeys.length; i++) {
+            Field<?> f = ((SortFieldImpl<?>) orderBy.get(i)).getField();
+
+            if ((sortProjections[i] = projection(fields, f)) < 0)
+                sortKeys[i] = field(f, scope);
+        }
+
+        // Evaluate aggregate functions, HAVING, window functions, QUALIFY
+        if (grouping != null)
+            grouping.compute();
+
+        int[] live = identity(scope.relation.size);
+        if (having != null)
+            live = filter(scope.relation, live, having);
+
+        for (Window window : windows)
+            window.compute(scope.relation.size, live);
+
+        if (qualify != null)
+            live = filter(scope.relation, live, qualify);
+
+        // Evaluate the projection column-wise
+        Object[][] result = new Object[projections.length][];
+        for (int i = 0; i < projections.length; i++)
+            result[i] = evaluate(projections[i], live, fields.get(i).getDataType());
+
+        int[] order = identity(live.length);
+
+        if (sortKeys.length > 0) {
+            Object[][] keys = new Object[sortKeys.length][];
+
+            for (int i = 0; i < sortKeys.length; i++)
+                keys[i] = sortProjections[i] >= 0 ? result[sortProjections[i]] : evaluate(sortKeys[i], live, null);
+
+            order = sort(order, keys, orderBy);
+        }
+
+        if (q.isDistinct())
+            order = distinct(order, result);
+
+        Limit limit = q.getLimit();
+        if (limit.isApplicable()) {
+            long offset = limit.offset == null ? 0L : Convert.convert(limit.offset.getValue(), long.class);
+            long rows = limit.getNumberOfRows();
+            int from = (int) Math.min(order.length, offset);
+            int to = (int) Math.min(order.length, from + rows);
+            order = Arrays.copyOfRange(order, from, to);
+        }
+
+        Name[] qualifiers = new Name[fields.size()];
+        String[] names = new String[fields.size()];
+        DataType<?>[] types = new DataType[fields.size()];
+
+        for (int i = 0; i < names.length; i++) {
+            names[i] = fields.get(i).getName();
+            types[i] = fields.get(i).getDataType();
+        }
+
+        return new Output(
+            fields.toArray(Tools.EMPTY_FIELD),
+            new Relation(qualifiers, names, types, result, live.length).gather(order)
+        );
+    }
+
+    /**
+     * The index of a projection that an <code>ORDER BY</code> field refers to,
+     * or <code>-1</code>.
+     */
+    private static final int projection(List<Field<?>> fields, Field<?> f) {
+
+        // ORDER BY 1 refers to the first projection
+        if (f instanceof Param && ((Param<?>) f).isInline() && ((Param<?>) f).getValue() instanceof Integer) {
+            int index = (Integer) ((Param<?>) f).getValue() - 1;
+
+            if (index < 0 || index >= fields.size())
+                throw new DataAccessException("ORDER BY position out of range: " + (index + 1));
+
+            return index;
+        }
+
+        Field<?> u = Tools.unalias(f);
+
+        for (int i = 0; i < fields.size(); i++)
+            if (fields.get(i) == f || fields.get(i) == u || Tools.unalias(fields.get(i)) == u)
+                return i;
+
+        if (f.getQualifiedName().getName().length == 1)
+            for (int i = 0; i < fields.size(); i++)
+                if (fields.get(i) instanceof FieldAlias && fields.get(i).getName().equals(f.getName()))
+                    return i;
+
+        return -1;
+    }
+
+    private static final Object[] evaluate(Expr expr, int[] rows, DataType<?> type) {
+        Object[] result = new Object[rows.length];
+
+        for (int i = 0; i < rows.length; i++)
+            result[i] = expr.get(rows[i]);
+
+        if (type != null && type.getType() != Object.class)
+            for (int i = 0; i < result.length; i++)
+                if (result[i] != null && !type.getType().isInstance(result[i]))
+                    result[i] = type.convert(result[i]);
+
+        return result;
+    }
+
+    private static final int[] identity(int size) {
+        int[] result = new int[size];
+
+        for (int i = 0; i < size; i++)
+            result[i] = i;
+
+        return result;
+    }
+
+    private static final int[] filter(Relation relation, int[] rows, Expr predicate) {
+        int[] result = new int[rows.length];
+        int size = 0;
+
+        for (int row : rows)
+            if (predicate.get(row) == Boolean.TRUE)
+                result[size++] = row;
+
+        return size == rows.length ? rows : Arrays.copyOf(result, size);
+    }
+
+    private static final int[] sort(int[] order, Object[][] keys, SortFieldList orderBy) {
+        Integer[] boxed = new Integer[order.length];
+
+        for (int i = 0; i < order.length; i++)
+            boxed[i] = order[i];
+
+        final boolean[] desc = new boolean[keys.length];
+        final boolean[] nullsFirst = new boolean[keys.length];
+
+        for (int k = 0; k < keys.length; k++) {
+            SortFieldImpl<?> s = (SortFieldImpl<?>) orderBy.get(k);
+            desc[k] = s.getOrder() == DESC;
+
+            // NULLs sort as if they were larger than any other value, by default
+            nullsFirst[k] = s.getNullsFirst() || !s.getNullsLast() && desc[k];
+        }
+
+        Arrays.sort(boxed, (i1, i2) -> {
+            for (int k = 0; k < keys.length; k++) {
+                int c = compareNullable(keys[k][i1], keys[k][i2], desc[k], nullsFirst[k]);
+
+                if (c != 0)
+                    return c;
+            }
+
+            return 0;
+        });
+
+        for (int i = 0; i < order.length; i++)
+            order[i] = boxed[i];
+
+        return order;
+    }
+
+    private static final int compareNullable(Object v1, Object v2, boolean desc, boolean nullsFirst) {
+        if (v1 == null)
+            return v2 == null ? 0 : nullsFirst ? -1 : 1;
+        else if (v2 == null)
+            return nullsFirst ? 1 : -1;
+
+        int c = compare(v1, v2);
+        return desc ? -c : c;
+    }
+
+    private static final int[] distinct(int[] order, Object[][] columns) {
+        Set<Object> seen = new HashSet<>();
+        int[] result = new int[order.length];
+        int size = 0;
+
+        for (int row : order)
+            if (seen.add(key(columns, row)))
+                result[size++] = row;
+
+        return Arrays.copyOf(result, size);
+    }
+
+    // -------------------------------------------------------------------------
+    // XXX: FROM and JOIN
+    // -------------------------------------------------------------------------
+
+    private final Relation from(TableList from, List<Condition> where) {
+        Relation result = null;
+
+        for (Table<?> t : from) {
+            Relation r = filter(table(t), where);
+            result = result == null ? r : join(result, r, JOIN, where, false);
+        }
+
+        return result == null ? DUAL : result;
+    }
+
+    /**
+     * Apply all predicates that can be evaluated on a relation alone, removing
+     * them from the argument list.
+     */
+    private final Relation filter(Relation relation, List<Condition> conditions) {
+        List<Expr> applicable = new ArrayList<>();
+
+        for (Iterator<Condition> it = conditions.iterator(); it.hasNext();) {
+            Expr e = tryCondition(it.next(), new Scope(relation));
+
+            if (e != null) {
+                applicable.add(e);
+                it.remove();
+            }
+        }
+
+        if (applicable.isEmpty())
+            return relation;
+
+        int[] rows = identity(relation.size);
+        for (Expr e : applicable)
+            rows = filter(relation, rows, e);
+
+        return relation.gather(rows);
+    }
+
+    private final Relation table(Table<?> t) {
+        Table<?> aliased = Tools.aliased(t);
+
+        if (aliased != null) {
+            Relation r = table(aliased);
+            Field<?>[] f = t.fields();
+            String[] names = r.names;
+
+            if (f.length == r.width()) {
+                names = new String[f.length];
+
+                for (int i = 0; i < f.length; i++)
+                    names[i] = f[i].getName();
+            }
+
+            return r.qualify(t.getQualifiedName(), names);
+        }
+        else if (t instanceof JoinTable) {
+            JoinTable j = (JoinTable) t;
+            List<Condition> on = conjuncts(j.condition.getWhere());
+            Relation l = table(j.lhs);
+            Relation r = table(j.rhs);
+
+            switch (j.type) {
+                case JOIN:
+                case STRAIGHT_JOIN:
+                case CROSS_JOIN:
+                    l = filter(l, on);
+                    r = filter(r, on);
+                    break;
+
+                case LEFT_OUTER_JOIN:
+                case LEFT_SEMI_JOIN:
+                case LEFT_ANTI_JOIN:
+                    r = filter(r, on);
+                    break;
+
+                case RIGHT_OUTER_JOIN:
+                    l = filter(l, on);
+                    break;
+
+                case FULL_OUTER_JOIN:
+                    break;
+
+                case NATURAL_JOIN:
+                case NATURAL_LEFT_OUTER_JOIN:
+                case NATURAL_RIGHT_OUTER_JOIN:
+                case NATURAL_FULL_OUTER_JOIN:
+                    return using(l, r, j.type, natural(l, r));
+
+                default:
+                    throw unsupported(t);
+            }
+
+            if (!j.using.isEmpty()) {
+                List<String> names = new ArrayList<>();
+
+                for (Field<?> f : j.using)
+                    names.add(f.getName());
+
+                return using(l, r, j.type, names);
+            }
+
+            return join(l, r, j.type, on, true);
+        }
+        else if (t instanceof Values) {
+            Row[] rows = ((Values<?>) t).rows;
+            Field<?>[] f = rows[0].fields();
+            Object[][] columns = new Object[f.length][rows.length];
+
+            for (int i = 0; i < rows.length; i++)
+                for (int c = 0; c < f.length; c++)
+                    columns[c][i] = field(rows[i].field(c), new Scope(DUAL)).get(0);
+
+            String[] names = new String[f.length];
+            DataType<?>[] types = new DataType[f.length];
+
+            for (int c = 0; c < f.length; c++) {
+                names[c] = f[c].getName();
+                types[c] = f[c].getDataType();
+            }
+
+            return new Relation(new Name[f.length], names, types, columns, rows.length);
+        }
+        else if (t instanceof DerivedTable) {
+            return select(((DerivedTable<?>) t).query()).relation;
+        }
+        else {
+            Relation r = database.relation(t);
+
+            if (r == null)
+                throw new DataAccessException("Table not found: " + t);
+
+            return r.qualify(t.getQualifiedName(), r.names);
+        }
+    }
+
+    private static final List<String> natural(Relation l, Relation r) {
+        List<String> result = new ArrayList<>();
+
+        for (int i = 0; i < l.width(); i++)
+            if (!l.hidden(i))
+                for (int j = 0; j < r.width(); j++)
+                    if (!r.hidden(j) && l.names[i].equals(r.names[j]) && !result.contains(l.names[i]))
+                        result.add(l.names[i]);
+
+        return result;
+    }
+
+    /**
+     * A <code>JOIN .. USING</code> or <code>NATURAL JOIN</code>, whose join
+     * columns are produced only once by the left hand side.
+     */
+    private final Relation using(Relation l, Relation r, JoinType type, List<String> names) {
+        int[] li = new int[names.size()];
+        int[] ri = new int[names.size()];
+
+        for (int i = 0; i < li.length; i++) {
+            li[i] = resolve(l, DSL.field(name(names.get(i))));
+            ri[i] = resolve(r, DSL.field(name(names.get(i))));
+
+            if (li[i] < 0 || ri[i] < 0)
+                throw new DataAccessException("Unknown column in USING clause: " + names.get(i));
+        }
+
+        JoinType t;
+        switch (type) {
+            case NATURAL_JOIN:             t = JOIN;                      break;
+            case NATURAL_LEFT_OUTER_JOIN:  t = JoinType.LEFT_OUTER_JOIN;  break;
+            case NATURAL_RIGHT_OUTER_JOIN: t = JoinType.RIGHT_OUTER_JOIN; break;
+            case NATURAL_FULL_OUTER_JOIN:  t = JoinType.FULL_OUTER_JOIN;  break;
+            default:                       t = type;                      break;
+        }
+
+        Expr[] lk = new Expr[li.length];
+        Expr[] rk = new Expr[ri.length];
+
+        for (int i = 0; i < li.length; i++) {
+            lk[i] = column(l, li[i]);
+            rk[i] = column(r, ri[i]);
+        }
+
+        Relation result = join(l, r, t, lk, rk, new ArrayList<>());
+        boolean[] hidden = new boolean[result.width()];
+
+        for (int i = 0; i < hidden.length; i++)
+            hidden[i] = result.hidden(i);
+
+        for (int i = 0; i < li.length; i++) {
+            Object[] lc = result.columns[li[i]];
+            Object[] rc = result.columns[l.width() + ri[i]];
+
+            for (int row = 0; row < result.size; row++)
+                if (lc[row] == null)
+                    lc[row] = rc[row];
+
+            hidden[l.width() + ri[i]] = true;
+        }
+
+        return new Relation(result.qualifiers, result.names, result.types, result.columns, result.size, hidden);
+    }
+
+    /**
+     * A join, using the equality predicates among the argument conditions as
+     * hash join keys. If <code>consumeAll</code> is false, only the predicates
+     * that can be evaluated on the joined relation are consumed from the
+     * argument list, otherwise all of them.
+     */
+    private final Relation join(Relation l, Relation r, JoinType type, List<Condition> conditions, boolean consumeAll) {
+        List<Expr> lk = new ArrayList<>();
+        List<Expr> rk = new ArrayList<>();
+        List<Condition> residual = new ArrayList<>();
+
+        for (Iterator<Condition> it = conditions.iterator(); it.hasNext();) {
+            Condition c = it.next();
+
+            if (c instanceof CompareCondition && ((CompareCondition) c).comparator == Comparator.EQUALS) {
+                CompareCondition cc = (CompareCondition) c;
+                Expr l1 = tryField(cc.field1, new Scope(l));
+                Expr r2 = tryField(cc.field2, new Scope(r));
+                Expr l2 = l1 == null || r2 == null ? tryField(cc.field2, new Scope(l)) : null;
+                Expr r1 = l1 == null || r2 == null ? tryField(cc.field1, new Scope(r)) : null;
+
+                if (l1 != null && r2 != null && !columnless(cc.field1) && !columnless(cc.field2)) {
+                    lk.add(l1);
+                    rk.add(r2);
+                    it.remove();
+                    continue;
+                }
+                else if (l2 != null && r1 != null && !columnless(cc.field1) && !columnless(cc.field2)) {
+                    lk.add(l2);
+                    rk.add(r1);
+                    it.remove();
+                    continue;
+                }
+            }
+
+            if (consumeAll) {
+                residual.add(c);
+                it.remove();
+            }
+        }
+
+        // Predicates of comma separated FROM lists remain in the WHERE clause
+        // until their tables are joined
+        if (!consumeAll) {
+            Relation joined = Relation.join(l, new int[0], r, new int[0]);
+
+            for (Iterator<Condition> it = conditions.iterator(); it.hasNext();) {
+                Condition c = it.next();
+
+                if (tryCondition(c, new Scope(joined)) != null) {
+                    residual.add(c);
+                    it.remove();
+                }
+            }
+        }
+
+        return join(l, r, type, lk.toArray(new Expr[0]), rk.toArray(new Expr[0]), residual);
+    }
+
+    private static final boolean columnless(Field<?> f) {
+        return f instanceof Param;
+    }
+
+    private final Relation join(Relation l, Relation r, JoinType type, Expr[] lk, Expr[] rk, List<Condition> residual) {
+        IntList lp = new IntList(Math.max(l.size, r.size));
+        IntList rp = new IntList(Math.max(l.size, r.size));
+
+        // Candidate pairs, in the order of the left hand side
+        if (lk.length > 0) {
+            Map<Object, Integer> heads = new HashMap<>();
+            int[] next = new int[r.size];
+
+            for (int row = r.size - 1; row >= 0; row--) {
+                Object key = key(rk, row);
+
+                if (key != null) {
+                    Integer head = heads.put(key, row);
+                    next[row] = head == null ? -1 : head;
+                }
+            }
+
+            for (int row = 0; row < l.size; row++) {
+                Object key = key(lk, row);
+
+                if (key != null) {
+                    Integer head = heads.get(key);
+
+                    if (head != null) {
+                        for (int m = head; m >= 0; m = next[m]) {
+                            lp.add(row);
+                            rp.add(m);
+                        }
+                    }
+                }
+            }
+        }
+        else {
+            for (int i = 0; i < l.size; i++) {
+                for (int j = 0; j < r.size; j++) {
+                    lp.add(i);
+                    rp.add(j);
+                }
+            }
+        }
+
+        int[] li = lp.toArray();
+        int[] ri = rp.toArray();
+
+        if (!residual.isEmpty()) {
+            Relation joined = Relation.join(l, li, r, ri);
+            int[] keep = filter(joined, identity(joined.size), and(residual, new Scope(joined)));
+
+            li = Relation.gather(li, keep);
+            ri = Relation.gather(ri, keep);
+        }
+
+        switch (type) {
+            case LEFT_SEMI_JOIN:
+            case LEFT_ANTI_JOIN: {
+                boolean[] matched = new boolean[l.size];
+                for (int i : li)
+                    matched[i] = true;
+
+                IntList rows = new IntList(l.size);
+                for (int i = 0; i < l.size; i++)
+                    if (matched[i] == (type == JoinType.LEFT_SEMI_JOIN))
+                        rows.add(i);
+
+                return l.gather(rows.toArray());
+            }
+
+            case LEFT_OUTER_JOIN:
+            case FULL_OUTER_JOIN: {
+                IntList lo = new IntList(li.length);
+                IntList ro = new IntList(li.length);
+                int p = 0;
+
+                for (int i = 0; i < l.size; i++) {
+                    if (p < li.length && li[p] == i) {
+                        while (p < li.length && li[p] == i) {
+                            lo.add(i);
+                            ro.add(ri[p++]);
+                        }
+                    }
+                    else {
+                        lo.add(i);
+                        ro.add(-1);
+                    }
+                }
+
+                if (type == JoinType.FULL_OUTER_JOIN)
+                    unmatchedRight(r, ri, lo, ro);
+
+                return Relation.join(l, lo.toArray(), r, ro.toArray());
+            }
+
+            case RIGHT_OUTER_JOIN: {
+                IntList lo = new IntList(li.length);
+                IntList ro = new IntList(li.length);
+                lo.addAll(li);
+                ro.addAll(ri);
+                unmatchedRight(r, ri, lo, ro);
+
+                return Relation.join(l, lo.toArray(), r, ro.toArray());
+            }
+
+            default:
+                return Relation.join(l, li, r, ri);
+        }
+    }
+
+    private static final void unmatchedRight(Relation r, int[] ri, IntList lo, IntList ro) {
+        boolean[] matched = new boolean[r.size];
+        for (int j : ri)
+            matched[j] = true;
+
+        for (int j = 0; j < r.size; j++) {
+            if (!matched[j]) {
+                lo.add(-1);
+                ro.add(j);
+            }
+        }
+    }
+
+    /**
+     * A growable <code>int[]</code>.
+     */
+    private static final class IntList {
+        int[] values;
+        int   size;
+
+        IntList(int capacity) {
+            values = new int[Math.max(capacity, 16)];
+        }
+
+        final void add(int value) {
+            if (size == values.length)
+                values = Arrays.copyOf(values, size << 1);
+
+            values[size++] = value;
+        }
+
+        final void addAll(int[] v) {
+            for (int value : v)
+                add(value);
+        }
+
+        final int[] toArray() {
+            return Arrays.copyOf(values, size);
+        }
+    }
+
+    // -------------------------------------------------------------------------
+    // XXX: GROUP BY and aggregate functions
+    // -------------------------------------------------------------------------
+
+    private final Grouping grouping(SelectQueryImpl<?> q, Relation relation) {
+        List<Expr> keys = new ArrayList<>();
+
+        if (q.getGroupBy() != null) {
+            for (GroupField g : q.getGroupBy()) {
+                if (g instanceof Field)
+                    keys.add(field((Field<?>) g, new Scope(relation)));
+                else
+                    throw unsupported(g);
+            }
+        }
+
+        return new Grouping(relation, keys.toArray(new Expr[0]));
+    }
+
+    /**
+     * The groups of a relation, with their member rows stored contiguously in
+     * {@link #members}, and the aggregate functions computed for them.
+     */
+    private final class Grouping {
+
+        /**
+         * The ungrouped relation.
+         */
+        final Relation        input;
+
+        /**
+         * The grouped relation, containing each group's first row.
+         */
+        final Relation        relation;
+        final int[]           start;
+        final int[]           members;
+        final List<Aggregate> aggregates = new ArrayList<>();
+
+        Grouping(Relation input, Expr[] keys) {
+            this.input = input;
+
+            int[] groupOf = new int[input.size];
+            IntList first = new IntList(16);
+
+            // GROUP BY () produces a single group, even for empty inputs
+            if (keys.length == 0) {
+                first.add(input.size == 0 ? -1 : 0);
+            }
+            else {
+                Map<Object, Integer> groups = new HashMap<>();
+
+                for (int row = 0; row < input.size; row++) {
+                    Object key = key(keys, row, true);
+                    Integer g = groups.get(key);
+
+                    if (g == null) {
+                        groups.put(key, g = first.size);
+                        first.add(row);
+                    }
+
+                    groupOf[row] = g;
+                }
+            }
+
+            int groups = first.size;
+            start = new int[groups + 1];
+
+            for (int row = 0; row < input.size; row++)
+                start[groupOf[row] + 1]++;
+
+            for (int g = 0; g < groups; g++)
+                start[g + 1] += start[g];
+
+            members = new int[input.size];
+            int[] fill = Arrays.copyOf(start, groups);
+
+            for (int row = 0; row < input.size; row++)
+                members[fill[groupOf[row]]++] = row;
+
+            relation = input.gather(first.toArray());
+        }
+
+        final Expr register(AbstractAggregateFunction<?> f) {
+            final Aggregate a = new Aggregate(f, new Scope(input));
+            aggregates.add(a);
+            return row -> a.values[row];
+        }
+
+        final void compute() {
+            for (Aggregate a : aggregates) {
+                a.values = new Object[relation.size];
+
+                for (int g = 0; g < relation.size; g++)
+                    a.values[g] = a.compute(members, start[g], start[g + 1]);
+            }
+        }
+    }
+
+    /**
+     * A compiled aggregate function.
+     */
+    private final class Aggregate {
+        final String   name;
+        final boolean  distinct;
+        final Expr     argument;
+        final Expr     filter;
+        final DataType type;
+        Object[]       values;
+
+        Aggregate(AbstractAggregateFunction<?> f, Scope scope) {
+            this.name = f.getName().toLowerCase();
+            this.distinct = f.distinct;
+            this.type = f.getDataType();
+
+            if (!Arrays.asList("count", "sum", "avg", "min", "max").contains(name)
+                    || f.arguments.size() != 1
+                    || Tools.isNotEmpty(f.withinGroupOrderBy)
+                    || Tools.isNotEmpty(f.keepDenseRankOrderBy))
+                throw unsupported(f);
+
+            Field<?> arg = f.arguments.get(0);
+            this.argument = arg == AbstractAggregateFunction.ASTERISK ? row -> 1 : field(arg, scope);
+            this.filter = f.filter == null ? null : condition(f.filter, scope);
+        }
+
+        /**
+         * Compute the aggregate function for <code>rows[from]</code> to
+         * <code>rows[to - 1]</code>.
+         */
+        final Object compute(int[] rows, int from, int to) {
+            Accumulator a = new Accumulator(name, distinct);
+
+            for (int i = from; i < to; i++)
+                if (filter == null || filter.get(rows[i]) == Boolean.TRUE)
+                    a.add(argument.get(rows[i]));
+
+            return a.result(type);
+        }
+    }
+
+    /**
+     * The state of an aggregate function's computation.
+     */
+    private static final class Accumulator {
+        final String      name;
+        final Set<Object> distinct;
+        long              count;
+        long              longSum;
+        BigDecimal        decimalSum;
+        double            doubleSum;
+        boolean           doubles;
+        Object            value;
+
+        Accumulator(String name, boolean distinct) {
+            this.name = name;
+            this.distinct = distinct ? new HashSet<>() : null;
+        }
+
+        final void add(Object v) {
+            if (v == null || distinct != null && !distinct.add(normalise(v)))
+                return;
+
+            count++;
+
+            switch (name) {
+                case "sum":
+                case "avg":
+                    if (v instanceof Double || v instanceof Float) {
+                        doubles = true;
+                        doubleSum += ((Number) v).doubleValue();
+                    }
+                    else if (integral(v) && decimalSum == null) {
+                        long s = longSum + ((Number) v).longValue();
+
+                        // Overflow: continue with BigDecimal
+                        if (((longSum ^ s) & (((Number) v).longValue() ^ s)) < 0)
+                            decimalSum = BigDecimal.valueOf(longSum).add(decimal(v));
+                        else
+                            longSum = s;
+                    }
+                    else {
+                        decimalSum = (decimalSum == null ? BigDecimal.valueOf(longSum) : decimalSum).add(decimal(v));
+                    }
+
+                    break;
+
+                case "min":
+                    if (value == null || compare(v, value) < 0)
+                        value = v;
+
+                    break;
+
+                case "max":
+                    if (value == null || compare(v, value) > 0)
+                        value = v;
+
+                    break;
+            }
+        }
+
+        final Object result(DataType<?> type) {
+            Object result;
+
+            switch (name) {
+                case "count":
+                    result = count;
+                    break;
+
+                case "sum":
+                case "avg":
+                    if (count == 0)
+                        return null;
+
+                    BigDecimal sum = decimalSum != null ? decimalSum : BigDecimal.valueOf(longSum);
+                    if (doubles)
+                        sum = sum.add(BigDecimal.valueOf(doubleSum));
+
+                    result = "sum".equals(name) ? sum : sum.divide(BigDecimal.valueOf(count), MathContext.DECIMAL128);
+                    break;
+
+                default:
+                    result = value;
+                    break;
+            }
+
+            return result == null ? null : type.convert(result);
+        }
+    }
+
+    // -------------------------------------------------------------------------
+    // XXX: Window functions
+    // -------------------------------------------------------------------------
+
+    /**
+     * A compiled window function.
+     */
+    private final class Window {
+        final AbstractWindowFunction<?> function;
+        final Expr[]                    partitionBy;
+        final Expr[]                    orderBy;
+        final SortFieldList             sortFields;
+        final Aggregate                 aggregate;
+        Object[]                        values;
+
+        Window(AbstractWindowFunction<?> f, Scope scope) {
+            WindowSpecificationImpl w = f.windowSpecification;
+
+            if (w == null || f.windowDefinition != null || f.windowName != null || w.frameStart != null || w.frameEnd != null)
+                throw unsupported(f);
+
+            this.function = f;
+            this.partitionBy = new Expr[w.partitionBy.size()];
+            this.orderBy = new Expr[w.orderBy.size()];
+            this.sortFields = w.orderBy;
+
+            for (int i = 0; i < partitionBy.length; i++)
+                partitionBy[i] = field(w.partitionBy.get(i), scope);
+
+            for (int i = 0; i < orderBy.length; i++)
+                orderBy[i] = field(((SortFieldImpl<?>) w.orderBy.get(i)).getField(), scope);
+
+            if (f instanceof AbstractAggregateFunction)
+                aggregate = new Aggregate((AbstractAggregateFunction<?>) f, scope);
+            else if (f instanceof RowNumber || f instanceof RankingFunction && (((RankingFunction<?>) f).rankingType == RankingType.RANK || ((RankingFunction<?>) f).rankingType == RankingType.DENSE_RANK))
+                aggregate = null;
+            else
+                throw unsupported(f);
+        }
+
+        final void compute(int size, int[] live) {
+            values = new Object[size];
+
+            // Partition the live rows
+            Map<Object, IntList> partitions = new HashMap<>();
+            List<IntList> ordered = new ArrayList<>();
+
+            for (int row : live) {
+                Object key = key(partitionBy, row, true);
+                IntList p = partitions.get(key);
+
+                if (p == null) {
+                    partitions.put(key, p = new IntList(16));
+                    ordered.add(p);
+                }
+
+                p.add(row);
+            }
+
+            for (IntList p : ordered) {
+                int[] rows = p.toArray();
+                Object[][] keys = new Object[orderBy.length][];
+
+                for (int k = 0; k < orderBy.length; k++) {
+                    keys[k] = new Object[size];
+
+                    for (int row : rows)
+                        keys[k][row] = orderBy[k].get(row);
+                }
+
+                if (orderBy.length > 0)
+                    rows = sort(rows, keys, sortFields);
+
+                compute(rows, keys);
+            }
+        }
+
+        private final void compute(int[] rows, Object[][] keys) {
+
+            // Aggregate functions without ORDER BY span the entire partition
+            if (aggregate != null && orderBy.length == 0) {
+                Object value = aggregate.compute(rows, 0, rows.length);
+
+                for (int row : rows)
+                    values[row] = value;
+
+                return;
+            }
+
+            Accumulator a = aggregate == null ? null : new Accumulator(aggregate.name, aggregate.distinct);
+            int rank = 0;
+            int denseRank = 0;
+
+            // Peers are rows with equal ORDER BY keys
+            for (int i = 0, j; i < rows.length; i = j) {
+                for (j = i + 1; j < rows.length && peers(keys, rows[i], rows[j]); j++);
+
+                if (a != null)
+                    for (int k = i; k < j; k++)
+                        if (aggregate.filter == null || aggregate.filter.get(rows[k]) == Boolean.TRUE)
+                            a.add(aggregate.argument.get(rows[k]));
+
+                Object value = a != null ? a.result(aggregate.type) : null;
+                rank = i + 1;
+                denseRank++;
+
+                for (int k = i; k < j; k++) {
+                    if (a != null)
+                        values[rows[k]] = value;
+                    else if (function instanceof RowNumber)
+                        values[rows[k]] = k + 1;
+                    else if (((RankingFunction<?>) function).rankingType == RankingType.RANK)
+                        values[rows[k]] = rank;
+                    else
+                        values[rows[k]] = denseRank;
+                }
+            }
+        }
+
+        private final boolean peers(Object[][] keys, int r1, int r2) {
+            for (Object[] key : keys)
+                if (compareNullable(key[r1], key[r2], false, false) != 0)
+                    return false;
+
+            return true;
+        }
+    }
+
+    // -------------------------------------------------------------------------
+    // XXX: Field compilation
+    // -------------------------------------------------------------------------
+
+    /**
+     * Compile a field, or return <code>null</code> if it references columns
+     * that are not contained in the scope.
+     */
+    private final Expr tryField(Field<?> f, Scope scope) {
+        try {
+            return field(f, scope);
+        }
+        catch (Unresolved e) {
+            return null;
+        }
+    }
+
+    private final Expr field(Field<?> f, Scope scope) {
+        if (f instanceof AbstractWindowFunction && windowed((AbstractWindowFunction<?>) f)) {
+            if (scope.windows == null)
+                throw unsupported(f);
+
+            final Window w = new Window((AbstractWindowFunction<?>) f, scope);
+            scope.windows.add(w);
+            return row -> w.values[row];
+        }
+        else if (f instanceof AbstractAggregateFunction) {
+            if (scope.grouping == null)
+                throw new Ungrouped(f);
+
+            return scope.grouping.register((AbstractAggregateFunction<?>) f);
+        }
+        else if (f instanceof FieldAlias) {
+            return field(((FieldAlias<?>) f).getAliasedField(), scope);
+        }
+        else if (f instanceof Param) {
+            final Object value = ((Param<?>) f).getValue();
+            return row -> value;
+        }
+        else if (f instanceof TableField) {
+            return column(scope.relation, f);
+        }
+        else if (f instanceof Expression) {
+            return expression((Expression<?>) f, scope);
+        }
+        else if (f instanceof Neg) {
+            final Neg<?> n = (Neg<?>) f;
+
+            if (n.operator != ExpressionOperator.SUBTRACT)
+                throw unsupported(f);
+
+            final Expr e = field(n.field, scope);
+            final DataType<?> type = f.getDataType();
+            return row -> arithmetic(ExpressionOperator.SUBTRACT, 0L, e.get(row), type);
+        }
+        else if (f instanceof Lower) {
+            final Expr e = field(((Lower) f).field, scope);
+            return row -> {
+                Object v = e.get(row);
+                return v == null ? null : v.toString().toLowerCase();
+            };
+        }
+        else if (f instanceof Upper) {
+            final Expr e = field(((Upper) f).field, scope);
+            return row -> {
+                Object v = e.get(row);
+                return v == null ? null : v.toString().toUpperCase();
+            };
+        }
+        else if (f instanceof Coalesce || f instanceof Nvl) {
+            final Expr[] e = f instanceof Coalesce
+                ? fields(((Coalesce<?>) f).fields, scope)
+                : fields(new Field[] { ((Nvl<?>) f).arg1, ((Nvl<?>) f).arg2 }, scope);
+
+            return row -> {
+                for (Expr x : e) {
+                    Object v = x.get(row);
+
+                    if (v != null)
+                        return v;
+                }
+
+                return null;
+            };
+        }
+        else if (f instanceof Concat) {
+            final Expr[] e = fields(((Concat) f).arguments, scope);
+            return row -> concat(e, row);
+        }
+        else if (f instanceof Cast || f instanceof Coerce) {
+            final Expr e = field(f instanceof Cast ? ((Cast<?>) f).field : ((Coerce<?>) f).field, scope);
+            final DataType<?> type = f.getDataType();
+            return row -> type.convert(e.get(row));
+        }
+        else if (f instanceof ConditionAsField) {
+            return condition(((ConditionAsField) f).condition, scope);
+        }
+        else if (f instanceof ScalarSubquery) {
+            Relation r = select(((ScalarSubquery<?>) f).query).relation;
+
+            if (r.width() != 1 || r.size > 1)
+                throw new DataAccessException("Scalar subquery must produce at most one row with one column: " + f);
+
+            final Object value = r.size == 0 ? null : r.columns[0][0];
+            return row -> value;
+        }
+
+        // Other fields, e.g. plain SQL fields, may be column references
+        else {
+            int index = resolve(scope.relation, f);
+
+            if (index >= 0)
+                return column(scope.relation, index);
+            else
+                throw unsupported(f);
+        }
+    }
+
+    private final Expr[] fields(Field<?>[] fields, Scope scope) {
+        Expr[] result = new Expr[fields.length];
+
+        for (int i = 0; i < fields.length; i++)
+            result[i] = field(fields[i], scope);
+
+        return result;
+    }
+
+    private static final boolean windowed(AbstractWindowFunction<?> f) {
+        return f.windowSpecification != null || f.windowDefinition != null || f.windowName != null;
+    }
+
+    private final Expr expression(Expression<?> e, Scope scope) {
+        final ExpressionOperator operator = e.operator;
+        final Expr lhs = field(e.lhs, scope);
+        final Expr rhs = field(e.rhs, scope);
+        final DataType<?> type = e.getDataType();
+
+        switch (operator) {
+            case CONCAT:
+                return row -> concat(new Expr[] { lhs, rhs }, row);
+
+            case ADD:
+            case SUBTRACT:
+            case MULTIPLY:
+            case DIVIDE:
+            case MODULO:
+                return row -> arithmetic(operator, lhs.get(row), rhs.get(row), type);
+
+            default:
+                throw unsupported(e);
+        }
+    }
+
+    private static final Object concat(Expr[] e, int row) {
+        StringBuilder sb = new StringBuilder();
+
+        for (Expr x : e) {
+            Object v = x.get(row);
+
+            if (v == null)
+                return null;
+
+            sb.append(v);
+        }
+
+        return sb.toString();
+    }
+
+    private static final Object arithmetic(ExpressionOperator operator, Object v1, Object v2, DataType<?> type) {
+        if (v1 == null || v2 == null)
+            return null;
+        else if (!(v1 instanceof Number) || !(v2 instanceof Number))
+            throw new DataAccessException("Unsupported arithmetic on non-numeric values: " + v1 + " " + operator.toSQL() + " " + v2);
+
+        Object result;
+
+        if (integral(v1) && integral(v2)) {
+            long l1 = ((Number) v1).longValue();
+            long l2 = ((Number) v2).longValue();
+
+            if ((operator == ExpressionOperator.DIVIDE || operator == ExpressionOperator.MODULO) && l2 == 0)
+                throw new DataAccessException("Division by zero");
+
+            switch (operator) {
+                case ADD:      result = Math.addExact(l1, l2);      break;
+                case SUBTRACT: result = Math.subtractExact(l1, l2); break;
+                case MULTIPLY: result = Math.multiplyExact(l1, l2); break;
+                case DIVIDE:   result = l1 / l2;                    break;
+                default:       result = l1 % l2;                    break;
+            }
+        }
+        else if (v1 instanceof BigDecimal || v2 instanceof BigDecimal || v1 instanceof BigInteger || v2 instanceof BigInteger) {
+            BigDecimal d1 = decimal(v1);
+            BigDecimal d2 = decimal(v2);
+
+            if ((operator == ExpressionOperator.DIVIDE || operator == ExpressionOperator.MODULO) && d2.signum() == 0)
+                throw new DataAccessException("Division by zero");
+
+            switch (operator) {
+                case ADD:      result = d1.add(d2);                                break;
+                case SUBTRACT: result = d1.subtract(d2);                           break;
+                case MULTIPLY: result = d1.multiply(d2);                           break;
+                case DIVIDE:   result = d1.divide(d2, MathContext.DECIMAL128);     break;
+                default:       result = d1.remainder(d2);                          break;
+            }
+        }
+        else {
+            double d1 = ((Number) v1).doubleValue();
+            double d2 = ((Number) v2).doubleValue();
+
+            switch (operator) {
+                case ADD:      result = d1 + d2; break;
+                case SUBTRACT: result = d1 - d2; break;
+                case MULTIPLY: result = d1 * d2; break;
+                case DIVIDE:   result = d1 / d2; break;
+                default:       result = d1 % d2; break;
+            }
+        }
+
+        return type.getType() == Object.class ? result : type.convert(result);
+    }
+
+    // -------------------------------------------------------------------------
+    // XXX: Column resolution
+    // -------------------------------------------------------------------------
+
+    private static final Expr column(Relation relation, Field<?> f) {
+        int index = resolve(relation, f);
+
+        if (index < 0)
+            throw new Unresolved(f);
+
+        return column(relation, index);
+    }
+
+    private static final Expr column(Relation relation, int index) {
+        final Object[] column = relation.columns[index];
+        return row -> column[row];
+    }
+
+    /**
+     * Resolve a column reference by its (partially) qualified name, preferring
+     * case sensitive over case insensitive matches.
+     */
+    static final int resolve(Relation relation, Field<?> f) {
+        String[] parts = f.getQualifiedName().getName();
+        String column = parts[parts.length - 1];
+        String[] qualifier = Arrays.copyOf(parts, parts.length - 1);
+
+        int result = resolve(relation, column, qualifier, false);
+        return result >= 0 ? result : resolve(relation, column, qualifier, true);
+    }
+
+    private static final int resolve(Relation relation, String column, String[] qualifier, boolean ignoreCase) {
+        int result = -1;
+
+        for (int c = 0; c < relation.width(); c++) {
+            if (ignoreCase ? !relation.names[c].equalsIgnoreCase(column) : !relation.names[c].equals(column))
+                continue;
+
+            if (qualifier.length == 0 ? relation.hidden(c) : !matches(relation.qualifiers[c], qualifier, ignoreCase))
+                continue;
+
+            if (result >= 0)
+                throw new DataAccessException("Ambiguous column reference: " + column);
+
+            result = c;
+        }
+
+        return result;
+    }
+
+    /**
+     * Whether a column's qualifier and a reference's qualifier match on their
+     * common suffix, e.g. <code>schema.table</code> and <code>table</code>.
+     */
+    private static final boolean matches(Name columnQualifier, String[] qualifier, boolean ignoreCase) {
+        if (columnQualifier == null)
+            return false;
+
+        String[] q = columnQualifier.getName();
+
+        for (int i = q.length - 1, j = qualifier.length - 1; i >= 0 && j >= 0; i--, j--)
+            if (ignoreCase ? !q[i].equalsIgnoreCase(qualifier[j]) : !q[i].equals(qualifier[j]))
+                return false;
+
+        return true;
+    }
+
+    // -------------------------------------------------------------------------
+    // XXX: Condition compilation
+    // -------------------------------------------------------------------------
+
+    private static final List<Condition> conjuncts(Condition c) {
+        List<Condition> result = new ArrayList<>();
+        conjuncts(c, result);
+        return result;
+    }
+
+    private static final void conjuncts(Condition c, List<Condition> result) {
+        if (c instanceof ConditionProviderImpl)
+            conjuncts(((ConditionProviderImpl) c).getWhere(), result);
+        else if (c instanceof CombinedCondition && ((CombinedCondition) c).operator == Operator.AND)
+            for (Condition x : ((CombinedCondition) c).conditions)
+                conjuncts(x, result);
+        else if (!(c instanceof NoCondition) && !(c instanceof TrueCondition))
+            result.add(c);
+    }
+
+    private final Expr and(List<Condition> conditions, Scope scope) {
+        final Expr[] e = new Expr[conditions.size()];
+
+        for (int i = 0; i < e.length; i++)
+            e[i] = condition(conditions.get(i), scope);
+
+        return and(e);
+    }
+
+    private static final Expr and(final Expr[] e) {
+        if (e.length == 1)
+            return e[0];
+
+        return row -> {
+            Boolean result = Boolean.TRUE;
+
+            for (Expr x : e) {
+                Object v = x.get(row);
+
+                if (v == Boolean.FALSE)
+                    return Boolean.FALSE;
+                else if (v == null)
+                    result = null;
+            }
+
+            return result;
+        };
+    }
+
+    private static final Expr or(final Expr[] e) {
+        return row -> {
+            Boolean result = Boolean.FALSE;
+
+            for (Expr x : e) {
+                Object v = x.get(row);
+
+                if (v == Boolean.TRUE)
+                    return Boolean.TRUE;
+                else if (v == null)
+                    result = null;
+            }
+
+            return result;
+        };
+    }
+
+    private static final Expr not(final Expr e) {
+        return row -> {
+            Object v = e.get(row);
+            return v == null ? null : v == Boolean.TRUE ? Boolean.FALSE : Boolean.TRUE;
+        };
+    }
+
+    /**
+     * Compile a condition, or return <code>null</code> if it references
+     * columns that are not contained in the scope.
+     */
+    private final Expr tryCondition(Condition c, Scope scope) {
+        try {
+            return condition(c, scope);
+        }
+        catch (Unresolved e) {
+            return null;
+        }
+    }
+
+    private final Expr condition(Condition c, Scope scope) {
+        if (c instanceof ConditionProviderImpl) {
+            return condition(((ConditionProviderImpl) c).getWhere(), scope);
+        }
+        else if (c instanceof NoCondition || c instanceof TrueCondition) {
+            return row -> Boolean.TRUE;
+        }
+        else if (c instanceof FalseCondition) {
+            return row -> Boolean.FALSE;
+        }
+        else if (c instanceof CombinedCondition) {
+            CombinedCondition cc = (CombinedCondition) c;
+            Expr[] e = new Expr[cc.conditions.size()];
+
+            for (int i = 0; i < e.length; i++)
+                e[i] = condition(cc.conditions.get(i), scope);
+
+            return cc.operator == Operator.AND ? and(e) : or(e);
+        }
+        else if (c instanceof NotCondition) {
+            return not(condition(((NotCondition) c).condition, scope));
+        }
+        else if (c instanceof FieldCondition) {
+            final Expr e = field(((FieldCondition) c).field, scope);
+            return row -> {
+                Object v = e.get(row);
+                return v == null ? null : Convert.convert(v, Boolean.class);
+            };
+        }
+        else if (c instanceof IsNull) {
+            final Expr e = field(((IsNull) c).field, scope);
+            final boolean isNull = ((IsNull) c).isNull;
+            return row -> (e.get(row) == null) == isNull;
+        }
+        else if (c instanceof IsDistinctFrom) {
+            final IsDistinctFrom<?> d = (IsDistinctFrom<?>) c;
+            final Expr lhs = field(d.lhs, scope);
+            final Expr rhs = field(d.rhs, scope);
+            final boolean distinct = d.comparator == Comparator.IS_DISTINCT_FROM;
+
+            return row -> {
+                Object v1 = lhs.get(row);
+                Object v2 = rhs.get(row);
+                boolean equal = v1 == null || v2 == null ? v1 == v2 : compare(v1, v2) == 0;
+                return equal != distinct;
+            };
+        }
+        else if (c instanceof CompareCondition) {
+            return compare((CompareCondition) c, scope);
+        }
+        else if (c instanceof InCondition) {
+            InCondition<?> in = (InCondition<?>) c;
+            return in(field(in.field, scope), fields(in.values.toArray(Tools.EMPTY_FIELD), scope), in.comparator == Comparator.NOT_IN);
+        }
+        else if (c instanceof BetweenCondition) {
+            final BetweenCondition<?> b = (BetweenCondition<?>) c;
+            final Expr e = field(b.field, scope);
+            final Expr min = field(b.minValue, scope);
+            final Expr max = field(b.maxValue, scope);
+
+            return row -> {
+                Object v = e.get(row);
+                Object v1 = min.get(row);
+                Object v2 = max.get(row);
+
+                if (b.symmetric && v1 != null && v2 != null && compare(v1, v2) > 0) {
+                    Object t = v1;
+                    v1 = v2;
+                    v2 = t;
+                }
+
+                Object result = and3(v == null || v1 == null ? null : compare(v, v1) >= 0, v == null || v2 == null ? null : compare(v, v2) <= 0);
+                return b.not ? not3(result) : result;
+            };
+        }
+        else if (c instanceof ExistsCondition) {
+            final boolean exists = select(((ExistsCondition) c).query).relation.size > 0;
+            return row -> exists;
+        }
+        else
+            throw unsupported(c);
+    }
+
+    private static final Object and3(Object v1, Object v2) {
+        if (v1 == Boolean.FALSE || v2 == Boolean.FALSE)
+            return Boolean.FALSE;
+        else if (v1 == null || v2 == null)
+            return null;
+        else
+            return Boolean.TRUE;
+    }
+
+    private static final Object not3(Object v) {
+        return v == null ? null : v == Boolean.TRUE ? Boolean.FALSE : Boolean.TRUE;
+    }
+
+    private final Expr compare(CompareCondition c, Scope scope) {
+        final Expr lhs = field(c.field1, scope);
+
+        switch (c.comparator) {
+            case IN:
+            case NOT_IN: {
+                if (!(c.field2 instanceof ScalarSubquery))
+                    throw unsupported(c);
+
+                Relation r = select(((ScalarSubquery<?>) c.field2).query).relation;
+                if (r.width() != 1)
+                    throw new DataAccessException("IN subquery must produce one column: " + c);
+
+                final Set<Object> values = new HashSet<>();
+                boolean nulls = false;
+
+                for (Object v : r.columns[0])
+                    if (v == null)
+                        nulls = true;
+                    else
+                        values.add(normalise(v));
+
+                final boolean containsNull = nulls;
+                final boolean not = c.comparator == Comparator.NOT_IN;
+
+                return row -> {
+                    Object v = lhs.get(row);
+
+                    if (v == null)
+                        return values.isEmpty() && !containsNull ? not : null;
+                    else if (values.contains(normalise(v)))
+                        return !not;
+                    else
+                        return containsNull ? null : not;
+                };
+            }
+
+            case LIKE:
+            case NOT_LIKE:
+            case LIKE_IGNORE_CASE:
+            case NOT_LIKE_IGNORE_CASE: {
+                final boolean not = c.comparator == Comparator.NOT_LIKE || c.comparator == Comparator.NOT_LIKE_IGNORE_CASE;
+                final boolean ignoreCase = c.comparator == Comparator.LIKE_IGNORE_CASE || c.comparator == Comparator.NOT_LIKE_IGNORE_CASE;
+                final Character escape = c.escape;
+                final Expr rhs = field(c.field2, scope);
+
+                // Constant patterns are compiled only once
+                final Pattern constant = c.field2 instanceof Param && ((Param<?>) c.field2).getValue() != null
+                    ? like(((Param<?>) c.field2).getValue().toString(), escape, ignoreCase)
+                    : null;
+
+                return row -> {
+                    Object v = lhs.get(row);
+                    Object p = rhs.get(row);
+
+                    if (v == null || p == null)
+                        return null;
+
+                    Pattern pattern = constant != null ? constant : like(p.toString(), escape, ignoreCase);
+                    return pattern.matcher(v.toString()).matches() != not;
+                };
+            }
+
+            case EQUALS:
+            case NOT_EQUALS:
+            case LESS:
+            case LESS_OR_EQUAL:
+            case GREATER:
+            case GREATER_OR_EQUAL: {
+                final Comparator comparator = c.comparator;
+                final Expr rhs = field(c.field2, scope);
+
+                return row -> {
+                    Object v1 = lhs.get(row);
+                    Object v2 = rhs.get(row);
+
+                    if (v1 == null || v2 == null)
+                        return null;
+
+                    int x = compare(v1, v2);
+
+                    switch (comparator) {
+                        case EQUALS:           return x == 0;
+                        case NOT_EQUALS:       return x != 0;
+                        case LESS:             return x < 0;
+                        case LESS_OR_EQUAL:    return x <= 0;
+                        case GREATER:          return x > 0;
+                        default:               return x >= 0;
+                    }
+                };
+            }
+
+            default:
+                throw unsupported(c);
+        }
+    }
+
+    private static final Expr in(final Expr lhs, final Expr[] values, final boolean not) {
+        return row -> {
+            Object v = lhs.get(row);
+
+            if (v == null)
+                return values.length == 0 ? not : null;
+
+            boolean nulls = false;
+
+            for (Expr e : values) {
+                Object x = e.get(row);
+
+                if (x == null)
+                    nulls = true;
+                else if (compare(v, x) == 0)
+                    return !not;
+            }
+
+            return nulls ? null : not;
+        };
+    }
+
+    static final Pattern like(String pattern, Character escape, boolean ignoreCase) {
+        StringBuilder sb = new StringBuilder();
+
+        for (int i = 0; i < pattern.length(); i++) {
+            char ch = pattern.charAt(i);
+
+            if (escape != null && ch == escape && i + 1 < pattern.length())
+                sb.append(Pattern.quote(String.valueOf(pattern.charAt(++i))));
+            else if (ch == '%')
+                sb.append(".*");
+            else if (ch == '_')
+                sb.append('.');
+            else
+                sb.append(Pattern.quote(String.valueOf(ch)));
+        }
+
+        return Pattern.compile(sb.toString(), Pattern.DOTALL | (ignoreCase ? Pattern.CASE_INSENSITIVE | Pattern.UNICODE_CASE : 0));
+    }
+
+    // -------------------------------------------------------------------------
+    // XXX: Value comparison and hashing
+    // -------------------------------------------------------------------------
+
+    private static final boolean integral(Object v) {
+        return v instanceof Long || v instanceof Integer || v instanceof Short || v instanceof Byte;
+    }
+
+    private static final BigDecimal decimal(Object v) {
+        if (v instanceof BigDecimal)
+            return (BigDecimal) v;
+        else if (v instanceof BigInteger)
+            return new BigDecimal((BigInteger) v);
+        else if (integral(v))
+            return BigDecimal.valueOf(((Number) v).longValue());
+        else
+            return new BigDecimal(v.toString());
+    }
+
+    /**
+     * Compare two non-null values, comparing numbers by their numeric value
+     * irrespective of their types, and converting other values to the first
+     * value's type if needed.
+     */
+    static final int compare(Object v1, Object v2) {
+        if (v1 instanceof Number && v2 instanceof Number) {
+            if (integral(v1) && integral(v2))
+                return Long.compare(((Number) v1).longValue(), ((Number) v2).longValue());
+            else if ((v1 instanceof Double || v1 instanceof Float || integral(v1)) && (v2 instanceof Double || v2 instanceof Float || integral(v2)))
+                return Double.compare(((Number) v1).doubleValue(), ((Number) v2).doubleValue());
+            else
+                return decimal(v1).compareTo(decimal(v2));
+        }
+        else if (v1 instanceof byte[] && v2 instanceof byte[]) {
+            byte[] b1 = (byte[]) v1;
+            byte[] b2 = (byte[]) v2;
+
+            for (int i = 0; i < b1.length && i < b2.length; i++)
+                if (b1[i] != b2[i])
+                    return Integer.compare(b1[i] & 0xFF, b2[i] & 0xFF);
+
+            return Integer.compare(b1.length, b2.length);
+        }
+        else if (v1.getClass() == v2.getClass() && v1 instanceof Comparable) {
+            return ((Comparable) v1).compareTo(v2);
+        }
+        else if (v1 instanceof Comparable) {
+            Object c2 = Convert.convert(v2, v1.getClass());
+
+            if (c2 != null)
+                return ((Comparable) v1).compareTo(c2);
+        }
+
+        throw new DataAccessException("Cannot compare values " + v1 + " and " + v2);
+    }
+
+    /**
+     * A representation of a value whose {@link Object#equals(Object)} and
+     * {@link Object#hashCode()} are consistent with
+     * {@link #compare(Object, Object)}.
+     */
+    static final Object normalise(Object v) {
+        if (v instanceof Long)
+            return v;
+        else if (integral(v))
+            return ((Number) v).longValue();
+        else if (v instanceof BigInteger)
+            return ((BigInteger) v).bitLength() < 64 ? (Object) ((BigInteger) v).longValue() : new BigDecimal((BigInteger) v);
+        else if (v instanceof BigDecimal) {
+            BigDecimal d = ((BigDecimal) v).signum() == 0 ? BigDecimal.ZERO : ((BigDecimal) v).stripTrailingZeros();
+
+            if (d.scale() <= 0 && d.precision() - d.scale() < 19)
+                return d.longValueExact();
+            else
+                return d;
+        }
+        else if (v instanceof Double || v instanceof Float) {
+            double d = ((Number) v).doubleValue();
+
+            if (d == Math.rint(d) && Math.abs(d) < 9.0E18)
+                return (long) d;
+            else if (Double.isNaN(d) || Double.isInfinite(d))
+                return d;
+            else
+                return BigDecimal.valueOf(d).stripTrailingZeros();
+        }
+        else if (v instanceof byte[])
+            return ByteBuffer.wrap((byte[]) v);
+        else
+            return v;
+    }
+
+    /**
+     * A hash key for a row, or <code>null</code> if any of its values is
+     * <code>NULL</code>.
+     */
+    private static final Object key(Expr[] keys, int row) {
+        return key(keys, row, false);
+    }
+
+    private static final Object key(Expr[] keys, int row, boolean nulls) {
+        if (keys.length == 1) {
+            Object v = keys[0].get(row);
+            return v == null ? (nulls ? NULL_KEY : null) : normalise(v);
+        }
+
+        Object[] result = new Object[keys.length];
+
+        for (int i = 0; i < keys.length; i++) {
+            Object v = keys[i].get(row);
+
+            if (v == null && !nulls)
+                return null;
+
+            result[i] = v == null ? null : normalise(v);
+        }
+
+        return Arrays.asList(result);
+    }
+
+    private static final Object key(Object[][] columns, int row) {
+        Object[] result = new Object[columns.length];
+
+        for (int i = 0; i < columns.length; i++)
+            result[i] = columns[i][row] == null ? null : normalise(columns[i][row]);
+
+        return Arrays.asList(result);
+    }
+
+    private static final DataAccessException unsupported(QueryPart part) {
+        return new DataAccessException("Unsupported query part for in-memory execution: " + part);
+    }
+}
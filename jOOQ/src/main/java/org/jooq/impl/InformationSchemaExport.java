@@ -353,8 +353,11 @@ final class InformationSchemaExport {
             if (f.getDataType().scaleDefined())
                 ic.setNumericScale(f.getDataType().scale());
 
-            ic.setColumnDefault(DSL.using(configuration).render(f.getDataType().defaultValue()));
-            ic.setIsNullable(f.getDataType().nullable());
+            if (f.getDataType().defaulted())
+                ic.setColumnDefault(DSL.using(configuration).render(f.getDataType().defaultValue()));
+
+            // Primary key columns are implicitly NOT NULL
+            ic.setIsNullable(f.getDataType().nullable() && (t.getPrimaryKey() == null || !t.getPrimaryKey().getFields().contains(f)));
             ic.setOrdinalPosition(i + 1);
 
             result.getColumns().add(ic);
@@ -367,16 +370,18 @@ final class InformationSchemaExport {
             if (includedTables.contains(fk.getKey().getTable()))
                 exportKey0(result, t, fk, FOREIGN_KEY);
 
-        for (Check<?> chk : t.getChecks())
-            if (includedTables.contains(chk.getTable()))
-                exportCheck0(configuration, result, t, chk);
+        List<? extends Check<?>> checks = t.getChecks();
+        for (int i = 0; i < checks.size(); i++)
+            if (includedTables.contains(checks.get(i).getTable()))
+                exportCheck0(configuration, result, t, checks.get(i), i + 1);
 
         for (Index index : t.getIndexes())
             exportIndex0(result, t, index);
     }
 
-    private static final void exportCheck0(Configuration configuration, InformationSchema result, Table<?> t, Check<?> chk) {
-        exportTableConstraint(result, t, chk.getName(), CHECK);
+    private static final void exportCheck0(Configuration configuration, InformationSchema result, Table<?> t, Check<?> chk, int position) {
+        String checkName = isBlank(chk.getName()) ? "CHK_" + t.getName() + "_" + position : chk.getName();
+        exportTableConstraint(result, t, checkName, CHECK);
 
         CheckConstraint c = new CheckConstraint();
 
@@ -389,7 +394,7 @@ final class InformationSchemaExport {
         if (!isBlank(schemaName))
             c.setConstraintSchema(schemaName);
 
-        c.setConstraintName(chk.getName());
+        c.setConstraintName(checkName);
         c.setCheckClause(configuration.dsl().render(chk.condition()));
         result.getCheckConstraints().add(c);
     }
@@ -437,7 +442,8 @@ final class InformationSchemaExport {
     }
 
     private static final void exportKey0(InformationSchema result, Table<?> t, Key<?> key, TableConstraintType constraintType) {
-        exportTableConstraint(result, t, key.getName(), constraintType);
+        String keyName = keyName(key);
+        exportTableConstraint(result, t, keyName, constraintType);
 
         String catalogName = catalogName(t);
         String schemaName = schemaName(t);
@@ -459,7 +465,7 @@ final class InformationSchemaExport {
             kc.setColumnName(f.getName());
             kc.setTableName(t.getName());
             kc.setOrdinalPosition(++i);
-            kc.setConstraintName(key.getName());
+            kc.setConstraintName(keyName);
 
             result.getKeyColumnUsages().add(kc);
         }
@@ -482,13 +488,37 @@ final class InformationSchemaExport {
             if (!isBlank(ukSchemaName))
                 rc.setUniqueConstraintSchema(ukSchemaName);
 
-            rc.setConstraintName(key.getName());
-            rc.setUniqueConstraintName(uk.getName());
+            rc.setConstraintName(keyName);
+            rc.setUniqueConstraintName(keyName(uk));
 
             result.getReferentialConstraints().add(rc);
         }
     }
 
+    /**
+     * Constraint names identify constraints in the {@link InformationSchema},
+     * so unnamed keys (e.g. from interpreted DDL) get a name derived from their
+     * table and fields.
+     */
+    private static final String keyName(Key<?> key) {
+        if (!isBlank(key.getName()))
+            return key.getName();
+
+        StringBuilder sb = new StringBuilder(
+            key instanceof ForeignKey
+          ? "FK_"
+          : ((UniqueKey<?>) key).isPrimary()
+          ? "PK_"
+          : "UK_"
+        ).append(key.getTable().getName());
+
+        if (!(key instanceof UniqueKey && ((UniqueKey<?>) key).isPrimary()))
+            for (Field<?> f : key.getFields())
+                sb.append('_').append(f.getName());
+
+        return sb.toString();
+    }
+
     private static final void exportTableConstraint(InformationSchema result, Table<?> t, String constraintName, TableConstraintType constraintType) {
         TableConstraint tc = new TableConstraint();
 
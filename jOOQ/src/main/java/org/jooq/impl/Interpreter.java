@@ -123,6 +123,7 @@ final class Interpreter {
     private final Deque<DelayedForeignKey>                       delayedForeignKeyDeclarations;
 
     // Caches
+    private Meta                                                 interpretedMeta;
     private final Map<Name, MutableCatalog.InterpretedCatalog>   interpretedCatalogs    = new HashMap<>();
     private final Map<Name, MutableSchema.InterpretedSchema>     interpretedSchemas     = new HashMap<>();
     private final Map<Name, MutableTable.InterpretedTable>       interpretedTables      = new HashMap<>();
@@ -144,9 +145,17 @@ final class Interpreter {
     }
 
     final Meta meta() {
-        applyDelayedForeignKeys();
+        if (!delayedForeignKeyDeclarations.isEmpty()) {
+            applyDelayedForeignKeys();
+            invalidateCaches();
+        }
+
+        // Repeated calls share the same Meta, and its caches, until the next
+        // DDL statement is interpreted
+        if (interpretedMeta != null)
+            return interpretedMeta;
 
-        return new AbstractMeta(configuration) {
+        return interpretedMeta = new AbstractMeta(configuration) {
             private static final long serialVersionUID = 2052806256506059701L;
 
             @Override
@@ -166,7 +175,8 @@ final class Interpreter {
     // -------------------------------------------------------------------------
 
     final void accept(Query query) {
-        invalidateCaches();
+        if (!ignored(query))
+            invalidateCaches();
 
         if (log.isDebugEnabled())
             log.debug(query);
@@ -243,13 +253,27 @@ final class Interpreter {
             throw unsupportedQuery(query);
     }
 
+    /**
+     * Whether a query is ignored by the interpreter, i.e. whether it cannot
+     * modify the interpreted meta data.
+     */
+    private static final boolean ignored(Query query) {
+        return query instanceof Select
+            || query instanceof Update
+            || query instanceof Insert
+            || query instanceof Delete
+            || query instanceof Merge;
+    }
+
     private final void invalidateCaches() {
+        interpretedMeta = null;
         interpretedCatalogs.clear();
         interpretedSchemas.clear();
         interpretedTables.clear();
         interpretedUniqueKeys.clear();
         interpretedForeignKeys.clear();
         interpretedIndexes.clear();
+        interpretedDomains.clear();
         interpretedSequences.clear();
     }
 
@@ -1355,10 +1379,12 @@ final class Interpreter {
         return find(m, (UnqualifiedName) named.getUnqualifiedName());
     }
 
-    private static final <M extends MutableNamed> M find(List<? extends M> list, Named named) {
+    private final <M extends MutableNamed> M find(List<? extends M> list, Named named) {
         UnqualifiedName n = (UnqualifiedName) named.getUnqualifiedName();
 
-        // TODO Avoid O(N) lookups. Use Maps instead
+        if (list instanceof MutableNamedList)
+            return ((MutableNamedList<? extends M>) list).find(key(n));
+
         for (M m : list)
             if ((m = find(m, n)) != null)
                 return m;
@@ -1366,21 +1392,35 @@ final class Interpreter {
         return null;
     }
 
-    private static final int indexOrFail(List<? extends MutableNamed> list, Named named) {
-        int result = -1;
+    private final int indexOrFail(List<? extends MutableNamed> list, Named named) {
+        MutableNamed m = find(list, named);
 
-        // TODO Avoid O(N) lookups. Use Maps instead
-        for (int i = 0; i < list.size(); i++) {
-            if (list.get(i).nameEquals((UnqualifiedName) named.getUnqualifiedName())) {
-                result = i;
-                break;
-            }
-        }
-
-        if (result == -1)
+        if (m == null)
             throw notExists(named);
 
-        return result;
+        // Callers insert at the returned position, which is O(N) anyway
+        return list.indexOf(m);
+    }
+
+    /**
+     * The lookup key of a name, such that two names are equal according to
+     * {@link #caseSensitivity} if their keys are equal.
+     */
+    private final String key(UnqualifiedName name) {
+        switch (caseSensitivity) {
+            case ALWAYS:
+                return name.last();
+
+            case WHEN_QUOTED:
+                return normaliseNameCase(configuration, name.last(), name.quoted() == QUOTED, locale);
+
+            case NEVER:
+                return name.last().toUpperCase(locale);
+
+            case DEFAULT:
+            default:
+                throw new IllegalStateException();
+        }
     }
 
     private static final InterpreterNameLookupCaseSensitivity caseSensitivity(Configuration configuration) {
@@ -1437,8 +1477,9 @@ final class Interpreter {
 
     private abstract class MutableNamed {
         private UnqualifiedName                      name;
-        private String                               upper;
+        private String                               key;
         private Comment                              comment;
+        final List<MutableNamedList<?>>              lists = new ArrayList<>(1);
 
         MutableNamed(UnqualifiedName name) {
             this(name, null);
@@ -1464,8 +1505,19 @@ final class Interpreter {
         }
 
         void name(UnqualifiedName n) {
+            String previous = key;
+
             this.name = n;
-            this.upper = name.last().toUpperCase(locale);
+            this.key = Interpreter.this.key(n);
+
+            // Keep the name indexes of all containing lists up to date
+            if (previous != null)
+                for (MutableNamedList<?> list : lists)
+                    list.rekey(this, previous);
+        }
+
+        String key() {
+            return key;
         }
 
         Comment comment() {
@@ -1477,21 +1529,7 @@ final class Interpreter {
         }
 
         boolean nameEquals(UnqualifiedName other) {
-            switch (caseSensitivity) {
-                case ALWAYS:
-                    return name.last().equals(other.last());
-
-                case WHEN_QUOTED:
-                    return normaliseNameCase(configuration, name.last(), name.quoted() == QUOTED, locale).equals(
-                           normaliseNameCase(configuration, other.last(), other.quoted() == QUOTED, locale));
-
-                case NEVER:
-                    return upper.equalsIgnoreCase(other.last().toUpperCase(locale));
-
-                case DEFAULT:
-                default:
-                    throw new IllegalStateException();
-            }
+            return key.equals(Interpreter.this.key(other));
         }
 
         abstract MutableNamed parent();
@@ -2215,12 +2253,20 @@ final class Interpreter {
         }
     }
 
+    /**
+     * A list of named objects, indexing the first element for each
+     * {@link MutableNamed#key()}.
+     * <p>
+     * The index is built lazily on the first lookup, and then maintained
+     * along with modifications to the list, and renames of its elements.
+     */
     private final class MutableNamedList<N extends MutableNamed> extends AbstractList<N> {
-        private final List<N> delegate = new ArrayList<>();
+        private final List<N>   delegate = new ArrayList<>();
+        private Map<String, N>  index;
 
         @Override
-        public N get(int index) {
-            return delegate.get(index);
+        public N get(int i) {
+            return delegate.get(i);
         }
 
         @Override
@@ -2229,21 +2275,98 @@ final class Interpreter {
         }
 
         @Override
-        public N set(int index, N element) {
-            return delegate.set(index, element);
+        public int indexOf(Object o) {
+            return delegate.indexOf(o);
+        }
+
+        @Override
+        public N set(int i, N element) {
+            N replaced = delegate.set(i, element);
+            unregister(replaced);
+            register(element);
+
+            if (index != null) {
+                unindex(replaced, replaced.key());
+                index(element, i);
+            }
+
+            return replaced;
         }
 
         @Override
-        public void add(int index, N element) {
-            delegate.add(index, element);
+        public void add(int i, N element) {
+            delegate.add(i, element);
+            register(element);
+
+            if (index != null)
+                index(element, i);
         }
 
         @Override
-        public N remove(int index) {
-            N removed = delegate.remove(index);
+        public N remove(int i) {
+            N removed = delegate.remove(i);
+            unregister(removed);
+
+            if (index != null)
+                unindex(removed, removed.key());
+
             removed.onDrop();
             return removed;
         }
+
+        private void register(N element) {
+            element.lists.add(this);
+        }
+
+        private void unregister(N element) {
+            for (Iterator<MutableNamedList<?>> it = element.lists.iterator(); it.hasNext();) {
+                if (it.next() == this) {
+                    it.remove();
+                    break;
+                }
+            }
+        }
+
+        void rekey(MutableNamed element, String previous) {
+            if (index != null) {
+                unindex((N) element, previous);
+                index((N) element, delegate.indexOf(element));
+            }
+        }
+
+        private void index(N element, int i) {
+            N existing = index.get(element.key());
+
+            if (existing == null || i < delegate.indexOf(existing))
+                index.put(element.key(), element);
+        }
+
+        private void unindex(N element, String key) {
+            if (index.get(key) == element) {
+                index.remove(key);
+
+                for (N n : delegate) {
+                    if (n.key().equals(key)) {
+                        index.put(key, n);
+                        break;
+                    }
+                }
+            }
+        }
+
+        /**
+         * Find the first element whose key equals the argument key.
+         */
+        N find(String key) {
+            if (index == null) {
+                index = new HashMap<>();
+
+                for (N n : delegate)
+                    index.putIfAbsent(n.key(), n);
+            }
+
+            return index.get(key);
+        }
     }
 
     @Override
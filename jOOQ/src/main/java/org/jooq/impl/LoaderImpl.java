@@ -38,6 +38,7 @@
 package org.jooq.impl;
 
 import static java.lang.Boolean.FALSE;
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
 // ...
 import static org.jooq.SQLDialect.MARIADB;
 // ...
@@ -55,15 +56,26 @@ import java.nio.charset.CharsetDecoder;
 import java.sql.Connection;
 import java.sql.PreparedStatement;
 import java.sql.SQLException;
+import java.util.ArrayDeque;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.BitSet;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.stream.Stream;
 
 import javax.xml.bind.DatatypeConverter;
@@ -160,6 +172,7 @@ final class LoaderImpl<R extends Record> implements
     private int                          batchAfter                       = 1;
     private int                          bulk                             = BULK_NONE;
     private int                          bulkAfter                        = 1;
+    private int                          parallelism                      = 1;
     private int                          content                          = CONTENT_CSV;
     private Source                       input;
     private Iterator<? extends Object[]> arrays;
@@ -298,6 +311,15 @@ final class LoaderImpl<R extends Record> implements
         return this;
     }
 
+    @Override
+    public final LoaderImpl<R> parallelism(int number) {
+        if (number < 1)
+            throw new LoaderConfigurationException("Parallelism must be at least 1: " + number);
+
+        parallelism = number;
+        return this;
+    }
+
     @Override
     public final LoaderRowsStep<R> loadArrays(Object[]... a) {
         return loadArrays(Arrays.asList(a));
@@ -771,6 +793,19 @@ final class LoaderImpl<R extends Record> implements
     }
 
     private final void executeSQL(final Iterator<? extends Object[]> iterator) {
+        if (parallelism > 1) {
+            if (commit != COMMIT_ALL
+                    && batch != BATCH_ALL
+                    && bulk != BULK_ALL
+                    && !(configuration.connectionProvider() instanceof DefaultConnectionProvider)) {
+                executeParallel(iterator);
+                return;
+            }
+            else {
+                log.info("Parallel loading", "Loading sequentially, as parallelism is not supported with commitAll(), batchAll(), bulkAll(), or a single connection");
+            }
+        }
+
         configuration.dsl().connection(new ConnectionRunnable() {
             @Override
             public void run(Connection connection) throws Exception {
@@ -810,34 +845,7 @@ final class LoaderImpl<R extends Record> implements
             rows: while (iterator.hasNext() && ((row = iterator.next()) != null)) {
                 try {
 
-                    // [#5858] Work with non String[] types from here on (e.g. after CSV import)
-                    if (row.getClass() != Object[].class)
-                        row = Arrays.copyOf(row, row.length, Object[].class);
-
-                    // [#5145][#8755] Lazy initialisation of fields from the first row
-                    // in case fields(LoaderFieldMapper) or fieldsCorresponding() was used
-                    if (fields == null)
-                        fields0(row);
-
-                    // [#1627] [#5858] Handle NULL values and base64 encodings
-                    // [#2741]         TODO: This logic will be externalised in new SPI
-                    // [#8829]         JSON binary data has already been decoded at this point
-                    for (int i = 0; i < row.length; i++)
-                        if (StringUtils.equals(nullString, row[i]))
-                            row[i] = null;
-                        else if (i < fields.length && fields[i] != null)
-                            if (fields[i].getType() == byte[].class && row[i] instanceof String)
-                                row[i] = DatatypeConverter.parseBase64Binary((String) row[i]);
-
-                    // [#10583] Pad row to the fields length
-                    if (row.length < fields.length)
-                        row = Arrays.copyOf(row, fields.length);
-
-                    rowCtx.row(row);
-                    if (onRowStart != null) {
-                        onRowStart.row(rowCtx);
-                        row = rowCtx.row();
-                    }
+                    row = prepareRow(row);
 
                     // TODO: In batch mode, we can probably optimise this by not creating
                     // new statements every time, just to convert bind values to their
@@ -854,30 +862,7 @@ final class LoaderImpl<R extends Record> implements
                         insert.newRecord();
                     }
 
-                    for (int i = 0; i < row.length; i++)
-                        if (i < fields.length && fields[i] != null)
-                            addValue0(insert, fields[i], row[i]);
-
-                    // TODO: This is only supported by some dialects. Let other
-                    // dialects execute a SELECT and then either an INSERT or UPDATE
-                    if (onDuplicate == ON_DUPLICATE_KEY_UPDATE) {
-                        insert.onDuplicateKeyUpdate(true);
-
-                        for (int i = 0; i < row.length; i++)
-                            if (i < fields.length && fields[i] != null && !primaryKey.get(i))
-                                addValueForUpdate0(insert, fields[i], row[i]);
-                    }
-
-                    // [#5200]  When the primary key is not supplied in the data,
-                    //          we'll assume it uses an identity, and there will never be duplicates
-                    // [#10358] TODO: The above should be moved inside InsertQueryImpl
-                    // [#7253]  Use native onDuplicateKeyIgnore() support
-                    else if (onDuplicate == ON_DUPLICATE_KEY_IGNORE && primaryKey.cardinality() > 0) {
-                        insert.onDuplicateKeyIgnore(true);
-                    }
-
-                    // Don't do anything. Let the execution fail
-                    else if (onDuplicate == ON_DUPLICATE_KEY_ERROR) {}
+                    addRow(insert, row);
 
                     try {
                         if (bulk != BULK_NONE) {
@@ -992,6 +977,491 @@ final class LoaderImpl<R extends Record> implements
         }
     }
 
+    // -------------------------------------------------------------------------
+    // Parallel execution
+    // -------------------------------------------------------------------------
+
+    /**
+     * The approximate number of rows handed to a worker at once.
+     */
+    private static final int PARALLEL_CHUNK_SIZE = 256;
+
+    /**
+     * How long the calling thread waits for workers before it checks whether
+     * any of them are still running.
+     */
+    private static final long PARALLEL_POLL_MILLIS = 100L;
+
+    /**
+     * How long the calling thread waits for workers to start, before it gives
+     * up on those that haven't.
+     */
+    private static final long PARALLEL_START_MILLIS = 10000L;
+
+    /**
+     * Read rows on the calling thread, and execute them in chunks on
+     * {@link #parallelism} workers, each with its own connection. Workers run
+     * on dedicated threads, as a shared executor, such as the default
+     * {@link Configuration#executorProvider()}'s
+     * {@link java.util.concurrent.ForkJoinPool#commonPool()}, may not start
+     * all of them, or be starved by their blocking JDBC calls.
+     * <p>
+     * Chunk outcomes are reported in source order on the calling thread, which
+     * keeps counters, errors and {@link #onRowEnd} calls consistent with the
+     * sequential execution. Chunks that couldn't be executed because all
+     * workers terminated are not reported.
+     */
+    private final void executeParallel(Iterator<? extends Object[]> iterator) {
+        final int rowsPerExecution = (bulk == BULK_AFTER ? bulkAfter : 1) * (batch == BATCH_AFTER ? batchAfter : 1);
+        final int rowsPerChunk = rowsPerExecution * Math.max(1, PARALLEL_CHUNK_SIZE / rowsPerExecution);
+        final BlockingQueue<Chunk> queue = new ArrayBlockingQueue<>(parallelism * 2);
+        final ArrayDeque<Chunk> pending = new ArrayDeque<>();
+        final AtomicBoolean aborted = new AtomicBoolean();
+        final List<LoaderError> workerErrors = Collections.synchronizedList(new ArrayList<>());
+
+        // The number of workers that haven't terminated yet
+        final CountDownLatch running = new CountDownLatch(parallelism);
+        final CountDownLatch started = new CountDownLatch(parallelism);
+        final List<Worker> workers = new ArrayList<>(parallelism);
+        final ExecutorService executor = Executors.newFixedThreadPool(parallelism, new ThreadFactory() {
+            final AtomicInteger count = new AtomicInteger();
+
+            @Override
+            public Thread newThread(Runnable r) {
+                Thread thread = new Thread(r, "jooq-loader-" + count.incrementAndGet());
+                thread.setDaemon(true);
+                return thread;
+            }
+        });
+
+        boolean interrupted = false;
+
+        try {
+            for (int i = 0; i < parallelism; i++) {
+                Worker worker = new Worker(queue, aborted, running, started, workerErrors, rowsPerExecution);
+                workers.add(worker);
+
+                try {
+                    executor.execute(worker);
+                }
+                catch (RejectedExecutionException e) {
+                    workerErrors.add(new LoaderErrorImpl(new DataAccessException("Cannot start loader worker", e), null, -1, null));
+                    aborted.set(true);
+                    worker.claim();
+                    running.countDown();
+                    started.countDown();
+                }
+            }
+
+            // Watchdog: Workers that haven't started in time never will, and
+            // mustn't be waited for
+            if (!started.await(PARALLEL_START_MILLIS, MILLISECONDS)) {
+                int missing = 0;
+
+                for (Worker worker : workers) {
+                    if (worker.claim()) {
+                        running.countDown();
+                        missing++;
+                    }
+                }
+
+                if (missing == parallelism) {
+                    workerErrors.add(new LoaderErrorImpl(new DataAccessException("No loader worker started within " + PARALLEL_START_MILLIS + "ms"), null, -1, null));
+                    aborted.set(true);
+                }
+                else if (missing > 0) {
+                    log.warn("Parallel loading", missing + " of " + parallelism + " loader workers did not start within " + PARALLEL_START_MILLIS + "ms");
+                }
+            }
+
+            Object[] row;
+            int index = 0;
+            List<Object[]> rows = new ArrayList<>(rowsPerChunk);
+
+            while (!aborted.get() && iterator.hasNext() && ((row = iterator.next()) != null)) {
+                rows.add(prepareRow(row));
+
+                if (rows.size() == rowsPerChunk) {
+                    submit(queue, pending, running, aborted, new Chunk(index, rows));
+                    index += rows.size();
+                    rows = new ArrayList<>(rowsPerChunk);
+                }
+
+                while (!pending.isEmpty() && pending.peekFirst().done.getCount() == 0)
+                    report(pending.pollFirst(), running);
+            }
+
+            if (!rows.isEmpty() && !aborted.get())
+                submit(queue, pending, running, aborted, new Chunk(index, rows));
+
+            for (int i = 0; i < parallelism; i++)
+                if (!offer(queue, running, Chunk.END))
+                    break;
+
+            while (!pending.isEmpty())
+                report(pending.pollFirst(), running);
+
+            running.await();
+        }
+        catch (InterruptedException e) {
+            interrupted = true;
+            aborted.set(true);
+            queue.clear();
+
+            for (int i = 0; i < parallelism; i++)
+                queue.offer(Chunk.END);
+
+            Thread.currentThread().interrupt();
+        }
+
+        // Already started workers still consume the END chunks
+        finally {
+            executor.shutdown();
+        }
+
+        errors.addAll(workerErrors);
+
+        if (interrupted)
+            throw new DataAccessException("Interrupted while loading data");
+    }
+
+    private final void submit(
+        BlockingQueue<Chunk> queue,
+        ArrayDeque<Chunk> pending,
+        CountDownLatch running,
+        AtomicBoolean aborted,
+        Chunk chunk
+    ) throws InterruptedException {
+        if (offer(queue, running, chunk))
+            pending.addLast(chunk);
+        else
+            aborted.set(true);
+
+        // Back-pressure: Don't read ahead more than the workers can process
+        while (pending.size() > parallelism * 2)
+            report(pending.pollFirst(), running);
+    }
+
+    /**
+     * Put a chunk in the queue, unless all workers have terminated, in case of
+     * which nothing drains the queue anymore.
+     */
+    private static final boolean offer(BlockingQueue<Chunk> queue, CountDownLatch running, Chunk chunk) throws InterruptedException {
+        while (!queue.offer(chunk, PARALLEL_POLL_MILLIS, MILLISECONDS))
+            if (running.getCount() == 0)
+                return false;
+
+        return true;
+    }
+
+    private final void report(Chunk chunk, CountDownLatch running) throws InterruptedException {
+
+        // Workers count down a chunk before they terminate, so a chunk that
+        // isn't done when no workers are running will never be executed
+        while (!chunk.done.await(PARALLEL_POLL_MILLIS, MILLISECONDS))
+            if (running.getCount() == 0 && chunk.done.getCount() > 0)
+                return;
+
+        processed += chunk.processed;
+        executed += chunk.executed;
+        stored += chunk.stored;
+        ignored += chunk.ignored;
+        errors.addAll(chunk.errors);
+
+        if (onRowEnd != null)
+            for (int i = 0; i < chunk.processed; i++)
+                onRowEnd.row(rowCtx.row(chunk.rows.get(i)));
+    }
+
+    /**
+     * A chunk of rows that is executed by a single worker, and its outcome.
+     */
+    private static final class Chunk {
+        static final Chunk           END    = new Chunk(-1, Collections.emptyList());
+
+        final int                    index;
+        final List<Object[]>         rows;
+        final CountDownLatch         done   = new CountDownLatch(1);
+        final List<LoaderError>      errors = new ArrayList<>();
+        int                          processed;
+        int                          executed;
+        int                          stored;
+        int                          ignored;
+
+        Chunk(int index, List<Object[]> rows) {
+            this.index = index;
+            this.rows = rows;
+        }
+    }
+
+    private final class Worker implements Runnable {
+        private final BlockingQueue<Chunk> queue;
+        private final AtomicBoolean        aborted;
+        private final CountDownLatch       running;
+        private final CountDownLatch       started;
+        private final AtomicBoolean        claimed = new AtomicBoolean();
+        private final List<LoaderError>    workerErrors;
+        private final int                  rowsPerExecution;
+
+        Worker(BlockingQueue<Chunk> queue, AtomicBoolean aborted, CountDownLatch running, CountDownLatch started, List<LoaderError> workerErrors, int rowsPerExecution) {
+            this.queue = queue;
+            this.aborted = aborted;
+            this.running = running;
+            this.started = started;
+            this.workerErrors = workerErrors;
+            this.rowsPerExecution = rowsPerExecution;
+        }
+
+        /**
+         * Claim this worker, either to run it, or to give up on it, if it
+         * hasn't started yet.
+         */
+        final boolean claim() {
+            return claimed.compareAndSet(false, true);
+        }
+
+        @Override
+        public void run() {
+
+            // The calling thread has given up on this worker
+            if (!claim())
+                return;
+
+            started.countDown();
+
+            try {
+                run0();
+            }
+            finally {
+                running.countDown();
+            }
+        }
+
+        private final void run0() {
+            Connection connection = null;
+            CachedPSListener cache = null;
+            DSLContext ctx = null;
+            int executions = 0;
+
+            try {
+                connection = configuration.connectionProvider().acquire();
+                Configuration c = configuration.derive(new DefaultConnectionProvider(connection));
+
+                if (FALSE.equals(c.settings().isCachePreparedStatementInLoader())) {
+                    ctx = c.dsl();
+                }
+                else {
+                    cache = new CachedPSListener();
+                    ctx = c.derive(combine(new DefaultExecuteListenerProvider(cache), c.executeListenerProviders())).dsl();
+                }
+            }
+            catch (RuntimeException e) {
+                workerErrors.add(new LoaderErrorImpl(e instanceof DataAccessException ? (DataAccessException) e : new DataAccessException("Error while acquiring connection", e), null, -1, null));
+                aborted.set(true);
+            }
+
+            try {
+                for (;;) {
+                    Chunk chunk = queue.take();
+
+                    if (chunk == Chunk.END)
+                        break;
+
+                    try {
+                        if (ctx != null && !aborted.get())
+                            executions = execute(chunk, ctx, connection, executions);
+                    }
+                    catch (RuntimeException e) {
+                        chunk.errors.add(new LoaderErrorImpl(e instanceof DataAccessException ? (DataAccessException) e : new DataAccessException("Error while loading data", e), null, chunk.index, null));
+                        aborted.set(true);
+                    }
+                    finally {
+                        chunk.done.countDown();
+                    }
+                }
+
+                // Commit remaining elements in COMMIT_AFTER mode
+                if (ctx != null && commit == COMMIT_AFTER)
+                    connection.commit();
+            }
+            catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            catch (SQLException e) {
+                workerErrors.add(new LoaderErrorImpl(Tools.translate(null, e), null, -1, null));
+            }
+            finally {
+                if (cache != null) {
+                    try {
+                        cache.close();
+                    }
+                    catch (Exception e) {}
+                }
+
+                if (connection != null)
+                    configuration.connectionProvider().release(connection);
+            }
+        }
+
+        private final int execute(Chunk chunk, DSLContext ctx, Connection connection, int executions) {
+            List<Object[]> rows = chunk.rows;
+
+            for (int from = 0; from < rows.size(); from += rowsPerExecution) {
+                if (aborted.get())
+                    break;
+
+                int to = Math.min(rows.size(), from + rowsPerExecution);
+                int bulkSize = bulk == BULK_AFTER ? bulkAfter : 1;
+                BatchBindStep bind = null;
+                InsertQuery<R> insert = null;
+
+                try {
+                    int[] rowcounts = {};
+
+                    for (int i = from; i < to; i++) {
+                        if (insert == null)
+                            insert = ctx.insertQuery(table);
+                        else
+                            insert.newRecord();
+
+                        addRow(insert, rows.get(i));
+
+                        // Bind complete bulk statements to the batch. Incomplete
+                        // bulk statements are executed individually, below
+                        if (batch != BATCH_NONE && (i - from + 1) % bulkSize == 0) {
+                            if (bind == null)
+                                bind = ctx.batch(insert);
+
+                            bind.bind(insert.getBindValues().toArray());
+                            insert = null;
+                        }
+                    }
+
+                    if (bind != null)
+                        rowcounts = bind.execute();
+
+                    if (insert != null) {
+                        rowcounts = Arrays.copyOf(rowcounts, rowcounts.length + 1);
+                        rowcounts[rowcounts.length - 1] = insert.execute();
+                    }
+
+                    int buffered = to - from;
+                    int totalRowCounts = 0;
+
+                    // [#10358] The MySQL dialect category doesn't return rowcounts
+                    //          in INSERT .. ON DUPLICATE KEY UPDATE statements, but
+                    //          1 = INSERT, 2 = UPDATE, instead
+                    if (onDuplicate == ON_DUPLICATE_KEY_UPDATE && NO_SUPPORT_ROWCOUNT_ON_DUPLICATE.contains(ctx.dialect()))
+                        totalRowCounts = buffered;
+                    else
+                        for (int rowCount : rowcounts)
+                            totalRowCounts += rowCount;
+
+                    chunk.processed += buffered;
+                    chunk.stored += totalRowCounts;
+                    chunk.ignored += buffered - totalRowCounts;
+                    chunk.executed++;
+                }
+                catch (DataAccessException e) {
+                    chunk.errors.add(new LoaderErrorImpl(e, rows.get(to - 1), chunk.index + to - 1, insert));
+                    chunk.processed += to - from;
+                    chunk.ignored += to - from;
+
+                    if (onError == ON_ERROR_ABORT)
+                        aborted.set(true);
+
+                    continue;
+                }
+
+                if (commit == COMMIT_AFTER && ++executions % commitAfter == 0) {
+                    try {
+                        connection.commit();
+                    }
+                    catch (SQLException e) {
+                        chunk.errors.add(new LoaderErrorImpl(Tools.translate(null, e), rows.get(to - 1), chunk.index + to - 1, null));
+
+                        if (onError == ON_ERROR_ABORT)
+                            aborted.set(true);
+                    }
+                }
+            }
+
+            return executions;
+        }
+    }
+
+    // -------------------------------------------------------------------------
+    // Row handling
+    // -------------------------------------------------------------------------
+
+    /**
+     * Normalise a row read from the source and apply the
+     * {@link #onRowStart(LoaderRowListener)} listener to it.
+     */
+    private final Object[] prepareRow(Object[] row) {
+
+        // [#5858] Work with non String[] types from here on (e.g. after CSV import)
+        if (row.getClass() != Object[].class)
+            row = Arrays.copyOf(row, row.length, Object[].class);
+
+        // [#5145][#8755] Lazy initialisation of fields from the first row
+        // in case fields(LoaderFieldMapper) or fieldsCorresponding() was used
+        if (fields == null)
+            fields0(row);
+
+        // [#1627] [#5858] Handle NULL values and base64 encodings
+        // [#2741]         TODO: This logic will be externalised in new SPI
+        // [#8829]         JSON binary data has already been decoded at this point
+        for (int i = 0; i < row.length; i++)
+            if (StringUtils.equals(nullString, row[i]))
+                row[i] = null;
+            else if (i < fields.length && fields[i] != null)
+                if (fields[i].getType() == byte[].class && row[i] instanceof String)
+                    row[i] = DatatypeConverter.parseBase64Binary((String) row[i]);
+
+        // [#10583] Pad row to the fields length
+        if (row.length < fields.length)
+            row = Arrays.copyOf(row, fields.length);
+
+        rowCtx.row(row);
+        if (onRowStart != null) {
+            onRowStart.row(rowCtx);
+            row = rowCtx.row();
+        }
+
+        return row;
+    }
+
+    /**
+     * Add a row's values to the current record of an insert query.
+     */
+    private final void addRow(InsertQuery<R> insert, Object[] row) {
+        for (int i = 0; i < row.length; i++)
+            if (i < fields.length && fields[i] != null)
+                addValue0(insert, fields[i], row[i]);
+
+        // TODO: This is only supported by some dialects. Let other
+        // dialects execute a SELECT and then either an INSERT or UPDATE
+        if (onDuplicate == ON_DUPLICATE_KEY_UPDATE) {
+            insert.onDuplicateKeyUpdate(true);
+
+            for (int i = 0; i < row.length; i++)
+                if (i < fields.length && fields[i] != null && !primaryKey.get(i))
+                    addValueForUpdate0(insert, fields[i], row[i]);
+        }
+
+        // [#5200]  When the primary key is not supplied in the data,
+        //          we'll assume it uses an identity, and there will never be duplicates
+        // [#10358] TODO: The above should be moved inside InsertQueryImpl
+        // [#7253]  Use native onDuplicateKeyIgnore() support
+        else if (onDuplicate == ON_DUPLICATE_KEY_IGNORE && primaryKey.cardinality() > 0) {
+            insert.onDuplicateKeyIgnore(true);
+        }
+
+        // Don't do anything. Let the execution fail
+        else if (onDuplicate == ON_DUPLICATE_KEY_ERROR) {}
+    }
+
     private final void commit() throws SQLException {
         Connection connection = configuration.connectionProvider().acquire();
 
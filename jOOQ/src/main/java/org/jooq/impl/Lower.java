@@ -52,7 +52,7 @@ final class Lower extends AbstractField<String> {
      * Generated UID
      */
     private static final long serialVersionUID = -9070564546827153434L;
-    private final Field<String> field;
+    final Field<String>         field;
 
     Lower(Field<String> field) {
         super(N_LOWER, field.getDataType());
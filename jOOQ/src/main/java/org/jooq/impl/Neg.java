@@ -69,9 +69,9 @@ final class Neg<T> extends AbstractTransformable<T> {
     private static final Set<SQLDialect> EMULATE_BIT_NOT  = SQLDialect.supportedBy(HSQLDB);
     private static final Set<SQLDialect> SUPPORT_BIT_NOT  = SQLDialect.supportedBy(H2);
 
-    private final Field<T>               field;
+    final Field<T>                       field;
     private final boolean                internal;
-    private final ExpressionOperator     operator;
+    final ExpressionOperator             operator;
 
     Neg(Field<T> field, boolean internal, ExpressionOperator operator) {
         super(operator.toName(), field.getDataType());
@@ -56,8 +56,8 @@ final class Nvl<T> extends AbstractField<T> {
      */
     private static final long serialVersionUID = -7273879239726265322L;
 
-    private final Field<T>    arg1;
-    private final Field<T>    arg2;
+    final Field<T>            arg1;
+    final Field<T>            arg2;
 
     Nvl(Field<T> arg1, Field<T> arg2) {
         super(N_NVL, arg1.getDataType());
@@ -11769,7 +11769,7 @@ final class ParserImpl implements Parser {
 
             switch (c) {
                 case ' ':
-                    skip = skip + (afterWhitespace(ctx, p) - p - 1);
+                    skip = skip + (afterWhitespace0(ctx, p, false) - p - 1);
                     break;
 
                 default:
@@ -11809,6 +11809,35 @@ final class ParserImpl implements Parser {
     }
 
     private static final int afterWhitespace(ParserContext ctx, int position, boolean peekIntoParens) {
+        if (peekIntoParens)
+            return afterWhitespace0(ctx, position, true);
+
+        int result = ctx.afterWhitespace(position);
+        if (result < 0)
+            ctx.afterWhitespace(position, result = afterWhitespace0(ctx, position, false));
+
+        return result;
+    }
+
+    private static final int afterWhitespace0(ParserContext ctx, int position, boolean peekIntoParens) {
+
+        // Most tokens aren't preceded by any whitespace or comments, as those
+        // have already been skipped after the previous token
+        if (position < ctx.sql.length) {
+            switch (ctx.sql[position]) {
+                case ' ':
+                case '\t':
+                case '\r':
+                case '\n':
+                case '(':
+                case '/':
+                case '-':
+                    break;
+
+                default:
+                    return position;
+            }
+        }
 
         // [#8074] The SQL standard and some implementations (e.g. PostgreSQL,
         //         SQL Server) support nesting block comments
@@ -12142,6 +12171,9 @@ final class ParserContext {
     private boolean                                 metaLookupsForceIgnore;
     private int                                     position        = 0;
     private boolean                                 ignoreHints     = true;
+    private int                                     whitespaceFrom  = -1;
+    private int                                     whitespaceTo;
+    private boolean                                 whitespaceHints;
     private final Object[]                          bindings;
     private int                                     bindIndex       = 0;
     private String                                  delimiter       = ";";
@@ -12352,6 +12384,24 @@ final class ParserContext {
         ignoreHints = newIgnoreHints;
     }
 
+    /**
+     * The position after the whitespace and comments starting at a given
+     * position, if it has been remembered, or <code>-1</code> otherwise.
+     * <p>
+     * Keyword and operator probing tends to skip the same whitespace and
+     * comments many times at the same position, e.g. when trying a long list of
+     * alternative keywords, so the most recent skip is remembered.
+     */
+    int afterWhitespace(int from) {
+        return from == whitespaceFrom && ignoreHints == whitespaceHints ? whitespaceTo : -1;
+    }
+
+    void afterWhitespace(int from, int to) {
+        whitespaceFrom = from;
+        whitespaceTo = to;
+        whitespaceHints = ignoreHints;
+    }
+
     boolean isWhitespace() {
         return Character.isWhitespace(character());
     }
@@ -0,0 +1,151 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Other licenses:
+ * -----------------------------------------------------------------------------
+ * Commercial licenses for this work are available. These replace the above
+ * ASL 2.0 and offer limited warranties, support, maintenance, and commercial
+ * database integrations.
+ *
+ * For more information, please visit: http://www.jooq.org/licenses
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ */
+package org.jooq.impl;
+
+import static java.lang.Boolean.TRUE;
+import static org.jooq.impl.Tools.DataCacheKey.DATA_CACHE_PARSING_CONNECTION;
+
+import org.jooq.Configuration;
+import org.jooq.SQLDialect;
+import org.jooq.conf.Settings;
+import org.jooq.conf.SettingsTools;
+import org.jooq.impl.Tools.Cache;
+
+/**
+ * A cache for SQL strings translated by a {@link ParsingConnection}.
+ * <p>
+ * Applications tend to send the same SQL strings over and over again, which
+ * makes parsing and rendering them again a significant, avoidable overhead.
+ * Bind variables are left untouched by the translation, so the translated SQL
+ * string is all that needs to be remembered. Keys are only ever compared within
+ * the same {@link SQLDialect} and equal {@link Settings}, as those govern both
+ * parsing and rendering. Cached keys hold a copy of the {@link Settings} they
+ * were translated with, so modifying a {@link Settings} instance in place does
+ * not produce stale SQL.
+ *
+ * @author Lukas Eder
+ */
+final class ParsingCache {
+
+    private final ConcurrentCache<Key, String> cache;
+
+    private ParsingCache(int size) {
+        this.cache = new ConcurrentCache<>(DATA_CACHE_PARSING_CONNECTION, size);
+    }
+
+    /**
+     * Get the {@link ParsingCache} of a {@link Configuration}, or
+     * <code>null</code> if translated SQL should not be cached.
+     */
+    static final ParsingCache get(Configuration configuration) {
+        Settings settings = configuration.settings();
+
+        if (!TRUE.equals(settings.isCacheParsingConnection()))
+            return null;
+
+        return Cache.data(configuration, DATA_CACHE_PARSING_CONNECTION, () -> {
+            Integer size = settings.getCacheParsingConnectionLRUCacheSize();
+            return new ParsingCache(size == null ? 8192 : Math.max(0, size));
+        });
+    }
+
+    static final Key key(Configuration configuration, String sql) {
+        return new Key(configuration.dialect(), configuration.settings(), sql);
+    }
+
+    final String get(Configuration configuration, Key key) {
+        String result = cache.get(key);
+
+        if (result == null)
+            CacheListeners.miss(configuration, DATA_CACHE_PARSING_CONNECTION, key);
+        else
+            CacheListeners.hit(configuration, DATA_CACHE_PARSING_CONNECTION, key);
+
+        return result;
+    }
+
+    final void put(Configuration configuration, Key key, String sql) {
+        cache.putIfAbsent(configuration, key.snapshot(), sql);
+    }
+
+    static final class Key {
+        private final SQLDialect dialect;
+        private final Settings   settings;
+        private final String     sql;
+        private final int        hash;
+
+        Key(SQLDialect dialect, Settings settings, String sql) {
+            this.dialect = dialect;
+            this.settings = settings;
+            this.sql = sql;
+            this.hash = 31 * dialect.hashCode() + sql.hashCode();
+        }
+
+        /**
+         * A copy of this key that is unaffected by modifications to its
+         * {@link Settings}.
+         */
+        final Key snapshot() {
+            return new Key(dialect, SettingsTools.clone(settings), sql);
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            if (this == obj)
+                return true;
+            if (!(obj instanceof Key))
+                return false;
+
+            Key other = (Key) obj;
+            return hash == other.hash
+                && dialect == other.dialect
+                && sql.equals(other.sql)
+                && (settings == other.settings || settings.equals(other.settings));
+        }
+
+        @Override
+        public String toString() {
+            return dialect + ": " + sql;
+        }
+    }
+}
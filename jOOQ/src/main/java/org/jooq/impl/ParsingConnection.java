@@ -68,9 +68,24 @@ final class ParsingConnection extends DefaultConnection {
     }
 
     final String translate(String sql) {
+        ParsingCache cache = ParsingCache.get(configuration);
+        ParsingCache.Key key = null;
+
+        if (cache != null) {
+            key = ParsingCache.key(configuration, sql);
+            String result = cache.get(configuration, key);
+
+            if (result != null)
+                return result;
+        }
+
         log.debug("Translating from", sql);
         String result = ctx.render(parser.parseQuery(sql));
         log.debug("Translating to", result);
+
+        if (cache != null)
+            cache.put(configuration, key, result);
+
         return result;
     }
 
@@ -43,6 +43,7 @@ import java.sql.PreparedStatement;
 import java.sql.SQLException;
 import java.sql.Statement;
 
+import org.jooq.Configuration;
 import org.jooq.ConnectionProvider;
 import org.jooq.tools.jdbc.DefaultConnection;
 
@@ -54,17 +55,28 @@ import org.jooq.tools.jdbc.DefaultConnection;
  * when it is obtained from a data source by closing it when the
  * {@link Statement}, {@link PreparedStatement}, or {@link CallableStatement} is
  * closed.
+ * <p>
+ * If a {@link StatementCache} is configured, {@link PreparedStatement}s are
+ * checked out of the cache, and returned to it when they're closed. Cached
+ * statements are prepared on the physical connection behind the wrapped
+ * connection.
  *
  * @author Lukas Eder
  */
 final class ProviderEnabledConnection extends DefaultConnection {
 
     private final ConnectionProvider connectionProvider;
+    private final Configuration      configuration;
+    private final StatementCache     cache;
+    private final Connection         physical;
 
-    ProviderEnabledConnection(ConnectionProvider connectionProvider, Connection connection) {
+    ProviderEnabledConnection(ConnectionProvider connectionProvider, Connection connection, Configuration configuration) {
         super(connection);
 
         this.connectionProvider = connectionProvider;
+        this.configuration = configuration;
+        this.cache = StatementCache.get(configuration);
+        this.physical = cache != null ? StatementCache.physical(connection) : null;
     }
 
     // ------------------------------------------------------------------------
@@ -77,6 +89,11 @@ final class ProviderEnabledConnection extends DefaultConnection {
 
         if (connection != null) {
             connectionProvider.release(connection);
+
+            // Statements of connections that are closed on release can't be
+            // reused anymore, e.g. when a pool's proxy can't be unwrapped
+            if (cache != null)
+                cache.discard(configuration, physical);
         }
     }
 
@@ -106,34 +123,63 @@ final class ProviderEnabledConnection extends DefaultConnection {
 
     @Override
     public final PreparedStatement prepareStatement(String sql) throws SQLException {
-        return new ProviderEnabledPreparedStatement(this, getDelegate().prepareStatement(sql));
+        return prepareStatement(c -> c.prepareStatement(sql), sql);
     }
 
     @Override
     public final PreparedStatement prepareStatement(String sql, int autoGeneratedKeys) throws SQLException {
-        return new ProviderEnabledPreparedStatement(this, getDelegate().prepareStatement(sql, autoGeneratedKeys));
+        return prepareStatement(c -> c.prepareStatement(sql, autoGeneratedKeys), sql, autoGeneratedKeys);
     }
 
     @Override
-    public final PreparedStatement prepareStatement(String sql, int resultSetType, int resultSetConcurrency)
-        throws SQLException {
-        return new ProviderEnabledPreparedStatement(this, getDelegate().prepareStatement(sql, resultSetType, resultSetConcurrency));
+    public final PreparedStatement prepareStatement(String sql, int resultSetType, int resultSetConcurrency) throws SQLException {
+        return prepareStatement(c -> c.prepareStatement(sql, resultSetType, resultSetConcurrency), sql, resultSetType, resultSetConcurrency);
     }
 
     @Override
-    public final PreparedStatement prepareStatement(String sql, int resultSetType, int resultSetConcurrency,
-        int resultSetHoldability) throws SQLException {
-        return new ProviderEnabledPreparedStatement(this, getDelegate().prepareStatement(sql, resultSetType, resultSetConcurrency, resultSetHoldability));
+    public final PreparedStatement prepareStatement(String sql, int resultSetType, int resultSetConcurrency, int resultSetHoldability) throws SQLException {
+        return prepareStatement(c -> c.prepareStatement(sql, resultSetType, resultSetConcurrency, resultSetHoldability), sql, resultSetType, resultSetConcurrency, resultSetHoldability);
     }
 
     @Override
     public final PreparedStatement prepareStatement(String sql, int[] columnIndexes) throws SQLException {
-        return new ProviderEnabledPreparedStatement(this, getDelegate().prepareStatement(sql, columnIndexes));
+        return prepareStatement(c -> c.prepareStatement(sql, columnIndexes), sql, columnIndexes);
     }
 
     @Override
     public final PreparedStatement prepareStatement(String sql, String[] columnNames) throws SQLException {
-        return new ProviderEnabledPreparedStatement(this, getDelegate().prepareStatement(sql, columnNames));
+        return prepareStatement(c -> c.prepareStatement(sql, columnNames), sql, columnNames);
+    }
+
+    /**
+     * Check a statement out of the {@link StatementCache}, or prepare a new
+     * one on the physical connection, or on the delegate connection if there is
+     * no cache.
+     *
+     * @param options The SQL string and the options passed to
+     *            <code>prepareStatement()</code>, identifying the statement in
+     *            the cache.
+     */
+    private final PreparedStatement prepareStatement(Prepare prepare, Object... options) throws SQLException {
+        if (cache != null) {
+            StatementCache.Key key = new StatementCache.Key(physical, options);
+            PreparedStatement statement = cache.checkout(configuration, key);
+
+            // Pools may close the statements of their proxies when the proxies
+            // are released, so cached statements are prepared on the physical
+            // connection. getConnection() still returns the current proxy.
+            if (statement == null)
+                statement = cache.wrap(configuration, key, prepare.prepare(physical));
+
+            return new ProviderEnabledPreparedStatement(this, statement, getDelegate());
+        }
+
+        return new ProviderEnabledPreparedStatement(this, prepare.prepare(getDelegate()));
+    }
+
+    @FunctionalInterface
+    private interface Prepare {
+        PreparedStatement prepare(Connection connection) throws SQLException;
     }
 
     // ------------------------------------------------------------------------
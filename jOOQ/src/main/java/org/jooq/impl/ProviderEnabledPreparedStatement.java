@@ -37,6 +37,7 @@
  */
 package org.jooq.impl;
 
+import java.sql.Connection;
 import java.sql.PreparedStatement;
 import java.sql.SQLException;
 
@@ -58,6 +59,12 @@ final class ProviderEnabledPreparedStatement extends DefaultPreparedStatement {
         this.connection = connection;
     }
 
+    ProviderEnabledPreparedStatement(ProviderEnabledConnection connection, PreparedStatement statement, Connection creator) {
+        super(statement, creator);
+
+        this.connection = connection;
+    }
+
     // ------------------------------------------------------------------------
     // XXX Closing the Statement
     // ------------------------------------------------------------------------
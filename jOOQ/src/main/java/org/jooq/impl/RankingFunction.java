@@ -75,7 +75,7 @@ final class RankingFunction<T> extends AbstractWindowFunction<T> implements Orde
 
 
 
-    private final RankingType            rankingType;
+    final RankingType                    rankingType;
 
     RankingFunction(RankingType rankingType, DataType<T> type) {
         super(rankingType.name, type);
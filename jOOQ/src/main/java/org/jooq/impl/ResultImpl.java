@@ -118,9 +118,13 @@ final class ResultImpl<R extends Record> extends AbstractCursor<R> implements Re
     }
 
     ResultImpl(Configuration configuration, Fields<R> fields) {
+        this(configuration, fields, new ArrayList<>());
+    }
+
+    ResultImpl(Configuration configuration, Fields<R> fields, List<R> records) {
         super(configuration, fields);
 
-        this.records = new ArrayList<>();
+        this.records = records;
     }
 
     // -------------------------------------------------------------------------
@@ -173,9 +177,47 @@ final class ResultImpl<R extends Record> extends AbstractCursor<R> implements Re
 
     @Override
     public final Object getValue(int index, int fieldIndex) {
+        if (records instanceof ColumnarRecords)
+            return ((ColumnarRecords<R>) records).value(index, safeIndex(fieldIndex));
+
         return get(index).get(fieldIndex);
     }
 
+    @Override
+    public final int getInt(int index, int fieldIndex) {
+        if (records instanceof ColumnarRecords)
+            return ((ColumnarRecords<R>) records).intValue(index, safeIndex(fieldIndex));
+
+        Integer value = get(index).get(fieldIndex, Integer.class);
+        return value == null ? 0 : value;
+    }
+
+    @Override
+    public final long getLong(int index, int fieldIndex) {
+        if (records instanceof ColumnarRecords)
+            return ((ColumnarRecords<R>) records).longValue(index, safeIndex(fieldIndex));
+
+        Long value = get(index).get(fieldIndex, Long.class);
+        return value == null ? 0L : value;
+    }
+
+    @Override
+    public final double getDouble(int index, int fieldIndex) {
+        if (records instanceof ColumnarRecords)
+            return ((ColumnarRecords<R>) records).doubleValue(index, safeIndex(fieldIndex));
+
+        Double value = get(index).get(fieldIndex, Double.class);
+        return value == null ? 0.0 : value;
+    }
+
+    @Override
+    public final boolean isNull(int index, int fieldIndex) {
+        if (records instanceof ColumnarRecords)
+            return ((ColumnarRecords<R>) records).isNull(index, safeIndex(fieldIndex));
+
+        return get(index).get(fieldIndex) == null;
+    }
+
     @Override
     @Deprecated
     public final Object getValue(int index, int fieldIndex, Object defaultValue) {
@@ -210,6 +252,9 @@ final class ResultImpl<R extends Record> extends AbstractCursor<R> implements Re
 
     @Override
     public final List<?> getValues(int fieldIndex) {
+        if (records instanceof ColumnarRecords)
+            return ((ColumnarRecords<R>) records).values(safeIndex(fieldIndex));
+
         List<Object> result = new ArrayList<>(size());
 
         for (R record : this)
@@ -358,21 +403,7 @@ final class ResultImpl<R extends Record> extends AbstractCursor<R> implements Re
 
     @Override
     public final Map<Record, R> intoMap(Field<?>[] keys) {
-        if (keys == null)
-            keys = new Field[0];
-
-        Map<Record, R> map = new LinkedHashMap<>();
-        for (R record : this) {
-            RecordImplN key = new RecordImplN(keys);
-
-            for (Field<?> field : keys)
-                Tools.copyValue(key, field, record, field);
-
-            if (map.put(key, record) != null)
-                throw new InvalidResultException("Key list " + Arrays.asList(keys) + " is not unique in Result for " + this);
-        }
-
-        return map;
+        return new LinkedHashMap<>(index(keys));
     }
 
     @Override
@@ -767,24 +798,7 @@ final class ResultImpl<R extends Record> extends AbstractCursor<R> implements Re
 
     @Override
     public final Map<Record, Result<R>> intoGroups(Field<?>[] keys) {
-        if (keys == null)
-            keys = new Field[0];
-
-        Map<Record, Result<R>> map = new LinkedHashMap<>();
-        for (R record : this) {
-            RecordImplN key = new RecordImplN(keys);
-
-            for (Field<?> field : keys)
-                Tools.copyValue(key, field, record, field);
-
-            Result<R> result = map.get(key);
-            if (result == null)
-                map.put(key, result = new ResultImpl<>(configuration(), this.fields));
-
-            result.add(record);
-        }
-
-        return map;
+        return new LinkedHashMap<>(groupBy(keys));
     }
 
     @Override
@@ -1004,6 +1018,42 @@ final class ResultImpl<R extends Record> extends AbstractCursor<R> implements Re
         return map;
     }
 
+    @Override
+    public final <K> Map<K, R> index(Field<K> key) {
+        ResultIndex<R> index = new ResultIndex<>(configuration, fields, records, new Field[] { key });
+
+        if (!index.unique())
+            throw new InvalidResultException("Key " + key + " is not unique in Result for " + this);
+
+        return index.records(false);
+    }
+
+    @Override
+    public final Map<Record, R> index(Field<?>... keys) {
+        if (keys == null)
+            keys = new Field[0];
+
+        ResultIndex<R> index = new ResultIndex<>(configuration, fields, records, keys);
+
+        if (!index.unique())
+            throw new InvalidResultException("Key list " + Arrays.asList(keys) + " is not unique in Result for " + this);
+
+        return index.records(true);
+    }
+
+    @Override
+    public final <K> Map<K, Result<R>> groupBy(Field<K> key) {
+        return new ResultIndex<>(configuration, fields, records, new Field[] { key }).results(false);
+    }
+
+    @Override
+    public final Map<Record, Result<R>> groupBy(Field<?>... keys) {
+        if (keys == null)
+            keys = new Field[0];
+
+        return new ResultIndex<>(configuration, fields, records, keys).results(true);
+    }
+
     @Override
     @Deprecated
     public final Object[][] intoArray() {
@@ -1362,6 +1412,20 @@ final class ResultImpl<R extends Record> extends AbstractCursor<R> implements Re
 
     @Override
     public final Result<R> sortAsc(Comparator<? super R> comparator) {
+
+        // Columnar results are read-only, so they are sorted into a copy
+        if (records instanceof ColumnarRecords) {
+            List<R> sorted = new ArrayList<>(records);
+            sorted.sort(comparator);
+
+            ColumnarRecords<R> copy = ((ColumnarRecords<R>) records).empty();
+            for (R record : sorted)
+                copy.append(record);
+
+            copy.trim();
+            return new ResultImpl<>(configuration, fields, copy);
+        }
+
         Collections.sort(this, comparator);
         return this;
     }
@@ -0,0 +1,541 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Other licenses:
+ * -----------------------------------------------------------------------------
+ * Commercial licenses for this work are available. These replace the above
+ * ASL 2.0 and offer limited warranties, support, maintenance, and commercial
+ * database integrations.
+ *
+ * For more information, please visit: http://www.jooq.org/licenses
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ */
+package org.jooq.impl;
+
+import static org.jooq.impl.Tools.indexOrFail;
+
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.Set;
+
+import org.jooq.Configuration;
+import org.jooq.Field;
+import org.jooq.Record;
+import org.jooq.Result;
+
+/**
+ * A hash index over a {@link Result}, grouping its records by one or more key
+ * fields.
+ * <p>
+ * The index doesn't allocate any per record key objects. Records are grouped
+ * in an open addressing hash table, whose slots reference groups, and groups
+ * chain their records through a flat <code>int[]</code>. Single
+ * <code>Long</code>, <code>Integer</code>, <code>Short</code>, or
+ * <code>Byte</code> keys are stored unboxed in a <code>long[]</code>, other
+ * keys are stored by hash and compared with the values of the group's first
+ * record, using the semantics of {@link Record#equals(Object)}. As with a
+ * {@link java.util.HashMap}, lookups of unboxed keys must use the key field's
+ * type, e.g. an <code>Integer</code> key doesn't find a <code>Long</code> key.
+ * <p>
+ * The index takes a snapshot of the result's records at creation time. It
+ * does not reflect subsequent modifications of the result, nor of the
+ * records' key values.
+ *
+ * @author Lukas Eder
+ */
+final class ResultIndex<R extends Record> {
+
+    private static final int   NO_GROUP = -1;
+
+    private final Configuration configuration;
+    private final Fields<R>     fields;
+    private final Field<?>[]    keys;
+    private final int[]         keyIndexes;
+
+    /**
+     * The type of a single integral key, whose values are stored unboxed, or
+     * <code>null</code>.
+     */
+    private final Class<?>      integralType;
+
+    private final Object[]      records;
+
+    /**
+     * The record chains: the next record of the same group, or
+     * <code>-1</code>.
+     */
+    private final int[]         next;
+
+    /**
+     * The hash table slots, containing group ids + 1, or <code>0</code> for
+     * empty slots.
+     */
+    private int[]               slots;
+
+    private int                 groups;
+    private int                 nullGroup = NO_GROUP;
+    private int[]               groupFirst;
+    private int[]               groupLast;
+    private int[]               groupSize;
+    private int[]               groupHash;
+    private long[]              groupKey;
+    private int                 maxGroupSize;
+
+    ResultIndex(Configuration configuration, Fields<R> fields, List<R> list, Field<?>[] keys) {
+        this.configuration = configuration;
+        this.fields = fields;
+        this.keys = keys == null ? new Field[0] : keys;
+        this.keyIndexes = new int[this.keys.length];
+
+        for (int i = 0; i < this.keys.length; i++)
+            keyIndexes[i] = indexOrFail(fields, this.keys[i]);
+
+        this.integralType = this.keys.length == 1 && integral(fields.field(keyIndexes[0]).getType())
+            ? fields.field(keyIndexes[0]).getType()
+            : null;
+        this.records = list.toArray();
+        this.next = new int[records.length];
+
+        int capacity = 16;
+        this.slots = new int[capacity];
+        this.groupFirst = new int[capacity];
+        this.groupLast = new int[capacity];
+        this.groupSize = new int[capacity];
+
+        if (integralType != null)
+            this.groupKey = new long[capacity];
+        else
+            this.groupHash = new int[capacity];
+
+        for (int r = 0; r < records.length; r++)
+            add(r);
+    }
+
+    private static final boolean integral(Class<?> type) {
+        return type == Long.class
+            || type == Integer.class
+            || type == Short.class
+            || type == Byte.class;
+    }
+
+    // -------------------------------------------------------------------------
+    // Index construction
+    // -------------------------------------------------------------------------
+
+    private final void add(int r) {
+        R record = record(r);
+        int g;
+
+        if (integralType != null) {
+            Object value = record.get(keyIndexes[0]);
+
+            if (value == null) {
+                if (nullGroup == NO_GROUP)
+                    nullGroup = newGroup(r, 0, 0L);
+
+                g = nullGroup;
+            }
+            else {
+                long key = ((Number) value).longValue();
+                int slot = slot(spread(key));
+
+                while ((g = slots[slot] - 1) != NO_GROUP && groupKey[g] != key)
+                    slot = (slot + 1) & (slots.length - 1);
+
+                if (g == NO_GROUP)
+                    slots[slot] = (g = newGroup(r, 0, key)) + 1;
+            }
+        }
+        else {
+            int hash = hash(record);
+            int slot = slot(hash);
+
+            while ((g = slots[slot] - 1) != NO_GROUP && (groupHash[g] != hash || !sameKey(record(groupFirst[g]), record)))
+                slot = (slot + 1) & (slots.length - 1);
+
+            if (g == NO_GROUP)
+                slots[slot] = (g = newGroup(r, hash, 0L)) + 1;
+        }
+
+        if (groupFirst[g] != r) {
+            next[r] = NO_GROUP;
+            next[groupLast[g]] = r;
+            groupLast[g] = r;
+            maxGroupSize = Math.max(maxGroupSize, ++groupSize[g]);
+        }
+    }
+
+    private final int newGroup(int r, int hash, long key) {
+        int g = groups++;
+
+        if (g == groupFirst.length) {
+            int length = groupFirst.length << 1;
+
+            groupFirst = Arrays.copyOf(groupFirst, length);
+            groupLast = Arrays.copyOf(groupLast, length);
+            groupSize = Arrays.copyOf(groupSize, length);
+
+            if (integralType != null)
+                groupKey = Arrays.copyOf(groupKey, length);
+            else
+                groupHash = Arrays.copyOf(groupHash, length);
+        }
+
+        groupFirst[g] = r;
+        groupLast[g] = r;
+        groupSize[g] = 1;
+        next[r] = NO_GROUP;
+        maxGroupSize = Math.max(maxGroupSize, 1);
+
+        if (integralType != null)
+            groupKey[g] = key;
+        else
+            groupHash[g] = hash;
+
+        // Keep the load factor below 0.5. The null group isn't in the table
+        if (groups << 1 > slots.length)
+            rehash();
+
+        return g;
+    }
+
+    private final void rehash() {
+        slots = new int[slots.length << 1];
+
+        for (int g = 0; g < groups; g++) {
+            if (g == nullGroup)
+                continue;
+
+            int slot = slot(integralType != null ? spread(groupKey[g]) : groupHash[g]);
+
+            while (slots[slot] != 0)
+                slot = (slot + 1) & (slots.length - 1);
+
+            slots[slot] = g + 1;
+        }
+    }
+
+    private final int slot(int hash) {
+        return (hash ^ (hash >>> 16)) & (slots.length - 1);
+    }
+
+    private static final int spread(long key) {
+        long h = key * 0x9E3779B97F4A7C15L;
+        return (int) (h ^ (h >>> 32));
+    }
+
+    // -------------------------------------------------------------------------
+    // Hashing and equality, in sync with AbstractStore.hashCode() and equals()
+    // -------------------------------------------------------------------------
+
+    private final int hash(R record) {
+        int hashCode = 1;
+
+        for (int i : keyIndexes)
+            hashCode = 31 * hashCode + hash0(record.get(i));
+
+        return hashCode;
+    }
+
+    private final int hash(Object[] values) {
+        int hashCode = 1;
+
+        for (Object value : values)
+            hashCode = 31 * hashCode + hash0(value);
+
+        return hashCode;
+    }
+
+    private static final int hash0(Object value) {
+
+        // [#985] [#2045] Don't use obj.hashCode() on arrays
+        return value == null || value.getClass().isArray() ? 0 : value.hashCode();
+    }
+
+    private final boolean sameKey(R record1, R record2) {
+        for (int i : keyIndexes)
+            if (!equal(record1.get(i), record2.get(i)))
+                return false;
+
+        return true;
+    }
+
+    private final boolean sameKey(R record, Object[] values) {
+        for (int i = 0; i < keyIndexes.length; i++)
+            if (!equal(record.get(keyIndexes[i]), values[i]))
+                return false;
+
+        return true;
+    }
+
+    private static final boolean equal(Object v1, Object v2) {
+        if (v1 == null || v2 == null)
+            return v1 == v2;
+        else if (v1.getClass() == byte[].class && v2.getClass() == byte[].class)
+            return Arrays.equals((byte[]) v1, (byte[]) v2);
+        else if (v1.getClass().isArray() && v2.getClass().isArray())
+            return !v1.getClass().getComponentType().isPrimitive()
+                && !v2.getClass().getComponentType().isPrimitive()
+                && Arrays.equals((Object[]) v1, (Object[]) v2);
+        else
+            return v1.equals(v2);
+    }
+
+    // -------------------------------------------------------------------------
+    // Index lookup
+    // -------------------------------------------------------------------------
+
+    @SuppressWarnings("unchecked")
+    private final R record(int r) {
+        return (R) records[r];
+    }
+
+    /**
+     * Look up the group of a key, or <code>-1</code> if there is no such group.
+     */
+    final int group(Object... values) {
+        if (values.length != keyIndexes.length)
+            return NO_GROUP;
+
+        if (integralType != null) {
+            Object value = values[0];
+
+            if (value == null)
+                return nullGroup;
+            else if (value.getClass() != integralType)
+                return NO_GROUP;
+
+            long key = ((Number) value).longValue();
+            int g, slot = slot(spread(key));
+
+            while ((g = slots[slot] - 1) != NO_GROUP && groupKey[g] != key)
+                slot = (slot + 1) & (slots.length - 1);
+
+            return g;
+        }
+        else {
+            int hash = hash(values);
+            int g, slot = slot(hash);
+
+            while ((g = slots[slot] - 1) != NO_GROUP && (groupHash[g] != hash || !sameKey(record(groupFirst[g]), values)))
+                slot = (slot + 1) & (slots.length - 1);
+
+            return g;
+        }
+    }
+
+    final int groups() {
+        return groups;
+    }
+
+    final R first(int g) {
+        return record(groupFirst[g]);
+    }
+
+    final Result<R> result(int g) {
+        ResultImpl<R> result = new ResultImpl<>(configuration, fields);
+
+        for (int r = groupFirst[g]; r != NO_GROUP; r = next[r])
+            result.addRecord(record(r));
+
+        return result;
+    }
+
+    /**
+     * The key of a group: a {@link Record} containing the first record's key
+     * values, or the first record's only key value.
+     */
+    final Object key(int g, boolean record) {
+        R first = first(g);
+
+        if (!record)
+            return first.get(keyIndexes[0]);
+
+        RecordImplN key = new RecordImplN(keys);
+
+        for (Field<?> field : keys)
+            Tools.copyValue(key, field, first, field);
+
+        return key;
+    }
+
+    private final int groupOf(Object key, boolean record) {
+        if (record) {
+            if (!(key instanceof Record))
+                return NO_GROUP;
+
+            return group(((Record) key).intoArray());
+        }
+
+        return group(key);
+    }
+
+    /**
+     * Whether the index contains only unique keys.
+     */
+    final boolean unique() {
+        return maxGroupSize <= 1;
+    }
+
+    // -------------------------------------------------------------------------
+    // Map views
+    // -------------------------------------------------------------------------
+
+    /**
+     * A read-only view of unique keys and their records.
+     */
+    final <K> Map<K, R> records(boolean record) {
+        return new View<K, R>(record) {
+            @Override
+            final R value(int g) {
+                return first(g);
+            }
+        };
+    }
+
+    /**
+     * A read-only view of keys and their groups of records, which are produced
+     * lazily upon access.
+     */
+    final <K> Map<K, Result<R>> results(boolean record) {
+        return new View<K, Result<R>>(record) {
+            @Override
+            final Result<R> value(int g) {
+                return result(g);
+            }
+        };
+    }
+
+    private abstract class View<K, V> extends AbstractMap<K, V> {
+
+        private final boolean record;
+        private Set<Entry<K, V>> entrySet;
+
+        View(boolean record) {
+            this.record = record;
+        }
+
+        abstract V value(int g);
+
+        @Override
+        public final int size() {
+            return groups;
+        }
+
+        @Override
+        public final boolean containsKey(Object key) {
+            return groupOf(key, record) != NO_GROUP;
+        }
+
+        @Override
+        public final V get(Object key) {
+            int g = groupOf(key, record);
+            return g == NO_GROUP ? null : value(g);
+        }
+
+        @Override
+        public final Set<Entry<K, V>> entrySet() {
+            if (entrySet == null) {
+                entrySet = new AbstractSet<Entry<K, V>>() {
+                    @Override
+                    public final int size() {
+                        return groups;
+                    }
+
+                    @Override
+                    public final Iterator<Entry<K, V>> iterator() {
+                        return new Iterator<Entry<K, V>>() {
+                            int g;
+
+                            @Override
+                            public final boolean hasNext() {
+                                return g < groups;
+                            }
+
+                            @SuppressWarnings("unchecked")
+                            @Override
+                            public final Entry<K, V> next() {
+                                if (!hasNext())
+                                    throw new NoSuchElementException();
+
+                                final int current = g++;
+                                final K key = (K) key(current, record);
+
+                                // Values are produced only when requested, e.g. not
+                                // when iterating the keySet()
+                                return new Entry<K, V>() {
+                                    @Override
+                                    public final K getKey() {
+                                        return key;
+                                    }
+
+                                    @Override
+                                    public final V getValue() {
+                                        return value(current);
+                                    }
+
+                                    @Override
+                                    public final V setValue(V value) {
+                                        throw new UnsupportedOperationException();
+                                    }
+
+                                    @Override
+                                    public final int hashCode() {
+                                        return Objects.hashCode(key) ^ Objects.hashCode(getValue());
+                                    }
+
+                                    @Override
+                                    public final boolean equals(Object obj) {
+                                        if (!(obj instanceof Entry))
+                                            return false;
+
+                                        Entry<?, ?> that = (Entry<?, ?>) obj;
+                                        return Objects.equals(key, that.getKey()) && Objects.equals(getValue(), that.getValue());
+                                    }
+
+                                    @Override
+                                    public final String toString() {
+                                        return key + "=" + getValue();
+                                    }
+                                };
+                            }
+                        };
+                    }
+                };
+            }
+
+            return entrySet;
+        }
+    }
+}
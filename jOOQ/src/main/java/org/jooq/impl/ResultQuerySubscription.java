@@ -0,0 +1,247 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Other licenses:
+ * -----------------------------------------------------------------------------
+ * Commercial licenses for this work are available. These replace the above
+ * ASL 2.0 and offer limited warranties, support, maintenance, and commercial
+ * database integrations.
+ *
+ * For more information, please visit: http://www.jooq.org/licenses
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ */
+package org.jooq.impl;
+
+import java.util.ArrayDeque;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.jooq.Cursor;
+import org.jooq.Record;
+import org.jooq.tools.JooqLogger;
+
+import org.reactivestreams.Subscriber;
+import org.reactivestreams.Subscription;
+
+/**
+ * A {@link Subscription} that fetches records from a {@link Cursor} on an
+ * {@link Executor} provided by {@link org.jooq.Configuration#executorProvider()}.
+ * <p>
+ * Demand signalled through {@link #request(long)} is accumulated and served by
+ * a single drain loop at a time, which fetches records in batches of at most
+ * {@link #MAX_BATCH_SIZE} using {@link Cursor#fetchNext(int)}. The drain loop
+ * never runs on the subscriber's {@link #request(long)} thread, so blocking
+ * JDBC calls don't block event loops. If the query doesn't specify an explicit
+ * fetch size, the initial demand is used as a JDBC fetch size.
+ * <p>
+ * Cancellation is checked between records, closing the cursor and its
+ * underlying JDBC resources as soon as possible. A subscriber whose
+ * {@link Subscriber#onNext(Object)} throws is considered to have cancelled
+ * the subscription.
+ *
+ * @author Lukas Eder
+ */
+final class ResultQuerySubscription<R extends Record> implements Subscription {
+
+    private static final JooqLogger     log            = JooqLogger.getLogger(ResultQuerySubscription.class);
+    static final int                    MAX_BATCH_SIZE = 1024;
+
+    private final AbstractResultQuery<R> query;
+    private final Subscriber<? super R>  subscriber;
+    private final Executor               executor;
+    private final AtomicLong             requested     = new AtomicLong();
+    private final AtomicInteger          wip           = new AtomicInteger();
+    private volatile boolean             cancelled;
+    private volatile Throwable           error;
+
+    // The following state is only accessed from within the (serialised) drain loop
+    private Cursor<R>                    cursor;
+    private ArrayDeque<R>                buffer;
+    private boolean                      exhausted;
+    private boolean                      done;
+
+    ResultQuerySubscription(AbstractResultQuery<R> query, Subscriber<? super R> subscriber) {
+        this.query = query;
+        this.subscriber = subscriber;
+        this.executor = Tools.configuration(query).executorProvider().provide();
+    }
+
+    @Override
+    public final void request(long n) {
+        if (n <= 0) {
+
+            // Reactive streams specification rule 3.9
+            error = new IllegalArgumentException("Non-positive request signals are illegal: " + n);
+            cancelled = true;
+        }
+        else {
+            for (;;) {
+                long r = requested.get();
+                long u = r + n;
+
+                if (requested.compareAndSet(r, u < 0 ? Long.MAX_VALUE : u))
+                    break;
+            }
+        }
+
+        schedule();
+    }
+
+    @Override
+    public final void cancel() {
+        cancelled = true;
+        schedule();
+    }
+
+    private final void schedule() {
+        if (wip.getAndIncrement() == 0) {
+            try {
+                executor.execute(this::drain);
+            }
+            catch (Throwable t) {
+                cancelled = true;
+                error = t;
+                drain();
+            }
+        }
+    }
+
+    private final void drain() {
+        int missed = 1;
+
+        for (;;) {
+            if (done)
+                return;
+
+            if (cancelled) {
+                terminate(error);
+                return;
+            }
+
+            long r = requested.get();
+            long e = 0L;
+
+            try {
+                while (e != r) {
+                    if (cancelled) {
+                        terminate(error);
+                        return;
+                    }
+
+                    if (buffer == null || buffer.isEmpty()) {
+                        if (!exhausted)
+                            fetch(r - e);
+
+                        if (buffer.isEmpty())
+                            break;
+                    }
+
+                    R next = buffer.pollFirst();
+
+                    try {
+                        subscriber.onNext(next);
+                    }
+
+                    // Reactive streams specification rule 2.13: A failing
+                    // subscriber is treated as if it had cancelled, and isn't
+                    // signalled anymore
+                    catch (Throwable t) {
+                        log.warn("Subscriber", "Cancelling subscription after onNext failed", t);
+                        cancelled = true;
+                        done = true;
+                        buffer = null;
+                        close();
+                        return;
+                    }
+
+                    e++;
+                }
+
+                if (exhausted && (buffer == null || buffer.isEmpty())) {
+                    terminate(null);
+                    return;
+                }
+            }
+            catch (Throwable t) {
+                terminate(t);
+                return;
+            }
+
+            if (e != 0L && r != Long.MAX_VALUE)
+                requested.addAndGet(-e);
+
+            missed = wip.addAndGet(-missed);
+            if (missed == 0)
+                break;
+        }
+    }
+
+    private final void fetch(long demand) {
+        int n = (int) Math.min(demand, MAX_BATCH_SIZE);
+
+        if (cursor == null) {
+            cursor = query.fetchLazyNonAutoClosing(n);
+            buffer = new ArrayDeque<>(n);
+        }
+
+        buffer.addAll(cursor.fetchNext(n));
+        exhausted = buffer.size() < n;
+    }
+
+    private final void terminate(Throwable t) {
+        done = true;
+        buffer = null;
+
+        Throwable c = close();
+        if (t == null)
+            t = c;
+
+        // Reactive streams specification rule 1.8: No further signals are
+        // needed after a cancellation, unless the request was illegal
+        if (t != null)
+            subscriber.onError(t);
+        else if (!cancelled)
+            subscriber.onComplete();
+    }
+
+    /**
+     * Close the cursor, returning any exception that occurred.
+     */
+    private final Throwable close() {
+        try {
+            if (cursor != null)
+                cursor.close();
+
+            return null;
+        }
+        catch (Throwable t) {
+            return t;
+        }
+    }
+}
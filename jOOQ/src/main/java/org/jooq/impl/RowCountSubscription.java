@@ -0,0 +1,139 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Other licenses:
+ * -----------------------------------------------------------------------------
+ * Commercial licenses for this work are available. These replace the above
+ * ASL 2.0 and offer limited warranties, support, maintenance, and commercial
+ * database integrations.
+ *
+ * For more information, please visit: http://www.jooq.org/licenses
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ */
+package org.jooq.impl;
+
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.reactivestreams.Subscriber;
+import org.reactivestreams.Subscription;
+
+/**
+ * A {@link Subscription} that executes an {@link AbstractRowCountQuery} on an
+ * {@link java.util.concurrent.Executor} provided by
+ * {@link org.jooq.Configuration#executorProvider()}, and publishes its update
+ * count.
+ * <p>
+ * The query is executed once, upon the first valid {@link #request(long)}
+ * signal. Non-positive requests signal an {@link IllegalArgumentException},
+ * unless the subscription has already terminated. Cancelling the subscription
+ * while the query is executing cancels the underlying JDBC statement.
+ *
+ * @author Lukas Eder
+ */
+final class RowCountSubscription implements Subscription {
+
+    private final AbstractRowCountQuery       query;
+    private final Subscriber<? super Integer> subscriber;
+    private final AtomicBoolean               requested  = new AtomicBoolean();
+    private final AtomicBoolean               terminated = new AtomicBoolean();
+    private volatile boolean                  cancelled;
+
+    RowCountSubscription(AbstractRowCountQuery query, Subscriber<? super Integer> subscriber) {
+        this.query = query;
+        this.subscriber = subscriber;
+    }
+
+    @Override
+    public final void request(long n) {
+
+        // Reactive streams specification rule 3.9, which also applies to
+        // requests after the first one
+        if (n <= 0) {
+            cancelled = true;
+            error(new IllegalArgumentException("Non-positive request signals are illegal: " + n));
+            return;
+        }
+
+        if (!requested.compareAndSet(false, true))
+            return;
+
+        try {
+            Tools.configuration(query).executorProvider().provide().execute(this::execute);
+        }
+        catch (Throwable t) {
+            cancelled = true;
+            error(t);
+        }
+    }
+
+    private final void execute() {
+        if (cancelled)
+            return;
+
+        int rows;
+
+        try {
+            rows = query.execute();
+        }
+        catch (Throwable t) {
+            if (!cancelled)
+                error(t);
+
+            return;
+        }
+
+        if (!cancelled && terminated.compareAndSet(false, true)) {
+            subscriber.onNext(rows);
+            subscriber.onComplete();
+        }
+    }
+
+    /**
+     * Signal an error, unless the subscription has already terminated.
+     */
+    private final void error(Throwable t) {
+        if (terminated.compareAndSet(false, true))
+            subscriber.onError(t);
+    }
+
+    @Override
+    public final void cancel() {
+        if (!cancelled) {
+            cancelled = true;
+
+            if (requested.get()) {
+                try {
+                    query.cancel();
+                }
+
+                // Rule 3.15: cancel() must return normally
+                catch (Throwable ignore) {}
+            }
+        }
+    }
+}
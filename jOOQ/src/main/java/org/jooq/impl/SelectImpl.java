@@ -43,6 +43,8 @@ import static org.jooq.impl.DSL.notExists;
 import static org.jooq.impl.DSL.table;
 import static org.jooq.impl.Tools.EMPTY_FIELD;
 
+import java.io.OutputStream;
+import java.io.Writer;
 import java.sql.ResultSet;
 import java.util.Arrays;
 import java.util.Collection;
@@ -62,6 +64,7 @@ import java.util.stream.Stream;
 
 import org.jooq.BetweenAndStep;
 import org.jooq.BetweenAndStepR;
+import org.jooq.CSVFormat;
 import org.jooq.Comparator;
 import org.jooq.Condition;
 import org.jooq.Configuration;
@@ -71,6 +74,7 @@ import org.jooq.DataType;
 import org.jooq.Field;
 import org.jooq.ForeignKey;
 import org.jooq.GroupField;
+import org.jooq.JSONFormat;
 import org.jooq.JoinType;
 import org.jooq.Name;
 import org.jooq.Operator;
@@ -162,6 +166,7 @@ import org.jooq.Table;
 import org.jooq.TableField;
 import org.jooq.TableLike;
 import org.jooq.WindowDefinition;
+import org.jooq.XMLFormat;
 
 /**
  * A wrapper for a {@link SelectQuery}
@@ -2880,6 +2885,41 @@ final class SelectImpl<R extends Record, T1, T2, T3, T4, T5, T6, T7, T8, T9, T10
         return getDelegate().fetch();
     }
 
+    @Override
+    public final Result<R> fetchColumnar() {
+        return getDelegate().fetchColumnar();
+    }
+
+    @Override
+    public final void formatCSV(Writer writer, CSVFormat format) {
+        getDelegate().formatCSV(writer, format);
+    }
+
+    @Override
+    public final void formatCSV(OutputStream stream, CSVFormat format) {
+        getDelegate().formatCSV(stream, format);
+    }
+
+    @Override
+    public final void formatJSON(Writer writer, JSONFormat format) {
+        getDelegate().formatJSON(writer, format);
+    }
+
+    @Override
+    public final void formatJSON(OutputStream stream, JSONFormat format) {
+        getDelegate().formatJSON(stream, format);
+    }
+
+    @Override
+    public final void formatXML(Writer writer, XMLFormat format) {
+        getDelegate().formatXML(writer, format);
+    }
+
+    @Override
+    public final void formatXML(OutputStream stream, XMLFormat format) {
+        getDelegate().formatXML(stream, format);
+    }
+
     @Override
     public final ResultSet fetchResultSet() {
         return getDelegate().fetchResultSet();
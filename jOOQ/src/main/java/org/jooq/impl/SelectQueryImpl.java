@@ -3497,6 +3497,34 @@ final class SelectQueryImpl<R extends Record> extends AbstractResultQuery<R> imp
         grouping = true;
     }
 
+    final boolean isGrouping() {
+        return grouping;
+    }
+
+    final QueryPartList<GroupField> getGroupBy() {
+        return groupBy;
+    }
+
+    final boolean isDistinct() {
+        return distinct;
+    }
+
+    final boolean isDistinctOn() {
+        return !Tools.isEmpty(distinctOn);
+    }
+
+    final boolean isCombined() {
+        return !unionOp.isEmpty();
+    }
+
+    final boolean hasWith() {
+        return with != null;
+    }
+
+    final boolean hasWindow() {
+        return Tools.isNotEmpty(window);
+    }
+
     final ConditionProviderImpl getWhere() {
         ConditionProviderImpl result = new ConditionProviderImpl();
 
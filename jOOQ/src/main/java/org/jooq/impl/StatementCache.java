@@ -0,0 +1,447 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Other licenses:
+ * -----------------------------------------------------------------------------
+ * Commercial licenses for this work are available. These replace the above
+ * ASL 2.0 and offer limited warranties, support, maintenance, and commercial
+ * database integrations.
+ *
+ * For more information, please visit: http://www.jooq.org/licenses
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ */
+package org.jooq.impl;
+
+import static java.lang.Boolean.TRUE;
+import static org.jooq.impl.Tools.DataCacheKey.DATA_CACHE_PREPARED_STATEMENTS;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.jooq.ConnectionProvider;
+import org.jooq.Configuration;
+import org.jooq.conf.Settings;
+import org.jooq.impl.Tools.Cache;
+import org.jooq.tools.jdbc.DefaultPreparedStatement;
+import org.jooq.tools.jdbc.JDBCUtils;
+
+/**
+ * A cache for idle JDBC {@link PreparedStatement} instances, keyed by their
+ * JDBC {@link Connection}, their SQL string, and their creation options.
+ * <p>
+ * Statements are checked out of the cache by {@link ProviderEnabledConnection}
+ * when they are prepared, and they are returned to the cache when they are
+ * closed, instead of being closed. This means that a statement is never
+ * shared by concurrent executions. The least recently returned idle
+ * statements are closed when the cache exceeds its maximum size.
+ * <p>
+ * Statements are prepared on the physical connection, which is obtained by
+ * unwrapping the connection through {@link Connection#unwrap(Class)}, and
+ * connections are compared by identity. Statements can thus be reused across
+ * checkouts from connection pools that hand out a new proxy for the same
+ * physical connection, if the pool supports unwrapping. Pools that don't
+ * support unwrapping usually close a proxy's statements when the proxy is
+ * closed, so those statements are only reused within a single checkout.
+ * Statements of connections that are closed when they are released to their
+ * {@link ConnectionProvider} are discarded, as are statements that have been
+ * closed by a third party in the meantime.
+ *
+ * @author Lukas Eder
+ */
+final class StatementCache {
+
+    private final int                              size;
+    private final Map<Key, CachedPreparedStatement> idle;
+
+    private StatementCache(int size) {
+        this.size = size;
+
+        // Statements are removed on checkout and re-inserted when they're
+        // returned, so insertion order is also least recently used order
+        this.idle = new LinkedHashMap<>();
+    }
+
+    /**
+     * Get the {@link StatementCache} of a {@link Configuration}, or
+     * <code>null</code> if statements should not be cached.
+     */
+    static final StatementCache get(Configuration configuration) {
+        Settings settings = configuration.settings();
+
+        if (!TRUE.equals(settings.isCachePreparedStatements()))
+            return null;
+
+        StatementCache cache = Cache.data(configuration, DATA_CACHE_PREPARED_STATEMENTS, () -> {
+            Integer size = settings.getCachePreparedStatementsLRUCacheSize();
+            return new StatementCache(size == null ? 256 : size);
+        });
+
+        return cache.size > 0 ? cache : null;
+    }
+
+    /**
+     * The physical connection behind a connection that may have been proxied
+     * by a connection pool, or the argument connection itself.
+     */
+    static final Connection physical(Connection connection) {
+        try {
+            Connection result = connection.unwrap(Connection.class);
+            return result != null ? result : connection;
+        }
+        catch (SQLException | RuntimeException e) {
+            return connection;
+        }
+    }
+
+    /**
+     * Check out an idle statement, or return <code>null</code> if there is no
+     * idle statement for the argument key.
+     */
+    final PreparedStatement checkout(Configuration configuration, Key key) {
+        CachedPreparedStatement result;
+
+        synchronized (idle) {
+            result = idle.remove(key);
+        }
+
+        if (result != null && result.checkout()) {
+            CacheListeners.hit(configuration, DATA_CACHE_PREPARED_STATEMENTS, key);
+            return result;
+        }
+
+        // The statement was closed elsewhere, e.g. along with its connection
+        if (result != null)
+            JDBCUtils.safeClose(result.getDelegate());
+
+        CacheListeners.miss(configuration, DATA_CACHE_PREPARED_STATEMENTS, key);
+        return null;
+    }
+
+    /**
+     * Wrap a newly prepared statement, such that it is returned to this cache
+     * when it is closed.
+     */
+    final PreparedStatement wrap(Configuration configuration, Key key, PreparedStatement statement) {
+        return new CachedPreparedStatement(this, configuration, key, statement);
+    }
+
+    /**
+     * Discard all idle statements of a connection, if it has been closed.
+     */
+    final void discard(Configuration configuration, Connection connection) {
+        try {
+            if (!connection.isClosed())
+                return;
+        }
+        catch (SQLException e) {
+            // Discard statements of connections in an unknown state
+        }
+
+        List<CachedPreparedStatement> discarded = null;
+
+        synchronized (idle) {
+            Iterator<CachedPreparedStatement> it = idle.values().iterator();
+
+            while (it.hasNext()) {
+                CachedPreparedStatement statement = it.next();
+
+                if (statement.key.connection == connection) {
+                    if (discarded == null)
+                        discarded = new ArrayList<>();
+
+                    discarded.add(statement);
+                    it.remove();
+                }
+            }
+        }
+
+        if (discarded != null) {
+            for (CachedPreparedStatement statement : discarded) {
+                JDBCUtils.safeClose(statement.getDelegate());
+                CacheListeners.evict(configuration, DATA_CACHE_PREPARED_STATEMENTS, statement.key);
+            }
+        }
+    }
+
+    private final void release(Configuration configuration, CachedPreparedStatement statement) {
+        if (!statement.reset()) {
+            JDBCUtils.safeClose(statement.getDelegate());
+            return;
+        }
+
+        CachedPreparedStatement duplicate;
+        List<CachedPreparedStatement> evicted = null;
+
+        synchronized (idle) {
+            duplicate = idle.put(statement.key, statement);
+
+            if (idle.size() > size) {
+                evicted = new ArrayList<>();
+
+                Iterator<CachedPreparedStatement> it = idle.values().iterator();
+                while (idle.size() > size) {
+                    evicted.add(it.next());
+                    it.remove();
+                }
+            }
+        }
+
+        // Close statements outside of the lock, as closing may be expensive
+        if (duplicate != null)
+            JDBCUtils.safeClose(duplicate.getDelegate());
+
+        if (evicted != null) {
+            for (CachedPreparedStatement e : evicted) {
+                JDBCUtils.safeClose(e.getDelegate());
+                CacheListeners.evict(configuration, DATA_CACHE_PREPARED_STATEMENTS, e.key);
+            }
+        }
+    }
+
+    /**
+     * A statement cache key.
+     */
+    static final class Key {
+        private final Connection connection;
+        private final Object[]   options;
+        private final int        hash;
+
+        /**
+         * Create a key from a connection, a SQL string, and the options that
+         * were passed to {@link Connection#prepareStatement(String)} or its
+         * overloads.
+         */
+        Key(Connection connection, Object... options) {
+            this.connection = connection;
+            this.options = options;
+            this.hash = 31 * System.identityHashCode(connection) + Arrays.deepHashCode(options);
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            if (this == obj)
+                return true;
+            if (!(obj instanceof Key))
+                return false;
+
+            Key other = (Key) obj;
+            return hash == other.hash
+                && connection == other.connection
+                && Arrays.deepEquals(options, other.options);
+        }
+
+        @Override
+        public String toString() {
+            return Arrays.deepToString(options);
+        }
+    }
+
+    /**
+     * A statement that is returned to its {@link StatementCache} when it is
+     * closed.
+     * <p>
+     * Statement properties that jOOQ may modify between executions are
+     * restored to their original values before the statement is reused.
+     */
+    private static final class CachedPreparedStatement extends DefaultPreparedStatement {
+
+        private final StatementCache cache;
+        private final Configuration  configuration;
+        private final Key            key;
+        private boolean              open;
+        private ResultSet            result;
+
+        private Integer              queryTimeout;
+        private Integer              maxRows;
+        private Long                 largeMaxRows;
+        private Integer              maxFieldSize;
+        private Integer              fetchSize;
+        private Integer              fetchDirection;
+        private Boolean              poolable;
+
+        CachedPreparedStatement(StatementCache cache, Configuration configuration, Key key, PreparedStatement delegate) {
+            super(delegate);
+
+            this.cache = cache;
+            this.configuration = configuration;
+            this.key = key;
+            this.open = true;
+        }
+
+        final boolean checkout() {
+            try {
+                if (getDelegate().isClosed())
+                    return false;
+            }
+            catch (SQLException e) {
+                return false;
+            }
+
+            open = true;
+            return true;
+        }
+
+        final boolean reset() {
+            try {
+                PreparedStatement s = getDelegate();
+
+                if (s.isClosed())
+                    return false;
+
+                // Results that haven't been consumed must not outlive the
+                // statement's checkout
+                if (result != null) {
+                    JDBCUtils.safeClose(result);
+                    result = null;
+                }
+
+                s.clearParameters();
+                s.clearBatch();
+                s.clearWarnings();
+
+                if (queryTimeout != null)
+                    s.setQueryTimeout(queryTimeout);
+                if (maxRows != null)
+                    s.setMaxRows(maxRows);
+                if (largeMaxRows != null)
+                    s.setLargeMaxRows(largeMaxRows);
+                if (maxFieldSize != null)
+                    s.setMaxFieldSize(maxFieldSize);
+                if (fetchSize != null)
+                    s.setFetchSize(fetchSize);
+                if (fetchDirection != null)
+                    s.setFetchDirection(fetchDirection);
+                if (poolable != null)
+                    s.setPoolable(poolable);
+
+                return true;
+            }
+
+            // Statements that cannot be reset are not reused
+            catch (SQLException | RuntimeException e) {
+                return false;
+            }
+        }
+
+        /**
+         * Only the current result is tracked. Executing a statement again
+         * closes its previous results anyway.
+         */
+        @Override
+        protected final ResultSet wrap(ResultSet wrapped) {
+            ResultSet r = super.wrap(wrapped);
+
+            if (r != null)
+                result = r;
+
+            return r;
+        }
+
+        @Override
+        public final void close() throws SQLException {
+            if (open) {
+                open = false;
+                cache.release(configuration, this);
+            }
+        }
+
+        @Override
+        public final boolean isClosed() throws SQLException {
+            return !open || super.isClosed();
+        }
+
+        @Override
+        public final void setQueryTimeout(int seconds) throws SQLException {
+            if (queryTimeout == null)
+                queryTimeout = super.getQueryTimeout();
+
+            super.setQueryTimeout(seconds);
+        }
+
+        @Override
+        public final void setMaxRows(int max) throws SQLException {
+            if (maxRows == null)
+                maxRows = super.getMaxRows();
+
+            super.setMaxRows(max);
+        }
+
+        @Override
+        public final void setLargeMaxRows(long max) throws SQLException {
+            if (largeMaxRows == null)
+                largeMaxRows = super.getLargeMaxRows();
+
+            super.setLargeMaxRows(max);
+        }
+
+        @Override
+        public final void setMaxFieldSize(int max) throws SQLException {
+            if (maxFieldSize == null)
+                maxFieldSize = super.getMaxFieldSize();
+
+            super.setMaxFieldSize(max);
+        }
+
+        @Override
+        public final void setFetchSize(int rows) throws SQLException {
+            if (fetchSize == null)
+                fetchSize = super.getFetchSize();
+
+            super.setFetchSize(rows);
+        }
+
+        @Override
+        public final void setFetchDirection(int direction) throws SQLException {
+            if (fetchDirection == null)
+                fetchDirection = super.getFetchDirection();
+
+            super.setFetchDirection(direction);
+        }
+
+        @Override
+        public final void setPoolable(boolean p) throws SQLException {
+            if (poolable == null)
+                poolable = super.isPoolable();
+
+            super.setPoolable(p);
+        }
+    }
+}
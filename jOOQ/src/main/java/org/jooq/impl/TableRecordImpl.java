@@ -244,8 +244,7 @@ public class TableRecordImpl<R extends TableRecord<R>> extends AbstractRecord im
                     int index = indexOrFail(fieldsRow(), field);
                     Object value = record.get(field);
 
-                    values[index] = value;
-                    originals[index] = value;
+                    init(index, value);
                 }
             }
 
@@ -290,18 +289,20 @@ public class TableRecordImpl<R extends TableRecord<R>> extends AbstractRecord im
             int fieldIndex = indexOrFail(fieldsRow(), field);
             Object value = field.getDataType().convert(version);
 
-            values[fieldIndex] = value;
-            originals[fieldIndex] = value;
-            changed.clear(fieldIndex);
+            init(fieldIndex, value);
+
+            if (changed != null)
+                changed.clear(fieldIndex);
         }
         if (timestamp != null) {
             TableField<R, ?> field = getTable().getRecordTimestamp();
             int fieldIndex = indexOrFail(fieldsRow(), field);
             Object value = field.getDataType().convert(timestamp);
 
-            values[fieldIndex] = value;
-            originals[fieldIndex] = value;
-            changed.clear(fieldIndex);
+            init(fieldIndex, value);
+
+            if (changed != null)
+                changed.clear(fieldIndex);
         }
     }
 
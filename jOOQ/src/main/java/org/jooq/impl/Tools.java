@@ -210,7 +210,6 @@ import java.util.Map.Entry;
 import java.util.NoSuchElementException;
 import java.util.Set;
 import java.util.UUID;
-import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ForkJoinPool;
 import java.util.concurrent.ForkJoinPool.ManagedBlocker;
 import java.util.function.Supplier;
@@ -225,6 +224,9 @@ import javax.persistence.Id;
 import org.jooq.Asterisk;
 import org.jooq.Attachable;
 import org.jooq.BindContext;
+import org.jooq.CacheListener;
+import org.jooq.CacheListenerProvider;
+import org.jooq.CacheType;
 import org.jooq.Catalog;
 import org.jooq.Check;
 import org.jooq.Clause;
@@ -633,7 +635,13 @@ final class Tools {
          * [#10540] Aliases to be applied to the current <code>SELECT</code>
          * statement.
          */
-        DATA_SELECT_ALIASES
+        DATA_SELECT_ALIASES,
+
+        /**
+         * The {@link CacheListener} instances provided by a
+         * {@link Configuration}'s {@link CacheListenerProvider}s.
+         */
+        DATA_CACHE_LISTENERS
     }
 
     /**
@@ -674,25 +682,26 @@ final class Tools {
     }
 
     /**
-     * [#2965] These are {@link ConcurrentHashMap}s containing caches for
-     * reflection information.
-     * <p>
-     * <code>new String()</code> is used to allow for synchronizing on these
-     * objects.
+     * [#2965] These are {@link ConcurrentCache}s containing caches for
+     * reflection information and other things.
      */
     enum DataCacheKey {
-        DATA_REFLECTION_CACHE_GET_ANNOTATED_GETTER("org.jooq.configuration.reflection-cache.get-annotated-getter"),
-        DATA_REFLECTION_CACHE_GET_ANNOTATED_MEMBERS("org.jooq.configuration.reflection-cache.get-annotated-members"),
-        DATA_REFLECTION_CACHE_GET_ANNOTATED_SETTERS("org.jooq.configuration.reflection-cache.get-annotated-setters"),
-        DATA_REFLECTION_CACHE_GET_MATCHING_GETTER("org.jooq.configuration.reflection-cache.get-matching-getter"),
-        DATA_REFLECTION_CACHE_GET_MATCHING_MEMBERS("org.jooq.configuration.reflection-cache.get-matching-members"),
-        DATA_REFLECTION_CACHE_GET_MATCHING_SETTERS("org.jooq.configuration.reflection-cache.get-matching-setters"),
-        DATA_REFLECTION_CACHE_HAS_COLUMN_ANNOTATIONS("org.jooq.configuration.reflection-cache.has-column-annotations"),
-        DATA_CACHE_RECORD_MAPPERS("org.jooq.configuration.cache.record-mappers");
-
-        final String key;
-
-        private DataCacheKey(String key) {
+        DATA_REFLECTION_CACHE_GET_ANNOTATED_GETTER(CacheType.REFLECTION_CACHE_GET_ANNOTATED_GETTER, "org.jooq.configuration.reflection-cache.get-annotated-getter"),
+        DATA_REFLECTION_CACHE_GET_ANNOTATED_MEMBERS(CacheType.REFLECTION_CACHE_GET_ANNOTATED_MEMBERS, "org.jooq.configuration.reflection-cache.get-annotated-members"),
+        DATA_REFLECTION_CACHE_GET_ANNOTATED_SETTERS(CacheType.REFLECTION_CACHE_GET_ANNOTATED_SETTERS, "org.jooq.configuration.reflection-cache.get-annotated-setters"),
+        DATA_REFLECTION_CACHE_GET_MATCHING_GETTER(CacheType.REFLECTION_CACHE_GET_MATCHING_GETTER, "org.jooq.configuration.reflection-cache.get-matching-getter"),
+        DATA_REFLECTION_CACHE_GET_MATCHING_MEMBERS(CacheType.REFLECTION_CACHE_GET_MATCHING_MEMBERS, "org.jooq.configuration.reflection-cache.get-matching-members"),
+        DATA_REFLECTION_CACHE_GET_MATCHING_SETTERS(CacheType.REFLECTION_CACHE_GET_MATCHING_SETTERS, "org.jooq.configuration.reflection-cache.get-matching-setters"),
+        DATA_REFLECTION_CACHE_HAS_COLUMN_ANNOTATIONS(CacheType.REFLECTION_CACHE_HAS_COLUMN_ANNOTATIONS, "org.jooq.configuration.reflection-cache.has-column-annotations"),
+        DATA_CACHE_RECORD_MAPPERS(CacheType.CACHE_RECORD_MAPPERS, "org.jooq.configuration.cache.record-mappers"),
+        DATA_CACHE_PREPARED_STATEMENTS(CacheType.CACHE_PREPARED_STATEMENTS, "org.jooq.configuration.cache.prepared-statements"),
+        DATA_CACHE_PARSING_CONNECTION(CacheType.CACHE_PARSING_CONNECTION, "org.jooq.configuration.cache.parsing-connection");
+
+        final CacheType cacheType;
+        final String    key;
+
+        private DataCacheKey(CacheType cacheType, String key) {
+            this.cacheType = cacheType;
             this.key = key;
         }
     }
@@ -2957,9 +2966,10 @@ final class Tools {
         int targetIndex = indexOrFail(target.fieldsRow(), targetField);
         int sourceIndex = indexOrFail(source.fieldsRow(), sourceField);
 
-        target.values[targetIndex] = targetType.convert(source.get(sourceIndex));
-        target.originals[targetIndex] = targetType.convert(source.original(sourceIndex));
-        target.changed.set(targetIndex, source.changed(sourceIndex));
+        T value = targetType.convert(source.get(sourceIndex));
+        boolean tracked = !(source instanceof AbstractRecord) || ((AbstractRecord) source).originals != null;
+
+        target.copy(targetIndex, value, tracked ? targetType.convert(source.original(sourceIndex)) : value, source.changed(sourceIndex));
     }
 
     /**
@@ -3356,35 +3366,65 @@ final class Tools {
             if (!reflectionCaching(configuration.settings()))
                 return operation.apply();
 
-            Map<Object, Object> cache = (Map<Object, Object>) configuration.data(type);
-            if (cache == null) {
-                synchronized (type) {
-                    cache = (Map<Object, Object>) configuration.data(type);
+            Settings settings = configuration.settings();
+            ConcurrentCache<Object, Object> cache = data(configuration, type, () -> new ConcurrentCache<>(type, maxSize(settings, type)));
 
-                    if (cache == null) {
-                        cache = new ConcurrentHashMap<>();
-                        configuration.data(type, cache);
-                    }
-                }
+            Object result = cache.get(key);
+            if (result == null) {
+                CacheListeners.miss(configuration, type, key);
+
+                // The operation is run outside of any lock, as it may
+                // recurse into this cache (e.g. nested RecordMappers). Several
+                // threads may compute the same value concurrently, but only
+                // the first value is retained.
+                result = operation.apply();
+                result = cache.putIfAbsent(configuration, key, result == null ? NULL : result);
             }
+            else
+                CacheListeners.hit(configuration, type, key);
+
+            return (V) (result == NULL ? null : result);
+        }
+
+        /**
+         * Get a cache from a {@link Configuration}'s data map, creating it
+         * lazily, at most once per {@link Configuration}.
+         */
+        @SuppressWarnings("unchecked")
+        static final <C> C data(Configuration configuration, Enum<?> type, F0<C> init) {
+            C result = (C) configuration.data(type);
 
-            Object result = cache.get(key);
             if (result == null) {
-                synchronized (cache) {
-                    result = cache.get(key);
+                synchronized (type) {
+                    result = (C) configuration.data(type);
 
-                    if (result == null) {
-                        result = operation.apply();
-                        cache.put(key, result == null ? NULL : result);
-                    }
+                    if (result == null)
+                        configuration.data(type, result = init.apply());
                 }
             }
 
-            return (V) (result == NULL ? null : result);
+            return result;
+        }
+
+        /**
+         * The maximum size of a cache, or <code>0</code> if the cache is
+         * unbounded.
+         */
+        private static final int maxSize(Settings settings, DataCacheKey type) {
+            switch (type) {
+                case DATA_CACHE_RECORD_MAPPERS: {
+                    Integer size = settings.getCacheRecordMappersLRUCacheSize();
+                    return size == null ? 8192 : Math.max(0, size);
+                }
+
+                // Reflection caches are bounded by the number of types
+                default:
+                    return 0;
+            }
         }
 
         /**
-         * A <code>null</code> placeholder to be put in {@link ConcurrentHashMap}.
+         * A <code>null</code> placeholder to be put in {@link ConcurrentCache}.
          */
         private static final Object NULL = new Object();
 
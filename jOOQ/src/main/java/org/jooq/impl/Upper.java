@@ -52,7 +52,7 @@ final class Upper extends AbstractField<String> {
      * Generated UID
      */
     private static final long serialVersionUID = -9070564546827153434L;
-    private final Field<String> field;
+    final Field<String>         field;
 
     Upper(Field<String> field) {
         super(N_UPPER, field.getDataType());
@@ -0,0 +1,199 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Other licenses:
+ * -----------------------------------------------------------------------------
+ * Commercial licenses for this work are available. These replace the above
+ * ASL 2.0 and offer limited warranties, support, maintenance, and commercial
+ * database integrations.
+ *
+ * For more information, please visit: http://www.jooq.org/licenses
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ */
+package org.jooq.impl;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.Writer;
+
+/**
+ * A {@link Writer} that encodes characters as <code>UTF-8</code> directly into
+ * a reusable byte buffer, which is written to an {@link OutputStream} when it
+ * is full.
+ * <p>
+ * Unlike an {@link java.io.OutputStreamWriter}, this writer also allows for
+ * writing numbers without creating intermediate {@link String} instances.
+ * This writer is not thread safe.
+ *
+ * @author Lukas Eder
+ */
+final class Utf8Writer extends Writer {
+
+    private static final byte[] MIN_LONG = "-9223372036854775808".getBytes();
+
+    private final OutputStream  out;
+    private final byte[]        buffer;
+    private int                 position;
+    private char                highSurrogate;
+
+    Utf8Writer(OutputStream out) {
+        this(out, 8192);
+    }
+
+    Utf8Writer(OutputStream out, int size) {
+        this.out = out;
+        this.buffer = new byte[Math.max(size, 32)];
+    }
+
+    /**
+     * Write the decimal representation of a <code>long</code> value.
+     */
+    final void writeLong(long value) throws IOException {
+        if (value == Long.MIN_VALUE) {
+            write(MIN_LONG);
+            return;
+        }
+
+        ensure(20);
+
+        if (value < 0) {
+            buffer[position++] = '-';
+            value = -value;
+        }
+
+        int start = position;
+        do {
+            buffer[position++] = (byte) ('0' + (value % 10));
+            value /= 10;
+        }
+        while (value != 0);
+
+        // Digits were written in reverse order
+        for (int i = start, j = position - 1; i < j; i++, j--) {
+            byte b = buffer[i];
+            buffer[i] = buffer[j];
+            buffer[j] = b;
+        }
+    }
+
+    private final void write(byte[] bytes) throws IOException {
+        ensure(bytes.length);
+        System.arraycopy(bytes, 0, buffer, position, bytes.length);
+        position += bytes.length;
+    }
+
+    @Override
+    public final void write(int c) throws IOException {
+        ensure(4);
+        char ch = (char) c;
+
+        if (highSurrogate != 0) {
+            char high = highSurrogate;
+            highSurrogate = 0;
+
+            if (Character.isLowSurrogate(ch)) {
+                int cp = Character.toCodePoint(high, ch);
+                buffer[position++] = (byte) (0xF0 | (cp >> 18));
+                buffer[position++] = (byte) (0x80 | ((cp >> 12) & 0x3F));
+                buffer[position++] = (byte) (0x80 | ((cp >> 6) & 0x3F));
+                buffer[position++] = (byte) (0x80 | (cp & 0x3F));
+                return;
+            }
+
+            // Unpaired surrogates are replaced, like in String.getBytes()
+            buffer[position++] = '?';
+            ensure(4);
+        }
+
+        if (ch < 0x80) {
+            buffer[position++] = (byte) ch;
+        }
+        else if (ch < 0x800) {
+            buffer[position++] = (byte) (0xC0 | (ch >> 6));
+            buffer[position++] = (byte) (0x80 | (ch & 0x3F));
+        }
+        else if (Character.isHighSurrogate(ch)) {
+            highSurrogate = ch;
+        }
+        else if (Character.isLowSurrogate(ch)) {
+            buffer[position++] = '?';
+        }
+        else {
+            buffer[position++] = (byte) (0xE0 | (ch >> 12));
+            buffer[position++] = (byte) (0x80 | ((ch >> 6) & 0x3F));
+            buffer[position++] = (byte) (0x80 | (ch & 0x3F));
+        }
+    }
+
+    @Override
+    public final void write(char[] cbuf, int off, int len) throws IOException {
+        for (int i = off; i < off + len; i++)
+            write(cbuf[i]);
+    }
+
+    @Override
+    public final void write(String str, int off, int len) throws IOException {
+        for (int i = off; i < off + len; i++)
+            write(str.charAt(i));
+    }
+
+    @Override
+    public final Writer append(CharSequence csq) throws IOException {
+        if (csq == null)
+            csq = "null";
+
+        for (int i = 0; i < csq.length(); i++)
+            write(csq.charAt(i));
+
+        return this;
+    }
+
+    private final void ensure(int length) throws IOException {
+        if (position + length > buffer.length)
+            drain();
+    }
+
+    private final void drain() throws IOException {
+        if (position > 0) {
+            out.write(buffer, 0, position);
+            position = 0;
+        }
+    }
+
+    @Override
+    public final void flush() throws IOException {
+        drain();
+        out.flush();
+    }
+
+    @Override
+    public final void close() throws IOException {
+        flush();
+        out.close();
+    }
+}
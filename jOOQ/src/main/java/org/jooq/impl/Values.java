@@ -86,7 +86,7 @@ final class Values<R extends Record> extends AbstractTable<R> {
     private static final long    serialVersionUID  = -637982217747670311L;
     static final Set<SQLDialect> NO_SUPPORT_VALUES = SQLDialect.supportedUntil(FIREBIRD, MARIADB);
 
-    private final Row[]                  rows;
+    final Row[]                          rows;
 
     Values(Row[] rows) {
         super(TableOptions.expression(), N_VALUES);
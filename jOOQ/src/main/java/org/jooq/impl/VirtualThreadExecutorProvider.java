@@ -0,0 +1,277 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Other licenses:
+ * -----------------------------------------------------------------------------
+ * Commercial licenses for this work are available. These replace the above
+ * ASL 2.0 and offer limited warranties, support, maintenance, and commercial
+ * database integrations.
+ *
+ * For more information, please visit: http://www.jooq.org/licenses
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ */
+package org.jooq.impl;
+
+import java.io.Serializable;
+import java.lang.reflect.Method;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.SynchronousQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.jooq.ExecutorProvider;
+import org.jooq.tools.JooqLogger;
+
+/**
+ * An {@link ExecutorProvider} implementation that is suitable for blocking
+ * JDBC calls.
+ * <p>
+ * Unlike the {@link DefaultExecutorProvider}, which uses the
+ * {@link java.util.concurrent.ForkJoinPool#commonPool()} that is easily
+ * starved by blocking I/O, this provider runs each asynchronous task on its
+ * own virtual thread, if the JDK supports them (JDK 21+). On older JDKs, a
+ * bounded pool of daemon threads is used instead, whose threads time out when
+ * idle.
+ * <p>
+ * In both cases, the number of concurrently running tasks is bounded by
+ * {@link #maxConcurrency()}. When that limit is reached, new tasks wait until
+ * a running task completes. The limit prevents an unbounded number of tasks
+ * from competing for the (usually much more limited) JDBC connections. It
+ * should thus be chosen according to the size of the connection pool that
+ * backs the {@link org.jooq.ConnectionProvider}. Tasks that block on the
+ * completion of other tasks of the same executor can still deadlock, if all
+ * running tasks do so.
+ * <p>
+ * The number of waiting tasks is bounded by {@link #maxQueued()}. The thread
+ * submitting a task is never blocked, so tasks can submit follow-up tasks to
+ * the same executor, and asynchronous callers don't stall. Instead, tasks
+ * that are submitted when that limit is reached are rejected with a
+ * {@link RejectedExecutionException}, which e.g.
+ * {@link java.util.concurrent.CompletableFuture#supplyAsync(java.util.function.Supplier, Executor)}
+ * propagates to the caller.
+ * <p>
+ * Use this provider with {@link org.jooq.Configuration#set(ExecutorProvider)}
+ * to make {@link org.jooq.ResultQuery#fetchAsync()},
+ * {@link org.jooq.Query#executeAsync()} and similar methods use it.
+ *
+ * @author Lukas Eder
+ */
+public class VirtualThreadExecutorProvider implements ExecutorProvider, Serializable {
+
+    /**
+     * Generated UID
+     */
+    private static final long                serialVersionUID        = 2520441287549458316L;
+    private static final JooqLogger          log                     = JooqLogger.getLogger(VirtualThreadExecutorProvider.class);
+
+    /**
+     * The default maximum number of concurrently running tasks.
+     */
+    public static final int                  DEFAULT_MAX_CONCURRENCY = 256;
+
+    /**
+     * The default maximum number of tasks waiting to be run.
+     */
+    public static final int                  DEFAULT_MAX_QUEUED      = 4096;
+
+    private static final ExecutorService     VIRTUAL                 = virtual();
+
+    private final int                        maxConcurrency;
+    private final int                        maxQueued;
+    private transient volatile Executor      executor;
+
+    /**
+     * Create a new provider with {@link #DEFAULT_MAX_CONCURRENCY} and
+     * {@link #DEFAULT_MAX_QUEUED}.
+     */
+    public VirtualThreadExecutorProvider() {
+        this(DEFAULT_MAX_CONCURRENCY);
+    }
+
+    /**
+     * Create a new provider with a given maximum number of concurrently
+     * running tasks, and {@link #DEFAULT_MAX_QUEUED}.
+     */
+    public VirtualThreadExecutorProvider(int maxConcurrency) {
+        this(maxConcurrency, DEFAULT_MAX_QUEUED);
+    }
+
+    /**
+     * Create a new provider with a given maximum number of concurrently
+     * running tasks, and a given maximum number of waiting tasks.
+     */
+    public VirtualThreadExecutorProvider(int maxConcurrency, int maxQueued) {
+        if (maxConcurrency <= 0)
+            throw new IllegalArgumentException("maxConcurrency must be positive: " + maxConcurrency);
+        if (maxQueued < 0)
+            throw new IllegalArgumentException("maxQueued must not be negative: " + maxQueued);
+
+        this.maxConcurrency = maxConcurrency;
+        this.maxQueued = maxQueued;
+    }
+
+    /**
+     * The maximum number of concurrently running tasks.
+     */
+    public final int maxConcurrency() {
+        return maxConcurrency;
+    }
+
+    /**
+     * The maximum number of tasks waiting to be run, beyond which new tasks
+     * are rejected.
+     */
+    public final int maxQueued() {
+        return maxQueued;
+    }
+
+    /**
+     * Whether tasks are run on virtual threads.
+     */
+    public static final boolean virtualThreads() {
+        return VIRTUAL != null;
+    }
+
+    @Override
+    public final Executor provide() {
+        Executor result = executor;
+
+        if (result == null) {
+            synchronized (this) {
+                result = executor;
+
+                if (result == null)
+                    executor = result = VIRTUAL != null ? new BoundedExecutor(maxConcurrency, maxQueued, VIRTUAL) : pool(maxConcurrency, maxQueued);
+            }
+        }
+
+        return result;
+    }
+
+    private static final ExecutorService virtual() {
+        try {
+
+            // Virtual threads are looked up reflectively, as they are not
+            // available in the JDK baseline supported by jOOQ
+            Method m = java.util.concurrent.Executors.class.getMethod("newVirtualThreadPerTaskExecutor");
+            return (ExecutorService) m.invoke(null);
+        }
+        catch (Throwable e) {
+            log.debug("Virtual threads", "Virtual threads are not available, falling back to bounded thread pool");
+            return null;
+        }
+    }
+
+    private static final ExecutorService pool(int maxConcurrency, int maxQueued) {
+        final AtomicInteger count = new AtomicInteger();
+        ThreadPoolExecutor result = new ThreadPoolExecutor(
+            maxConcurrency,
+            maxConcurrency,
+            60L,
+            TimeUnit.SECONDS,
+
+            // Tasks beyond the queue's capacity are rejected
+            maxQueued > 0 ? new ArrayBlockingQueue<>(maxQueued) : new SynchronousQueue<>(),
+            r -> {
+                Thread t = new Thread(r, "jooq-async-" + count.incrementAndGet());
+                t.setDaemon(true);
+                return t;
+            }
+        );
+
+        result.allowCoreThreadTimeOut(true);
+        return result;
+    }
+
+    @Override
+    public String toString() {
+        return "VirtualThreadExecutorProvider [maxConcurrency=" + maxConcurrency + ", maxQueued=" + maxQueued + ", virtualThreads=" + virtualThreads() + "]";
+    }
+
+    /**
+     * An {@link Executor} that starts a virtual thread for each task, which
+     * waits for a permit before it runs the task.
+     * <p>
+     * The waiting happens on the (cheap) virtual thread, not on the thread
+     * that submits the task. Tasks beyond the running and waiting limits are
+     * rejected on submission, like the fallback thread pool rejects tasks
+     * when its queue is full.
+     */
+    private static final class BoundedExecutor implements Executor {
+
+        private final Semaphore       admitted;
+        private final Semaphore       permits;
+        private final ExecutorService delegate;
+
+        BoundedExecutor(int maxConcurrency, int maxQueued, ExecutorService delegate) {
+            this.admitted = new Semaphore(maxConcurrency + maxQueued);
+            this.permits = new Semaphore(maxConcurrency);
+            this.delegate = delegate;
+        }
+
+        @Override
+        public final void execute(Runnable command) {
+            if (!admitted.tryAcquire())
+                throw new RejectedExecutionException("Too many tasks submitted to " + this);
+
+            try {
+                delegate.execute(() -> {
+                    try {
+                        permits.acquire();
+                    }
+
+                    // A task that didn't get a permit is not run, like tasks
+                    // that are still queued when a thread pool is shut down
+                    catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                        log.debug("Virtual threads", "Task interrupted while waiting for a permit, not running it");
+                        admitted.release();
+                        return;
+                    }
+
+                    try {
+                        command.run();
+                    }
+                    finally {
+                        permits.release();
+                        admitted.release();
+                    }
+                });
+            }
+            catch (RuntimeException e) {
+                admitted.release();
+                throw e;
+            }
+        }
+    }
+}
@@ -114,10 +114,10 @@ final class WindowSpecificationImpl extends AbstractQueryPart implements
 
 
     private final WindowDefinitionImpl    windowDefinition;
-    private final QueryPartList<Field<?>> partitionBy;
-    private final SortFieldList           orderBy;
-    private Integer                       frameStart;
-    private Integer                       frameEnd;
+    final QueryPartList<Field<?>>         partitionBy;
+    final SortFieldList                   orderBy;
+    Integer                               frameStart;
+    Integer                               frameEnd;
     private FrameUnits                    frameUnits;
     private Exclude                       exclude;
     private boolean                       partitionByOne;
@@ -44,6 +44,8 @@ import java.util.concurrent.Executor;
 
 import javax.sql.DataSource;
 
+import org.jooq.CacheListener;
+import org.jooq.CacheListenerProvider;
 import org.jooq.CharsetProvider;
 import org.jooq.CommitProvider;
 import org.jooq.Configuration;
@@ -201,6 +203,11 @@ public class MockConfiguration implements Configuration {
         return delegate.diagnosticsListenerProviders();
     }
 
+    @Override
+    public CacheListenerProvider[] cacheListenerProviders() {
+        return delegate.cacheListenerProviders();
+    }
+
     @Override
     public UnwrapperProvider unwrapperProvider() {
         return delegate.unwrapperProvider();
@@ -363,6 +370,16 @@ public class MockConfiguration implements Configuration {
         return delegate.set(newDiagnosticsListenerProviders);
     }
 
+    @Override
+    public Configuration set(CacheListener... newCacheListeners) {
+        return delegate.set(newCacheListeners);
+    }
+
+    @Override
+    public Configuration set(CacheListenerProvider... newCacheListenerProviders) {
+        return delegate.set(newCacheListenerProviders);
+    }
+
     @Override
     public Configuration set(Unwrapper newUnwrapper) {
         return delegate.set(newUnwrapper);
@@ -525,6 +542,16 @@ public class MockConfiguration implements Configuration {
         return delegate.derive(newDiagnosticsListenerProviders);
     }
 
+    @Override
+    public Configuration derive(CacheListener... newCacheListeners) {
+        return delegate.derive(newCacheListeners);
+    }
+
+    @Override
+    public Configuration derive(CacheListenerProvider... newCacheListenerProviders) {
+        return delegate.derive(newCacheListenerProviders);
+    }
+
     @Override
     public Configuration derive(Unwrapper newUnwrapper) {
         return delegate.derive(newUnwrapper);
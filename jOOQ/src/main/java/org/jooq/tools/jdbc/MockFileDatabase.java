@@ -45,10 +45,12 @@ import java.io.Reader;
 import java.sql.SQLException;
 import java.sql.SQLFeatureNotSupportedException;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.Map.Entry;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 import java.util.regex.PatternSyntaxException;
@@ -119,9 +121,17 @@ public class MockFileDatabase implements MockDataProvider {
 
     private static final JooqLogger              log = JooqLogger.getLogger(MockFileDatabase.class);
 
+    /**
+     * The maximum number of statements whose lookups are cached.
+     */
+    private static final int                     CACHE_SIZE = 8192;
+
     private final MockFileDatabaseConfiguration  configuration;
     private final Map<String, List<MockResult>>  matchExactly;
+    private final Map<String, List<MockResult>> matchNormalised;
     private final Map<Pattern, List<MockResult>> matchPattern;
+    private final List<PatternEntry>             patterns;
+    private final Map<List<String>, MockResult[]> cache;
     private final DSLContext                     create;
 
     @Deprecated
@@ -174,10 +184,112 @@ public class MockFileDatabase implements MockDataProvider {
     public MockFileDatabase(MockFileDatabaseConfiguration configuration) throws IOException {
         this.configuration = configuration;
         this.matchExactly = new LinkedHashMap<>();
+        this.matchNormalised = new HashMap<>();
         this.matchPattern = new LinkedHashMap<>();
+        this.patterns = new ArrayList<>();
+        this.cache = new ConcurrentHashMap<>();
         this.create = DSL.using(SQLDialect.DEFAULT);
 
         load();
+        index();
+    }
+
+    /**
+     * Index the loaded statements for fast lookups.
+     */
+    private void index() {
+        for (Map.Entry<String, List<MockResult>> entry : matchExactly.entrySet())
+            if (entry.getValue() != null)
+                matchNormalised.putIfAbsent(normalise(entry.getKey()), entry.getValue());
+
+        for (Map.Entry<Pattern, List<MockResult>> entry : matchPattern.entrySet())
+            patterns.add(new PatternEntry(entry.getKey(), entry.getValue()));
+    }
+
+    /**
+     * A pattern along with the literal prefix that all of its matches share,
+     * which allows for skipping most patterns without running the regular
+     * expression engine.
+     */
+    private static final class PatternEntry {
+        final Pattern          pattern;
+        final String           prefix;
+        final List<MockResult> results;
+
+        PatternEntry(Pattern pattern, List<MockResult> results) {
+            this.pattern = pattern;
+            this.prefix = prefix(pattern.pattern());
+            this.results = results;
+        }
+
+        boolean matches(String sql) {
+            return sql != null && sql.startsWith(prefix) && pattern.matcher(sql).matches();
+        }
+
+        private static String prefix(String regex) {
+
+            // Alternations may apply to the prefix as well
+            if (regex.indexOf('|') >= 0)
+                return "";
+
+            StringBuilder sb = new StringBuilder();
+
+            for (int i = 0; i < regex.length(); i++) {
+                char c = regex.charAt(i);
+
+                // A quantifier may apply to the previous character
+                if ("?*{".indexOf(c) >= 0) {
+                    if (sb.length() > 0)
+                        sb.setLength(sb.length() - 1);
+
+                    break;
+                }
+                else if ("\\[]().+^$".indexOf(c) >= 0)
+                    break;
+
+                sb.append(c);
+            }
+
+            return sb.toString();
+        }
+    }
+
+    /**
+     * Collapse whitespace outside of string literals and quoted identifiers,
+     * such that statements can be matched irrespective of their formatting.
+     */
+    static String normalise(String sql) {
+        StringBuilder sb = new StringBuilder(sql.length());
+        char quote = 0;
+        boolean whitespace = false;
+
+        for (int i = 0; i < sql.length(); i++) {
+            char c = sql.charAt(i);
+
+            if (quote != 0) {
+                sb.append(c);
+
+                if (c == quote)
+                    quote = 0;
+            }
+            else if (Character.isWhitespace(c)) {
+                whitespace = true;
+            }
+            else {
+                if (whitespace && sb.length() > 0)
+                    sb.append(' ');
+
+                whitespace = false;
+                sb.append(c);
+
+                if (c == '\'' || c == '"' || c == '`')
+                    quote = c;
+                else if (c == '[')
+                    quote = ']';
+            }
+        }
+
+        return sb.toString();
     }
 
     private static final Pattern END_OF_STATEMENT = Pattern.compile("^(.*?);[ \t]*$");
@@ -372,21 +484,35 @@ public class MockFileDatabase implements MockDataProvider {
             // Check for an exact match
             List<MockResult> list = matchExactly.get(sql);
 
+            if (list != null)
+                return list.toArray(new MockResult[list.size()]);
+
             // Check again, with inlined bind values
-            if (list == null) {
-                inlined = create.query(sql, ctx.bindings()).toString();
-                list = matchExactly.get(inlined);
-            }
+            inlined = create.query(sql, ctx.bindings()).toString();
+            list = matchExactly.get(inlined);
+
+            if (list != null)
+                return list.toArray(new MockResult[list.size()]);
+
+            // Repeated statements are looked up only once
+            List<String> key = Arrays.asList(sql, inlined);
+            MockResult[] cached = cache.get(key);
+
+            if (cached != null)
+                return cached.clone();
+
+            // Check again, ignoring formatting differences
+            list = matchNormalised.get(normalise(sql));
+
+            if (list == null)
+                list = matchNormalised.get(normalise(inlined));
 
             // Check for the first pattern match
             if (list == null) {
-
-                patternLoop:
-                for (Entry<Pattern, List<MockResult>> entry : matchPattern.entrySet()) {
-                    if (    entry.getKey().matcher(sql).matches()
-                         || entry.getKey().matcher(inlined).matches()) {
-                        list = entry.getValue();
-                        break patternLoop;
+                for (PatternEntry entry : patterns) {
+                    if (entry.matches(sql) || entry.matches(inlined)) {
+                        list = entry.results;
+                        break;
                     }
                 }
             }
@@ -400,7 +526,13 @@ public class MockFileDatabase implements MockDataProvider {
                     + "\n  Your regular expressions did not quote special characters (e.g. \\?)."
                     + "\n  Your regular expressions' whitespace doesn't match the input SQL's whitespace.");
 
-            return list.toArray(new MockResult[list.size()]);
+            MockResult[] result = list.toArray(new MockResult[list.size()]);
+
+            if (cache.size() >= CACHE_SIZE)
+                cache.clear();
+
+            cache.put(key, result);
+            return result.clone();
         }
     }
 }
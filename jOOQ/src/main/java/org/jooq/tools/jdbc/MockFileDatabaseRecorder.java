@@ -0,0 +1,323 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Other licenses:
+ * -----------------------------------------------------------------------------
+ * Commercial licenses for this work are available. These replace the above
+ * ASL 2.0 and offer limited warranties, support, maintenance, and commercial
+ * database integrations.
+ *
+ * For more information, please visit: http://www.jooq.org/licenses
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ */
+package org.jooq.tools.jdbc;
+
+import static java.sql.Statement.NO_GENERATED_KEYS;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.StringWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Types;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.jooq.DSLContext;
+import org.jooq.JSONFormat;
+import org.jooq.Result;
+import org.jooq.SQLDialect;
+import org.jooq.impl.DSL;
+import org.jooq.tools.JooqLogger;
+
+/**
+ * A {@link MockDataProvider} that executes statements against a real database
+ * and records them in the format read by {@link MockFileDatabase}.
+ * <p>
+ * Use this data provider with a {@link MockConnection} to record all
+ * statements executed by an application or a test suite, e.g. against an
+ * embedded database. The recording can then be replayed without a database:
+ * <code><pre>
+ * MockFileDatabaseRecorder recorder = new MockFileDatabaseRecorder(connection);
+ * runTests(DSL.using(new MockConnection(recorder), dialect));
+ * recorder.write(new File("recording.txt"));
+ *
+ * // Later on
+ * MockFileDatabase replay = new MockFileDatabase(new File("recording.txt"));
+ * runTests(DSL.using(new MockConnection(replay), dialect));
+ * </pre></code>
+ * <p>
+ * Statements are recorded with inlined bind values, the way
+ * {@link MockFileDatabase} matches them. Each distinct statement is recorded
+ * only once, along with the outcome of its first execution. Results are
+ * recorded using {@link JSONFormat}, which retains their column types.
+ * <p>
+ * Batch statements are executed, but not recorded, as they are not supported
+ * by {@link MockFileDatabase}. Neither are statements whose SQL string cannot
+ * be represented in the file format, such as statements containing empty
+ * lines or lines starting with <code>#</code>, <code>&gt;</code>, or
+ * <code>&#64;</code>.
+ *
+ * @author Lukas Eder
+ */
+public class MockFileDatabaseRecorder implements MockDataProvider {
+
+    private static final JooqLogger         log = JooqLogger.getLogger(MockFileDatabaseRecorder.class);
+
+    private final Connection                connection;
+    private final DSLContext                create;
+    private final DSLContext                inline;
+    private final Map<String, MockResult[]> recorded;
+
+    /**
+     * Create a new recorder that executes statements on a connection.
+     */
+    public MockFileDatabaseRecorder(Connection connection) {
+        this.connection = connection;
+        this.create = DSL.using(connection);
+        this.inline = DSL.using(SQLDialect.DEFAULT);
+        this.recorded = new LinkedHashMap<>();
+    }
+
+    @Override
+    public MockResult[] execute(MockExecuteContext ctx) throws SQLException {
+        if (ctx.batchMultiple()) {
+            try (Statement stmt = connection.createStatement()) {
+                for (String sql : ctx.batchSQL())
+                    stmt.addBatch(sql);
+
+                return batchResults(stmt.executeBatch());
+            }
+        }
+        else if (ctx.batchSingle()) {
+            try (PreparedStatement stmt = connection.prepareStatement(ctx.sql())) {
+                for (Object[] bindings : ctx.batchBindings()) {
+                    bind(stmt, bindings);
+                    stmt.addBatch();
+                }
+
+                return batchResults(stmt.executeBatch());
+            }
+        }
+
+        String sql = ctx.sql();
+        String key = ctx.bindings().length == 0 ? sql : inline.query(sql, ctx.bindings()).toString();
+        MockResult[] result;
+
+        try {
+            result = executeSingle(ctx);
+        }
+        catch (SQLException e) {
+            record(key, new MockResult[] { new MockResult(e) });
+            throw e;
+        }
+
+        record(key, result);
+        return result;
+    }
+
+    private final MockResult[] executeSingle(MockExecuteContext ctx) throws SQLException {
+        try (PreparedStatement stmt = prepare(ctx)) {
+            bind(stmt, ctx.bindings());
+
+            List<MockResult> results = new ArrayList<>();
+            boolean isResultSet = stmt.execute();
+            boolean generatedKeys = ctx.autoGeneratedKeys() != NO_GENERATED_KEYS
+                || ctx.columnIndexes() != null
+                || ctx.columnNames() != null;
+
+            for (;;) {
+                if (isResultSet) {
+                    try (ResultSet rs = stmt.getResultSet()) {
+                        Result<?> r = create.fetch(rs);
+                        results.add(new MockResult(r.size(), r));
+                    }
+                }
+                else {
+                    int rows = stmt.getUpdateCount();
+
+                    if (rows == -1)
+                        break;
+
+                    if (generatedKeys) {
+                        try (ResultSet rs = stmt.getGeneratedKeys()) {
+                            results.add(new MockResult(rows, rs == null ? null : create.fetch(rs)));
+                        }
+                    }
+                    else
+                        results.add(new MockResult(rows));
+                }
+
+                isResultSet = stmt.getMoreResults();
+            }
+
+            return results.toArray(new MockResult[0]);
+        }
+    }
+
+    private final PreparedStatement prepare(MockExecuteContext ctx) throws SQLException {
+        if (ctx.columnIndexes() != null)
+            return connection.prepareStatement(ctx.sql(), ctx.columnIndexes());
+        else if (ctx.columnNames() != null)
+            return connection.prepareStatement(ctx.sql(), ctx.columnNames());
+        else if (ctx.autoGeneratedKeys() != NO_GENERATED_KEYS)
+            return connection.prepareStatement(ctx.sql(), ctx.autoGeneratedKeys());
+        else
+            return connection.prepareStatement(ctx.sql());
+    }
+
+    private static final void bind(PreparedStatement stmt, Object[] bindings) throws SQLException {
+        for (int i = 0; i < bindings.length; i++)
+            if (bindings[i] == null)
+                stmt.setNull(i + 1, Types.NULL);
+            else
+                stmt.setObject(i + 1, bindings[i]);
+    }
+
+    private static final MockResult[] batchResults(int[] rows) {
+        MockResult[] result = new MockResult[rows.length];
+
+        for (int i = 0; i < rows.length; i++)
+            result[i] = new MockResult(rows[i]);
+
+        return result;
+    }
+
+    private final void record(String sql, MockResult[] result) {
+        if (!representable(sql)) {
+            if (log.isDebugEnabled())
+                log.debug("Not recorded", sql);
+
+            return;
+        }
+
+        synchronized (recorded) {
+            recorded.putIfAbsent(sql, result);
+        }
+    }
+
+    /**
+     * Whether a SQL string can be read back by {@link MockFileDatabase}.
+     */
+    private static final boolean representable(String sql) {
+        String[] lines = sql.split("\r?\n", -1);
+
+        for (int i = 0; i < lines.length; i++) {
+            String line = lines[i];
+
+            if (line.trim().isEmpty()
+                    || line.startsWith("#")
+                    || line.startsWith(">")
+                    || line.startsWith("@")
+                    || i < lines.length - 1 && line.replaceAll("[ \t]+$", "").endsWith(";"))
+                return false;
+        }
+
+        return true;
+    }
+
+    /**
+     * The number of distinct statements recorded so far.
+     */
+    public int size() {
+        synchronized (recorded) {
+            return recorded.size();
+        }
+    }
+
+    /**
+     * Write the recorded statements to a writer.
+     */
+    public void write(Writer writer) throws IOException {
+        Map<String, MockResult[]> copy;
+
+        synchronized (recorded) {
+            copy = new LinkedHashMap<>(recorded);
+        }
+
+        JSONFormat format = JSONFormat.DEFAULT_FOR_RESULTS;
+
+        for (Map.Entry<String, MockResult[]> entry : copy.entrySet()) {
+            writer.write(entry.getKey());
+            writer.write(";\n");
+
+            for (MockResult result : entry.getValue()) {
+                if (result.exception != null) {
+                    writer.write("@ exception: ");
+                    writer.write(String.valueOf(result.exception.getMessage()).replaceAll("\\s+", " "));
+                    writer.write("\n");
+                }
+                else {
+
+                    // The update count must match the result size
+                    if (result.data != null && result.rows == result.data.size()) {
+                        writer.write("> ");
+                        writer.write(result.data.formatJSON(format));
+                        writer.write("\n");
+                    }
+
+                    writer.write("@ rows: ");
+                    writer.write(Integer.toString(result.rows));
+                    writer.write("\n");
+                }
+            }
+
+            writer.write("\n");
+        }
+
+        writer.flush();
+    }
+
+    /**
+     * Write the recorded statements to a file, using UTF-8.
+     */
+    public void write(File file) throws IOException {
+        try (Writer writer = new OutputStreamWriter(new FileOutputStream(file), StandardCharsets.UTF_8)) {
+            write(writer);
+        }
+    }
+
+    /**
+     * Create a {@link MockFileDatabase} that replays the statements recorded
+     * so far.
+     */
+    public MockFileDatabase replay() throws IOException {
+        StringWriter writer = new StringWriter();
+        write(writer);
+        return new MockFileDatabase(writer.toString());
+    }
+}
@@ -0,0 +1,127 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Other licenses:
+ * -----------------------------------------------------------------------------
+ * Commercial licenses for this work are available. These replace the above
+ * ASL 2.0 and offer limited warranties, support, maintenance, and commercial
+ * database integrations.
+ *
+ * For more information, please visit: http://www.jooq.org/licenses
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ */
+package org.jooq.impl;
+
+import static org.jooq.impl.DSL.field;
+import static org.jooq.impl.DSL.name;
+import static org.jooq.impl.SQLDataType.INTEGER;
+import static org.jooq.impl.SQLDataType.VARCHAR;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.util.Arrays;
+
+import org.jooq.DSLContext;
+import org.jooq.Field;
+import org.jooq.Record2;
+import org.jooq.Result;
+
+import org.junit.Test;
+
+/**
+ * Tests for {@link ColumnarRecords} backed results.
+ *
+ * @author Lukas Eder
+ */
+public class ColumnarRecordsTest {
+
+    static final DSLContext      ctx = DSL.using(new DefaultConfiguration());
+    static final Field<Integer>  I   = field(name("I"), INTEGER);
+    static final Field<String>   S   = field(name("S"), VARCHAR);
+
+    @SuppressWarnings({ "rawtypes", "unchecked" })
+    static final Result<Record2<Integer, String>> result(Object[]... rows) {
+        Fields<Record2<Integer, String>> fields = new Fields<>(I, S);
+        ColumnarRecords<Record2<Integer, String>> records = new ColumnarRecords<>(fields.fields, (Class) RecordImpl2.class, ctx.configuration());
+
+        for (Object[] row : rows)
+            records.append(ctx.newRecord(I, S).values((Integer) row[0], (String) row[1]));
+
+        records.trim();
+        return new ResultImpl<>(ctx.configuration(), fields, records);
+    }
+
+    @Test
+    public void testPrimitiveAccess() {
+        Result<Record2<Integer, String>> result = result(
+            new Object[] { 0, "a" },
+            new Object[] { null, "b" },
+            new Object[] { 3, null }
+        );
+
+        assertEquals(0, result.getInt(0, 0));
+        assertFalse(result.isNull(0, 0));
+        assertEquals(0, result.getInt(1, 0));
+        assertTrue(result.isNull(1, 0));
+        assertEquals(3L, result.getLong(2, 0));
+        assertEquals(3.0, result.getDouble(2, 0), 0.0);
+        assertTrue(result.isNull(2, 1));
+        assertEquals(Arrays.asList(0, null, 3), result.getValues(I));
+        assertEquals(Arrays.asList("a", "b", null), result.getValues(S));
+
+        try {
+            result.getInt(3, 0);
+            fail();
+        }
+        catch (IndexOutOfBoundsException expected) {}
+    }
+
+    @Test
+    public void testSortReturnsCopy() {
+        Result<Record2<Integer, String>> result = result(
+            new Object[] { 2, "b" },
+            new Object[] { null, "c" },
+            new Object[] { 1, "a" }
+        );
+
+        Result<Record2<Integer, String>> sorted = result.sortAsc(I);
+        assertNotSame(result, sorted);
+        assertEquals(Arrays.asList(null, 1, 2), sorted.getValues(I));
+        assertEquals(Arrays.asList("c", "a", "b"), sorted.getValues(S));
+        assertEquals(Arrays.asList(2, null, 1), result.getValues(I));
+
+        try {
+            result.add(ctx.newRecord(I, S));
+            fail();
+        }
+        catch (UnsupportedOperationException expected) {}
+    }
+}
@@ -0,0 +1,180 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Other licenses:
+ * -----------------------------------------------------------------------------
+ * Commercial licenses for this work are available. These replace the above
+ * ASL 2.0 and offer limited warranties, support, maintenance, and commercial
+ * database integrations.
+ *
+ * For more information, please visit: http://www.jooq.org/licenses
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ */
+package org.jooq.impl;
+
+import static java.util.Arrays.asList;
+import static org.jooq.impl.DSL.count;
+import static org.jooq.impl.DSL.field;
+import static org.jooq.impl.DSL.name;
+import static org.jooq.impl.DSL.select;
+import static org.jooq.impl.DSL.selectOne;
+import static org.jooq.impl.DSL.table;
+import static org.jooq.impl.SQLDataType.BIGINT;
+import static org.jooq.impl.SQLDataType.INTEGER;
+import static org.jooq.impl.SQLDataType.VARCHAR;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.util.List;
+
+import org.jooq.DSLContext;
+import org.jooq.Field;
+import org.jooq.Record;
+import org.jooq.Record2;
+import org.jooq.Result;
+import org.jooq.Select;
+import org.jooq.Table;
+import org.jooq.exception.DataAccessException;
+
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Tests for the {@link InMemoryDatabase}.
+ *
+ * @author Lukas Eder
+ */
+public class InMemoryDatabaseTest {
+
+    static final DSLContext     ctx  = DSL.using(new DefaultConfiguration());
+
+    static final Table<?>       A    = table(name("A"));
+    static final Field<Integer> A_ID = field(name("A", "ID"), INTEGER);
+    static final Field<String>  A_S  = field(name("A", "S"), VARCHAR);
+
+    static final Table<?>       B    = table(name("B"));
+    static final Field<Long>    B_ID = field(name("B", "ID"), BIGINT);
+    static final Field<Integer> B_X  = field(name("B", "X"), INTEGER);
+
+    InMemoryDatabase            db;
+
+    @Before
+    public void setup() {
+        Result<Record2<Integer, String>> a = ctx.newResult(A_ID, A_S);
+        a.add(ctx.newRecord(A_ID, A_S).values(1, "a"));
+        a.add(ctx.newRecord(A_ID, A_S).values(2, "b"));
+        a.add(ctx.newRecord(A_ID, A_S).values(null, "c"));
+
+        Result<Record2<Long, Integer>> b = ctx.newResult(B_ID, B_X);
+        b.add(ctx.newRecord(B_ID, B_X).values(1L, 10));
+        b.add(ctx.newRecord(B_ID, B_X).values(1L, 11));
+        b.add(ctx.newRecord(B_ID, B_X).values(null, 12));
+        b.add(ctx.newRecord(B_ID, B_X).values(3L, null));
+
+        db = new InMemoryDatabase(ctx.configuration())
+            .load(A.getQualifiedName(), a)
+            .load(B.getQualifiedName(), b);
+    }
+
+    <T> List<T> values(Select<? extends Record> select, Field<T> field) {
+        return db.fetch(select).getValues(field);
+    }
+
+    void assertFails(Select<?> select, String message) {
+        try {
+            db.fetch(select);
+            fail();
+        }
+        catch (DataAccessException e) {
+            assertNotNull(e.getMessage());
+            assertTrue(e.getMessage(), e.getMessage().contains(message));
+        }
+    }
+
+    @Test
+    public void testUnknownColumn() {
+        assertFails(select(A_ID).from(A).where(B_X.eq(1)), "Unknown column");
+        assertFails(select(B_X).from(A), "Unknown column");
+    }
+
+    @Test
+    public void testCorrelatedSubquery() {
+        assertFails(select(A_ID).from(A).whereExists(selectOne().from(B).where(B_ID.eq(A_ID.coerce(Long.class)))), "Unknown column");
+    }
+
+    @Test
+    public void testMisplacedAggregate() {
+        assertFails(select(A_ID).from(A).where(count().gt(0)), "Aggregate function");
+    }
+
+    @Test
+    public void testNullsInInPredicates() {
+        assertEquals(asList(1), values(select(A_ID).from(A).where(A_ID.in(1, null)), A_ID));
+        assertEquals(asList(), values(select(A_ID).from(A).where(A_ID.notIn(1, null)), A_ID));
+        assertEquals(asList(2), values(select(A_ID).from(A).where(A_ID.notIn(1)), A_ID));
+
+        assertEquals(asList(1, 2), values(select(A_ID).from(A).where(A_ID.in(select(B_X.sub(10)).from(B))), A_ID));
+        assertEquals(asList(), values(select(A_ID).from(A).where(A_ID.notIn(select(B_X.sub(10)).from(B))), A_ID));
+        assertEquals(asList(2), values(select(A_ID).from(A).where(A_ID.notIn(select(B_X.sub(10)).from(B).where(B_ID.eq(1L)))), A_ID));
+    }
+
+    @Test
+    public void testNullsInOuterJoins() {
+        Field<Long> id = A_ID.coerce(Long.class);
+
+        assertEquals(
+            asList(10, 11, null, null),
+            values(select(A_ID, B_X).from(A).leftJoin(B).on(B_ID.eq(id)).orderBy(A_S, B_X), B_X));
+        assertEquals(
+            asList(1, 1, null, null),
+            values(select(A_ID, B_X).from(A).rightJoin(B).on(B_ID.eq(id)).orderBy(B_X.asc().nullsLast()), A_ID));
+        assertEquals(
+            6,
+            db.fetch(select(A_ID, B_X).from(A).fullJoin(B).on(B_ID.eq(id))).size());
+    }
+
+    @Test
+    public void testMixedNumericKeys() {
+        Field<Long> id = A_ID.coerce(Long.class);
+
+        assertEquals(
+            asList(10, 11),
+            values(select(B_X).from(A).join(B).on(B_ID.eq(id)).orderBy(B_X), B_X));
+        assertEquals(
+            asList(10, 11),
+            values(select(B_X).from(A, B).where(id.eq(B_ID)).orderBy(B_X), B_X));
+        assertEquals(
+            asList(1),
+            values(select(A_ID).from(A).where(id.in(select(B_ID).from(B))), A_ID));
+        assertEquals(
+            asList(1, 1),
+            values(select(A_ID).from(A).join(B).on(B_ID.eq(id)).where(B_ID.in(1L, 3L)), A_ID));
+    }
+}
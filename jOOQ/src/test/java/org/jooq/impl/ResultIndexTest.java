@@ -0,0 +1,211 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Other licenses:
+ * -----------------------------------------------------------------------------
+ * Commercial licenses for this work are available. These replace the above
+ * ASL 2.0 and offer limited warranties, support, maintenance, and commercial
+ * database integrations.
+ *
+ * For more information, please visit: http://www.jooq.org/licenses
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ */
+package org.jooq.impl;
+
+import static org.jooq.impl.DSL.field;
+import static org.jooq.impl.DSL.name;
+import static org.jooq.impl.SQLDataType.BIGINT;
+import static org.jooq.impl.SQLDataType.VARCHAR;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import org.jooq.DSLContext;
+import org.jooq.Field;
+import org.jooq.Record;
+import org.jooq.Record2;
+import org.jooq.Result;
+import org.jooq.exception.InvalidResultException;
+
+import org.junit.Test;
+
+/**
+ * Tests for the {@link ResultIndex} backed {@link Result#index(Field)} and
+ * {@link Result#groupBy(Field)} maps.
+ *
+ * @author Lukas Eder
+ */
+public class ResultIndexTest {
+
+    static final DSLContext      ctx = DSL.using(new DefaultConfiguration());
+    static final Field<Long>     ID  = field(name("ID"), BIGINT);
+    static final Field<String>   S   = field(name("S"), VARCHAR);
+
+    static final Result<Record2<Long, String>> result(Object[]... rows) {
+        Result<Record2<Long, String>> result = ctx.newResult(ID, S);
+
+        for (Object[] row : rows)
+            result.add(ctx.newRecord(ID, S).values((Long) row[0], (String) row[1]));
+
+        return result;
+    }
+
+    @Test
+    public void testNullKeys() {
+        Result<Record2<Long, String>> result = result(
+            new Object[] { 1L, "a" },
+            new Object[] { null, "b" },
+            new Object[] { 1L, null },
+            new Object[] { null, null }
+        );
+
+        Map<Long, Result<Record2<Long, String>>> byId = result.groupBy(ID);
+        assertEquals(2, byId.size());
+        assertTrue(byId.containsKey(null));
+        assertEquals(2, byId.get(null).size());
+        assertEquals(2, byId.get(1L).size());
+
+        Map<String, Result<Record2<Long, String>>> byS = result.groupBy(S);
+        assertEquals(3, byS.size());
+        assertEquals(2, byS.get(null).size());
+
+        Map<Long, Result<Record2<Long, String>>> expected = new HashMap<>();
+        for (Record2<Long, String> record : result)
+            expected.computeIfAbsent(record.value1(), k -> ctx.newResult(ID, S)).add(record);
+
+        assertEquals(expected, byId);
+        assertEquals(byId, expected);
+        assertEquals(expected.hashCode(), byId.hashCode());
+        assertEquals(expected.entrySet().hashCode(), byId.entrySet().hashCode());
+    }
+
+    @Test
+    public void testIntegralKeysMatchTheFieldType() {
+        Map<Long, Record2<Long, String>> index = result(
+            new Object[] { 1L, "a" },
+            new Object[] { 2L, "b" }
+        ).index(ID);
+
+        assertEquals("a", index.get(1L).value2());
+        assertNull(index.get(1));
+        assertFalse(index.containsKey(1));
+        assertFalse(index.containsKey((short) 1));
+        assertFalse(index.containsKey("1"));
+
+        Map<Object, Object> expected = new HashMap<>();
+        for (Map.Entry<Long, Record2<Long, String>> e : index.entrySet())
+            expected.put(e.getKey(), e.getValue());
+
+        assertEquals(expected, index);
+        assertEquals(index, expected);
+        assertEquals(expected.keySet(), index.keySet());
+    }
+
+    @Test
+    public void testIntegralKeysWithManyGroups() {
+        Result<Record2<Long, String>> result = ctx.newResult(ID, S);
+        for (long i = 0; i < 1000; i++)
+            result.add(ctx.newRecord(ID, S).values(i % 100 - 50, "" + i));
+
+        Map<Long, Result<Record2<Long, String>>> byId = result.groupBy(ID);
+        assertEquals(100, byId.size());
+
+        for (long i = -50; i < 50; i++)
+            assertEquals(10, byId.get(i).size());
+
+        assertNull(byId.get(50L));
+    }
+
+    @Test
+    public void testCompositeKeys() {
+        Result<Record2<Long, String>> result = result(
+            new Object[] { 1L, "a" },
+            new Object[] { 1L, "b" },
+            new Object[] { 2L, "a" },
+            new Object[] { 1L, "a" },
+            new Object[] { null, null },
+            new Object[] { null, null }
+        );
+
+        Map<Record, Result<Record2<Long, String>>> groups = result.groupBy(ID, S);
+        assertEquals(4, groups.size());
+        assertEquals(2, groups.get(ctx.newRecord(ID, S).values(1L, "a")).size());
+        assertEquals(1, groups.get(ctx.newRecord(ID, S).values(1L, "b")).size());
+        assertEquals(2, groups.get(ctx.newRecord(ID, S).values(null, null)).size());
+        assertNull(groups.get(ctx.newRecord(ID, S).values(2L, "b")));
+        assertNull(groups.get(ctx.newRecord(ID).values(1L)));
+        assertNull(groups.get("a"));
+
+        for (Record key : groups.keySet())
+            assertEquals(2, key.size());
+
+        Map<Record, Record2<Long, String>> index = result(
+            new Object[] { 1L, "a" },
+            new Object[] { 1L, "b" },
+            new Object[] { null, "a" }
+        ).index(ID, S);
+
+        assertEquals(3, index.size());
+        assertEquals("b", index.get(ctx.newRecord(ID, S).values(1L, "b")).value2());
+        assertTrue(index.containsKey(ctx.newRecord(ID, S).values(null, "a")));
+    }
+
+    @Test
+    public void testNonUniqueKeys() {
+        Result<Record2<Long, String>> result = result(
+            new Object[] { 1L, "a" },
+            new Object[] { 2L, "b" },
+            new Object[] { 1L, "c" }
+        );
+
+        try {
+            result.index(ID);
+            fail();
+        }
+        catch (InvalidResultException expected) {}
+
+        try {
+            result(new Object[] { null, "a" }, new Object[] { null, "b" }).index(ID);
+            fail();
+        }
+        catch (InvalidResultException expected) {}
+
+        try {
+            result(new Object[] { 1L, "a" }, new Object[] { 1L, "a" }).index(ID, S);
+            fail();
+        }
+        catch (InvalidResultException expected) {}
+
+        assertEquals(3, result.index(ID, S).size());
+    }
+}